@@ -3,6 +3,7 @@ package org.maplibre.navigation.android.navigation.ui.v5;
 import android.app.Application;
 import android.content.Context;
 import android.location.Location;
+import android.view.Choreographer;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -75,6 +76,17 @@ public class NavigationViewModel extends AndroidViewModel {
     private int timeFormatType;
     private boolean isRunning;
     private boolean isChangingConfigurations;
+    private boolean isFrameAlignedUpdatesEnabled;
+    private boolean isRouteProgressFramePending;
+    private final Choreographer.FrameCallback routeProgressFrameCallback = new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            isRouteProgressFramePending = false;
+            if (routeProgress != null) {
+                updateRouteProgressModels(routeProgress);
+            }
+        }
+    };
 
     public NavigationViewModel(Application application) {
         super(application);
@@ -118,6 +130,7 @@ public class NavigationViewModel extends AndroidViewModel {
             isRunning = false;
         }
         clearDynamicCameraMap();
+        cancelRouteProgressFrame();
         navigationViewEventDispatcher = null;
     }
 
@@ -152,6 +165,7 @@ public class NavigationViewModel extends AndroidViewModel {
         initializeLanguage(options);
         initializeTimeFormat(navigationOptions);
         initializeDistanceFormatter(options);
+        isFrameAlignedUpdatesEnabled = options.frameAlignedUpdatesEnabled();
         if (!isRunning()) {
             LocationEngine locationEngine = initializeLocationEngineFrom(options);
             initializeNavigation(getApplication(), navigationOptions, locationEngine);
@@ -200,13 +214,20 @@ public class NavigationViewModel extends AndroidViewModel {
     void updateRouteProgress(RouteProgress routeProgress) {
         this.routeProgress = routeProgress;
         sendEventArrival(routeProgress, milestone);
-        instructionModel.setValue(new InstructionModel(distanceFormatter, routeProgress));
-        summaryModel.setValue(new SummaryModel(getApplication(), distanceFormatter, routeProgress, timeFormatType));
+        cacheUpcomingAnnouncements(routeProgress);
+        if (!isFrameAlignedUpdatesEnabled) {
+            updateRouteProgressModels(routeProgress);
+        } else if (!isRouteProgressFramePending) {
+            isRouteProgressFramePending = true;
+            Choreographer.getInstance().postFrameCallback(routeProgressFrameCallback);
+        }
     }
 
     void updateLocation(Location location) {
         router.updateLocation(location);
-        navigationLocation.setValue(location);
+        if (!isSameLocation(navigationLocation.getValue(), location)) {
+            navigationLocation.setValue(location);
+        }
     }
 
     void sendEventFailedReroute(String errorMessage) {
@@ -394,6 +415,43 @@ public class NavigationViewModel extends AndroidViewModel {
         }
     }
 
+    /**
+     * Only emits the models if they display something else than the current ones, so observers
+     * don't rebind their views for every location update.
+     */
+    private void updateRouteProgressModels(RouteProgress routeProgress) {
+        updateIfChanged(instructionModel, new InstructionModel(distanceFormatter, routeProgress));
+        updateIfChanged(summaryModel,
+            new SummaryModel(getApplication(), distanceFormatter, routeProgress, timeFormatType));
+    }
+
+    private static <T> void updateIfChanged(MutableLiveData<T> liveData, T value) {
+        if (!value.equals(liveData.getValue())) {
+            liveData.setValue(value);
+        }
+    }
+
+    private static boolean isSameLocation(@Nullable Location location, Location otherLocation) {
+        return location == otherLocation || (location != null && otherLocation != null
+            && location.getTime() == otherLocation.getTime()
+            && location.getLatitude() == otherLocation.getLatitude()
+            && location.getLongitude() == otherLocation.getLongitude()
+            && location.getBearing() == otherLocation.getBearing());
+    }
+
+    private void cancelRouteProgressFrame() {
+        if (isRouteProgressFramePending) {
+            Choreographer.getInstance().removeFrameCallback(routeProgressFrameCallback);
+            isRouteProgressFramePending = false;
+        }
+    }
+
+    private void cacheUpcomingAnnouncements(RouteProgress routeProgress) {
+        if (speechPlayer instanceof NavigationSpeechPlayer) {
+            ((NavigationSpeechPlayer) speechPlayer).cacheUpcomingAnnouncements(routeProgress);
+        }
+    }
+
     private void updateBannerInstruction(RouteProgress routeProgress, Milestone milestone) {
         if (milestone instanceof BannerInstructionMilestone) {
             BannerInstructions instructions = ((BannerInstructionMilestone) milestone).getBannerInstructions();
@@ -58,6 +58,15 @@ public abstract class NavigationViewOptions extends NavigationUiOptions {
   @Nullable
   public abstract LocationEngine locationEngine();
 
+  /**
+   * If enabled, the instruction and summary views are updated at most once per display frame,
+   * with the latest route progress.
+   *
+   * @return true if route progress updates are coalesced per frame
+   * @since 4.1.0
+   */
+  public abstract boolean frameAlignedUpdatesEnabled();
+
   @AutoValue.Builder
   public abstract static class Builder {
 
@@ -95,6 +104,8 @@ public abstract class NavigationViewOptions extends NavigationUiOptions {
 
     public abstract Builder locationEngine(LocationEngine locationEngine);
 
+    public abstract Builder frameAlignedUpdatesEnabled(boolean frameAlignedUpdatesEnabled);
+
     public abstract NavigationViewOptions build();
   }
 
@@ -102,6 +113,7 @@ public abstract class NavigationViewOptions extends NavigationUiOptions {
     return new AutoValue_NavigationViewOptions.Builder()
       .navigationOptions(MapLibreNavigationOptions.builder().build())
       .shouldSimulateRoute(false)
-      .waynameChipEnabled(true);
+      .waynameChipEnabled(true)
+      .frameAlignedUpdatesEnabled(false);
   }
 }
\ No newline at end of file
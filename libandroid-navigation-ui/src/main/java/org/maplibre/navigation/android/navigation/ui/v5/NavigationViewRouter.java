@@ -53,7 +53,7 @@ public class NavigationViewRouter implements RouteListener {
   @Override
   public void onResponseReceived(DirectionsResponse response, @Nullable RouteProgress routeProgress) {
     if (validRouteResponse(response)) {
-      routeComparator.compare(response, currentRoute);
+      routeComparator.compare(response, currentRoute, routeProgress);
     }
     updateCallStatusReceived();
   }
@@ -80,6 +80,10 @@ public class NavigationViewRouter implements RouteListener {
     this.location = location;
   }
 
+  boolean isCurrentRoute(@Nullable DirectionsRoute route) {
+    return currentRoute == route;
+  }
+
   void updateCurrentRoute(DirectionsRoute currentRoute) {
     this.currentRoute = currentRoute;
     listener.onRouteUpdate(currentRoute);
@@ -98,6 +102,7 @@ public class NavigationViewRouter implements RouteListener {
   void onDestroy() {
     onlineRouter.cancelRouteCall();
     onlineRouter.clearListeners();
+    routeComparator.onDestroy();
   }
 
   private boolean validRouteResponse(DirectionsResponse response) {
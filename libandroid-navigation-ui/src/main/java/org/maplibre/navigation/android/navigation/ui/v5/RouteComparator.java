@@ -1,42 +1,117 @@
 package org.maplibre.navigation.android.navigation.ui.v5;
 
+import android.os.Handler;
+import android.os.Looper;
+
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import org.maplibre.navigation.android.navigation.v5.models.DirectionsResponse;
 import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
 import org.maplibre.navigation.android.navigation.v5.models.RouteLeg;
+import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
 
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+/**
+ * Picks the route of a new response most similar to the route the user is navigating.
+ * <p>
+ * Routes are compared by geometry with the part of the chosen route not traveled yet, see
+ * {@link RouteSimilarity}. Routes without geometry are compared by their leg summaries. As decoding
+ * and comparing geometries takes a while for long routes, the comparison runs on a background
+ * thread and the result is posted back to the main thread. The result is dropped if the route
+ * being navigated was replaced meanwhile, or if the comparator was destroyed.
+ */
 class RouteComparator {
 
+  private static final ExecutorService ROUTE_COMPARISON_EXECUTOR = Executors.newSingleThreadExecutor();
   private static final int FIRST_ROUTE = 0;
   private static final int ONE_ROUTE = 1;
   private final NavigationViewRouter navigationViewRouter;
+  private final Executor comparisonExecutor;
+  private final Handler callbackHandler;
+  /**
+   * Incremented for each response and on destroy, so only the result of the latest comparison is
+   * used.
+   */
+  private int comparisonCount;
+  private boolean isDestroyed;
 
   RouteComparator(NavigationViewRouter navigationViewRouter) {
+    this(navigationViewRouter, ROUTE_COMPARISON_EXECUTOR, new Handler(Looper.getMainLooper()));
+  }
+
+  RouteComparator(NavigationViewRouter navigationViewRouter, Executor comparisonExecutor,
+                  Handler callbackHandler) {
     this.navigationViewRouter = navigationViewRouter;
+    this.comparisonExecutor = comparisonExecutor;
+    this.callbackHandler = callbackHandler;
   }
 
-  void compare(@NonNull DirectionsResponse response, @Nullable DirectionsRoute chosenRoute) {
-    if (isValidRoute(response)) {
-      List<DirectionsRoute> routes = response.routes();
-      DirectionsRoute bestRoute = routes.get(FIRST_ROUTE);
-      if (isNavigationRunning(chosenRoute)) {
-        bestRoute = findMostSimilarRoute(routes, bestRoute, chosenRoute);
+  void compare(@NonNull DirectionsResponse response, @Nullable DirectionsRoute chosenRoute,
+               @Nullable RouteProgress routeProgress) {
+    if (isDestroyed || !isValidRoute(response)) {
+      return;
+    }
+    final int comparison = ++comparisonCount;
+    final List<DirectionsRoute> routes = response.routes();
+    if (!isNavigationRunning(chosenRoute) || routes.size() == ONE_ROUTE) {
+      navigationViewRouter.updateCurrentRoute(routes.get(FIRST_ROUTE));
+      return;
+    }
+    final DirectionsRoute currentRoute = chosenRoute;
+    final double distanceTraveled = findDistanceTraveled(currentRoute, routeProgress);
+    comparisonExecutor.execute(new Runnable() {
+      @Override
+      public void run() {
+        final DirectionsRoute mostSimilarRoute = findMostSimilarRoute(routes, currentRoute, distanceTraveled);
+        callbackHandler.post(new Runnable() {
+          @Override
+          public void run() {
+            if (comparison == comparisonCount && navigationViewRouter.isCurrentRoute(currentRoute)) {
+              navigationViewRouter.updateCurrentRoute(mostSimilarRoute);
+            }
+          }
+        });
       }
-      navigationViewRouter.updateCurrentRoute(bestRoute);
+    });
+  }
+
+  /**
+   * Drops the results of pending comparisons and ignores new responses.
+   */
+  void onDestroy() {
+    isDestroyed = true;
+    comparisonCount++;
+    callbackHandler.removeCallbacksAndMessages(null);
+  }
+
+  /**
+   * The progress may still belong to the route that was replaced, in which case the whole chosen
+   * route is compared.
+   */
+  private double findDistanceTraveled(DirectionsRoute chosenRoute, @Nullable RouteProgress routeProgress) {
+    if (routeProgress == null) {
+      return 0;
     }
+    DirectionsRoute progressRoute = routeProgress.directionsRoute();
+    boolean isChosenRoute = progressRoute == chosenRoute || chosenRoute.equals(progressRoute);
+    return isChosenRoute ? routeProgress.distanceTraveled() : 0;
   }
 
-  private DirectionsRoute findMostSimilarRoute(List<DirectionsRoute> routes, DirectionsRoute currentBestRoute,
-                                               DirectionsRoute chosenRoute) {
-    DirectionsRoute mostSimilarRoute = currentBestRoute;
-    if (routes.size() > ONE_ROUTE) {
-      mostSimilarRoute = compareRoutes(chosenRoute, routes);
+  private DirectionsRoute findMostSimilarRoute(List<DirectionsRoute> routes, DirectionsRoute chosenRoute,
+                                               double distanceTraveled) {
+    RouteSimilarity similarity = RouteSimilarity.create(chosenRoute, distanceTraveled);
+    if (similarity != null) {
+      int routeIndex = similarity.findMostSimilarRoute(routes);
+      if (routeIndex != RouteSimilarity.NO_SIMILAR_ROUTE) {
+        return routes.get(routeIndex);
+      }
     }
-    return mostSimilarRoute;
+    return compareRoutes(chosenRoute, routes);
   }
 
   private DirectionsRoute compareRoutes(DirectionsRoute chosenRoute, List<DirectionsRoute> routes) {
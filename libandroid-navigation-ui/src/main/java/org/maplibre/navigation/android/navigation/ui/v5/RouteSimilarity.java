@@ -0,0 +1,218 @@
+package org.maplibre.navigation.android.navigation.ui.v5;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
+import org.maplibre.navigation.android.navigation.v5.utils.Constants;
+import org.maplibre.navigation.android.navigation.v5.utils.PackedLineString;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compares route geometries with the part of the chosen route the user hasn't traveled yet.
+ * <p>
+ * The remaining chosen geometry is rasterized into a coarse grid of cells once. Each alternative
+ * is scored by the share of cells both routes pass through. Alternatives scoring close to the best
+ * one are told apart by their discrete Fréchet distance to the chosen geometry, computed on a
+ * bounded number of vertices.
+ */
+class RouteSimilarity {
+
+  static final int NO_SIMILAR_ROUTE = -1;
+  /**
+   * About 50 meters of latitude.
+   */
+  private static final double CELL_SIZE_DEGREES = 0.0005;
+  private static final double HALF_CELL_SIZE_DEGREES = CELL_SIZE_DEGREES / 2;
+  private static final double TIED_OVERLAP = 0.05;
+  private static final int MAX_FRECHET_VERTICES = 64;
+  private static final int TWO_POINTS = 2;
+
+  private final PackedLineString chosenGeometry;
+  private final int chosenStartIndex;
+  private final Set<Long> chosenCells;
+
+  private RouteSimilarity(PackedLineString chosenGeometry, int chosenStartIndex) {
+    this.chosenGeometry = chosenGeometry;
+    this.chosenStartIndex = chosenStartIndex;
+    this.chosenCells = rasterize(chosenGeometry, chosenStartIndex);
+  }
+
+  /**
+   * @param chosenRoute      the user is navigating
+   * @param distanceTraveled along the chosen route, in meters
+   * @return the similarity to the remaining chosen route, or null if it has no geometry
+   */
+  @Nullable
+  static RouteSimilarity create(@NonNull DirectionsRoute chosenRoute, double distanceTraveled) {
+    PackedLineString chosenGeometry = decodeGeometry(chosenRoute);
+    if (chosenGeometry == null) {
+      return null;
+    }
+    return new RouteSimilarity(chosenGeometry, findStartIndex(chosenGeometry, distanceTraveled));
+  }
+
+  /**
+   * @param routes to compare with the remaining chosen route
+   * @return the index of the most similar route, or {@link #NO_SIMILAR_ROUTE} if none has a
+   * geometry
+   */
+  int findMostSimilarRoute(@NonNull List<DirectionsRoute> routes) {
+    PackedLineString[] geometries = new PackedLineString[routes.size()];
+    double[] overlaps = new double[routes.size()];
+    double bestOverlap = -1;
+    for (int i = 0; i < routes.size(); i++) {
+      geometries[i] = decodeGeometry(routes.get(i));
+      overlaps[i] = geometries[i] == null ? -1 : overlap(geometries[i]);
+      bestOverlap = Math.max(bestOverlap, overlaps[i]);
+    }
+    if (bestOverlap < 0) {
+      return NO_SIMILAR_ROUTE;
+    }
+
+    int mostSimilarRoute = NO_SIMILAR_ROUTE;
+    double minFrechetDistance = Double.MAX_VALUE;
+    int tiedRoutes = 0;
+    for (int i = 0; i < routes.size(); i++) {
+      if (overlaps[i] >= 0 && bestOverlap - overlaps[i] <= TIED_OVERLAP) {
+        tiedRoutes++;
+        if (mostSimilarRoute == NO_SIMILAR_ROUTE) {
+          mostSimilarRoute = i;
+        }
+      }
+    }
+    if (tiedRoutes == 1) {
+      return mostSimilarRoute;
+    }
+    for (int i = 0; i < routes.size(); i++) {
+      if (overlaps[i] >= 0 && bestOverlap - overlaps[i] <= TIED_OVERLAP) {
+        double frechetDistance = frechetDistance(geometries[i]);
+        if (frechetDistance < minFrechetDistance) {
+          minFrechetDistance = frechetDistance;
+          mostSimilarRoute = i;
+        }
+      }
+    }
+    return mostSimilarRoute;
+  }
+
+  /**
+   * @return the share of grid cells of both routes passed by both routes, between 0 and 1
+   */
+  double overlap(@NonNull PackedLineString geometry) {
+    Set<Long> cells = rasterize(geometry, 0);
+    Set<Long> smaller = cells.size() < chosenCells.size() ? cells : chosenCells;
+    Set<Long> larger = smaller == cells ? chosenCells : cells;
+    int sharedCells = 0;
+    for (Long cell : smaller) {
+      if (larger.contains(cell)) {
+        sharedCells++;
+      }
+    }
+    int allCells = cells.size() + chosenCells.size() - sharedCells;
+    return allCells == 0 ? 0 : (double) sharedCells / allCells;
+  }
+
+  /**
+   * Discrete Fréchet distance in degrees between the remaining chosen geometry and the given one,
+   * both reduced to at most {@link #MAX_FRECHET_VERTICES} vertices.
+   */
+  double frechetDistance(@NonNull PackedLineString geometry) {
+    int[] chosenVertices = sampleVertices(chosenStartIndex, chosenGeometry.size());
+    int[] vertices = sampleVertices(0, geometry.size());
+    double[] previousRow = new double[vertices.length];
+    double[] row = new double[vertices.length];
+    for (int i = 0; i < chosenVertices.length; i++) {
+      for (int j = 0; j < vertices.length; j++) {
+        double distance = planarDistance(chosenGeometry, chosenVertices[i], geometry, vertices[j]);
+        if (i == 0 && j == 0) {
+          row[j] = distance;
+        } else if (i == 0) {
+          row[j] = Math.max(row[j - 1], distance);
+        } else if (j == 0) {
+          row[j] = Math.max(previousRow[j], distance);
+        } else {
+          double coupling = Math.min(Math.min(previousRow[j], previousRow[j - 1]), row[j - 1]);
+          row[j] = Math.max(coupling, distance);
+        }
+      }
+      double[] swap = previousRow;
+      previousRow = row;
+      row = swap;
+    }
+    return previousRow[vertices.length - 1];
+  }
+
+  @Nullable
+  private static PackedLineString decodeGeometry(DirectionsRoute route) {
+    String geometry = route.geometry();
+    if (geometry == null) {
+      return null;
+    }
+    PackedLineString line = PackedLineString.fromPolyline(geometry, Constants.PRECISION_6);
+    return line.size() < TWO_POINTS ? null : line;
+  }
+
+  /**
+   * @return the vertex at or before the distance traveled, keeping at least two vertices
+   */
+  private static int findStartIndex(PackedLineString geometry, double distanceTraveled) {
+    int lastStartIndex = geometry.size() - TWO_POINTS;
+    double distance = 0;
+    for (int i = 0; i < lastStartIndex; i++) {
+      distance += geometry.distanceInMeters(i, i + 1);
+      if (distance > distanceTraveled) {
+        return i;
+      }
+    }
+    return lastStartIndex;
+  }
+
+  private static Set<Long> rasterize(PackedLineString geometry, int fromIndex) {
+    Set<Long> cells = new HashSet<>();
+    cells.add(cellOf(geometry.longitude(fromIndex), geometry.latitude(fromIndex)));
+    for (int i = fromIndex + 1; i < geometry.size(); i++) {
+      double fromLongitude = geometry.longitude(i - 1);
+      double fromLatitude = geometry.latitude(i - 1);
+      double longitudeDelta = geometry.longitude(i) - fromLongitude;
+      double latitudeDelta = geometry.latitude(i) - fromLatitude;
+      // Samples every half cell, so no cell crossed by the segment is skipped
+      int samples = (int) Math.ceil(Math.max(Math.abs(longitudeDelta), Math.abs(latitudeDelta))
+        / HALF_CELL_SIZE_DEGREES);
+      for (int sample = 1; sample <= samples; sample++) {
+        double fraction = (double) sample / samples;
+        cells.add(cellOf(fromLongitude + longitudeDelta * fraction, fromLatitude + latitudeDelta * fraction));
+      }
+    }
+    return cells;
+  }
+
+  private static long cellOf(double longitude, double latitude) {
+    long column = (long) Math.floor(longitude / CELL_SIZE_DEGREES);
+    long row = (long) Math.floor(latitude / CELL_SIZE_DEGREES);
+    return (row << 32) | (column & 0xFFFFFFFFL);
+  }
+
+  private static int[] sampleVertices(int fromIndex, int toIndex) {
+    int count = Math.min(toIndex - fromIndex, MAX_FRECHET_VERTICES);
+    int[] vertices = new int[count];
+    int lastVertex = toIndex - 1;
+    for (int i = 0; i < count; i++) {
+      vertices[i] = count == 1 ? fromIndex
+        : fromIndex + (int) Math.round((double) i * (lastVertex - fromIndex) / (count - 1));
+    }
+    return vertices;
+  }
+
+  private static double planarDistance(PackedLineString first, int firstIndex,
+                                       PackedLineString second, int secondIndex) {
+    double latitude = first.latitude(firstIndex);
+    double longitudeDelta = (first.longitude(firstIndex) - second.longitude(secondIndex))
+      * Math.cos(Math.toRadians(latitude));
+    double latitudeDelta = latitude - second.latitude(secondIndex);
+    return Math.sqrt(longitudeDelta * longitudeDelta + latitudeDelta * latitudeDelta);
+  }
+}
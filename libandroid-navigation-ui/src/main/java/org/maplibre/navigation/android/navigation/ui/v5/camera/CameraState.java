@@ -0,0 +1,118 @@
+package org.maplibre.navigation.android.navigation.ui.v5.camera;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.maplibre.android.geometry.LatLngBounds;
+import org.maplibre.navigation.android.navigation.v5.navigation.camera.RouteInformation;
+
+/**
+ * Camera values computed for a single progress update, without accessing the map.
+ * <p>
+ * States are built on the thread delivering progress updates and applied on the main thread.
+ * Zooming to fit the user and the upcoming maneuver needs the map, so only the bounds to fit are
+ * kept and the zoom is resolved by {@link DynamicCamera#zoomFor(CameraState)} when applied.
+ */
+final class CameraState {
+
+  private static final int ZOOM_FIXED = 0;
+  private static final int ZOOM_TO_BOUNDS = 1;
+  private static final int ZOOM_CURRENT = 2;
+  private static final int ZOOM_CURRENT_WITHIN_LIMITS = 3;
+  private static final int NOT_COMPUTED = 4;
+
+  private final RouteInformation routeInformation;
+  private final double tilt;
+  private final double zoom;
+  @Nullable
+  private final LatLngBounds zoomBounds;
+  private final int zoomType;
+
+  private CameraState(RouteInformation routeInformation, double tilt, double zoom,
+                      @Nullable LatLngBounds zoomBounds, int zoomType) {
+    this.routeInformation = routeInformation;
+    this.tilt = tilt;
+    this.zoom = zoom;
+    this.zoomBounds = zoomBounds;
+    this.zoomType = zoomType;
+  }
+
+  static CameraState withZoom(@NonNull RouteInformation routeInformation, double tilt, double zoom) {
+    return new CameraState(routeInformation, tilt, zoom, null, ZOOM_FIXED);
+  }
+
+  static CameraState withZoomBounds(@NonNull RouteInformation routeInformation, double tilt,
+                                    @NonNull LatLngBounds zoomBounds) {
+    return new CameraState(routeInformation, tilt, 0, zoomBounds, ZOOM_TO_BOUNDS);
+  }
+
+  /**
+   * @param isWithinLimits true if the current zoom should be kept within the dynamic camera limits
+   */
+  static CameraState withCurrentZoom(@NonNull RouteInformation routeInformation, double tilt,
+                                     boolean isWithinLimits) {
+    int zoomType = isWithinLimits ? ZOOM_CURRENT_WITHIN_LIMITS : ZOOM_CURRENT;
+    return new CameraState(routeInformation, tilt, 0, null, zoomType);
+  }
+
+  /**
+   * For camera engines other than {@link DynamicCamera}, which may need the map to compute their
+   * values, so they're asked on the main thread.
+   */
+  static CameraState notComputed(@NonNull RouteInformation routeInformation) {
+    return new CameraState(routeInformation, 0, 0, null, NOT_COMPUTED);
+  }
+
+  @NonNull
+  RouteInformation routeInformation() {
+    return routeInformation;
+  }
+
+  boolean isComputed() {
+    return zoomType != NOT_COMPUTED;
+  }
+
+  double tilt() {
+    return tilt;
+  }
+
+  boolean hasFixedZoom() {
+    return zoomType == ZOOM_FIXED;
+  }
+
+  double zoom() {
+    return zoom;
+  }
+
+  @Nullable
+  LatLngBounds zoomBounds() {
+    return zoomBounds;
+  }
+
+  boolean keepsZoomWithinLimits() {
+    return zoomType == ZOOM_CURRENT_WITHIN_LIMITS;
+  }
+
+  /**
+   * @return true if the state was built for a forced, new step or alert level zoom update
+   */
+  boolean updatesZoom() {
+    return zoomType == ZOOM_TO_BOUNDS || zoomType == ZOOM_CURRENT_WITHIN_LIMITS;
+  }
+
+  /**
+   * Combines this state with an older one that hasn't been applied yet. Building a state consumes
+   * the zoom update of the {@link DynamicCamera}, so the zoom of the older state is kept if only
+   * it updates the zoom.
+   *
+   * @param olderState not applied yet, or null
+   * @return the state to apply instead of both
+   */
+  @NonNull
+  CameraState coalesceWith(@Nullable CameraState olderState) {
+    if (olderState == null || zoomType != ZOOM_CURRENT || !olderState.updatesZoom()) {
+      return this;
+    }
+    return new CameraState(routeInformation, tilt, olderState.zoom, olderState.zoomBounds, olderState.zoomType);
+  }
+}
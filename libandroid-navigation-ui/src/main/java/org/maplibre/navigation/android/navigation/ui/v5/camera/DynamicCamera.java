@@ -2,13 +2,13 @@ package org.maplibre.navigation.android.navigation.ui.v5.camera;
 
 import android.location.Location;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import org.maplibre.navigation.android.navigation.v5.models.LegStep;
 
 import org.maplibre.android.MapLibre;
 import org.maplibre.geojson.Point;
 import org.maplibre.android.camera.CameraPosition;
-import org.maplibre.android.geometry.LatLng;
 import org.maplibre.android.geometry.LatLngBounds;
 import org.maplibre.android.maps.MapLibreMap;
 import org.maplibre.navigation.android.navigation.v5.navigation.NavigationConstants;
@@ -16,8 +16,6 @@ import org.maplibre.navigation.android.navigation.v5.navigation.camera.RouteInfo
 import org.maplibre.navigation.android.navigation.v5.navigation.camera.SimpleCamera;
 import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
 
-import java.util.ArrayList;
-import java.util.List;
 
 public class DynamicCamera extends SimpleCamera {
 
@@ -54,28 +52,70 @@ public class DynamicCamera extends SimpleCamera {
 
   @Override
   public double zoom(RouteInformation routeInformation) {
+    return zoomFor(buildCameraState(routeInformation));
+  }
+
+  /**
+   * Computes the camera values for the given information without accessing the map, so it can
+   * be called on the thread delivering progress updates. The zoom is resolved on the main thread
+   * with {@link #zoomFor(CameraState)}.
+   *
+   * @param routeInformation for current location and progress
+   * @return the camera values to apply
+   */
+  synchronized CameraState buildCameraState(RouteInformation routeInformation) {
+    double tilt = tilt(routeInformation);
     if (isShutdown) {
-      return DEFAULT_ZOOM;
+      return CameraState.withZoom(routeInformation, tilt, DEFAULT_ZOOM);
     }
 
     if (validLocationAndProgress(routeInformation) && shouldUpdateZoom(routeInformation)) {
-      return createZoom(routeInformation);
+      LatLngBounds zoomBounds = createZoomBounds(routeInformation.location(), routeInformation.routeProgress());
+      if (zoomBounds == null) {
+        return CameraState.withCurrentZoom(routeInformation, tilt, true);
+      }
+      return CameraState.withZoomBounds(routeInformation, tilt, zoomBounds);
     } else if (routeInformation.route() != null) {
-      return super.zoom(routeInformation);
+      return CameraState.withZoom(routeInformation, tilt, super.zoom(routeInformation));
     }
-    return mapLibreMap.getCameraPosition().zoom;
+    return CameraState.withCurrentZoom(routeInformation, tilt, false);
   }
 
+  /**
+   * Resolves the zoom of a state built by {@link #buildCameraState(RouteInformation)}. Must be
+   * called on the main thread, as it may access the map.
+   *
+   * @param cameraState to resolve the zoom of
+   * @return zoom within set min / max bounds, if the state asks for it
+   */
+  double zoomFor(CameraState cameraState) {
+    if (cameraState.hasFixedZoom()) {
+      return cameraState.zoom();
+    }
+    if (mapLibreMap == null) {
+      return DEFAULT_ZOOM;
+    }
+    LatLngBounds zoomBounds = cameraState.zoomBounds();
+    if (zoomBounds != null) {
+      int[] padding = {0, 0, 0, 0};
+      return createZoom(mapLibreMap.getCameraForLatLngBounds(zoomBounds, padding));
+    }
+    CameraPosition currentPosition = mapLibreMap.getCameraPosition();
+    if (cameraState.keepsZoomWithinLimits()) {
+      return createZoom(currentPosition);
+    }
+    return currentPosition == null ? DEFAULT_ZOOM : currentPosition.zoom;
+  }
 
   /**
    * Called when the zoom level should force update on the next usage
    * of {@link DynamicCamera#zoom(RouteInformation)}.
    */
-  public void forceResetZoomLevel() {
+  public synchronized void forceResetZoomLevel() {
     forceUpdateZoom = true;
   }
 
-  public void clearMap() {
+  public synchronized void clearMap() {
     isShutdown = true;
     mapLibreMap = null;
   }
@@ -104,11 +144,10 @@ public class DynamicCamera extends SimpleCamera {
    * 0 zoom is the world view, while 22 (default max threshold) is the closest you can position
    * the camera to the map.
    *
-   * @param routeInformation for current location and progress
+   * @param position fitting the current location and upcoming maneuver location
    * @return zoom within set min / max bounds
    */
-  private double createZoom(RouteInformation routeInformation) {
-    CameraPosition position = createCameraPosition(routeInformation.location(), routeInformation.routeProgress());
+  private double createZoom(CameraPosition position) {
     if (position == null) {
       return DEFAULT_ZOOM;
     }
@@ -121,38 +160,31 @@ public class DynamicCamera extends SimpleCamera {
   }
 
   /**
-   * Creates a camera position with the current location and upcoming maneuver location.
-   * <p>
-   * Using {@link MapLibreMap#getCameraForLatLngBounds(LatLngBounds, int[])} with a {@link LatLngBounds}
-   * that includes the current location and upcoming maneuver location.
+   * Creates the bounds including the current location and upcoming maneuver location, to be
+   * used with {@link MapLibreMap#getCameraForLatLngBounds(LatLngBounds, int[])}.
    *
    * @param location      for current location
    * @param routeProgress for upcoming maneuver location
-   * @return camera position that encompasses both locations
+   * @return bounds that encompass both locations, or null to keep the current camera position
    */
-  private CameraPosition createCameraPosition(Location location, RouteProgress routeProgress) {
+  @Nullable
+  private LatLngBounds createZoomBounds(Location location, RouteProgress routeProgress) {
     LegStep upComingStep = routeProgress.currentLegProgress().upComingStep();
-    if (upComingStep != null) {
-      Point stepManeuverPoint = upComingStep.maneuver().location();
-
-      List<LatLng> latLngs = new ArrayList<>();
-      LatLng currentLatLng = new LatLng(location);
-      LatLng maneuverLatLng = new LatLng(stepManeuverPoint.latitude(), stepManeuverPoint.longitude());
-      latLngs.add(currentLatLng);
-      latLngs.add(maneuverLatLng);
-
-      if (latLngs.size() < 1 || currentLatLng.equals(maneuverLatLng)) {
-        return mapLibreMap.getCameraPosition();
-      }
-
-      LatLngBounds cameraBounds = new LatLngBounds.Builder()
-        .includes(latLngs)
-        .build();
-
-      int[] padding = {0, 0, 0, 0};
-      return mapLibreMap.getCameraForLatLngBounds(cameraBounds, padding);
+    if (upComingStep == null) {
+      return null;
+    }
+    Point stepManeuverPoint = upComingStep.maneuver().location();
+    double latitude = location.getLatitude();
+    double longitude = location.getLongitude();
+    double maneuverLatitude = stepManeuverPoint.latitude();
+    double maneuverLongitude = stepManeuverPoint.longitude();
+    if (latitude == maneuverLatitude && longitude == maneuverLongitude) {
+      return null;
     }
-    return mapLibreMap.getCameraPosition();
+    return LatLngBounds.from(
+      Math.max(latitude, maneuverLatitude), Math.max(longitude, maneuverLongitude),
+      Math.min(latitude, maneuverLatitude), Math.min(longitude, maneuverLongitude)
+    );
   }
 
   private boolean isForceUpdate() {
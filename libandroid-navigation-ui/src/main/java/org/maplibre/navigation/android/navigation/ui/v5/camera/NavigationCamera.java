@@ -4,6 +4,7 @@ import androidx.lifecycle.Lifecycle;
 import androidx.lifecycle.LifecycleObserver;
 import androidx.lifecycle.OnLifecycleEvent;
 import android.location.Location;
+import android.view.Choreographer;
 import androidx.annotation.IntDef;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -15,25 +16,27 @@ import org.maplibre.android.camera.CameraPosition;
 import org.maplibre.android.camera.CameraUpdate;
 import org.maplibre.android.camera.CameraUpdateFactory;
 import org.maplibre.android.constants.MapLibreConstants;
-import org.maplibre.android.geometry.LatLng;
 import org.maplibre.android.geometry.LatLngBounds;
 import org.maplibre.android.location.LocationComponent;
 import org.maplibre.android.location.OnCameraTrackingChangedListener;
 import org.maplibre.android.location.OnLocationCameraTransitionListener;
 import org.maplibre.android.location.modes.CameraMode;
 import org.maplibre.android.maps.MapLibreMap;
+import org.maplibre.navigation.android.navigation.v5.navigation.ListenerDispatchOptions;
 import org.maplibre.navigation.android.navigation.v5.navigation.MapLibreNavigation;
 import org.maplibre.navigation.android.navigation.v5.navigation.camera.Camera;
 import org.maplibre.navigation.android.navigation.v5.navigation.camera.RouteInformation;
+import org.maplibre.navigation.android.navigation.v5.navigation.camera.RouteOverviewBounds;
+import org.maplibre.navigation.android.navigation.v5.navigation.camera.SimpleCamera;
 import org.maplibre.navigation.android.navigation.v5.routeprogress.ProgressChangeListener;
 import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
 import org.maplibre.navigation.android.navigation.v5.utils.MathUtils;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
 
 import timber.log.Timber;
 
@@ -46,6 +49,10 @@ import static org.maplibre.navigation.android.navigation.v5.navigation.Navigatio
  * <p>
  * This class listens to the progress of {@link MapLibreNavigation} and moves
  * the {@link MapLibreMap} camera based on the location updates.
+ * <p>
+ * Progress is received off the main thread, where the camera values of a {@link DynamicCamera}
+ * are computed. Only the latest values are applied on the next frame, intermediate ones are
+ * dropped when the main thread is behind.
  *
  * @since 0.6.0
  */
@@ -70,6 +77,9 @@ public class NavigationCamera implements LifecycleObserver {
    */
   public static final int NAVIGATION_TRACKING_MODE_NONE = 2;
   private static final int ONE_POINT = 1;
+  private static final ListenerDispatchOptions PROGRESS_DISPATCH_OPTIONS = ListenerDispatchOptions.builder()
+    .deliverOnBackgroundThread()
+    .build();
   private final CopyOnWriteArrayList<OnTrackingModeTransitionListener> onTrackingModeTransitionListeners
     = new CopyOnWriteArrayList<>();
   private final CopyOnWriteArrayList<OnTrackingModeChangedListener> onTrackingModeChangedListeners
@@ -81,12 +91,26 @@ public class NavigationCamera implements LifecycleObserver {
   private MapLibreMap mapLibreMap;
   private LocationComponent locationComponent;
   private MapLibreNavigation navigation;
-  private RouteInformation currentRouteInformation;
-  private RouteProgress currentRouteProgress;
+  private volatile RouteInformation currentRouteInformation;
+  private volatile RouteProgress currentRouteProgress;
+  private List<Point> overviewPoints;
+  private LatLngBounds overviewBounds;
   @TrackingMode
-  private int trackingCameraMode = NAVIGATION_TRACKING_MODE_GPS;
-  private boolean isCameraResetting;
+  private volatile int trackingCameraMode = NAVIGATION_TRACKING_MODE_GPS;
+  private volatile boolean isCameraResetting;
   private CameraAnimationDelegate animationDelegate;
+  @Nullable
+  private Choreographer choreographer;
+  private final AtomicReference<CameraState> pendingCameraState = new AtomicReference<>();
+  private final Choreographer.FrameCallback cameraStateFrameCallback = new Choreographer.FrameCallback() {
+    @Override
+    public void doFrame(long frameTimeNanos) {
+      CameraState cameraState = pendingCameraState.getAndSet(null);
+      if (cameraState != null) {
+        applyCameraState(cameraState);
+      }
+    }
+  };
   private ProgressChangeListener progressChangeListener = new ProgressChangeListener() {
     @Override
     public void onProgressChange(Location location, RouteProgress routeProgress) {
@@ -94,7 +118,7 @@ public class NavigationCamera implements LifecycleObserver {
       if (isTrackingEnabled()) {
         currentRouteInformation = buildRouteInformationFromLocation(location, routeProgress);
         if (!isCameraResetting) {
-          adjustCameraFromLocation(currentRouteInformation);
+          updateCameraState(buildCameraState(currentRouteInformation));
         }
       }
     }
@@ -113,6 +137,7 @@ public class NavigationCamera implements LifecycleObserver {
     this.navigation = navigation;
     this.locationComponent = locationComponent;
     this.animationDelegate = new CameraAnimationDelegate(mapLibreMap);
+    this.choreographer = Choreographer.getInstance();
     this.locationComponent.addOnCameraTrackingChangedListener(cameraTrackingChangedListener);
     initializeWith(navigation);
   }
@@ -129,6 +154,7 @@ public class NavigationCamera implements LifecycleObserver {
     this.mapLibreMap = mapLibreMap;
     this.locationComponent = locationComponent;
     this.animationDelegate = new CameraAnimationDelegate(mapLibreMap);
+    this.choreographer = Choreographer.getInstance();
     this.locationComponent.addOnCameraTrackingChangedListener(cameraTrackingChangedListener);
     updateCameraTrackingMode(trackingCameraMode);
   }
@@ -154,7 +180,7 @@ public class NavigationCamera implements LifecycleObserver {
     if (route != null) {
       currentRouteInformation = buildRouteInformationFromRoute(route);
     }
-    navigation.addProgressChangeListener(progressChangeListener);
+    navigation.addProgressChangeListener(progressChangeListener, PROGRESS_DISPATCH_OPTIONS);
   }
 
   /**
@@ -166,7 +192,7 @@ public class NavigationCamera implements LifecycleObserver {
     if (location != null) {
       currentRouteInformation = buildRouteInformationFromLocation(location, null);
     }
-    navigation.addProgressChangeListener(progressChangeListener);
+    navigation.addProgressChangeListener(progressChangeListener, PROGRESS_DISPATCH_OPTIONS);
   }
 
   /**
@@ -211,14 +237,15 @@ public class NavigationCamera implements LifecycleObserver {
 
   /**
    * This method stops the map camera from tracking the current location, and then zooms
-   * out to an overview of the current route being traveled.
+   * out to an overview of the part of the current route not traveled yet.
    *
    * @param padding in pixels around the bounding box of the overview (left, top, right, bottom)
    */
   public void showRouteOverview(int[] padding) {
     updateCameraTrackingMode(NAVIGATION_TRACKING_MODE_NONE);
-    RouteInformation routeInformation = buildRouteInformationFromProgress(currentRouteProgress);
-    animateCameraForRouteOverview(routeInformation, padding);
+    RouteProgress routeProgress = currentRouteProgress;
+    RouteInformation routeInformation = buildRouteInformationFromProgress(routeProgress);
+    animateCameraForRouteOverview(routeInformation, routeProgress, padding);
   }
 
   /**
@@ -279,7 +306,7 @@ public class NavigationCamera implements LifecycleObserver {
   @OnLifecycleEvent(Lifecycle.Event.ON_START)
   public void onStart() {
     if (navigation != null) {
-      navigation.addProgressChangeListener(progressChangeListener);
+      navigation.addProgressChangeListener(progressChangeListener, PROGRESS_DISPATCH_OPTIONS);
     }
   }
 
@@ -292,6 +319,10 @@ public class NavigationCamera implements LifecycleObserver {
     if (navigation != null) {
       navigation.removeProgressChangeListener(progressChangeListener);
     }
+    if (choreographer != null) {
+      choreographer.removeFrameCallback(cameraStateFrameCallback);
+    }
+    pendingCameraState.set(null);
   }
 
   /**
@@ -305,7 +336,7 @@ public class NavigationCamera implements LifecycleObserver {
   public void addProgressChangeListener(MapLibreNavigation navigation) {
     this.navigation = navigation;
     navigation.setCameraEngine(new DynamicCamera(mapLibreMap));
-    navigation.addProgressChangeListener(progressChangeListener);
+    navigation.addProgressChangeListener(progressChangeListener, PROGRESS_DISPATCH_OPTIONS);
   }
 
   /**
@@ -433,14 +464,35 @@ public class NavigationCamera implements LifecycleObserver {
     }
   }
 
-  private void animateCameraForRouteOverview(RouteInformation routeInformation, int[] padding) {
+  private void animateCameraForRouteOverview(RouteInformation routeInformation, RouteProgress routeProgress,
+                                             int[] padding) {
     Camera cameraEngine = navigation.getCameraEngine();
     List<Point> routePoints = cameraEngine.overview(routeInformation);
     if (!routePoints.isEmpty()) {
-      animateMapLibreMapForRouteOverview(padding, routePoints);
+      List<Point> boundingPoints = findBoundingPoints(cameraEngine, routeInformation, routeProgress, routePoints);
+      animateMapLibreMapForRouteOverview(padding, boundingPoints);
     }
   }
 
+  /**
+   * The overview only depends on the corners of the remaining route bounds, which a
+   * {@link SimpleCamera} keeps per route and updates as the distance traveled grows. Other
+   * cameras fit all the points of their overview.
+   */
+  private List<Point> findBoundingPoints(Camera cameraEngine, RouteInformation routeInformation,
+                                         @Nullable RouteProgress routeProgress, List<Point> routePoints) {
+    if (cameraEngine instanceof SimpleCamera) {
+      RouteOverviewBounds overviewBounds = ((SimpleCamera) cameraEngine).overviewBounds(routeInformation);
+      if (overviewBounds != null && !overviewBounds.routeBounds().isEmpty()) {
+        if (routeProgress != null) {
+          return overviewBounds.remainingBounds(routeProgress.distanceTraveled());
+        }
+        return overviewBounds.routeBounds();
+      }
+    }
+    return routePoints;
+  }
+
   private void animateMapLibreMapForRouteOverview(int[] padding, List<Point> routePoints) {
     if (routePoints.size() <= ONE_POINT) {
       return;
@@ -467,13 +519,22 @@ public class NavigationCamera implements LifecycleObserver {
   }
 
   private LatLngBounds convertRoutePointsToLatLngBounds(List<Point> routePoints) {
-    List<LatLng> latLngs = new ArrayList<>();
+    if (routePoints == overviewPoints) {
+      return overviewBounds;
+    }
+    double north = -Double.MAX_VALUE;
+    double east = -Double.MAX_VALUE;
+    double south = Double.MAX_VALUE;
+    double west = Double.MAX_VALUE;
     for (Point routePoint : routePoints) {
-      latLngs.add(new LatLng(routePoint.latitude(), routePoint.longitude()));
+      north = Math.max(north, routePoint.latitude());
+      east = Math.max(east, routePoint.longitude());
+      south = Math.min(south, routePoint.latitude());
+      west = Math.min(west, routePoint.longitude());
     }
-    return new LatLngBounds.Builder()
-      .includes(latLngs)
-      .build();
+    overviewPoints = routePoints;
+    overviewBounds = LatLngBounds.from(north, east, south, west);
+    return overviewBounds;
   }
 
   private void setCameraMode(@TrackingMode int trackingCameraMode) {
@@ -528,6 +589,62 @@ public class NavigationCamera implements LifecycleObserver {
     locationComponent.tiltWhileTracking(tilt, getTiltAnimationDuration(tilt));
   }
 
+  /**
+   * Called on the thread delivering progress updates, so only camera values which don't need
+   * the map are computed here.
+   */
+  private CameraState buildCameraState(RouteInformation routeInformation) {
+    Camera camera = navigation.getCameraEngine();
+    if (camera instanceof DynamicCamera) {
+      return ((DynamicCamera) camera).buildCameraState(routeInformation);
+    }
+    return CameraState.notComputed(routeInformation);
+  }
+
+  /**
+   * Replaces the state waiting for the next frame, keeping the zoom update it requested if the
+   * newer state doesn't request one.
+   */
+  private void updateCameraState(CameraState cameraState) {
+    if (choreographer == null) {
+      applyCameraState(cameraState);
+      return;
+    }
+    CameraState previousState;
+    do {
+      previousState = pendingCameraState.get();
+    } while (!pendingCameraState.compareAndSet(previousState, cameraState.coalesceWith(previousState)));
+    if (previousState == null) {
+      choreographer.postFrameCallback(cameraStateFrameCallback);
+    }
+  }
+
+  private void applyCameraState(CameraState cameraState) {
+    Camera camera = navigation.getCameraEngine();
+    if (!isTrackingEnabled() || isCameraResetting) {
+      requestZoomUpdateOf(camera, cameraState);
+      return;
+    }
+    if (cameraState.isComputed() && camera instanceof DynamicCamera) {
+      float tilt = (float) cameraState.tilt();
+      double zoom = ((DynamicCamera) camera).zoomFor(cameraState);
+      locationComponent.zoomWhileTracking(zoom, getZoomAnimationDuration(zoom));
+      locationComponent.tiltWhileTracking(tilt, getTiltAnimationDuration(tilt));
+    } else {
+      adjustCameraFromLocation(cameraState.routeInformation());
+    }
+  }
+
+  /**
+   * Building the dropped state consumed the zoom update of the {@link DynamicCamera}, so it's
+   * requested again for the next zoom.
+   */
+  private void requestZoomUpdateOf(Camera camera, CameraState droppedState) {
+    if (droppedState.updatesZoom() && camera instanceof DynamicCamera) {
+      ((DynamicCamera) camera).forceResetZoomLevel();
+    }
+  }
+
   private void adjustCameraFromLocation(RouteInformation routeInformation) {
     Camera camera = navigation.getCameraEngine();
     float tilt = (float) camera.tilt(routeInformation);
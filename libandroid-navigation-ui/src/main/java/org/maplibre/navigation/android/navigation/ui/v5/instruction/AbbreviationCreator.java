@@ -68,54 +68,77 @@ class AbbreviationCreator extends NodeCreator<AbbreviationCreator.AbbreviationNo
       return bannerText;
     }
 
-    bannerText = abbreviateUntilTextFits(textView, bannerText, bannerComponentNodes);
+    List<Integer> abbreviationPriorities = findAbbreviationPriorities();
+    String banner = describeBanner(bannerText, abbreviationPriorities, bannerComponentNodes);
+    Integer abbreviationLevel = textViewUtils.findAbbreviationLevel(textView, banner);
+    if (abbreviationLevel == null) {
+      abbreviationLevel = findAbbreviationLevel(textView, abbreviationPriorities, bannerComponentNodes);
+      textViewUtils.putAbbreviationLevel(textView, banner, abbreviationLevel);
+    }
+    abbreviateUpToLevel(abbreviationPriorities, abbreviationLevel, bannerComponentNodes);
+    bannerText = join(bannerComponentNodes);
 
     abbreviations.clear();
     return bannerText;
   }
 
-  private String abbreviateUntilTextFits(TextView textView, String startingText,
-                                         List<BannerComponentNode> bannerComponentNodes) {
-    int currAbbreviationPriority = 0;
-    int maxAbbreviationPriority = Collections.max(abbreviations.keySet());
-    String bannerText = startingText;
-
-    while (shouldKeepAbbreviating(textView, bannerText, currAbbreviationPriority, maxAbbreviationPriority)) {
-      List<Integer> indices = abbreviations.get(currAbbreviationPriority++);
-
-      boolean abbreviationPriorityExists = abbreviateAtAbbreviationPriority(bannerComponentNodes, indices);
-
-      if (abbreviationPriorityExists) {
-        bannerText = join(bannerComponentNodes);
+  /**
+   * Finds the fewest abbreviation priorities, applied in ascending order, needed for the text to
+   * fit. Each priority only shortens the text, so the priorities are binary searched. If the text
+   * doesn't fit with all of them, all of them are applied.
+   */
+  private int findAbbreviationLevel(TextView textView, List<Integer> abbreviationPriorities,
+                                    List<BannerComponentNode> bannerComponentNodes) {
+    int lowLevel = 0;
+    int highLevel = abbreviationPriorities.size();
+    while (lowLevel < highLevel) {
+      int level = (lowLevel + highLevel) >>> 1;
+      abbreviateUpToLevel(abbreviationPriorities, level, bannerComponentNodes);
+      if (textViewUtils.textFits(textView, join(bannerComponentNodes))) {
+        highLevel = level;
+      } else {
+        lowLevel = level + 1;
       }
     }
-
-    return bannerText;
-  }
-
-  private boolean shouldKeepAbbreviating(TextView textView, String bannerText,
-                                         int currAbbreviationPriority, int maxAbbreviationPriority) {
-
-    boolean textFits = textViewUtils.textFits(textView, bannerText);
-    boolean abbreviationPrioritiesLeft = currAbbreviationPriority <= maxAbbreviationPriority;
-    return !textFits && abbreviationPrioritiesLeft;
+    return lowLevel;
   }
 
-  private boolean abbreviateAtAbbreviationPriority(List<BannerComponentNode> bannerComponentNodes,
-                                                   List<Integer> indices) {
-    if (indices == null || indices.isEmpty()) {
-      return false;
+  /**
+   * @return the abbreviation priorities in the order they're applied, skipping negative ones
+   */
+  private List<Integer> findAbbreviationPriorities() {
+    List<Integer> abbreviationPriorities = new ArrayList<>();
+    for (Integer abbreviationPriority : abbreviations.keySet()) {
+      if (abbreviationPriority != null && abbreviationPriority >= 0) {
+        abbreviationPriorities.add(abbreviationPriority);
+      }
     }
+    Collections.sort(abbreviationPriorities);
+    return abbreviationPriorities;
+  }
 
-    for (Integer index : indices) {
-      abbreviate(bannerComponentNodes.get(index));
+  /**
+   * Describes the text and its abbreviations, so banners fit before can be looked up.
+   */
+  private String describeBanner(String bannerText, List<Integer> abbreviationPriorities,
+                                List<BannerComponentNode> bannerComponentNodes) {
+    StringBuilder banner = new StringBuilder(bannerText);
+    for (Integer abbreviationPriority : abbreviationPriorities) {
+      for (Integer index : abbreviations.get(abbreviationPriority)) {
+        banner.append('\n').append(abbreviationPriority).append(':').append(index).append(':')
+          .append(bannerComponentNodes.get(index).bannerComponents.abbreviation());
+      }
     }
-
-    return true;
+    return banner.toString();
   }
 
-  private void abbreviate(BannerComponentNode bannerComponentNode) {
-    ((AbbreviationNode) bannerComponentNode).setAbbreviate(true);
+  private void abbreviateUpToLevel(List<Integer> abbreviationPriorities, int abbreviationLevel,
+                                   List<BannerComponentNode> bannerComponentNodes) {
+    for (int level = 0; level < abbreviationPriorities.size(); level++) {
+      for (Integer index : abbreviations.get(abbreviationPriorities.get(level))) {
+        ((AbbreviationNode) bannerComponentNodes.get(index)).setAbbreviate(level < abbreviationLevel);
+      }
+    }
   }
 
   private String join(List<BannerComponentNode> tokens) {
@@ -10,12 +10,27 @@ import android.widget.TextView;
 import org.maplibre.navigation.android.navigation.v5.models.BannerComponents;
 import org.maplibre.navigation.android.navigation.v5.models.BannerInstructions;
 import org.maplibre.navigation.android.navigation.v5.models.BannerText;
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
 import org.maplibre.navigation.android.navigation.v5.models.LegStep;
+import org.maplibre.navigation.android.navigation.v5.models.RouteLeg;
 import org.maplibre.navigation.android.navigation.v5.navigation.SdkVersionChecker;
+import com.squareup.picasso.Callback;
+import com.squareup.picasso.LruCache;
+import com.squareup.picasso.OkHttp3Downloader;
 import com.squareup.picasso.Picasso;
+import com.squareup.picasso.StatsSnapshot;
 
+import java.io.File;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+
+import okhttp3.Cache;
+import okhttp3.OkHttpClient;
 
 /**
  * Utility class that can be used to load a given {@link BannerText} into the provided
@@ -29,14 +44,23 @@ import java.util.List;
  */
 public class ImageCreator extends NodeCreator<BannerComponentNode, ImageVerifier> {
 
+  private static final String IMAGE_CACHE_DIRECTORY = "maplibre_navigation_banner_images";
+  private static final int MEMORY_CACHE_SIZE_IN_BYTES = 4 * 1024 * 1024;
+  private static final long DISK_CACHE_SIZE_IN_BYTES = 20 * 1024 * 1024;
+  private static final int MAX_PARALLEL_DOWNLOADS = 2;
+  private static final int MAX_PREFETCHED_URLS = 256;
   private static ImageCreator instance;
   private boolean isInitialized;
   private Picasso picassoImageLoader;
+  private Cache diskCache;
+  private DirectionsRoute prefetchedRoute;
+  private Set<String> fetchingUrls;
+  private Map<String, Boolean> prefetchedUrls;
   private List<InstructionTarget> targets;
   private UrlDensityMap urlDensityMap;
   private List<BannerShield> bannerShieldList;
 
-  private ImageCreator(ImageVerifier imageVerifier) {
+  ImageCreator(ImageVerifier imageVerifier) {
     super(imageVerifier);
   }
 
@@ -81,12 +105,19 @@ public class ImageCreator extends NodeCreator<BannerComponentNode, ImageVerifier
    */
   public void initialize(Context context) {
     if (!isInitialized) {
-      initializePicasso(context);
-      initializeData(context);
-      isInitialized = true;
+      SdkVersionChecker currentVersionChecker = new SdkVersionChecker(Build.VERSION.SDK_INT);
+      int displayDensity = context.getResources().getDisplayMetrics().densityDpi;
+      initialize(initializePicasso(context), new UrlDensityMap(displayDensity, currentVersionChecker));
     }
   }
 
+  void initialize(Picasso picassoImageLoader, UrlDensityMap urlDensityMap) {
+    this.picassoImageLoader = picassoImageLoader;
+    this.urlDensityMap = urlDensityMap;
+    initializeData();
+    isInitialized = true;
+  }
+
   /**
    * Will pre-fetch images for a given {@link LegStep}.
    * <p>
@@ -100,6 +131,56 @@ public class ImageCreator extends NodeCreator<BannerComponentNode, ImageVerifier
     fetchInstructions(legStep);
   }
 
+  /**
+   * Will pre-fetch the images of every {@link LegStep} in the given {@link DirectionsRoute}.
+   * <p>
+   * Downloads run in the background with bounded parallelism and are stored in both the memory
+   * and the disk cache. Images which are being downloaded or have recently been downloaded (for
+   * instance for a previous route before a reroute) are not requested again, failed downloads are
+   * retried with the next prefetch. Calling this again with the same route is a no-op.
+   *
+   * @param route providing the image Urls
+   * @since 4.1.0
+   */
+  public void prefetchImageCache(DirectionsRoute route) {
+    checkIsInitialized();
+    if (route == null || route == prefetchedRoute || route.legs() == null) {
+      return;
+    }
+    prefetchedRoute = route;
+    for (RouteLeg leg : route.legs()) {
+      if (leg.steps() == null) {
+        continue;
+      }
+      for (LegStep step : leg.steps()) {
+        fetchInstructions(step);
+      }
+    }
+  }
+
+  /**
+   * Fraction of image requests served from the memory cache since initialization.
+   *
+   * @return hit rate between 0 and 1, 0 if nothing has been requested yet
+   * @since 4.1.0
+   */
+  public float retrieveMemoryCacheHitRate() {
+    checkIsInitialized();
+    StatsSnapshot snapshot = picassoImageLoader.getSnapshot();
+    return calculateHitRate(snapshot.cacheHits, snapshot.cacheHits + snapshot.cacheMisses);
+  }
+
+  /**
+   * Fraction of image downloads served from the disk cache since initialization.
+   *
+   * @return hit rate between 0 and 1, 0 if nothing has been requested yet
+   * @since 4.1.0
+   */
+  public float retrieveDiskCacheHitRate() {
+    checkIsInitialized();
+    return calculateHitRate(diskCache.hitCount(), diskCache.requestCount());
+  }
+
   public void shutdown() {
     targets.clear();
   }
@@ -122,17 +203,29 @@ public class ImageCreator extends NodeCreator<BannerComponentNode, ImageVerifier
     loadTargets();
   }
 
-  private void initializePicasso(Context context) {
-    Picasso.Builder builder = new Picasso.Builder(context);
-    picassoImageLoader = builder.build();
+  private Picasso initializePicasso(Context context) {
+    File cacheDirectory = new File(context.getCacheDir(), IMAGE_CACHE_DIRECTORY);
+    diskCache = new Cache(cacheDirectory, DISK_CACHE_SIZE_IN_BYTES);
+    OkHttpClient client = new OkHttpClient.Builder()
+      .cache(diskCache)
+      .build();
+    Picasso.Builder builder = new Picasso.Builder(context)
+      .memoryCache(new LruCache(MEMORY_CACHE_SIZE_IN_BYTES))
+      .downloader(new OkHttp3Downloader(client))
+      .executor(Executors.newFixedThreadPool(MAX_PARALLEL_DOWNLOADS));
+    return builder.build();
   }
 
-  private void initializeData(Context context) {
-    SdkVersionChecker currentVersionChecker = new SdkVersionChecker(Build.VERSION.SDK_INT);
-    int displayDensity = context.getResources().getDisplayMetrics().densityDpi;
-    urlDensityMap = new UrlDensityMap(displayDensity, currentVersionChecker);
+  private void initializeData() {
     targets = new ArrayList<>();
     bannerShieldList = new ArrayList<>();
+    fetchingUrls = new HashSet<>();
+    prefetchedUrls = new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+        return size() > MAX_PREFETCHED_URLS;
+      }
+    };
   }
 
   private void fetchInstructions(LegStep legStep) {
@@ -175,11 +268,44 @@ public class ImageCreator extends NodeCreator<BannerComponentNode, ImageVerifier
   private void fetchImageBaseUrls(BannerText bannerText) {
     for (BannerComponents components : bannerText.components()) {
       if (nodeVerifier.hasImageUrl(components)) {
-        picassoImageLoader.load(urlDensityMap.get(components.imageBaseUrl())).fetch();
+        prefetchImage(urlDensityMap.get(components.imageBaseUrl()));
       }
     }
   }
 
+  /**
+   * Downloads the image unless it is already being downloaded or was downloaded recently. The URL
+   * is only remembered once the download succeeded, so failed downloads are retried.
+   * <p>
+   * Picasso calls back on the main thread, which prefetches are started from as well.
+   *
+   * @param imageUrl to download
+   */
+  private void prefetchImage(final String imageUrl) {
+    if (prefetchedUrls.containsKey(imageUrl) || !fetchingUrls.add(imageUrl)) {
+      return;
+    }
+    picassoImageLoader.load(imageUrl).priority(Picasso.Priority.LOW).fetch(new Callback() {
+      @Override
+      public void onSuccess() {
+        fetchingUrls.remove(imageUrl);
+        prefetchedUrls.put(imageUrl, Boolean.TRUE);
+      }
+
+      @Override
+      public void onError(Exception exception) {
+        fetchingUrls.remove(imageUrl);
+      }
+    });
+  }
+
+  private float calculateHitRate(long hits, long requests) {
+    if (requests <= 0) {
+      return 0f;
+    }
+    return (float) hits / requests;
+  }
+
   private void createTargets(TextView textView) {
     Spannable instructionSpannable = new SpannableString(textView.getText());
 
@@ -2,20 +2,45 @@ package org.maplibre.navigation.android.navigation.ui.v5.instruction;
 
 import android.text.SpannableString;
 
+import androidx.core.util.ObjectsCompat;
+
+import org.maplibre.navigation.android.navigation.v5.models.BannerInstructions;
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
+import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteLegProgress;
 import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
 import org.maplibre.navigation.android.navigation.v5.utils.DistanceFormatter;
+import org.maplibre.navigation.android.navigation.v5.utils.RouteUtils;
 
+/**
+ * Display state of the {@link InstructionView} for a route progress.
+ * <p>
+ * Models are equal if they display the same: the same step distance text, on the same step of
+ * the same route, with the same current banner instructions. Route progress updates along a step
+ * therefore produce equal models until the displayed distance changes.
+ */
 public class InstructionModel {
 
+  private static final RouteUtils ROUTE_UTILS = new RouteUtils();
+
   private RouteProgress progress;
   private SpannableString stepDistanceRemaining;
   private String drivingSide;
+  private final DirectionsRoute route;
+  private final int legIndex;
+  private final int stepIndex;
+  private final BannerInstructions currentBannerInstructions;
 
   public InstructionModel(DistanceFormatter distanceFormatter, RouteProgress progress) {
     this.progress = progress;
-    double distanceRemaining = progress.currentLegProgress().currentStepProgress().distanceRemaining();
+    RouteLegProgress legProgress = progress.currentLegProgress();
+    double distanceRemaining = legProgress.currentStepProgress().distanceRemaining();
     stepDistanceRemaining = distanceFormatter.formatDistance(distanceRemaining);
-    this.drivingSide = progress.currentLegProgress().currentStep().drivingSide();
+    this.drivingSide = legProgress.currentStep().drivingSide();
+    route = progress.directionsRoute();
+    legIndex = progress.legIndex();
+    stepIndex = legProgress.stepIndex();
+    currentBannerInstructions = ROUTE_UTILS.findCurrentBannerInstructions(legProgress.currentStep(),
+      distanceRemaining);
   }
 
   RouteProgress retrieveProgress() {
@@ -29,4 +54,33 @@ public class InstructionModel {
   String retrieveDrivingSide() {
     return drivingSide;
   }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof InstructionModel)) {
+      return false;
+    }
+    InstructionModel other = (InstructionModel) obj;
+    return route == other.route
+      && legIndex == other.legIndex
+      && stepIndex == other.stepIndex
+      && currentBannerInstructions == other.currentBannerInstructions
+      && ObjectsCompat.equals(drivingSide, other.drivingSide)
+      && isSameText(stepDistanceRemaining, other.stepDistanceRemaining);
+  }
+
+  @Override
+  public int hashCode() {
+    return ObjectsCompat.hash(legIndex, stepIndex, drivingSide);
+  }
+
+  private static boolean isSameText(CharSequence text, CharSequence otherText) {
+    if (text == otherText) {
+      return true;
+    }
+    return text != null && otherText != null && text.toString().equals(otherText.toString());
+  }
 }
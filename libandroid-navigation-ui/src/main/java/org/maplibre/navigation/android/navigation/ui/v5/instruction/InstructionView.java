@@ -58,6 +58,8 @@ import org.maplibre.navigation.android.navigation.v5.utils.DistanceFormatter;
 import org.maplibre.navigation.android.navigation.v5.utils.LocaleUtils;
 import org.maplibre.navigation.android.navigation.v5.utils.RouteUtils;
 
+import java.util.List;
+
 import timber.log.Timber;
 
 /**
@@ -77,6 +79,7 @@ import timber.log.Timber;
 public class InstructionView extends RelativeLayout implements LifecycleObserver {
 
   private static final String COMPONENT_TYPE_LANE = "lane";
+  private static final int PREWARM_MANEUVER_STEP_COUNT = 3;
 
   private ManeuverView upcomingManeuverView;
   private TextView upcomingDistanceText;
@@ -699,8 +702,31 @@ public class InstructionView extends RelativeLayout implements LifecycleObserver
     updateDistanceText(model);
     updateInstructionList(model);
     if (newStep(model.retrieveProgress())) {
-      LegStep upComingStep = model.retrieveProgress().currentLegProgress().upComingStep();
-      ImageCreator.getInstance().prefetchImageCache(upComingStep);
+      ImageCreator.getInstance().prefetchImageCache(model.retrieveProgress().directionsRoute());
+      prewarmUpcomingManeuvers(model.retrieveProgress());
+    }
+  }
+
+  /**
+   * Renders the maneuver icons of the next few steps ahead of time,
+   * so they are cached once their banner is shown.
+   */
+  private void prewarmUpcomingManeuvers(RouteProgress routeProgress) {
+    List<LegStep> steps = routeProgress.currentLeg().steps();
+    int firstUpcomingIndex = routeProgress.currentLegProgress().stepIndex() + 1;
+    int lastPrewarmIndex = Math.min(steps.size(), firstUpcomingIndex + PREWARM_MANEUVER_STEP_COUNT);
+    for (int i = firstUpcomingIndex; i < lastPrewarmIndex; i++) {
+      List<BannerInstructions> bannerInstructions = steps.get(i).bannerInstructions();
+      if (bannerInstructions == null) {
+        continue;
+      }
+      for (BannerInstructions instructions : bannerInstructions) {
+        BannerText primary = instructions.primary();
+        if (primary != null && primary.type() != null) {
+          Float roundaboutAngle = primary.degrees() == null ? null : primary.degrees().floatValue();
+          upcomingManeuverView.prewarmManeuver(primary.type(), primary.modifier(), roundaboutAngle);
+        }
+      }
     }
   }
 
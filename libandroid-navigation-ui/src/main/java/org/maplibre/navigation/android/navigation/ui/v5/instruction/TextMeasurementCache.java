@@ -0,0 +1,107 @@
+package org.maplibre.navigation.android.navigation.ui.v5.instruction;
+
+import android.graphics.Paint;
+import android.graphics.Typeface;
+import android.util.LruCache;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.util.ObjectsCompat;
+
+/**
+ * Process-wide cache of banner text measurements.
+ * <p>
+ * The same banner texts are measured by the primary banner, the sub-banner and each bind of the
+ * instruction list. Measured widths are kept per text, typeface and size, and the number of
+ * abbreviation priorities needed for a banner to fit is kept per banner and available width.
+ * <p>
+ * This class must only be used from the main thread, like the views it measures for.
+ */
+class TextMeasurementCache {
+
+  private static final int MAX_TEXT_WIDTHS = 512;
+  private static final int MAX_ABBREVIATION_LEVELS = 256;
+  private static TextMeasurementCache instance;
+
+  private final LruCache<Key, Float> textWidths = new LruCache<>(MAX_TEXT_WIDTHS);
+  private final LruCache<Key, Integer> abbreviationLevels = new LruCache<>(MAX_ABBREVIATION_LEVELS);
+
+  static synchronized TextMeasurementCache getInstance() {
+    if (instance == null) {
+      instance = new TextMeasurementCache();
+    }
+    return instance;
+  }
+
+  /**
+   * Returns the width of the given text drawn with the given paint, measuring it if needed.
+   *
+   * @param paint to measure with
+   * @param text  to measure
+   * @return the width of the text in pixels
+   */
+  float measureText(@NonNull Paint paint, @NonNull String text) {
+    Key key = new Key(text, paint.getTypeface(), paint.getTextSize(), 0);
+    Float width = textWidths.get(key);
+    if (width == null) {
+      width = paint.measureText(text);
+      textWidths.put(key, width);
+    }
+    return width;
+  }
+
+  /**
+   * @param banner         describing the text and its abbreviations
+   * @param paint          the banner is drawn with
+   * @param availableWidth of the view, in pixels
+   * @return the number of abbreviation priorities applied when the banner was last fit, or null
+   */
+  @Nullable
+  Integer findAbbreviationLevel(@NonNull String banner, @NonNull Paint paint, int availableWidth) {
+    return abbreviationLevels.get(new Key(banner, paint.getTypeface(), paint.getTextSize(), availableWidth));
+  }
+
+  void putAbbreviationLevel(@NonNull String banner, @NonNull Paint paint, int availableWidth, int level) {
+    abbreviationLevels.put(new Key(banner, paint.getTypeface(), paint.getTextSize(), availableWidth), level);
+  }
+
+  void clear() {
+    textWidths.evictAll();
+    abbreviationLevels.evictAll();
+  }
+
+  private static class Key {
+
+    private final String text;
+    private final Typeface typeface;
+    private final float textSize;
+    private final int availableWidth;
+
+    Key(String text, Typeface typeface, float textSize, int availableWidth) {
+      this.text = text;
+      this.typeface = typeface;
+      this.textSize = textSize;
+      this.availableWidth = availableWidth;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return Float.compare(textSize, other.textSize) == 0
+        && availableWidth == other.availableWidth
+        && text.equals(other.text)
+        && ObjectsCompat.equals(typeface, other.typeface);
+    }
+
+    @Override
+    public int hashCode() {
+      return ObjectsCompat.hash(text, typeface, textSize, availableWidth);
+    }
+  }
+}
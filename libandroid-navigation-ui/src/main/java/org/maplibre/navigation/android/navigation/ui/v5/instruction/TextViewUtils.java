@@ -3,7 +3,6 @@ package org.maplibre.navigation.android.navigation.ui.v5.instruction;
 import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
-import android.graphics.Paint;
 import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
 import android.text.Spannable;
@@ -15,12 +14,34 @@ import android.widget.TextView;
 
 class TextViewUtils {
 
+  private final TextMeasurementCache measurementCache;
+
+  TextViewUtils() {
+    this(TextMeasurementCache.getInstance());
+  }
+
+  TextViewUtils(TextMeasurementCache measurementCache) {
+    this.measurementCache = measurementCache;
+  }
+
   boolean textFits(TextView textView, String text) {
-    Paint paint = new Paint(textView.getPaint());
-    float width = paint.measureText(text);
+    float width = measurementCache.measureText(textView.getPaint(), text);
     return width < textView.getWidth();
   }
 
+  /**
+   * @param textView the banner is drawn into
+   * @param banner   describing the text and its abbreviations
+   * @return the number of abbreviation priorities needed to fit the banner last time, or null
+   */
+  Integer findAbbreviationLevel(TextView textView, String banner) {
+    return measurementCache.findAbbreviationLevel(banner, textView.getPaint(), textView.getWidth());
+  }
+
+  void putAbbreviationLevel(TextView textView, String banner, int level) {
+    measurementCache.putAbbreviationLevel(banner, textView.getPaint(), textView.getWidth(), level);
+  }
+
   Drawable createDrawable(TextView textView, Bitmap bitmap) {
     Drawable drawable = new BitmapDrawable(textView.getContext().getResources(), bitmap);
     int bottom = textView.getLineHeight();
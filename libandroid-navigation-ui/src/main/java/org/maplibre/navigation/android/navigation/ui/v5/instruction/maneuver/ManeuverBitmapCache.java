@@ -0,0 +1,129 @@
+package org.maplibre.navigation.android.navigation.ui.v5.instruction.maneuver;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.PointF;
+import android.util.LruCache;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.util.ObjectsCompat;
+import androidx.core.util.Pair;
+
+/**
+ * Process-wide cache of rendered maneuver icons.
+ * <p>
+ * {@link ManeuversStyleKit} rebuilds every path on each draw, so the rendered result is kept
+ * as a {@link Bitmap} keyed by everything that influences its pixels. Mirroring for left-hand
+ * driving is applied by {@link ManeuverView} through its scale, so the same bitmap is shared by
+ * both driving sides.
+ * <p>
+ * {@link ManeuversStyleKit} uses static paint and path caches, so this class must only be used
+ * from the main thread.
+ */
+class ManeuverBitmapCache {
+
+  private static final int MAX_CACHE_SIZE_IN_BYTES = 4 * 1024 * 1024;
+  private static ManeuverBitmapCache instance;
+
+  private final LruCache<Key, Bitmap> bitmaps;
+
+  ManeuverBitmapCache(int maxSizeInBytes) {
+    bitmaps = new LruCache<Key, Bitmap>(maxSizeInBytes) {
+      @Override
+      protected int sizeOf(Key key, Bitmap bitmap) {
+        return bitmap.getByteCount();
+      }
+    };
+  }
+
+  static synchronized ManeuverBitmapCache getInstance() {
+    if (instance == null) {
+      instance = new ManeuverBitmapCache(MAX_CACHE_SIZE_IN_BYTES);
+    }
+    return instance;
+  }
+
+  /**
+   * Returns the cached bitmap for the given key, rendering and caching it if needed.
+   *
+   * @param key    describing the maneuver icon
+   * @param update drawing the maneuver icon onto a canvas
+   * @return the rendered icon, null if the key has no drawable size
+   */
+  @Nullable
+  Bitmap obtain(@NonNull Key key, @NonNull ManeuverViewUpdate update) {
+    if (key.width <= 0 || key.height <= 0) {
+      return null;
+    }
+    Bitmap bitmap = bitmaps.get(key);
+    if (bitmap == null) {
+      bitmap = render(key, update);
+      bitmaps.put(key, bitmap);
+    }
+    return bitmap;
+  }
+
+  void clear() {
+    bitmaps.evictAll();
+  }
+
+  /**
+   * @return how many icons have been rendered since this cache was created
+   */
+  int renderCount() {
+    return bitmaps.putCount();
+  }
+
+  @NonNull
+  private Bitmap render(Key key, ManeuverViewUpdate update) {
+    Bitmap bitmap = Bitmap.createBitmap(key.width, key.height, Bitmap.Config.ARGB_8888);
+    Canvas canvas = new Canvas(bitmap);
+    PointF size = new PointF(key.width, key.height);
+    update.updateManeuverView(canvas, key.primaryColor, key.secondaryColor, size, key.roundaboutAngle);
+    return bitmap;
+  }
+
+  static class Key {
+
+    private final Pair<String, String> maneuverTypeAndModifier;
+    private final float roundaboutAngle;
+    private final int primaryColor;
+    private final int secondaryColor;
+    private final int width;
+    private final int height;
+
+    Key(Pair<String, String> maneuverTypeAndModifier, float roundaboutAngle, int primaryColor,
+        int secondaryColor, int width, int height) {
+      this.maneuverTypeAndModifier = maneuverTypeAndModifier;
+      this.roundaboutAngle = roundaboutAngle;
+      this.primaryColor = primaryColor;
+      this.secondaryColor = secondaryColor;
+      this.width = width;
+      this.height = height;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return Float.compare(roundaboutAngle, other.roundaboutAngle) == 0
+        && primaryColor == other.primaryColor
+        && secondaryColor == other.secondaryColor
+        && width == other.width
+        && height == other.height
+        && ObjectsCompat.equals(maneuverTypeAndModifier, other.maneuverTypeAndModifier);
+    }
+
+    @Override
+    public int hashCode() {
+      return ObjectsCompat.hash(maneuverTypeAndModifier, roundaboutAngle, primaryColor, secondaryColor,
+        width, height);
+    }
+  }
+}
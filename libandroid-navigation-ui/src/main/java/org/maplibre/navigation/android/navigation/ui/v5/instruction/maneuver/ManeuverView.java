@@ -18,6 +18,7 @@ import static org.maplibre.navigation.android.navigation.v5.navigation.Navigatio
 
 import android.content.Context;
 import android.content.res.TypedArray;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.PointF;
 import android.text.TextUtils;
@@ -147,15 +148,41 @@ public class ManeuverView extends View {
         if (isNewTypeOrModifier(maneuverType, maneuverModifier)) {
             this.maneuverType = maneuverType;
             this.maneuverModifier = maneuverModifier;
-            if (checkManeuverTypeWithNullModifier(maneuverType)) {
-                return;
-            }
-            maneuverType = checkManeuverModifier(maneuverType, maneuverModifier);
-            maneuverTypeAndModifier = new Pair<>(maneuverType, maneuverModifier);
+            maneuverTypeAndModifier = resolveTypeAndModifier(maneuverType, maneuverModifier);
             invalidate();
         }
     }
 
+    /**
+     * Renders the icon for the given maneuver into the shared maneuver icon cache, using the
+     * colors and size of this view, so it can be drawn without delay once it is needed.
+     * <p>
+     * Rendering is posted to run after the current frame. Nothing is rendered before this view
+     * has been measured.
+     *
+     * @param maneuverType     of an upcoming maneuver
+     * @param maneuverModifier of an upcoming maneuver
+     * @param roundaboutAngle  of an upcoming maneuver, null if not a roundabout
+     * @since 4.1.0
+     */
+    public void prewarmManeuver(@NonNull final String maneuverType, @Nullable final String maneuverModifier,
+                                @Nullable final Float roundaboutAngle) {
+        post(new Runnable() {
+            @Override
+            public void run() {
+                if (size == null) {
+                    return;
+                }
+                Pair<String, String> typeAndModifier = resolveTypeAndModifier(maneuverType, maneuverModifier);
+                ManeuverViewUpdate maneuverViewUpdate = MANEUVER_VIEW_UPDATE_MAP.get(typeAndModifier);
+                if (maneuverViewUpdate != null) {
+                    float angle = roundaboutAngle == null ? DEFAULT_ROUNDABOUT_ANGLE : clampRoundaboutAngle(roundaboutAngle);
+                    ManeuverBitmapCache.getInstance().obtain(buildBitmapKey(typeAndModifier, angle), maneuverViewUpdate);
+                }
+            }
+        });
+    }
+
     /**
      * Updates the angle to render the roundabout maneuver.
      * <p>
@@ -234,7 +261,11 @@ public class ManeuverView extends View {
 
         ManeuverViewUpdate maneuverViewUpdate = MANEUVER_VIEW_UPDATE_MAP.get(maneuverTypeAndModifier);
         if (maneuverViewUpdate != null) {
-            maneuverViewUpdate.updateManeuverView(canvas, primaryColor, secondaryColor, size, roundaboutAngle);
+            ManeuverBitmapCache.Key key = buildBitmapKey(maneuverTypeAndModifier, roundaboutAngle);
+            Bitmap maneuverBitmap = ManeuverBitmapCache.getInstance().obtain(key, maneuverViewUpdate);
+            if (maneuverBitmap != null) {
+                canvas.drawBitmap(maneuverBitmap, 0f, 0f, null);
+            }
         }
         boolean flip = SHOULD_FLIP_MODIFIERS.contains(maneuverModifier);
         if (ROUNDABOUT_MANEUVER_TYPES.contains(maneuverType)) {
@@ -264,23 +295,37 @@ public class ManeuverView extends View {
             || !TextUtils.equals(this.maneuverModifier, maneuverModifier);
     }
 
-    private boolean checkManeuverTypeWithNullModifier(String maneuverType) {
+    @NonNull
+    private static Pair<String, String> resolveTypeAndModifier(String maneuverType, String maneuverModifier) {
         if (MANEUVER_TYPES_WITH_NULL_MODIFIERS.contains(maneuverType)) {
-            maneuverTypeAndModifier = new Pair<>(maneuverType, null);
-            invalidate();
-            return true;
+            return new Pair<>(maneuverType, null);
         }
-        return false;
+        return new Pair<>(checkManeuverModifier(maneuverType, maneuverModifier), maneuverModifier);
     }
 
     @Nullable
-    private String checkManeuverModifier(String maneuverType, String maneuverModifier) {
+    private static String checkManeuverModifier(String maneuverType, String maneuverModifier) {
         if (!maneuverType.contentEquals(STEP_MANEUVER_TYPE_ARRIVE) && maneuverModifier != null) {
             maneuverType = null;
         }
         return maneuverType;
     }
 
+    /**
+     * The roundabout angle only influences roundabout icons, so it is left out of the key for all
+     * other maneuvers to share their bitmaps.
+     */
+    @NonNull
+    private ManeuverBitmapCache.Key buildBitmapKey(Pair<String, String> typeAndModifier, float angle) {
+        float keyAngle = ROUNDABOUT_MANEUVER_TYPES.contains(typeAndModifier.first) ? angle : DEFAULT_ROUNDABOUT_ANGLE;
+        return new ManeuverBitmapCache.Key(typeAndModifier, keyAngle, primaryColor, secondaryColor,
+            (int) size.x, (int) size.y);
+    }
+
+    private static float clampRoundaboutAngle(float roundaboutAngle) {
+        return Math.max(BOTTOM_ROUNDABOUT_ANGLE_LIMIT, Math.min(TOP_ROUNDABOUT_ANGLE_LIMIT, roundaboutAngle));
+    }
+
     private void updateRoundaboutAngle(float roundaboutAngle) {
         if (checkRoundaboutBottomLimit(roundaboutAngle)) {
             return;
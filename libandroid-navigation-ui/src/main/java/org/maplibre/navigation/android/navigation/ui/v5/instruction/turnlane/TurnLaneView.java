@@ -1,15 +1,20 @@
 package org.maplibre.navigation.android.navigation.ui.v5.instruction.turnlane;
 
 import android.content.Context;
+import android.content.res.Resources;
 import android.graphics.drawable.Drawable;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.vectordrawable.graphics.drawable.VectorDrawableCompat;
 import androidx.appcompat.widget.AppCompatImageView;
 import android.util.AttributeSet;
+import android.util.SparseArray;
 
 import org.maplibre.navigation.android.navigation.v5.models.BannerComponents;
 
+import java.util.Map;
+import java.util.WeakHashMap;
+
 /**
  * Use this view to render turn lane data.
  * <p>
@@ -22,6 +27,8 @@ public class TurnLaneView extends AppCompatImageView {
   private static final float FULL_OPACITY = 1.0f;
   private static final int SCALE_FLIPPED = -1;
   private static final int SCALE_NORMAL = 1;
+  private static final Map<Resources.Theme, SparseArray<Drawable.ConstantState>> LANE_DRAWABLE_STATES =
+    new WeakHashMap<>();
   private final TurnLaneDrawableMap laneDrawableMap = new TurnLaneDrawableMap();
 
   public TurnLaneView(Context context) {
@@ -81,11 +88,33 @@ public class TurnLaneView extends AppCompatImageView {
   }
 
   private void drawFor(@NonNull BannerComponents lane, TurnLaneViewData drawData, Integer resId) {
-    final Drawable turnLaneDrawable = VectorDrawableCompat.create(
-      getResources(), resId, getContext().getTheme()
-    );
+    final Drawable turnLaneDrawable = obtainLaneDrawable(resId);
     setImageDrawable(turnLaneDrawable);
     setAlpha(!lane.active() ? HALF_OPACITY : FULL_OPACITY);
     setScaleX(drawData.shouldBeFlipped() ? SCALE_FLIPPED : SCALE_NORMAL);
   }
+
+  /**
+   * Inflating a vector drawable parses its XML each time, so the parsed state is shared
+   * per theme. Drawables created from the same state also share their rendered bitmap.
+   */
+  @Nullable
+  private Drawable obtainLaneDrawable(int resId) {
+    Resources.Theme theme = getContext().getTheme();
+    SparseArray<Drawable.ConstantState> themeStates = LANE_DRAWABLE_STATES.get(theme);
+    if (themeStates == null) {
+      themeStates = new SparseArray<>();
+      LANE_DRAWABLE_STATES.put(theme, themeStates);
+    }
+    Drawable.ConstantState state = themeStates.get(resId);
+    if (state == null) {
+      Drawable drawable = VectorDrawableCompat.create(getResources(), resId, theme);
+      if (drawable == null || drawable.getConstantState() == null) {
+        return drawable;
+      }
+      state = drawable.getConstantState();
+      themeStates.put(resId, state);
+    }
+    return state.newDrawable(getResources(), theme);
+  }
 }
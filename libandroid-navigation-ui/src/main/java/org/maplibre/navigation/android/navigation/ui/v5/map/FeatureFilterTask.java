@@ -1,32 +1,47 @@
 package org.maplibre.navigation.android.navigation.ui.v5.map;
 
 import android.location.Location;
-import android.os.AsyncTask;
+import android.os.Handler;
 
 import org.maplibre.geojson.Feature;
 import org.maplibre.geojson.Point;
 
 import java.util.List;
 
-class FeatureFilterTask extends AsyncTask<Void, Void, Feature> {
+class FeatureFilterTask implements Runnable {
 
   private final WaynameFeatureFilter filter;
+  private final Handler callbackHandler;
   private final OnFeatureFilteredCallback callback;
+  private volatile boolean isCancelled;
 
-  FeatureFilterTask(List<Feature> queriedFeatures, Location currentLocation,
-                    List<Point> currentStepPoints, OnFeatureFilteredCallback callback) {
+  FeatureFilterTask(List<Feature> queriedFeatures, Location currentLocation, List<Point> currentStepPoints,
+                    Handler callbackHandler, OnFeatureFilteredCallback callback) {
     filter = new WaynameFeatureFilter(queriedFeatures, currentLocation, currentStepPoints);
+    this.callbackHandler = callbackHandler;
     this.callback = callback;
   }
 
   @Override
-  protected Feature doInBackground(Void... voids) {
-    return filter.filterFeatures();
+  public void run() {
+    if (isCancelled) {
+      return;
+    }
+    final Feature feature = filter.filterFeatures();
+    if (isCancelled) {
+      return;
+    }
+    callbackHandler.post(new Runnable() {
+      @Override
+      public void run() {
+        if (!isCancelled) {
+          callback.onFeatureFiltered(feature);
+        }
+      }
+    });
   }
 
-  @Override
-  protected void onPostExecute(Feature feature) {
-    super.onPostExecute(feature);
-    callback.onFeatureFiltered(feature);
+  void cancel() {
+    isCancelled = true;
   }
 }
@@ -5,7 +5,7 @@ import androidx.annotation.NonNull;
 import org.maplibre.android.location.LocationComponent;
 import org.maplibre.android.maps.MapLibreMap;
 
-class LocationFpsDelegate implements MapLibreMap.OnCameraIdleListener {
+class LocationFpsDelegate implements MapLibreMap.OnCameraIdleListener, OnFpsPolicyChangedListener {
 
   private static final int ZOOM_LEVEL_FIVE = 5;
   private static final int ZOOM_LEVEL_TEN = 10;
@@ -17,16 +17,24 @@ class LocationFpsDelegate implements MapLibreMap.OnCameraIdleListener {
   private static final int MAX_ANIMATION_FPS_TEN = 10;
   private static final int MAX_ANIMATION_FPS_FIFTEEN = 15;
   private static final int MAX_ANIMATION_FPS_TWENTY_FIVE = 25;
-  private static final int MAX_ANIMATION_FPS = Integer.MAX_VALUE;
+  private static final int MAX_ANIMATION_FPS = MapFpsGovernor.UNLIMITED_FPS;
   private final MapLibreMap mapLibreMap;
   private final LocationComponent locationComponent;
+  private final MapFpsGovernor fpsGovernor;
   private int currentFps = MAX_ANIMATION_FPS;
   private boolean isEnabled = true;
 
   LocationFpsDelegate(@NonNull MapLibreMap mapLibreMap, @NonNull LocationComponent locationComponent) {
+    this(mapLibreMap, locationComponent, new MapFpsGovernor(new MapBatteryMonitor()));
+  }
+
+  LocationFpsDelegate(@NonNull MapLibreMap mapLibreMap, @NonNull LocationComponent locationComponent,
+                      @NonNull MapFpsGovernor fpsGovernor) {
     this.mapLibreMap = mapLibreMap;
     this.locationComponent = locationComponent;
+    this.fpsGovernor = fpsGovernor;
     mapLibreMap.addOnCameraIdleListener(this);
+    fpsGovernor.addOnFpsPolicyChangedListener(this);
   }
 
   @Override
@@ -37,12 +45,22 @@ class LocationFpsDelegate implements MapLibreMap.OnCameraIdleListener {
     updateMaxFps();
   }
 
+  @Override
+  public void onFpsPolicyChanged() {
+    if (!isEnabled) {
+      return;
+    }
+    updateMaxFps();
+  }
+
   void onStart() {
     mapLibreMap.addOnCameraIdleListener(this);
+    fpsGovernor.addOnFpsPolicyChangedListener(this);
   }
 
   void onStop() {
     mapLibreMap.removeOnCameraIdleListener(this);
+    fpsGovernor.removeOnFpsPolicyChangedListener(this);
   }
 
   void updateEnabled(boolean isEnabled) {
@@ -56,7 +74,7 @@ class LocationFpsDelegate implements MapLibreMap.OnCameraIdleListener {
 
   private void updateMaxFps() {
     double zoom = mapLibreMap.getCameraPosition().zoom;
-    int maxAnimationFps = buildFpsFrom(zoom);
+    int maxAnimationFps = fpsGovernor.capAnimationFps(buildFpsFrom(zoom));
     if (currentFps != maxAnimationFps) {
       locationComponent.setMaxAnimationFps(maxAnimationFps);
       currentFps = maxAnimationFps;
@@ -84,6 +102,7 @@ class LocationFpsDelegate implements MapLibreMap.OnCameraIdleListener {
   private void resetMaxFps() {
     if (!isEnabled) {
       locationComponent.setMaxAnimationFps(MAX_ANIMATION_FPS);
+      currentFps = MAX_ANIMATION_FPS;
     }
   }
 }
@@ -1,17 +1,91 @@
 package org.maplibre.navigation.android.navigation.ui.v5.map;
 
+import android.content.BroadcastReceiver;
 import android.content.Context;
 import android.content.Intent;
 import android.content.IntentFilter;
 import android.os.BatteryManager;
 import android.os.Build;
+import android.os.PowerManager;
 
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Keeps the charging and thermal state of the device, updated from system events while started.
+ * <p>
+ * The battery state is read from the sticky {@link Intent#ACTION_BATTERY_CHANGED} broadcast once
+ * when started and then from its updates, instead of querying it for each location update. The
+ * thermal status is followed on Android Q and above.
+ */
 class MapBatteryMonitor {
 
+  static final int THERMAL_STATUS_NONE = 0;
   private static final int DEFAULT_BATTERY_LEVEL = -1;
 
-  boolean isPluggedIn(Context context) {
-    Intent batteryStatus = registerBatteryUpdates(context);
+  private final BroadcastReceiver batteryReceiver = new BroadcastReceiver() {
+    @Override
+    public void onReceive(Context context, Intent intent) {
+      if (updatePluggedIn(intent)) {
+        notifyPowerStateChanged();
+      }
+    }
+  };
+  private Context context;
+  private ThermalStatusListener thermalStatusListener;
+  private OnPowerStateChangedListener listener;
+  private boolean isPluggedIn;
+  private int thermalStatus = THERMAL_STATUS_NONE;
+
+  void start(@NonNull Context context, @NonNull OnPowerStateChangedListener listener) {
+    this.listener = listener;
+    if (this.context != null) {
+      return;
+    }
+    this.context = context.getApplicationContext();
+    updatePluggedIn(registerBatteryUpdates(this.context, batteryReceiver));
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+      PowerManager powerManager = (PowerManager) this.context.getSystemService(Context.POWER_SERVICE);
+      if (powerManager != null) {
+        thermalStatusListener = new ThermalStatusListener(this);
+        thermalStatusListener.register(powerManager);
+        thermalStatus = powerManager.getCurrentThermalStatus();
+      }
+    }
+  }
+
+  void stop() {
+    if (context == null) {
+      return;
+    }
+    context.unregisterReceiver(batteryReceiver);
+    if (thermalStatusListener != null) {
+      thermalStatusListener.unregister();
+      thermalStatusListener = null;
+    }
+    context = null;
+  }
+
+  boolean isPluggedIn() {
+    return isPluggedIn;
+  }
+
+  /**
+   * @return one of the {@link PowerManager} thermal status, or {@link #THERMAL_STATUS_NONE} below
+   * Android Q
+   */
+  int thermalStatus() {
+    return thermalStatus;
+  }
+
+  void updateThermalStatus(int thermalStatus) {
+    if (this.thermalStatus != thermalStatus) {
+      this.thermalStatus = thermalStatus;
+      notifyPowerStateChanged();
+    }
+  }
+
+  private boolean updatePluggedIn(@Nullable Intent batteryStatus) {
     if (batteryStatus == null) {
       return false;
     }
@@ -23,15 +97,23 @@ class MapBatteryMonitor {
     if (Build.VERSION.SDK_INT > Build.VERSION_CODES.JELLY_BEAN) {
       isPlugged = isPlugged || chargePlug == BatteryManager.BATTERY_PLUGGED_WIRELESS;
     }
-    return isPlugged;
+    boolean hasChanged = isPluggedIn != isPlugged;
+    isPluggedIn = isPlugged;
+    return hasChanged;
+  }
+
+  private void notifyPowerStateChanged() {
+    if (listener != null) {
+      listener.onPowerStateChanged();
+    }
   }
 
-  private static Intent registerBatteryUpdates(Context context) {
+  private static Intent registerBatteryUpdates(Context context, BroadcastReceiver receiver) {
     IntentFilter filter = new IntentFilter(Intent.ACTION_BATTERY_CHANGED);
     if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.TIRAMISU) {
-      return context.registerReceiver(null, filter, Context.RECEIVER_NOT_EXPORTED);
+      return context.registerReceiver(receiver, filter, Context.RECEIVER_NOT_EXPORTED);
     } else {
-      return context.registerReceiver(null, filter);
+      return context.registerReceiver(receiver, filter);
     }
   }
-}
\ No newline at end of file
+}
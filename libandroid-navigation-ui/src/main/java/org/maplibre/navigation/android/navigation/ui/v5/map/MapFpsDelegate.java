@@ -1,7 +1,5 @@
 package org.maplibre.navigation.android.navigation.ui.v5.map;
 
-import android.content.Context;
-
 import org.maplibre.android.maps.MapView;
 import org.maplibre.navigation.android.navigation.ui.v5.camera.NavigationCamera;
 import org.maplibre.navigation.android.navigation.ui.v5.camera.OnTrackingModeChangedListener;
@@ -12,25 +10,29 @@ import org.maplibre.navigation.android.navigation.v5.routeprogress.ProgressChang
 import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteLegProgress;
 import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
 
-class MapFpsDelegate implements OnTrackingModeChangedListener, OnTrackingModeTransitionListener {
+class MapFpsDelegate implements OnTrackingModeChangedListener, OnTrackingModeTransitionListener,
+  OnFpsPolicyChangedListener {
 
   static final int DEFAULT_MAX_FPS_THRESHOLD = 20;
   private static final double VALID_DURATION_IN_SECONDS_UNTIL_NEXT_MANEUVER = 7d;
   private static final double VALID_DURATION_IN_SECONDS_SINCE_PREVIOUS_MANEUVER = 5d;
-  private static final int DEVICE_MAX_FPS = Integer.MAX_VALUE;
+  private static final int DEVICE_MAX_FPS = MapFpsGovernor.UNLIMITED_FPS;
   private static final int LOW_POWER_MAX_FPS = 30;
 
   private final MapView mapView;
-  private final MapBatteryMonitor batteryMonitor;
+  private final MapFpsGovernor fpsGovernor;
   private final ProgressChangeListener fpsProgressListener = new FpsDelegateProgressChangeListener(this);
   private MapLibreNavigation navigation;
   private int maxFpsThreshold = DEFAULT_MAX_FPS_THRESHOLD;
+  private int wantedMaxFps = DEVICE_MAX_FPS;
+  private int currentMaxFps = DEVICE_MAX_FPS;
   private boolean isTracking = true;
   private boolean isEnabled = true;
 
-  MapFpsDelegate(MapView mapView, MapBatteryMonitor batteryMonitor) {
+  MapFpsDelegate(MapView mapView, MapFpsGovernor fpsGovernor) {
     this.mapView = mapView;
-    this.batteryMonitor = batteryMonitor;
+    this.fpsGovernor = fpsGovernor;
+    fpsGovernor.addOnFpsPolicyChangedListener(this);
   }
 
   @Override
@@ -41,6 +43,13 @@ class MapFpsDelegate implements OnTrackingModeChangedListener, OnTrackingModeTra
     }
   }
 
+  @Override
+  public void onFpsPolicyChanged() {
+    if (isEnabled && isTracking && wantedMaxFps != DEVICE_MAX_FPS) {
+      updateMaxFps(fpsGovernor.capMapFps(wantedMaxFps));
+    }
+  }
+
   @Override
   public void onTransitionFinished(int trackingMode) {
     updateCameraTracking(trackingMode);
@@ -57,12 +66,14 @@ class MapFpsDelegate implements OnTrackingModeChangedListener, OnTrackingModeTra
   }
 
   void onStart() {
+    fpsGovernor.addOnFpsPolicyChangedListener(this);
     if (navigation != null) {
       navigation.addProgressChangeListener(fpsProgressListener);
     }
   }
 
   void onStop() {
+    fpsGovernor.removeOnFpsPolicyChangedListener(this);
     if (navigation != null) {
       navigation.removeProgressChangeListener(fpsProgressListener);
     }
@@ -81,9 +92,19 @@ class MapFpsDelegate implements OnTrackingModeChangedListener, OnTrackingModeTra
     if (!isEnabled || !isTracking) {
       return;
     }
+    // The map may be built after the lifecycle was started, so onStart never reached the governor
+    fpsGovernor.start(mapView.getContext());
+
+    wantedMaxFps = determineMaxFpsFrom(routeProgress);
+    updateMaxFps(fpsGovernor.capMapFps(wantedMaxFps));
+    fpsGovernor.sampleFrameTime();
+  }
 
-    int maxFps = determineMaxFpsFrom(routeProgress, mapView.getContext());
-    mapView.setMaximumFps(maxFps);
+  private void updateMaxFps(int maxFps) {
+    if (currentMaxFps != maxFps) {
+      mapView.setMaximumFps(maxFps);
+      currentMaxFps = maxFps;
+    }
   }
 
   private void updateCameraTracking(@NavigationCamera.TrackingMode int trackingMode) {
@@ -94,11 +115,13 @@ class MapFpsDelegate implements OnTrackingModeChangedListener, OnTrackingModeTra
   private void resetMaxFps(boolean shouldReset) {
     if (shouldReset) {
       mapView.setMaximumFps(DEVICE_MAX_FPS);
+      currentMaxFps = DEVICE_MAX_FPS;
+      wantedMaxFps = DEVICE_MAX_FPS;
     }
   }
 
-  private int determineMaxFpsFrom(RouteProgress routeProgress, Context context) {
-    final boolean isPluggedIn = batteryMonitor.isPluggedIn(context);
+  private int determineMaxFpsFrom(RouteProgress routeProgress) {
+    final boolean isPluggedIn = fpsGovernor.isPluggedIn();
     RouteLegProgress routeLegProgress = routeProgress.currentLegProgress();
 
     if (isPluggedIn) {
@@ -0,0 +1,160 @@
+package org.maplibre.navigation.android.navigation.ui.v5.map;
+
+import android.content.Context;
+import android.view.Choreographer;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Single frame rate policy for the map and the location animation.
+ * <p>
+ * The frame rates wanted by {@link MapFpsDelegate} for the upcoming maneuver and by
+ * {@link LocationFpsDelegate} for the zoom level are capped by the thermal status of the device
+ * and by the measured frame times of the main thread. The caps tighten with each thermal status,
+ * so rendering backs off step by step as the device heats up instead of being throttled by the
+ * system. Frame times are sampled over two consecutive frames when asked to, not continuously.
+ * <p>
+ * Listeners are notified when the caps change, so the delegates can apply them right away. This
+ * class must only be used from the main thread.
+ */
+class MapFpsGovernor implements OnPowerStateChangedListener {
+
+  static final int UNLIMITED_FPS = Integer.MAX_VALUE;
+  private static final int[] THERMAL_MAP_FPS = {UNLIMITED_FPS, 30, 20, 15, 10};
+  private static final int[] THERMAL_ANIMATION_FPS = {UNLIMITED_FPS, 25, 15, 10, 5};
+  /**
+   * Frames taking longer than this on average mean the main thread is falling behind.
+   */
+  private static final double FRAME_PRESSURE_MILLIS = 25d;
+  private static final double FRAME_TIME_SMOOTHING = 0.25d;
+  private static final int FRAME_CAP_STEP_FPS = 5;
+  private static final int MIN_FRAME_CAP_FPS = 10;
+  private static final double MILLIS_PER_SECOND = 1000d;
+  private static final double NANOS_PER_MILLI = 1000000d;
+  private static final long NO_FRAME = -1;
+
+  private final CopyOnWriteArrayList<OnFpsPolicyChangedListener> listeners = new CopyOnWriteArrayList<>();
+  private final MapBatteryMonitor batteryMonitor;
+  private final Choreographer.FrameCallback frameSampleCallback = new Choreographer.FrameCallback() {
+    @Override
+    public void doFrame(long frameTimeNanos) {
+      if (sampleStartNanos == NO_FRAME) {
+        sampleStartNanos = frameTimeNanos;
+        Choreographer.getInstance().postFrameCallback(this);
+        return;
+      }
+      double frameMillis = (frameTimeNanos - sampleStartNanos) / NANOS_PER_MILLI;
+      sampleStartNanos = NO_FRAME;
+      isSampling = false;
+      updateFrameTime(frameMillis);
+    }
+  };
+  private boolean isStarted;
+  private boolean isSampling;
+  private long sampleStartNanos = NO_FRAME;
+  private double averageFrameMillis;
+  private int frameCapFps = UNLIMITED_FPS;
+
+  MapFpsGovernor(MapBatteryMonitor batteryMonitor) {
+    this.batteryMonitor = batteryMonitor;
+  }
+
+  @Override
+  public void onPowerStateChanged() {
+    notifyFpsPolicyChanged();
+  }
+
+  void start(@NonNull Context context) {
+    if (isStarted) {
+      return;
+    }
+    batteryMonitor.start(context, this);
+    isStarted = true;
+  }
+
+  void stop() {
+    batteryMonitor.stop();
+    if (isSampling) {
+      Choreographer.getInstance().removeFrameCallback(frameSampleCallback);
+      isSampling = false;
+      sampleStartNanos = NO_FRAME;
+    }
+    isStarted = false;
+  }
+
+  void addOnFpsPolicyChangedListener(@NonNull OnFpsPolicyChangedListener listener) {
+    listeners.addIfAbsent(listener);
+  }
+
+  void removeOnFpsPolicyChangedListener(@NonNull OnFpsPolicyChangedListener listener) {
+    listeners.remove(listener);
+  }
+
+  boolean isPluggedIn() {
+    return batteryMonitor.isPluggedIn();
+  }
+
+  /**
+   * Measures the time between the next two frames, if not measuring already.
+   */
+  void sampleFrameTime() {
+    if (!isStarted || isSampling) {
+      return;
+    }
+    isSampling = true;
+    Choreographer.getInstance().postFrameCallback(frameSampleCallback);
+  }
+
+  /**
+   * @param maxFps wanted for the map
+   * @return the given frame rate, capped by the thermal status and frame times
+   */
+  int capMapFps(int maxFps) {
+    return Math.min(maxFps, Math.min(findThermalCap(THERMAL_MAP_FPS), frameCapFps));
+  }
+
+  /**
+   * @param maxAnimationFps wanted for the location animation
+   * @return the given frame rate, capped by the thermal status and frame times
+   */
+  int capAnimationFps(int maxAnimationFps) {
+    return Math.min(maxAnimationFps, Math.min(findThermalCap(THERMAL_ANIMATION_FPS), frameCapFps));
+  }
+
+  void updateFrameTime(double frameMillis) {
+    if (averageFrameMillis == 0) {
+      averageFrameMillis = frameMillis;
+    } else {
+      averageFrameMillis += FRAME_TIME_SMOOTHING * (frameMillis - averageFrameMillis);
+    }
+    int frameCapFps = buildFrameCap(averageFrameMillis);
+    if (this.frameCapFps != frameCapFps) {
+      this.frameCapFps = frameCapFps;
+      notifyFpsPolicyChanged();
+    }
+  }
+
+  private int findThermalCap(int[] thermalCaps) {
+    int thermalStatus = batteryMonitor.thermalStatus();
+    if (thermalStatus <= MapBatteryMonitor.THERMAL_STATUS_NONE) {
+      return UNLIMITED_FPS;
+    }
+    return thermalCaps[Math.min(thermalStatus, thermalCaps.length - 1)];
+  }
+
+  private int buildFrameCap(double averageFrameMillis) {
+    if (averageFrameMillis <= FRAME_PRESSURE_MILLIS) {
+      return UNLIMITED_FPS;
+    }
+    int achievableFps = (int) (MILLIS_PER_SECOND / averageFrameMillis);
+    return Math.max(MIN_FRAME_CAP_FPS, achievableFps / FRAME_CAP_STEP_FPS * FRAME_CAP_STEP_FPS);
+  }
+
+  private void notifyFpsPolicyChanged() {
+    for (OnFpsPolicyChangedListener listener : listeners) {
+      listener.onFpsPolicyChanged();
+    }
+  }
+}
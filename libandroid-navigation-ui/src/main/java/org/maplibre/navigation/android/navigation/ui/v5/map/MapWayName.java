@@ -2,17 +2,24 @@ package org.maplibre.navigation.android.navigation.ui.v5.map;
 
 import android.graphics.PointF;
 import android.location.Location;
-import android.os.AsyncTask;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.LruCache;
 import androidx.annotation.NonNull;
 
 import org.maplibre.geojson.Feature;
 import org.maplibre.geojson.Point;
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
 import org.maplibre.navigation.android.navigation.v5.navigation.MapLibreNavigation;
+import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
 
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.maplibre.navigation.android.navigation.ui.v5.map.NavigationMapLibreMap.STREETS_LAYER_ID;
 
@@ -20,18 +27,35 @@ class MapWayName {
 
   private static final String NAME_PROPERTY = "name";
   private static final String EMPTY_CURRENT_WAY_NAME = "";
+  private static final float MINIMUM_QUERY_DISTANCE_IN_METERS = 10f;
+  private static final int MAX_CACHED_SEGMENTS = 64;
+  private static final ExecutorService FEATURE_FILTER_EXECUTOR = Executors.newSingleThreadExecutor();
   private final MapWaynameProgressChangeListener progressChangeListener = new MapWaynameProgressChangeListener(this);
   private final Set<OnWayNameChangedListener> onWayNameChangedListeners;
+  private final LruCache<WaynameSegment, String> segmentWayNames = new LruCache<>(MAX_CACHED_SEGMENTS);
+  private final Executor filterExecutor;
+  private final Handler callbackHandler;
   private WaynameFeatureFinder featureInteractor;
   private List<Point> currentStepPoints = new ArrayList<>();
   private Location currentLocation = null;
+  private DirectionsRoute currentRoute;
+  private WaynameSegment currentSegment;
+  private WaynameSegment queriedSegment;
+  private Location queriedLocation;
   private MapLibreNavigation navigation;
   private boolean isAutoQueryEnabled;
   private FeatureFilterTask filterTask;
   private String wayName = EMPTY_CURRENT_WAY_NAME;
 
   MapWayName(WaynameFeatureFinder featureInteractor, MapPaddingAdjustor paddingAdjustor) {
+    this(featureInteractor, paddingAdjustor, FEATURE_FILTER_EXECUTOR, new Handler(Looper.getMainLooper()));
+  }
+
+  MapWayName(WaynameFeatureFinder featureInteractor, MapPaddingAdjustor paddingAdjustor,
+             Executor filterExecutor, Handler callbackHandler) {
     this.featureInteractor = featureInteractor;
+    this.filterExecutor = filterExecutor;
+    this.callbackHandler = callbackHandler;
     paddingAdjustor.updatePaddingWithDefault();
     this.onWayNameChangedListeners = new HashSet<>();
   }
@@ -40,7 +64,17 @@ class MapWayName {
     if (!isAutoQueryEnabled) {
       return;
     }
+    String cachedWayName = currentSegment == null ? null : segmentWayNames.get(currentSegment);
+    if (cachedWayName != null) {
+      updateWayNameWith(cachedWayName);
+      return;
+    }
+    if (!shouldQueryRoadFeatures()) {
+      return;
+    }
     List<Feature> roadLabelFeatures = findRoadLabelFeatures(point);
+    queriedLocation = currentLocation;
+    queriedSegment = currentSegment;
     boolean invalidLabelFeatures = roadLabelFeatures.isEmpty();
     if (invalidLabelFeatures) {
       return;
@@ -48,13 +82,18 @@ class MapWayName {
     executeFeatureFilterTask(roadLabelFeatures);
   }
 
-  void updateProgress(Location currentLocation, List<Point> currentStepPoints) {
-    if (!this.currentStepPoints.equals(currentStepPoints)) {
-      this.currentStepPoints = currentStepPoints;
-    }
-    if (this.currentLocation == null || !this.currentLocation.equals(currentLocation)) {
-      this.currentLocation = currentLocation;
+  void updateProgress(Location currentLocation, RouteProgress routeProgress) {
+    if (currentRoute != routeProgress.directionsRoute()) {
+      currentRoute = routeProgress.directionsRoute();
+      segmentWayNames.evictAll();
     }
+    currentSegment = WaynameSegment.from(routeProgress);
+    updateProgress(currentLocation, routeProgress.currentStepPoints());
+  }
+
+  void updateProgress(Location currentLocation, List<Point> currentStepPoints) {
+    this.currentStepPoints = currentStepPoints;
+    this.currentLocation = currentLocation;
   }
 
   void updateWayNameQueryMap(boolean isEnabled) {
@@ -81,57 +120,79 @@ class MapWayName {
   }
 
   void onStop() {
-    if (isTaskRunning()) {
-      filterTask.cancel(true);
-    }
+    cancelFilterTask();
+    queriedLocation = null;
+    queriedSegment = null;
     if (navigation != null) {
       navigation.removeProgressChangeListener(progressChangeListener);
     }
   }
 
+  /**
+   * Road features are only queried again if the user moved far enough since the last query,
+   * or entered a new step.
+   */
+  private boolean shouldQueryRoadFeatures() {
+    if (queriedLocation == null || currentLocation == null) {
+      return true;
+    }
+    if (currentSegment == null || !currentSegment.isOnSameStepAs(queriedSegment)) {
+      return true;
+    }
+    return currentLocation.distanceTo(queriedLocation) >= MINIMUM_QUERY_DISTANCE_IN_METERS;
+  }
+
   private List<Feature> findRoadLabelFeatures(PointF point) {
     String[] layerIds = {STREETS_LAYER_ID};
     return featureInteractor.queryRenderedFeatures(point, layerIds);
   }
 
   private void executeFeatureFilterTask(List<Feature> roadFeatures) {
-    if (isTaskRunning()) {
-      filterTask.cancel(true);
-    }
+    cancelFilterTask();
 
     if (hasValidProgressData()) {
-      filterTask = new FeatureFilterTask(roadFeatures, currentLocation, currentStepPoints,
+      final WaynameSegment filteredSegment = currentSegment;
+      filterTask = new FeatureFilterTask(roadFeatures, currentLocation, currentStepPoints, callbackHandler,
         new OnFeatureFilteredCallback() {
           @Override
           public void onFeatureFiltered(@NonNull Feature feature) {
-            updateWayNameLayerWithNameProperty(feature);
+            String filteredWayName = findWayNameFrom(feature);
+            // Unnamed roads are queried again, the name may only be found a few meters further
+            if (filteredSegment != null && !filteredWayName.isEmpty()) {
+              segmentWayNames.put(filteredSegment, filteredWayName);
+            }
+            updateWayNameWith(filteredWayName);
           }
         });
-      filterTask.execute();
+      filterExecutor.execute(filterTask);
     }
   }
 
-  private boolean isTaskRunning() {
-    return filterTask != null
-      && (filterTask.getStatus() == AsyncTask.Status.PENDING
-      || filterTask.getStatus() == AsyncTask.Status.RUNNING);
+  private void cancelFilterTask() {
+    if (filterTask != null) {
+      filterTask.cancel();
+      filterTask = null;
+    }
   }
 
   private boolean hasValidProgressData() {
     return currentLocation != null && !currentStepPoints.isEmpty();
   }
 
-  private void updateWayNameLayerWithNameProperty(Feature roadFeature) {
+  @NonNull
+  private String findWayNameFrom(Feature roadFeature) {
     boolean hasValidNameProperty = roadFeature.hasNonNullValueForProperty(NAME_PROPERTY);
     if (hasValidNameProperty) {
-      String currentWayName = roadFeature.getStringProperty(NAME_PROPERTY);
-      boolean newWayName = !wayName.contentEquals(currentWayName);
-      if (newWayName) {
-        updateListenersWith(currentWayName);
-        wayName = currentWayName;
-      }
-    } else {
-      updateListenersWith(EMPTY_CURRENT_WAY_NAME);
+      return roadFeature.getStringProperty(NAME_PROPERTY);
+    }
+    return EMPTY_CURRENT_WAY_NAME;
+  }
+
+  private void updateWayNameWith(@NonNull String currentWayName) {
+    boolean newWayName = !wayName.contentEquals(currentWayName);
+    if (newWayName) {
+      updateListenersWith(currentWayName);
+      wayName = currentWayName;
     }
   }
 
@@ -82,6 +82,8 @@ public class NavigationMapLibreMap {
   @Nullable
   private MapFpsDelegate mapFpsDelegate;
   private LocationFpsDelegate locationFpsDelegate;
+  @Nullable
+  private MapFpsGovernor fpsGovernor;
 
   /**
    * Constructor that can be used once {@link OnMapReadyCallback}
@@ -99,6 +101,7 @@ public class NavigationMapLibreMap {
     initializeMapLayerInteractor(mapLibreMap);
     initializeRoute(mapView, mapLibreMap);
     initializeCamera(mapLibreMap, locationComponent);
+    initializeFpsGovernor();
     initializeLocationFpsDelegate(mapLibreMap, locationComponent);
   }
 
@@ -468,6 +471,7 @@ public class NavigationMapLibreMap {
     mapCamera.onStart();
     mapRoute.onStart();
     handleWayNameOnStart();
+    handleFpsGovernorOnStart();
     handleFpsOnStart();
     locationFpsDelegate.onStart();
   }
@@ -482,6 +486,7 @@ public class NavigationMapLibreMap {
     handleWayNameOnStop();
     handleFpsOnStop();
     locationFpsDelegate.onStop();
+    handleFpsGovernorOnStop();
   }
 
     /**
@@ -666,8 +671,12 @@ public class NavigationMapLibreMap {
     mapCamera = new NavigationCamera(map, locationComponent);
   }
 
+  private void initializeFpsGovernor() {
+    fpsGovernor = new MapFpsGovernor(new MapBatteryMonitor());
+  }
+
   private void initializeLocationFpsDelegate(MapLibreMap map, LocationComponent locationComponent) {
-    locationFpsDelegate = new LocationFpsDelegate(map, locationComponent);
+    locationFpsDelegate = new LocationFpsDelegate(map, locationComponent, fpsGovernor);
   }
 
   private void initializeWayName(MapLibreMap mapLibreMap, MapPaddingAdjustor paddingAdjustor) {
@@ -711,8 +720,7 @@ public class NavigationMapLibreMap {
     if (mapFpsDelegate != null) {
       return;
     }
-    MapBatteryMonitor batteryMonitor = new MapBatteryMonitor();
-    mapFpsDelegate = new MapFpsDelegate(mapView, batteryMonitor);
+    mapFpsDelegate = new MapFpsDelegate(mapView, fpsGovernor);
     mapFpsDelegate.updateEnabled(settings.isMaxFpsEnabled());
     mapFpsDelegate.updateMaxFpsThreshold(settings.retrieveMaxFps());
     addFpsListenersToCamera();
@@ -768,6 +776,18 @@ public class NavigationMapLibreMap {
     }
   }
 
+  private void handleFpsGovernorOnStart() {
+    if (fpsGovernor != null) {
+      fpsGovernor.start(mapView.getContext());
+    }
+  }
+
+  private void handleFpsGovernorOnStop() {
+    if (fpsGovernor != null) {
+      fpsGovernor.stop();
+    }
+  }
+
   private void handleWayNameOnStop() {
     if (mapWayName != null) {
       mapWayName.onStop();
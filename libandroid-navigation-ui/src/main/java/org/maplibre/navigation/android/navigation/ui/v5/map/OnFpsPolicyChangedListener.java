@@ -0,0 +1,5 @@
+package org.maplibre.navigation.android.navigation.ui.v5.map;
+
+interface OnFpsPolicyChangedListener {
+  void onFpsPolicyChanged();
+}
@@ -0,0 +1,35 @@
+package org.maplibre.navigation.android.navigation.ui.v5.map;
+
+import android.os.Build;
+import android.os.PowerManager;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.RequiresApi;
+
+@RequiresApi(api = Build.VERSION_CODES.Q)
+class ThermalStatusListener implements PowerManager.OnThermalStatusChangedListener {
+
+  private final MapBatteryMonitor batteryMonitor;
+  private PowerManager powerManager;
+
+  ThermalStatusListener(MapBatteryMonitor batteryMonitor) {
+    this.batteryMonitor = batteryMonitor;
+  }
+
+  @Override
+  public void onThermalStatusChanged(int status) {
+    batteryMonitor.updateThermalStatus(status);
+  }
+
+  void register(@NonNull PowerManager powerManager) {
+    this.powerManager = powerManager;
+    powerManager.addThermalStatusListener(this);
+  }
+
+  void unregister() {
+    if (powerManager != null) {
+      powerManager.removeThermalStatusListener(this);
+      powerManager = null;
+    }
+  }
+}
@@ -9,6 +9,7 @@ import org.maplibre.geojson.Geometry;
 import org.maplibre.geojson.LineString;
 import org.maplibre.geojson.MultiLineString;
 import org.maplibre.geojson.Point;
+import org.maplibre.navigation.android.navigation.v5.utils.PackedLineString;
 import org.maplibre.turf.TurfMeasurement;
 
 import java.util.ArrayList;
@@ -30,21 +31,29 @@ class WaynameFeatureFilter {
   private static final double TEN = 10d;
   private final List<Feature> queriedFeatures;
   private final Point currentPoint;
-  private final LineString currentStepLineString;
+  private final PackedLineString currentStepGeometry;
+  private Point pointAheadUserOnStep;
 
   WaynameFeatureFilter(List<Feature> queriedFeatures, Location currentLocation, List<Point> currentStepPoints) {
-    this.queriedFeatures = new ArrayList<>(new HashSet<>(queriedFeatures));
+    this.queriedFeatures = queriedFeatures;
     this.currentPoint = Point.fromLngLat(currentLocation.getLongitude(), currentLocation.getLatitude());
-    this.currentStepLineString = LineString.fromLngLats(currentStepPoints);
+    this.currentStepGeometry = PackedLineString.fromPoints(currentStepPoints);
   }
 
+  /**
+   * Picks the queried road feature closest to the user's direction of travel.
+   * <p>
+   * Duplicate features are removed here rather than in the constructor, so the (potentially large)
+   * copy happens on the thread running the filter and not on the thread that queried the map.
+   */
   @NonNull
   Feature filterFeatures() {
-    return filterQueriedFeatures();
+    List<Feature> uniqueFeatures = new ArrayList<>(new HashSet<>(queriedFeatures));
+    return filterQueriedFeatures(uniqueFeatures);
   }
 
   @NonNull
-  private Feature filterQueriedFeatures() {
+  private Feature filterQueriedFeatures(List<Feature> queriedFeatures) {
     Feature filteredFeature = queriedFeatures.get(FIRST);
     if (queriedFeatures.size() == ONE_FEATURE) {
       return filteredFeature;
@@ -63,14 +72,13 @@ class WaynameFeatureFilter {
       }
 
       for (LineString featureLineString : featureLineStrings) {
-        List<Point> currentStepCoordinates = currentStepLineString.coordinates();
-        int stepCoordinatesSize = currentStepCoordinates.size();
+        int stepCoordinatesSize = currentStepGeometry.size();
         if (stepCoordinatesSize < TWO_POINTS) {
           return filteredFeature;
         }
         int lastStepCoordinate = stepCoordinatesSize - 1;
-        Point lastStepPoint = currentStepCoordinates.get(lastStepCoordinate);
-        if (currentPoint.equals(lastStepPoint)) {
+        if (currentPoint.longitude() == currentStepGeometry.longitude(lastStepCoordinate)
+          && currentPoint.latitude() == currentStepGeometry.latitude(lastStepCoordinate)) {
           return filteredFeature;
         }
         List<Point> lineCoordinates = featureLineString.coordinates();
@@ -89,8 +97,7 @@ class WaynameFeatureFilter {
           return filteredFeature;
         }
 
-        LineString stepSliceFromCurrentPoint = lineSlice(currentPoint, lastStepPoint, currentStepLineString);
-        Point pointAheadUserOnStep = along(stepSliceFromCurrentPoint, TEN, UNIT_METRES);
+        Point pointAheadUserOnStep = findPointAheadUserOnStep(lastStepCoordinate);
         LineString reversedFeatureLine = reverseFeatureLineStringCoordinates(featureLineString);
         LineString currentAheadLine = reversedFeatureLine;
         LineString currentBehindLine = featureLineString;
@@ -125,6 +132,21 @@ class WaynameFeatureFilter {
     return filteredFeature;
   }
 
+  /**
+   * The point ahead of the user on the current step is the same for all features, so it is only
+   * found once per filter run, on the packed step without creating a {@link Point} per vertex.
+   */
+  private Point findPointAheadUserOnStep(int lastStepCoordinate) {
+    if (pointAheadUserOnStep == null) {
+      PackedLineString.NearestPoint userPointOnStep = currentStepGeometry.nearestPoint(
+        currentPoint.longitude(), currentPoint.latitude());
+      PackedLineString.NearestPoint lastPointOnStep = currentStepGeometry.nearestPoint(
+        currentStepGeometry.longitude(lastStepCoordinate), currentStepGeometry.latitude(lastStepCoordinate));
+      pointAheadUserOnStep = currentStepGeometry.along(userPointOnStep, lastPointOnStep, TEN);
+    }
+    return pointAheadUserOnStep;
+  }
+
   private double calculateDistance(Point lhs, Point rhs) {
     if (lhs == null || rhs == null) {
       return Double.POSITIVE_INFINITY;
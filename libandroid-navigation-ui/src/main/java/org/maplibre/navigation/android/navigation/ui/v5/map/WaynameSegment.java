@@ -0,0 +1,57 @@
+package org.maplibre.navigation.android.navigation.ui.v5.map;
+
+import androidx.annotation.NonNull;
+
+import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
+
+/**
+ * Identifies a fixed-length slice of the current step, used to cache way name results.
+ */
+class WaynameSegment {
+
+  private static final double SEGMENT_LENGTH_IN_METERS = 50d;
+
+  private final int legIndex;
+  private final int stepIndex;
+  private final int segmentIndex;
+
+  WaynameSegment(int legIndex, int stepIndex, int segmentIndex) {
+    this.legIndex = legIndex;
+    this.stepIndex = stepIndex;
+    this.segmentIndex = segmentIndex;
+  }
+
+  @NonNull
+  static WaynameSegment from(RouteProgress routeProgress) {
+    int stepIndex = routeProgress.currentLegProgress().stepIndex();
+    double stepDistanceTraveled = routeProgress.currentLegProgress().currentStepProgress().distanceTraveled();
+    int segmentIndex = (int) (Math.max(0d, stepDistanceTraveled) / SEGMENT_LENGTH_IN_METERS);
+    return new WaynameSegment(routeProgress.legIndex(), stepIndex, segmentIndex);
+  }
+
+  boolean isOnSameStepAs(WaynameSegment other) {
+    return other != null && legIndex == other.legIndex && stepIndex == other.stepIndex;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof WaynameSegment)) {
+      return false;
+    }
+    WaynameSegment other = (WaynameSegment) obj;
+    return legIndex == other.legIndex
+      && stepIndex == other.stepIndex
+      && segmentIndex == other.segmentIndex;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = legIndex;
+    result = 31 * result + stepIndex;
+    result = 31 * result + segmentIndex;
+    return result;
+  }
+}
@@ -12,8 +12,6 @@ import androidx.appcompat.content.res.AppCompatResources;
 
 import org.maplibre.geojson.Feature;
 import org.maplibre.geojson.FeatureCollection;
-import org.maplibre.geojson.LineString;
-import org.maplibre.geojson.Point;
 import org.maplibre.android.maps.MapView;
 import org.maplibre.android.maps.MapLibreMap;
 import org.maplibre.android.maps.Style;
@@ -24,16 +22,12 @@ import org.maplibre.android.style.layers.PropertyFactory;
 import org.maplibre.android.style.layers.SymbolLayer;
 import org.maplibre.android.style.sources.GeoJsonOptions;
 import org.maplibre.android.style.sources.GeoJsonSource;
-import org.maplibre.android.utils.MathUtils;
 import org.maplibre.navigation.android.navigation.ui.v5.R;
 import org.maplibre.navigation.android.navigation.ui.v5.utils.MapImageUtils;
+import org.maplibre.navigation.android.navigation.v5.route.ManeuverArrowCache;
 import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
-import org.maplibre.turf.TurfConstants;
-import org.maplibre.turf.TurfMeasurement;
-import org.maplibre.turf.TurfMisc;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 import static org.maplibre.android.style.expressions.Expression.color;
@@ -60,6 +54,7 @@ class MapRouteArrow {
   private List<String> arrowLayerIds;
   private GeoJsonSource arrowShaftGeoJsonSource;
   private GeoJsonSource arrowHeadGeoJsonSource;
+  private final ManeuverArrowCache maneuverArrowCache = new ManeuverArrowCache();
 
   private final MapView mapView;
   private final MapLibreMap mapLibreMap;
@@ -89,9 +84,10 @@ class MapRouteArrow {
     }
     updateVisibilityTo(true);
 
-    List<Point> maneuverPoints = obtainArrowPointsFrom(routeProgress);
-    updateArrowShaftWith(maneuverPoints);
-    updateArrowHeadWith(maneuverPoints);
+    if (maneuverArrowCache.update(routeProgress)) {
+      updateArrowShaft();
+      updateArrowHead();
+    }
   }
 
   void updateVisibilityTo(boolean visible) {
@@ -109,34 +105,14 @@ class MapRouteArrow {
     }
   }
 
-  private List<Point> obtainArrowPointsFrom(RouteProgress routeProgress) {
-    List<Point> reversedCurrent = new ArrayList<>(routeProgress.currentStepPoints());
-    Collections.reverse(reversedCurrent);
-
-    LineString arrowLineCurrent = LineString.fromLngLats(reversedCurrent);
-    LineString arrowLineUpcoming = LineString.fromLngLats(routeProgress.upcomingStepPoints());
-
-    LineString arrowCurrentSliced = TurfMisc.lineSliceAlong(arrowLineCurrent, 0, RouteConstants.THIRTY, TurfConstants.UNIT_METERS);
-    LineString arrowUpcomingSliced = TurfMisc.lineSliceAlong(arrowLineUpcoming, 0, RouteConstants.THIRTY, TurfConstants.UNIT_METERS);
-
-    Collections.reverse(arrowCurrentSliced.coordinates());
-
-    List<Point> combined = new ArrayList<>();
-    combined.addAll(arrowCurrentSliced.coordinates());
-    combined.addAll(arrowUpcomingSliced.coordinates());
-    return combined;
-  }
-
-  private void updateArrowShaftWith(List<Point> points) {
-    LineString shaft = LineString.fromLngLats(points);
-    Feature arrowShaftGeoJsonFeature = Feature.fromGeometry(shaft);
+  private void updateArrowShaft() {
+    Feature arrowShaftGeoJsonFeature = Feature.fromGeometry(maneuverArrowCache.shaft());
     arrowShaftGeoJsonSource.setGeoJson(arrowShaftGeoJsonFeature);
   }
 
-  private void updateArrowHeadWith(List<Point> points) {
-    double azimuth = TurfMeasurement.bearing(points.get(points.size() - 2), points.get(points.size() - 1));
-    Feature arrowHeadGeoJsonFeature = Feature.fromGeometry(points.get(points.size() - 1));
-    arrowHeadGeoJsonFeature.addNumberProperty(RouteConstants.ARROW_BEARING, (float) MathUtils.wrap(azimuth, 0, RouteConstants.MAX_DEGREES));
+  private void updateArrowHead() {
+    Feature arrowHeadGeoJsonFeature = Feature.fromGeometry(maneuverArrowCache.head());
+    arrowHeadGeoJsonFeature.addNumberProperty(RouteConstants.ARROW_BEARING, maneuverArrowCache.headBearing());
     arrowHeadGeoJsonSource.setGeoJson(arrowHeadGeoJsonFeature);
   }
 
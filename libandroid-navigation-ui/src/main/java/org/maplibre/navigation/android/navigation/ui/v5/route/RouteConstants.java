@@ -11,7 +11,6 @@ class RouteConstants {
   static final String WAYPOINT_SOURCE_ID = "mapbox-navigation-waypoint-source";
   static final String WAYPOINT_LAYER_ID = "mapbox-navigation-waypoint-layer";
   static final int TWO_POINTS = 2;
-  static final int THIRTY = 30;
   static final String ARROW_BEARING = "mapbox-navigation-arrow-bearing";
   static final String ARROW_SHAFT_SOURCE_ID = "mapbox-navigation-arrow-shaft-source";
   static final String ARROW_HEAD_SOURCE_ID = "mapbox-navigation-arrow-head-source";
@@ -19,7 +18,6 @@ class RouteConstants {
   static final String ARROW_SHAFT_LINE_LAYER_ID = "mapbox-navigation-arrow-shaft-layer";
   static final String ARROW_HEAD_ICON = "mapbox-navigation-arrow-head-icon";
   static final String ARROW_HEAD_ICON_CASING = "mapbox-navigation-arrow-head-icon-casing";
-  static final int MAX_DEGREES = 360;
   static final String ARROW_HEAD_CASING_LAYER_ID = "mapbox-navigation-arrow-head-casing-layer";
   static final Float[] ARROW_HEAD_CASING_OFFSET = {0f, -7f};
   static final String ARROW_HEAD_LAYER_ID = "mapbox-navigation-arrow-head-layer";
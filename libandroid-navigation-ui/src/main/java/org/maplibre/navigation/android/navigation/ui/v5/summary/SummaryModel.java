@@ -4,6 +4,8 @@ import android.content.Context;
 import android.text.SpannableStringBuilder;
 import android.text.format.DateFormat;
 
+import androidx.core.util.ObjectsCompat;
+
 import org.maplibre.navigation.android.navigation.v5.navigation.NavigationTimeFormat;
 import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
 import org.maplibre.navigation.android.navigation.v5.utils.DistanceFormatter;
@@ -13,6 +15,11 @@ import java.util.Calendar;
 import static org.maplibre.navigation.android.navigation.v5.utils.time.TimeFormatter.formatTime;
 import static org.maplibre.navigation.android.navigation.v5.utils.time.TimeFormatter.formatTimeRemaining;
 
+/**
+ * Display state of the {@link SummaryBottomSheet} for a route progress.
+ * <p>
+ * Models are equal if they display the same distance remaining, time remaining and arrival time.
+ */
 public class SummaryModel {
 
   private final String distanceRemaining;
@@ -40,4 +47,30 @@ public class SummaryModel {
   String getArrivalTime() {
     return arrivalTime;
   }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof SummaryModel)) {
+      return false;
+    }
+    SummaryModel other = (SummaryModel) obj;
+    return ObjectsCompat.equals(distanceRemaining, other.distanceRemaining)
+      && ObjectsCompat.equals(arrivalTime, other.arrivalTime)
+      && isSameText(timeRemaining, other.timeRemaining);
+  }
+
+  @Override
+  public int hashCode() {
+    return ObjectsCompat.hash(distanceRemaining, arrivalTime);
+  }
+
+  private static boolean isSameText(CharSequence text, CharSequence otherText) {
+    if (text == otherText) {
+      return true;
+    }
+    return text != null && otherText != null && text.toString().equals(otherText.toString());
+  }
 }
@@ -0,0 +1,23 @@
+package org.maplibre.navigation.android.navigation.ui.v5.summary.list;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+
+import org.maplibre.navigation.android.navigation.v5.models.BannerInstructions;
+
+/**
+ * Matches the instructions of two lists built from the same route by reference, so diffing the
+ * remaining instructions doesn't compare every instruction in depth.
+ */
+class BannerInstructionsItemCallback extends DiffUtil.ItemCallback<BannerInstructions> {
+
+  @Override
+  public boolean areItemsTheSame(@NonNull BannerInstructions oldItem, @NonNull BannerInstructions newItem) {
+    return oldItem == newItem;
+  }
+
+  @Override
+  public boolean areContentsTheSame(@NonNull BannerInstructions oldItem, @NonNull BannerInstructions newItem) {
+    return oldItem.equals(newItem);
+  }
+}
@@ -1,22 +1,38 @@
 package org.maplibre.navigation.android.navigation.ui.v5.summary.list;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.AdapterListUpdateCallback;
+import androidx.recyclerview.widget.AsyncDifferConfig;
+import androidx.recyclerview.widget.AsyncListDiffer;
 import androidx.recyclerview.widget.RecyclerView;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 
 import org.maplibre.navigation.android.navigation.ui.v5.R;
+import org.maplibre.navigation.android.navigation.v5.models.BannerInstructions;
 import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
 import org.maplibre.navigation.android.navigation.v5.utils.DistanceFormatter;
 import org.maplibre.navigation.android.navigation.v5.utils.RouteUtils;
 
+import java.util.List;
+
+/**
+ * Shows the remaining instructions of the current leg.
+ * <p>
+ * The remaining instructions are diffed with the shown ones on a background thread, and only the
+ * rows that changed are updated.
+ */
 public class InstructionListAdapter extends RecyclerView.Adapter<InstructionViewHolder> {
 
+  private static final Object DISTANCE_PAYLOAD = new Object();
   private final InstructionListPresenter presenter;
+  private final AsyncListDiffer<BannerInstructions> instructionListDiffer;
 
   public InstructionListAdapter(RouteUtils routeUtils, DistanceFormatter distanceFormatter) {
     presenter = new InstructionListPresenter(routeUtils, distanceFormatter);
+    instructionListDiffer = new AsyncListDiffer<>(new AdapterListUpdateCallback(this),
+      new AsyncDifferConfig.Builder<>(new BannerInstructionsItemCallback()).build());
   }
 
   @NonNull
@@ -29,12 +45,21 @@ public class InstructionListAdapter extends RecyclerView.Adapter<InstructionView
 
   @Override
   public void onBindViewHolder(@NonNull InstructionViewHolder holder, int position) {
-    presenter.onBindInstructionListViewAtPosition(position, holder);
+    presenter.onBindInstructionListView(instructionListDiffer.getCurrentList().get(position), holder);
+  }
+
+  @Override
+  public void onBindViewHolder(@NonNull InstructionViewHolder holder, int position, @NonNull List<Object> payloads) {
+    if (payloads.contains(DISTANCE_PAYLOAD)) {
+      presenter.onBindInstructionListDistance(instructionListDiffer.getCurrentList().get(position), holder);
+    } else {
+      onBindViewHolder(holder, position);
+    }
   }
 
   @Override
   public int getItemCount() {
-    return presenter.retrieveBannerInstructionListSize();
+    return instructionListDiffer.getCurrentList().size();
   }
 
   @Override
@@ -43,14 +68,23 @@ public class InstructionListAdapter extends RecyclerView.Adapter<InstructionView
     holder.itemView.clearAnimation();
   }
 
+  /**
+   * Updates the remaining instructions, diffing them with the shown ones on a background thread.
+   * The list is kept up to date while hidden as well, so it doesn't need a full refresh once shown.
+   *
+   * @param routeProgress with the current instruction
+   * @param isListShowing whether the list is visible, no longer needed to skip updates
+   */
   public void updateBannerListWith(RouteProgress routeProgress, boolean isListShowing) {
     boolean didUpdate = presenter.updateBannerListWith(routeProgress);
-    if (didUpdate && isListShowing) {
-      notifyDataSetChanged();
+    if (didUpdate) {
+      instructionListDiffer.submitList(presenter.retrieveBannerInstructions());
     }
   }
 
   public void updateDistanceFormatter(DistanceFormatter distanceFormatter) {
-    presenter.updateDistanceFormatter(distanceFormatter);
+    if (presenter.updateDistanceFormatter(distanceFormatter)) {
+      notifyItemRangeChanged(0, getItemCount(), DISTANCE_PAYLOAD);
+    }
   }
 }
@@ -26,6 +26,7 @@ class InstructionListPresenter {
   private DistanceFormatter distanceFormatter;
   private List<BannerInstructions> instructions;
   private RouteLeg currentLeg;
+  private BannerInstructions currentBannerInstructions;
   private String drivingSide;
 
   InstructionListPresenter(RouteUtils routeUtils, DistanceFormatter distanceFormatter) {
@@ -35,25 +36,50 @@ class InstructionListPresenter {
   }
 
   void onBindInstructionListViewAtPosition(int position, @NonNull InstructionListView listView) {
-    BannerInstructions bannerInstructions = instructions.get(position);
-    double distance = bannerInstructions.distanceAlongGeometry();
-    SpannableString distanceText = distanceFormatter.formatDistance(distance);
-    updateListView(listView, bannerInstructions, distanceText);
+    onBindInstructionListView(instructions.get(position), listView);
+  }
+
+  void onBindInstructionListView(BannerInstructions bannerInstructions, @NonNull InstructionListView listView) {
+    updateListView(listView, bannerInstructions, formatDistance(bannerInstructions));
+  }
+
+  /**
+   * Only updates the distance of an instruction already bound to the given view.
+   */
+  void onBindInstructionListDistance(BannerInstructions bannerInstructions, @NonNull InstructionListView listView) {
+    listView.updateDistanceText(formatDistance(bannerInstructions));
   }
 
   int retrieveBannerInstructionListSize() {
     return instructions.size();
   }
 
+  /**
+   * @return a copy of the remaining instructions, which isn't changed by later updates
+   */
+  List<BannerInstructions> retrieveBannerInstructions() {
+    return new ArrayList<>(instructions);
+  }
+
+  /**
+   * @return true if the instructions have been rebuilt for a new leg or have been removed
+   */
   boolean updateBannerListWith(RouteProgress routeProgress) {
-    addBannerInstructions(routeProgress);
-    return updateInstructionList(routeProgress);
+    boolean isNewLeg = addBannerInstructions(routeProgress);
+    boolean hasRemovedInstructions = updateInstructionList(routeProgress);
+    return isNewLeg || hasRemovedInstructions;
   }
 
-  void updateDistanceFormatter(DistanceFormatter distanceFormatter) {
+  boolean updateDistanceFormatter(DistanceFormatter distanceFormatter) {
     if (shouldUpdate(distanceFormatter)) {
       this.distanceFormatter = distanceFormatter;
+      return true;
     }
+    return false;
+  }
+
+  private SpannableString formatDistance(BannerInstructions bannerInstructions) {
+    return distanceFormatter.formatDistance(bannerInstructions.distanceAlongGeometry());
   }
 
   private boolean shouldUpdate(DistanceFormatter distanceFormatter) {
@@ -110,23 +136,28 @@ class InstructionListPresenter {
     listView.updateManeuverViewDrivingSide(drivingSide);
   }
 
-  private void addBannerInstructions(RouteProgress routeProgress) {
-    if (isNewLeg(routeProgress)) {
-      instructions = new ArrayList<>();
-      currentLeg = routeProgress.currentLeg();
-      drivingSide = routeProgress.currentLegProgress().currentStep().drivingSide();
-      List<LegStep> steps = currentLeg.steps();
-      for (LegStep step : steps) {
-        List<BannerInstructions> bannerInstructions = step.bannerInstructions();
-        if (bannerInstructions != null && !bannerInstructions.isEmpty()) {
-          instructions.addAll(bannerInstructions);
-        }
+  private boolean addBannerInstructions(RouteProgress routeProgress) {
+    if (!isNewLeg(routeProgress)) {
+      return false;
+    }
+    boolean hadInstructions = !instructions.isEmpty();
+    instructions = new ArrayList<>();
+    currentLeg = routeProgress.currentLeg();
+    currentBannerInstructions = null;
+    drivingSide = routeProgress.currentLegProgress().currentStep().drivingSide();
+    List<LegStep> steps = currentLeg.steps();
+    for (LegStep step : steps) {
+      List<BannerInstructions> bannerInstructions = step.bannerInstructions();
+      if (bannerInstructions != null && !bannerInstructions.isEmpty()) {
+        instructions.addAll(bannerInstructions);
       }
     }
+    return hadInstructions || !instructions.isEmpty();
   }
 
   private boolean isNewLeg(RouteProgress routeProgress) {
-    return currentLeg == null || !currentLeg.equals(routeProgress.currentLeg());
+    RouteLeg leg = routeProgress.currentLeg();
+    return currentLeg == null || (currentLeg != leg && !currentLeg.equals(leg));
   }
 
   private boolean updateInstructionList(RouteProgress routeProgress) {
@@ -136,13 +167,18 @@ class InstructionListPresenter {
     RouteLegProgress legProgress = routeProgress.currentLegProgress();
     LegStep currentStep = legProgress.currentStep();
     double stepDistanceRemaining = legProgress.currentStepProgress().distanceRemaining();
-    BannerInstructions currentBannerInstructions = routeUtils.findCurrentBannerInstructions(
+    BannerInstructions bannerInstructions = routeUtils.findCurrentBannerInstructions(
       currentStep, stepDistanceRemaining
     );
-    if (!instructions.contains(currentBannerInstructions)) {
+    // Instructions are only removed when the current instruction changes
+    if (bannerInstructions == currentBannerInstructions) {
+      return false;
+    }
+    currentBannerInstructions = bannerInstructions;
+    int currentInstructionIndex = instructions.indexOf(bannerInstructions);
+    if (currentInstructionIndex < FIRST_INSTRUCTION_INDEX) {
       return false;
     }
-    int currentInstructionIndex = instructions.indexOf(currentBannerInstructions);
     return removeInstructionsFrom(currentInstructionIndex);
   }
 
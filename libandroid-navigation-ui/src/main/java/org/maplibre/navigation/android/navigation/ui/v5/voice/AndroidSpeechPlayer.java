@@ -1,28 +1,67 @@
 package org.maplibre.navigation.android.navigation.ui.v5.voice;
 
 import android.content.Context;
+import android.media.AudioAttributes;
+import android.media.MediaPlayer;
 import android.os.Build;
+import android.os.Bundle;
 import android.speech.tts.TextToSpeech;
+import android.speech.tts.Voice;
 import android.text.TextUtils;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import timber.log.Timber;
 
 /**
  * Default player used to play voice instructions when a connection to Polly is unable to be established.
  * <p>
- * This instruction player uses {@link TextToSpeech} to play voice instructions.
+ * This instruction player uses {@link TextToSpeech} to play voice instructions. Upcoming
+ * announcements can be synthesized ahead of time with {@link #cacheUpcoming(List)}, in which case
+ * they are played from the {@link VoiceInstructionFileCache} instead of being synthesized when
+ * the milestone fires.
+ * <p>
+ * Synthesis shares the {@link TextToSpeech} queue with spoken instructions, so announcements are
+ * synthesized one at a time and only while nothing is spoken. An instruction that has to be spoken
+ * flushes the running synthesis, which is resumed once the instruction is done.
  *
  * @since 0.6.0
  */
 class AndroidSpeechPlayer implements SpeechPlayer {
 
-  private static final String DEFAULT_UTTERANCE_ID = "default_id";
+  private static final String SPEECH_UTTERANCE_PREFIX = "default_id_";
+  private static final String SYNTHESIS_UTTERANCE_PREFIX = "synthesis_";
+  private static final String VOICE_INSTRUCTION_CACHE_DIRECTORY = "maplibre_navigation_voice_instructions";
+  private static final long VOICE_INSTRUCTION_CACHE_SIZE = 20 * 1024 * 1024;
+  private static final ExecutorService CACHE_LOAD_EXECUTOR = Executors.newSingleThreadExecutor();
 
   private TextToSpeech textToSpeech;
   private SpeechListener speechListener;
+  private final VoiceInstructionFileCache fileCache;
+  private final Queue<String> queuedAnnouncements = new ArrayDeque<>();
+  /**
+   * Guards the synthesis and speech state below, which is also changed from TTS binder threads.
+   */
+  private final Object ttsLock = new Object();
+  private final Set<String> pendingSynthesisKeys = new HashSet<>();
+  private final Deque<String> synthesisQueue = new ArrayDeque<>();
+  private final Set<String> speakingUtteranceIds = new HashSet<>();
+  private String synthesizingAnnouncement;
+  private String synthesizingKey;
+  private int utteranceCount;
+  private MediaPlayer mediaPlayer;
+  private Locale locale;
 
   private boolean isMuted;
   private boolean languageSupported = false;
@@ -35,6 +74,8 @@ class AndroidSpeechPlayer implements SpeechPlayer {
    * @since 0.6.0
    */
   AndroidSpeechPlayer(Context context, final String language, final SpeechListener speechListener) {
+    File cacheDirectory = new File(context.getCacheDir(), VOICE_INSTRUCTION_CACHE_DIRECTORY);
+    fileCache = new VoiceInstructionFileCache(cacheDirectory, VOICE_INSTRUCTION_CACHE_SIZE, CACHE_LOAD_EXECUTOR);
     textToSpeech = new TextToSpeech(context, new TextToSpeech.OnInitListener() {
       @Override
       public void onInit(int status) {
@@ -63,11 +104,43 @@ class AndroidSpeechPlayer implements SpeechPlayer {
       return;
     }
 
-    fireInstructionListenerIfApi14();
+    String announcement = speechAnnouncement.announcement();
+    if (mediaPlayer != null) {
+      queuedAnnouncements.add(announcement);
+      return;
+    }
+    if (isSpeaking() || !playFromCache(announcement)) {
+      speak(announcement);
+    }
+  }
 
-    HashMap<String, String> params = new HashMap<>(1);
-    params.put(TextToSpeech.Engine.KEY_PARAM_UTTERANCE_ID, DEFAULT_UTTERANCE_ID);
-    textToSpeech.speak(speechAnnouncement.announcement(), TextToSpeech.QUEUE_ADD, params);
+  /**
+   * Synthesizes the given announcements to files in the background, so they can be played
+   * without synthesis latency once their milestones fire. Announcements that are already
+   * cached or waiting for synthesis are skipped, as are all announcements until the text to
+   * speech engine is initialized and the cache has been loaded.
+   *
+   * @param speechAnnouncements upcoming announcements, in the order they will be played
+   * @return false if the announcements were skipped because the player isn't ready yet
+   */
+  boolean cacheUpcoming(List<SpeechAnnouncement> speechAnnouncements) {
+    if (!languageSupported || !fileCache.isLoaded()) {
+      return false;
+    }
+    synchronized (ttsLock) {
+      for (SpeechAnnouncement speechAnnouncement : speechAnnouncements) {
+        String announcement = speechAnnouncement.announcement();
+        if (TextUtils.isEmpty(announcement)) {
+          continue;
+        }
+        String key = buildCacheKey(announcement);
+        if (!fileCache.contains(key) && pendingSynthesisKeys.add(key)) {
+          synthesisQueue.add(announcement);
+        }
+      }
+      synthesizeNext();
+    }
+    return true;
   }
 
   /**
@@ -107,6 +180,14 @@ class AndroidSpeechPlayer implements SpeechPlayer {
    */
   @Override
   public void onDestroy() {
+    stopCachedPlayback();
+    synchronized (ttsLock) {
+      synthesisQueue.clear();
+      pendingSynthesisKeys.clear();
+      speakingUtteranceIds.clear();
+      synthesizingKey = null;
+      synthesizingAnnouncement = null;
+    }
     if (textToSpeech != null) {
       textToSpeech.stop();
       textToSpeech.shutdown();
@@ -114,9 +195,157 @@ class AndroidSpeechPlayer implements SpeechPlayer {
   }
 
   private void muteTts() {
-    if (textToSpeech.isSpeaking()) {
-      textToSpeech.stop();
+    synchronized (ttsLock) {
+      if (!speakingUtteranceIds.isEmpty()) {
+        textToSpeech.stop();
+        speakingUtteranceIds.clear();
+        synthesizeNext();
+      }
+    }
+    if (mediaPlayer != null) {
+      stopCachedPlayback();
+      speechListener.onDone();
+    }
+  }
+
+  private boolean isSpeaking() {
+    synchronized (ttsLock) {
+      return !speakingUtteranceIds.isEmpty();
+    }
+  }
+
+  private void speak(String announcement) {
+    fireInstructionListenerIfApi14();
+
+    synchronized (ttsLock) {
+      pauseSynthesis();
+      String utteranceId = SPEECH_UTTERANCE_PREFIX + utteranceCount++;
+      HashMap<String, String> params = new HashMap<>(1);
+      params.put(TextToSpeech.Engine.KEY_PARAM_UTTERANCE_ID, utteranceId);
+      if (textToSpeech.speak(announcement, TextToSpeech.QUEUE_ADD, params) == TextToSpeech.SUCCESS) {
+        speakingUtteranceIds.add(utteranceId);
+      } else {
+        synthesizeNext();
+      }
+    }
+  }
+
+  /**
+   * Starts synthesizing the next queued announcement, unless a synthesis is running or an
+   * instruction is being spoken. Must be called holding {@link #ttsLock}.
+   */
+  private void synthesizeNext() {
+    if (synthesizingKey != null || !speakingUtteranceIds.isEmpty()) {
+      return;
+    }
+    while (!synthesisQueue.isEmpty()) {
+      String announcement = synthesisQueue.poll();
+      String key = buildCacheKey(announcement);
+      File pendingFile = fileCache.obtainPendingFile(key);
+      int result = textToSpeech.synthesizeToFile(announcement, new Bundle(), pendingFile,
+        SYNTHESIS_UTTERANCE_PREFIX + key);
+      if (result == TextToSpeech.SUCCESS) {
+        synthesizingKey = key;
+        synthesizingAnnouncement = announcement;
+        return;
+      }
+      pendingSynthesisKeys.remove(key);
+    }
+  }
+
+  /**
+   * Flushes the running synthesis so a spoken instruction doesn't wait for it, and queues it
+   * again to be resumed once nothing is spoken. Must be called holding {@link #ttsLock}.
+   */
+  private void pauseSynthesis() {
+    if (synthesizingKey == null) {
+      return;
+    }
+    textToSpeech.stop();
+    fileCache.discard(synthesizingKey);
+    synthesisQueue.addFirst(synthesizingAnnouncement);
+    synthesizingKey = null;
+    synthesizingAnnouncement = null;
+  }
+
+  private boolean playFromCache(String announcement) {
+    File audioFile = fileCache.retrieve(buildCacheKey(announcement));
+    if (audioFile == null || !startMediaPlayer(audioFile)) {
+      return false;
     }
+    speechListener.onStart();
+    return true;
+  }
+
+  private boolean startMediaPlayer(File audioFile) {
+    MediaPlayer player = new MediaPlayer();
+    player.setAudioAttributes(new AudioAttributes.Builder()
+      .setUsage(AudioAttributes.USAGE_ASSISTANCE_NAVIGATION_GUIDANCE)
+      .setContentType(AudioAttributes.CONTENT_TYPE_SPEECH)
+      .build());
+    player.setOnCompletionListener(new MediaPlayer.OnCompletionListener() {
+      @Override
+      public void onCompletion(MediaPlayer player) {
+        playNextQueuedAnnouncement();
+      }
+    });
+    player.setOnErrorListener(new MediaPlayer.OnErrorListener() {
+      @Override
+      public boolean onError(MediaPlayer player, int what, int extra) {
+        Timber.w("Unable to play cached voice instruction (%d, %d)", what, extra);
+        playNextQueuedAnnouncement();
+        return true;
+      }
+    });
+    try {
+      player.setDataSource(audioFile.getAbsolutePath());
+      player.prepare();
+      player.start();
+      mediaPlayer = player;
+      return true;
+    } catch (IOException | IllegalStateException exception) {
+      Timber.w(exception, "Unable to play cached voice instruction");
+      player.release();
+      return false;
+    }
+  }
+
+  private void playNextQueuedAnnouncement() {
+    releaseMediaPlayer();
+    String announcement = queuedAnnouncements.poll();
+    if (announcement == null) {
+      speechListener.onDone();
+      return;
+    }
+    File audioFile = fileCache.retrieve(buildCacheKey(announcement));
+    if (audioFile == null || !startMediaPlayer(audioFile)) {
+      speak(announcement);
+      speakQueuedAnnouncements();
+    }
+  }
+
+  private void speakQueuedAnnouncements() {
+    while (!queuedAnnouncements.isEmpty()) {
+      speak(queuedAnnouncements.poll());
+    }
+  }
+
+  private void stopCachedPlayback() {
+    queuedAnnouncements.clear();
+    releaseMediaPlayer();
+  }
+
+  private void releaseMediaPlayer() {
+    if (mediaPlayer != null) {
+      mediaPlayer.release();
+      mediaPlayer = null;
+    }
+  }
+
+  private String buildCacheKey(String announcement) {
+    Voice voice = textToSpeech.getVoice();
+    String voiceName = voice != null ? voice.getName() : null;
+    return VoiceInstructionFileCache.buildKey(announcement, voiceName, locale);
   }
 
   private void initializeWithLanguage(Locale language) {
@@ -126,6 +355,7 @@ class AndroidSpeechPlayer implements SpeechPlayer {
       return;
     }
     languageSupported = true;
+    locale = language;
     textToSpeech.setLanguage(language);
   }
 
@@ -141,7 +371,43 @@ class AndroidSpeechPlayer implements SpeechPlayer {
     if (Build.VERSION.SDK_INT < Build.VERSION_CODES.ICE_CREAM_SANDWICH_MR1) {
       textToSpeech.setOnUtteranceCompletedListener(new Api14UtteranceListener(speechListener));
     } else {
-      textToSpeech.setOnUtteranceProgressListener(new UtteranceListener(speechListener));
+      textToSpeech.setOnUtteranceProgressListener(new UtteranceListener(speechListener, synthesisListener));
     }
   }
+
+  private final UtteranceListener.SynthesisListener synthesisListener = new UtteranceListener.SynthesisListener() {
+    @Override
+    public boolean isSynthesis(String utteranceId) {
+      return utteranceId != null && utteranceId.startsWith(SYNTHESIS_UTTERANCE_PREFIX);
+    }
+
+    @Override
+    public void onSynthesisDone(String utteranceId, boolean isSuccessful) {
+      String key = utteranceId.substring(SYNTHESIS_UTTERANCE_PREFIX.length());
+      synchronized (ttsLock) {
+        if (!key.equals(synthesizingKey)) {
+          // Flushed by a spoken instruction, the announcement is synthesized again later
+          return;
+        }
+        if (isSuccessful) {
+          fileCache.commit(key);
+        } else {
+          fileCache.discard(key);
+        }
+        pendingSynthesisKeys.remove(key);
+        synthesizingKey = null;
+        synthesizingAnnouncement = null;
+        synthesizeNext();
+      }
+    }
+
+    @Override
+    public void onSpeechDone(String utteranceId) {
+      synchronized (ttsLock) {
+        if (speakingUtteranceIds.remove(utteranceId)) {
+          synthesizeNext();
+        }
+      }
+    }
+  };
 }
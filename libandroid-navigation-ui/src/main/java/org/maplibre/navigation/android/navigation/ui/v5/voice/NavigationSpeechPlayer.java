@@ -3,7 +3,14 @@ package org.maplibre.navigation.android.navigation.ui.v5.voice;
 import androidx.fragment.app.Fragment;
 import androidx.fragment.app.FragmentActivity;
 
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
+import org.maplibre.navigation.android.navigation.v5.models.LegStep;
+import org.maplibre.navigation.android.navigation.v5.models.VoiceInstructions;
 import org.maplibre.navigation.android.navigation.v5.offroute.OffRouteListener;
+import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Used to play {@link SpeechAnnouncement}s.
@@ -18,8 +25,13 @@ import org.maplibre.navigation.android.navigation.v5.offroute.OffRouteListener;
  */
 public class NavigationSpeechPlayer implements SpeechPlayer {
 
+  private static final int UPCOMING_ANNOUNCEMENT_COUNT = 4;
+
   private SpeechPlayerProvider speechPlayerProvider;
   private boolean isMuted;
+  private DirectionsRoute cachedRoute;
+  private int cachedLegIndex = -1;
+  private int cachedStepIndex = -1;
 
   public NavigationSpeechPlayer(SpeechPlayerProvider speechPlayerProvider) {
     this.speechPlayerProvider = speechPlayerProvider;
@@ -36,6 +48,36 @@ public class NavigationSpeechPlayer implements SpeechPlayer {
     speechPlayerProvider.retrieveSpeechPlayer().play(speechAnnouncement);
   }
 
+  /**
+   * Synthesizes the next few voice announcements of the current leg ahead of time, so they can be
+   * played without synthesis latency once their milestones fire.
+   * <p>
+   * Only does work when the route, leg or step changed since the last call, or when the player
+   * wasn't ready to synthesize during the last call, so it can be called with every progress
+   * update.
+   *
+   * @param routeProgress with the current route, leg and step
+   * @since 4.1.0
+   */
+  public void cacheUpcomingAnnouncements(RouteProgress routeProgress) {
+    int legIndex = routeProgress.legIndex();
+    int stepIndex = routeProgress.currentLegProgress().stepIndex();
+    boolean isSameStep = cachedRoute == routeProgress.directionsRoute()
+      && cachedLegIndex == legIndex
+      && cachedStepIndex == stepIndex;
+    if (isSameStep) {
+      return;
+    }
+    List<SpeechAnnouncement> upcomingAnnouncements = findUpcomingAnnouncements(routeProgress, stepIndex);
+    if (!upcomingAnnouncements.isEmpty()
+      && !speechPlayerProvider.retrieveAndroidSpeechPlayer().cacheUpcoming(upcomingAnnouncements)) {
+      return;
+    }
+    cachedRoute = routeProgress.directionsRoute();
+    cachedLegIndex = legIndex;
+    cachedStepIndex = stepIndex;
+  }
+
   /**
    * Returns the current muted state of the player.
    *
@@ -87,4 +129,34 @@ public class NavigationSpeechPlayer implements SpeechPlayer {
   public void onDestroy() {
     speechPlayerProvider.onDestroy();
   }
+
+  private List<SpeechAnnouncement> findUpcomingAnnouncements(RouteProgress routeProgress, int stepIndex) {
+    List<SpeechAnnouncement> announcements = new ArrayList<>(UPCOMING_ANNOUNCEMENT_COUNT);
+    double stepDistanceRemaining = routeProgress.currentLegProgress().currentStepProgress().distanceRemaining();
+    List<LegStep> steps = routeProgress.currentLeg().steps();
+    if (steps == null) {
+      return announcements;
+    }
+    for (int i = stepIndex; i < steps.size(); i++) {
+      List<VoiceInstructions> voiceInstructions = steps.get(i).voiceInstructions();
+      if (voiceInstructions == null) {
+        continue;
+      }
+      for (VoiceInstructions instruction : voiceInstructions) {
+        boolean isAlreadyAnnounced = i == stepIndex && instruction.distanceAlongGeometry() != null
+          && instruction.distanceAlongGeometry() > stepDistanceRemaining;
+        if (isAlreadyAnnounced || instruction.announcement() == null) {
+          continue;
+        }
+        announcements.add(SpeechAnnouncement.builder()
+          .ssmlAnnouncement(instruction.ssmlAnnouncement())
+          .announcement(instruction.announcement())
+          .build());
+        if (announcements.size() == UPCOMING_ANNOUNCEMENT_COUNT) {
+          return announcements;
+        }
+      }
+    }
+    return announcements;
+  }
 }
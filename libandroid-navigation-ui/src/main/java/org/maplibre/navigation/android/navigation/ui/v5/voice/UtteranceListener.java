@@ -2,28 +2,70 @@ package org.maplibre.navigation.android.navigation.ui.v5.voice;
 
 import android.os.Build;
 import android.speech.tts.UtteranceProgressListener;
+import androidx.annotation.Nullable;
 import androidx.annotation.RequiresApi;
 
 @RequiresApi(api = Build.VERSION_CODES.ICE_CREAM_SANDWICH_MR1)
 class UtteranceListener extends UtteranceProgressListener {
   private SpeechListener speechListener;
+  @Nullable
+  private SynthesisListener synthesisListener;
 
   UtteranceListener(SpeechListener speechListener) {
+    this(speechListener, null);
+  }
+
+  UtteranceListener(SpeechListener speechListener, @Nullable SynthesisListener synthesisListener) {
     this.speechListener = speechListener;
+    this.synthesisListener = synthesisListener;
   }
 
   @Override
   public void onStart(String utteranceId) {
+    if (isSynthesis(utteranceId)) {
+      return;
+    }
     speechListener.onStart();
   }
 
   @Override
   public void onDone(String utteranceId) {
+    if (isSynthesis(utteranceId)) {
+      synthesisListener.onSynthesisDone(utteranceId, true);
+      return;
+    }
+    notifySpeechDone(utteranceId);
     speechListener.onDone();
   }
 
   @Override
   public void onError(String utteranceId) {
-    // Intentionally empty
+    if (isSynthesis(utteranceId)) {
+      synthesisListener.onSynthesisDone(utteranceId, false);
+      return;
+    }
+    notifySpeechDone(utteranceId);
+  }
+
+  private void notifySpeechDone(String utteranceId) {
+    if (synthesisListener != null) {
+      synthesisListener.onSpeechDone(utteranceId);
+    }
+  }
+
+  private boolean isSynthesis(String utteranceId) {
+    return synthesisListener != null && synthesisListener.isSynthesis(utteranceId);
+  }
+
+  interface SynthesisListener {
+
+    boolean isSynthesis(String utteranceId);
+
+    void onSynthesisDone(String utteranceId, boolean isSuccessful);
+
+    /**
+     * Called once a spoken utterance finished or failed, so paused synthesis can be resumed.
+     */
+    void onSpeechDone(String utteranceId);
   }
-}
\ No newline at end of file
+}
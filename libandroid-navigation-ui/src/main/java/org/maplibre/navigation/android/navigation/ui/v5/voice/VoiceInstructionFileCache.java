@@ -0,0 +1,187 @@
+package org.maplibre.navigation.android.navigation.ui.v5.voice;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.File;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import timber.log.Timber;
+
+/**
+ * Size-bounded, least recently used cache of synthesized voice instruction audio files.
+ * <p>
+ * Files are keyed by announcement text, voice and locale. The index is rebuilt from the cache
+ * directory on creation, so announcements synthesized in earlier sessions are reused. The directory
+ * is scanned on the given executor and the cache stays empty until {@link #isLoaded()}.
+ * <p>
+ * Synthesis callbacks arrive on a TTS binder thread, so all access is synchronized.
+ */
+class VoiceInstructionFileCache {
+
+  private static final String AUDIO_FILE_EXTENSION = ".wav";
+  private static final String PENDING_FILE_EXTENSION = ".tmp";
+  private static final String KEY_DIGEST_ALGORITHM = "SHA-1";
+  private static final String KEY_SEPARATOR = "|";
+
+  private final File directory;
+  private final long maxSizeInBytes;
+  private final LinkedHashMap<String, File> files = new LinkedHashMap<>(16, 0.75f, true);
+  private long sizeInBytes;
+  private volatile boolean isLoaded;
+
+  VoiceInstructionFileCache(@NonNull File directory, long maxSizeInBytes, @NonNull Executor loadExecutor) {
+    this.directory = directory;
+    this.maxSizeInBytes = maxSizeInBytes;
+    loadExecutor.execute(new Runnable() {
+      @Override
+      public void run() {
+        loadExistingFiles();
+      }
+    });
+  }
+
+  @NonNull
+  static String buildKey(@NonNull String announcement, @Nullable String voiceName, @NonNull Locale locale) {
+    String source = announcement + KEY_SEPARATOR + voiceName + KEY_SEPARATOR + locale.toString();
+    try {
+      MessageDigest digest = MessageDigest.getInstance(KEY_DIGEST_ALGORITHM);
+      byte[] hash = digest.digest(source.getBytes(Charset.forName("UTF-8")));
+      StringBuilder key = new StringBuilder(hash.length * 2);
+      for (byte value : hash) {
+        key.append(String.format(Locale.US, "%02x", value));
+      }
+      return key.toString();
+    } catch (NoSuchAlgorithmException exception) {
+      return Integer.toHexString(source.hashCode()) + Integer.toHexString(source.length());
+    }
+  }
+
+  /**
+   * @param key built with {@link #buildKey(String, String, Locale)}
+   * @return the synthesized audio file, or null if the key is not cached
+   */
+  @Nullable
+  synchronized File retrieve(@NonNull String key) {
+    File file = files.get(key);
+    if (file == null) {
+      return null;
+    }
+    if (!file.exists()) {
+      remove(key);
+      return null;
+    }
+    file.setLastModified(System.currentTimeMillis());
+    return file;
+  }
+
+  synchronized boolean contains(@NonNull String key) {
+    return files.containsKey(key);
+  }
+
+  /**
+   * @return true once the files of earlier sessions have been loaded, before that nothing
+   * should be synthesized into the cache
+   */
+  boolean isLoaded() {
+    return isLoaded;
+  }
+
+  /**
+   * Provides the file a new announcement should be synthesized into. Once synthesis finished,
+   * {@link #commit(String)} moves it into the cache.
+   */
+  @NonNull
+  synchronized File obtainPendingFile(@NonNull String key) {
+    if (!directory.exists() && !directory.mkdirs()) {
+      Timber.w("Unable to create voice instruction cache directory");
+    }
+    return new File(directory, key + PENDING_FILE_EXTENSION);
+  }
+
+  /**
+   * Adds a successfully synthesized pending file to the cache, evicting the least recently used
+   * files until the cache fits its maximum size.
+   *
+   * @return true if the file was added
+   */
+  synchronized boolean commit(@NonNull String key) {
+    File pendingFile = new File(directory, key + PENDING_FILE_EXTENSION);
+    File audioFile = new File(directory, key + AUDIO_FILE_EXTENSION);
+    File previousFile = files.remove(key);
+    if (previousFile != null) {
+      sizeInBytes -= previousFile.length();
+    }
+    if (!pendingFile.exists() || !pendingFile.renameTo(audioFile)) {
+      return false;
+    }
+    files.put(key, audioFile);
+    sizeInBytes += audioFile.length();
+    trimToSize();
+    return files.containsKey(key);
+  }
+
+  synchronized void discard(@NonNull String key) {
+    File pendingFile = new File(directory, key + PENDING_FILE_EXTENSION);
+    pendingFile.delete();
+  }
+
+  synchronized void remove(@NonNull String key) {
+    File file = files.remove(key);
+    if (file != null) {
+      sizeInBytes -= file.length();
+      file.delete();
+    }
+  }
+
+  synchronized long sizeInBytes() {
+    return sizeInBytes;
+  }
+
+  private void trimToSize() {
+    Iterator<Map.Entry<String, File>> iterator = files.entrySet().iterator();
+    while (sizeInBytes > maxSizeInBytes && iterator.hasNext()) {
+      File eldest = iterator.next().getValue();
+      sizeInBytes -= eldest.length();
+      eldest.delete();
+      iterator.remove();
+    }
+  }
+
+  private void loadExistingFiles() {
+    File[] existingFiles = directory.listFiles();
+    if (existingFiles == null) {
+      isLoaded = true;
+      return;
+    }
+    Arrays.sort(existingFiles, new Comparator<File>() {
+      @Override
+      public int compare(File first, File second) {
+        return Long.compare(first.lastModified(), second.lastModified());
+      }
+    });
+    synchronized (this) {
+      for (File file : existingFiles) {
+        String name = file.getName();
+        if (name.endsWith(AUDIO_FILE_EXTENSION)) {
+          String key = name.substring(0, name.length() - AUDIO_FILE_EXTENSION.length());
+          files.put(key, file);
+          sizeInBytes += file.length();
+        } else {
+          file.delete();
+        }
+      }
+      trimToSize();
+    }
+    isLoaded = true;
+  }
+}
@@ -166,6 +166,22 @@ public class NavigationViewRouterTest extends BaseTest {
     verify(onlineRouter).clearListeners();
   }
 
+  @Test
+  public void onDestroy_destroysRouteComparator() {
+    RouteComparator routeComparator = mock(RouteComparator.class);
+    NavigationViewRouter router = new NavigationViewRouter(
+      mock(MapLibreRouteFetcher.class),
+      mock(ConnectivityStatusProvider.class),
+      routeComparator,
+      mock(ViewRouteListener.class),
+      mock(RouteCallStatus.class)
+    );
+
+    router.onDestroy();
+
+    verify(routeComparator).onDestroy();
+  }
+
   @NonNull
   private NavigationViewRouter buildRouteEngine(ViewRouteListener routeEngineListener) {
     return new NavigationViewRouter(mock(MapLibreRouteFetcher.class), mock(ConnectivityStatusProvider.class),
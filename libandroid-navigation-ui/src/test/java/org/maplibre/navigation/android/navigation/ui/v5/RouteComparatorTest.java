@@ -0,0 +1,98 @@
+package org.maplibre.navigation.android.navigation.ui.v5;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsResponse;
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.robolectric.Shadows.shadowOf;
+
+@RunWith(RobolectricTestRunner.class)
+public class RouteComparatorTest extends BaseTest {
+
+  private final Queue<Runnable> comparisons = new ArrayDeque<>();
+  private NavigationViewRouter router;
+  private RouteComparator routeComparator;
+  private DirectionsRoute chosenRoute;
+  private DirectionsResponse response;
+
+  @Before
+  public void setUp() throws Exception {
+    router = mock(NavigationViewRouter.class);
+    Executor queuedExecutor = new Executor() {
+      @Override
+      public void execute(Runnable command) {
+        comparisons.add(command);
+      }
+    };
+    routeComparator = new RouteComparator(router, queuedExecutor, new Handler(Looper.getMainLooper()));
+    chosenRoute = buildTestDirectionsRoute();
+    response = mock(DirectionsResponse.class);
+    when(response.routes()).thenReturn(Arrays.asList(chosenRoute, chosenRoute.toBuilder().build()));
+  }
+
+  @Test
+  public void compare_mostSimilarRouteIsUpdated() {
+    when(router.isCurrentRoute(chosenRoute)).thenReturn(true);
+
+    routeComparator.compare(response, chosenRoute, null);
+    runComparisons();
+
+    verify(router).updateCurrentRoute(any(DirectionsRoute.class));
+  }
+
+  @Test
+  public void compare_resultIsDroppedWhenRouteWasReplaced() {
+    when(router.isCurrentRoute(chosenRoute)).thenReturn(false);
+
+    routeComparator.compare(response, chosenRoute, null);
+    runComparisons();
+
+    verify(router, never()).updateCurrentRoute(any(DirectionsRoute.class));
+  }
+
+  @Test
+  public void onDestroy_pendingResultIsDropped() {
+    when(router.isCurrentRoute(chosenRoute)).thenReturn(true);
+    routeComparator.compare(response, chosenRoute, null);
+    comparisons.poll().run();
+
+    routeComparator.onDestroy();
+    shadowOf(Looper.getMainLooper()).idle();
+
+    verify(router, never()).updateCurrentRoute(any(DirectionsRoute.class));
+  }
+
+  @Test
+  public void onDestroy_runningComparisonIsDropped() {
+    when(router.isCurrentRoute(chosenRoute)).thenReturn(true);
+    routeComparator.compare(response, chosenRoute, null);
+
+    routeComparator.onDestroy();
+    runComparisons();
+
+    verify(router, never()).updateCurrentRoute(any(DirectionsRoute.class));
+  }
+
+  private void runComparisons() {
+    while (!comparisons.isEmpty()) {
+      comparisons.poll().run();
+    }
+    shadowOf(Looper.getMainLooper()).idle();
+  }
+}
@@ -0,0 +1,102 @@
+package org.maplibre.navigation.android.navigation.ui.v5;
+
+import org.junit.Test;
+import org.maplibre.geojson.Point;
+import org.maplibre.geojson.utils.PolylineUtils;
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
+import org.maplibre.navigation.android.navigation.v5.utils.PackedLineString;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+import static org.maplibre.navigation.android.navigation.v5.utils.Constants.PRECISION_6;
+
+public class RouteSimilarityTest extends BaseTest {
+
+  @Test
+  public void overlap_sameGeometryIsOne() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    RouteSimilarity similarity = RouteSimilarity.create(route, 0);
+
+    double overlap = similarity.overlap(PackedLineString.fromPolyline(route.geometry(), PRECISION_6));
+
+    assertEquals(1d, overlap, DELTA);
+  }
+
+  @Test
+  public void overlap_distantGeometryIsZero() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    RouteSimilarity similarity = RouteSimilarity.create(route, 0);
+
+    double overlap = similarity.overlap(PackedLineString.fromPoints(shift(decode(route), 0.01)));
+
+    assertEquals(0d, overlap, DELTA);
+  }
+
+  @Test
+  public void overlap_ignoresTraveledGeometry() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    List<Point> points = decode(route);
+    PackedLineString lastSegment = PackedLineString.fromPoints(points.subList(points.size() - 2, points.size()));
+    RouteSimilarity similarity = RouteSimilarity.create(route, 0);
+    RouteSimilarity arrivedSimilarity = RouteSimilarity.create(route, route.distance());
+
+    assertEquals(1d, arrivedSimilarity.overlap(lastSegment), DELTA);
+    assertTrue(similarity.overlap(lastSegment) < 1);
+  }
+
+  @Test
+  public void findMostSimilarRoute_picksOverlappingRoute() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    DirectionsRoute distantRoute = withGeometry(route, shift(decode(route), 0.01));
+    RouteSimilarity similarity = RouteSimilarity.create(route, 0);
+
+    int routeIndex = similarity.findMostSimilarRoute(Arrays.asList(distantRoute, route));
+
+    assertEquals(1, routeIndex);
+  }
+
+  @Test
+  public void findMostSimilarRoute_tiedOverlapPicksRouteInSameDirection() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    List<Point> reversedPoints = new ArrayList<>(decode(route));
+    Collections.reverse(reversedPoints);
+    DirectionsRoute reversedRoute = withGeometry(route, reversedPoints);
+    RouteSimilarity similarity = RouteSimilarity.create(route, 0);
+
+    int routeIndex = similarity.findMostSimilarRoute(Arrays.asList(reversedRoute, route));
+
+    assertEquals(1, routeIndex);
+  }
+
+  @Test
+  public void findMostSimilarRoute_withoutGeometriesReturnsNoRoute() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    RouteSimilarity similarity = RouteSimilarity.create(route, 0);
+
+    int routeIndex = similarity.findMostSimilarRoute(
+      Collections.singletonList(route.toBuilder().geometry(null).build()));
+
+    assertEquals(RouteSimilarity.NO_SIMILAR_ROUTE, routeIndex);
+  }
+
+  private List<Point> decode(DirectionsRoute route) {
+    return PolylineUtils.decode(route.geometry(), PRECISION_6);
+  }
+
+  private List<Point> shift(List<Point> points, double degrees) {
+    List<Point> shiftedPoints = new ArrayList<>(points.size());
+    for (Point point : points) {
+      shiftedPoints.add(Point.fromLngLat(point.longitude() + degrees, point.latitude() + degrees));
+    }
+    return shiftedPoints;
+  }
+
+  private DirectionsRoute withGeometry(DirectionsRoute route, List<Point> points) {
+    return route.toBuilder().geometry(PolylineUtils.encode(points, PRECISION_6)).build();
+  }
+}
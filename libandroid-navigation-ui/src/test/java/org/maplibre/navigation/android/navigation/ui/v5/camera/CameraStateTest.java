@@ -0,0 +1,47 @@
+package org.maplibre.navigation.android.navigation.ui.v5.camera;
+
+import org.junit.Test;
+import org.maplibre.android.geometry.LatLngBounds;
+import org.maplibre.navigation.android.navigation.v5.navigation.camera.RouteInformation;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class CameraStateTest {
+
+  @Test
+  public void coalesceWith_olderZoomUpdateIsKept() {
+    LatLngBounds zoomBounds = mock(LatLngBounds.class);
+    CameraState olderState = CameraState.withZoomBounds(mock(RouteInformation.class), 45d, zoomBounds);
+    RouteInformation newerInformation = mock(RouteInformation.class);
+    CameraState newerState = CameraState.withCurrentZoom(newerInformation, 50d, false);
+
+    CameraState coalescedState = newerState.coalesceWith(olderState);
+
+    assertSame(newerInformation, coalescedState.routeInformation());
+    assertEquals(50d, coalescedState.tilt());
+    assertSame(zoomBounds, coalescedState.zoomBounds());
+    assertTrue(coalescedState.updatesZoom());
+  }
+
+  @Test
+  public void coalesceWith_newerZoomUpdateIsKept() {
+    CameraState olderState = CameraState.withZoomBounds(mock(RouteInformation.class), 45d, mock(LatLngBounds.class));
+    CameraState newerState = CameraState.withZoomBounds(mock(RouteInformation.class), 50d, mock(LatLngBounds.class));
+
+    CameraState coalescedState = newerState.coalesceWith(olderState);
+
+    assertSame(newerState, coalescedState);
+  }
+
+  @Test
+  public void coalesceWith_noOlderStateReturnsNewerState() {
+    CameraState newerState = CameraState.withCurrentZoom(mock(RouteInformation.class), 50d, false);
+
+    CameraState coalescedState = newerState.coalesceWith(null);
+
+    assertSame(newerState, coalescedState);
+  }
+}
@@ -31,6 +31,7 @@ import static junit.framework.Assert.assertNotNull;
 import static junit.framework.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 public class DynamicCameraTest extends BaseTest {
@@ -167,6 +168,34 @@ public class DynamicCameraTest extends BaseTest {
     assertEquals(45d, tilt);
   }
 
+  @Test
+  public void buildCameraState_doesNotAccessMap() throws Exception {
+    MapLibreMap mapLibreMap = mock(MapLibreMap.class);
+    DynamicCamera cameraEngine = new DynamicCamera(mapLibreMap);
+    RouteInformation routeInformation = RouteInformation.create(null,
+      buildDefaultLocationUpdate(-77.0339782574523, 38.89993519985637), buildDefaultRouteProgress(1000d));
+
+    CameraState cameraState = cameraEngine.buildCameraState(routeInformation);
+
+    verifyNoInteractions(mapLibreMap);
+    assertEquals(60d, cameraState.tilt());
+    assertNotNull(cameraState.zoomBounds());
+  }
+
+  @Test
+  public void zoomFor_stateWithZoomBoundsReturnsZoomWithinLimits() throws Exception {
+    MapLibreMap mapLibreMap = mock(MapLibreMap.class);
+    CameraPosition cameraPosition = new CameraPosition.Builder().zoom(20d).build();
+    when(mapLibreMap.getCameraForLatLngBounds(any(LatLngBounds.class), any(int[].class))).thenReturn(cameraPosition);
+    DynamicCamera cameraEngine = new DynamicCamera(mapLibreMap);
+    RouteInformation routeInformation = RouteInformation.create(null,
+      buildDefaultLocationUpdate(-77.0339782574523, 38.89993519985637), buildDefaultRouteProgress(1000d));
+
+    double zoom = cameraEngine.zoomFor(cameraEngine.buildCameraState(routeInformation));
+
+    assertEquals(16d, zoom);
+  }
+
   @Test
   public void onInformationFromRoute_engineCreatesOverviewPointList() throws Exception {
     DynamicCamera cameraEngine = buildDynamicCamera();
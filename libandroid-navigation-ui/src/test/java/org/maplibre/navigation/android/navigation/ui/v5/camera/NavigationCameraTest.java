@@ -1,5 +1,7 @@
 package org.maplibre.navigation.android.navigation.ui.v5.camera;
 
+import android.location.Location;
+
 import org.maplibre.android.camera.CameraPosition;
 import org.maplibre.android.camera.CameraUpdate;
 import org.maplibre.android.location.LocationComponent;
@@ -8,18 +10,25 @@ import org.maplibre.android.location.modes.CameraMode;
 import org.maplibre.android.maps.MapLibreMap;
 import org.maplibre.navigation.android.navigation.ui.v5.BaseTest;
 
+import org.maplibre.navigation.android.navigation.v5.navigation.ListenerDispatchOptions;
 import org.maplibre.navigation.android.navigation.v5.navigation.MapLibreNavigation;
 import org.maplibre.navigation.android.navigation.v5.navigation.camera.RouteInformation;
 import org.maplibre.navigation.android.navigation.v5.routeprogress.ProgressChangeListener;
+import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
 
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
+import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertFalse;
 import static junit.framework.Assert.assertNotNull;
 import static junit.framework.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -100,6 +109,44 @@ public class NavigationCameraTest extends BaseTest {
     verify(dynamicCamera).forceResetZoomLevel();
   }
 
+  @Test
+  public void onResetCameraWhileProgressArrives_forcedZoomIsNotConsumed() {
+    MapLibreMap mapLibreMap = mock(MapLibreMap.class);
+    when(mapLibreMap.getCameraPosition()).thenReturn(mock(CameraPosition.class));
+    MapLibreNavigation navigation = mock(MapLibreNavigation.class);
+    DynamicCamera dynamicCamera = mock(DynamicCamera.class);
+    when(navigation.getCameraEngine()).thenReturn(dynamicCamera);
+    LocationComponent locationComponent = mock(LocationComponent.class);
+    NavigationCamera camera = new NavigationCamera(mapLibreMap, navigation, locationComponent);
+    ProgressChangeListener progressChangeListener = startCamera(camera, navigation);
+    Location lastLocation = mock(Location.class);
+
+    camera.resetCameraPositionWith(NavigationCamera.NAVIGATION_TRACKING_MODE_GPS);
+    progressChangeListener.onProgressChange(mock(Location.class), mock(RouteProgress.class));
+    progressChangeListener.onProgressChange(lastLocation, mock(RouteProgress.class));
+    camera.updateTransitionListenersFinished(CameraMode.TRACKING_GPS);
+
+    verify(dynamicCamera, never()).buildCameraState(any(RouteInformation.class));
+    ArgumentCaptor<RouteInformation> resetInformation = ArgumentCaptor.forClass(RouteInformation.class);
+    verify(dynamicCamera).zoom(resetInformation.capture());
+    assertEquals(lastLocation, resetInformation.getValue().location());
+    verify(locationComponent).zoomWhileTracking(anyDouble(), anyLong(), any(MapLibreMap.CancelableCallback.class));
+  }
+
+  @Test
+  public void onProgressWithTrackingDisabled_cameraStateIsNotBuilt() {
+    MapLibreNavigation navigation = mock(MapLibreNavigation.class);
+    DynamicCamera dynamicCamera = mock(DynamicCamera.class);
+    when(navigation.getCameraEngine()).thenReturn(dynamicCamera);
+    NavigationCamera camera = new NavigationCamera(mock(MapLibreMap.class), navigation, mock(LocationComponent.class));
+    ProgressChangeListener progressChangeListener = startCamera(camera, navigation);
+
+    camera.updateCameraTrackingMode(NavigationCamera.NAVIGATION_TRACKING_MODE_NONE);
+    progressChangeListener.onProgressChange(mock(Location.class), mock(RouteProgress.class));
+
+    verify(dynamicCamera, never()).buildCameraState(any(RouteInformation.class));
+  }
+
   @Test
   public void onStartWithNullRoute_progressListenerIsAdded() {
     MapLibreNavigation navigation = mock(MapLibreNavigation.class);
@@ -108,7 +155,7 @@ public class NavigationCameraTest extends BaseTest {
 
     camera.start(null);
 
-    verify(navigation, times(1)).addProgressChangeListener(listener);
+    verify(navigation, times(1)).addProgressChangeListener(eq(listener), any(ListenerDispatchOptions.class));
   }
 
   @Test
@@ -119,7 +166,7 @@ public class NavigationCameraTest extends BaseTest {
 
     camera.resume(null);
 
-    verify(navigation, times(1)).addProgressChangeListener(listener);
+    verify(navigation, times(1)).addProgressChangeListener(eq(listener), any(ListenerDispatchOptions.class));
   }
 
   @Test
@@ -188,6 +235,13 @@ public class NavigationCameraTest extends BaseTest {
     verify(locationComponent).setCameraMode(eq(CameraMode.NONE));
   }
 
+  private ProgressChangeListener startCamera(NavigationCamera camera, MapLibreNavigation navigation) {
+    camera.start(null);
+    ArgumentCaptor<ProgressChangeListener> listener = ArgumentCaptor.forClass(ProgressChangeListener.class);
+    verify(navigation).addProgressChangeListener(listener.capture(), any(ListenerDispatchOptions.class));
+    return listener.getValue();
+  }
+
   private NavigationCamera buildCamera() {
     return new NavigationCamera(mock(MapLibreMap.class), mock(MapLibreNavigation.class), mock(LocationComponent.class));
   }
@@ -6,6 +6,8 @@ import org.maplibre.navigation.android.navigation.v5.models.BannerComponents;
 import org.maplibre.navigation.android.navigation.ui.v5.BaseTest;
 
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -13,7 +15,10 @@ import java.util.HashMap;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -65,4 +70,57 @@ public class AbbreviationCreatorTest extends BaseTest {
     assertEquals(abbreviations.size(), 1);
     assertEquals(abbreviations.get(abbreviationPriority).get(0), Integer.valueOf(0));
   }
+
+  @Test
+  public void preProcess_abbreviatesFewestPrioritiesNeededToFit() {
+    TextView textView = mock(TextView.class);
+    TextViewUtils textViewUtils = mock(TextViewUtils.class);
+    when(textViewUtils.textFits(eq(textView), anyString())).thenAnswer(new Answer<Boolean>() {
+      @Override
+      public Boolean answer(InvocationOnMock invocation) {
+        return ((String) invocation.getArgument(1)).length() <= "N Blvd Avenue".length();
+      }
+    });
+    AbbreviationCreator abbreviationCreator = new AbbreviationCreator(new AbbreviationVerifier(),
+      new HashMap(), textViewUtils);
+    List<BannerComponentNode> bannerComponentNodes = setupStreetNodes(abbreviationCreator);
+
+    abbreviationCreator.preProcess(textView, bannerComponentNodes);
+
+    verify(textView).setText("N Blvd Avenue");
+    verify(textViewUtils).putAbbreviationLevel(eq(textView), anyString(), eq(2));
+  }
+
+  @Test
+  public void preProcess_usesAbbreviationLevelFitBefore() {
+    TextView textView = mock(TextView.class);
+    TextViewUtils textViewUtils = mock(TextViewUtils.class);
+    when(textViewUtils.findAbbreviationLevel(eq(textView), anyString())).thenReturn(3);
+    AbbreviationCreator abbreviationCreator = new AbbreviationCreator(new AbbreviationVerifier(),
+      new HashMap(), textViewUtils);
+    List<BannerComponentNode> bannerComponentNodes = setupStreetNodes(abbreviationCreator);
+
+    abbreviationCreator.preProcess(textView, bannerComponentNodes);
+
+    verify(textView).setText("N Blvd Ave");
+    verify(textViewUtils, never()).textFits(eq(textView), anyString());
+  }
+
+  private List<BannerComponentNode> setupStreetNodes(AbbreviationCreator abbreviationCreator) {
+    List<BannerComponentNode> bannerComponentNodes = new ArrayList<>();
+    bannerComponentNodes.add(setupNode(abbreviationCreator, "North Main Street", "N", 0, 0));
+    bannerComponentNodes.add(setupNode(abbreviationCreator, "Boulevard", "Blvd", 1, 1));
+    bannerComponentNodes.add(setupNode(abbreviationCreator, "Avenue", "Ave", 2, 2));
+    return bannerComponentNodes;
+  }
+
+  private BannerComponentNode setupNode(AbbreviationCreator abbreviationCreator, String text,
+                                        String abbreviation, int abbreviationPriority, int index) {
+    BannerComponents bannerComponents = BannerComponentsFaker.bannerComponentsBuilder()
+      .text(text)
+      .abbreviation(abbreviation)
+      .abbreviationPriority(abbreviationPriority)
+      .build();
+    return abbreviationCreator.setupNode(bannerComponents, index, 0, "");
+  }
 }
@@ -0,0 +1,134 @@
+package org.maplibre.navigation.android.navigation.ui.v5.instruction;
+
+import com.squareup.picasso.Callback;
+import com.squareup.picasso.Picasso;
+import com.squareup.picasso.RequestCreator;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.maplibre.navigation.android.navigation.v5.models.BannerComponents;
+import org.maplibre.navigation.android.navigation.v5.models.BannerInstructions;
+import org.maplibre.navigation.android.navigation.v5.models.BannerText;
+import org.maplibre.navigation.android.navigation.v5.models.LegStep;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(RobolectricTestRunner.class)
+public class ImageCreatorTest {
+
+  private static final String IMAGE_URL = "https://shield.url/image";
+
+  private Picasso picasso;
+  private RequestCreator requestCreator;
+  private ImageCreator imageCreator;
+
+  @Before
+  public void setUp() {
+    picasso = mock(Picasso.class);
+    requestCreator = mock(RequestCreator.class);
+    when(picasso.load(anyString())).thenReturn(requestCreator);
+    when(requestCreator.priority(any(Picasso.Priority.class))).thenReturn(requestCreator);
+    UrlDensityMap urlDensityMap = mock(UrlDensityMap.class);
+    when(urlDensityMap.get(anyString())).thenAnswer(new Answer<String>() {
+      @Override
+      public String answer(InvocationOnMock invocation) {
+        return invocation.getArgument(0);
+      }
+    });
+    imageCreator = new ImageCreator(new ImageVerifier());
+    imageCreator.initialize(picasso, urlDensityMap);
+  }
+
+  @Test
+  public void prefetchImageCache_imageIsFetchedWithLowPriority() {
+    imageCreator.prefetchImageCache(buildLegStep(IMAGE_URL));
+
+    verify(picasso).load(IMAGE_URL);
+    verify(requestCreator).priority(Picasso.Priority.LOW);
+    verify(requestCreator).fetch(any(Callback.class));
+  }
+
+  @Test
+  public void prefetchImageCache_imageBeingFetchedIsNotFetchedAgain() {
+    imageCreator.prefetchImageCache(buildLegStep(IMAGE_URL));
+
+    imageCreator.prefetchImageCache(buildLegStep(IMAGE_URL));
+
+    verify(picasso, times(1)).load(IMAGE_URL);
+  }
+
+  @Test
+  public void prefetchImageCache_fetchedImageIsNotFetchedAgain() {
+    imageCreator.prefetchImageCache(buildLegStep(IMAGE_URL));
+    captureFetchCallback().onSuccess();
+
+    imageCreator.prefetchImageCache(buildLegStep(IMAGE_URL));
+
+    verify(picasso, times(1)).load(IMAGE_URL);
+  }
+
+  @Test
+  public void prefetchImageCache_failedImageIsFetchedAgain() {
+    imageCreator.prefetchImageCache(buildLegStep(IMAGE_URL));
+    captureFetchCallback().onError(new Exception());
+
+    imageCreator.prefetchImageCache(buildLegStep(IMAGE_URL));
+
+    verify(picasso, times(2)).load(IMAGE_URL);
+  }
+
+  @Test
+  public void prefetchImageCache_leastRecentlyFetchedImageIsFetchedAgain() {
+    for (int i = 0; i <= 256; i++) {
+      imageCreator.prefetchImageCache(buildLegStep(IMAGE_URL + i));
+    }
+    for (Callback callback : captureFetchCallbacks()) {
+      callback.onSuccess();
+    }
+
+    imageCreator.prefetchImageCache(buildLegStep(IMAGE_URL + 256));
+    imageCreator.prefetchImageCache(buildLegStep(IMAGE_URL + 0));
+
+    verify(picasso, times(1)).load(IMAGE_URL + 256);
+    verify(picasso, times(2)).load(IMAGE_URL + 0);
+  }
+
+  private Callback captureFetchCallback() {
+    ArgumentCaptor<Callback> captor = ArgumentCaptor.forClass(Callback.class);
+    verify(requestCreator).fetch(captor.capture());
+    return captor.getValue();
+  }
+
+  private List<Callback> captureFetchCallbacks() {
+    ArgumentCaptor<Callback> captor = ArgumentCaptor.forClass(Callback.class);
+    verify(requestCreator, times(257)).fetch(captor.capture());
+    return new ArrayList<>(captor.getAllValues());
+  }
+
+  private LegStep buildLegStep(String imageUrl) {
+    BannerComponents components = BannerComponentsFaker.bannerComponentsBuilder()
+      .imageBaseUrl(imageUrl)
+      .build();
+    BannerText primary = mock(BannerText.class);
+    when(primary.components()).thenReturn(Collections.singletonList(components));
+    BannerInstructions instructions = mock(BannerInstructions.class);
+    when(instructions.primary()).thenReturn(primary);
+    LegStep legStep = mock(LegStep.class);
+    when(legStep.bannerInstructions()).thenReturn(Collections.singletonList(instructions));
+    return legStep;
+  }
+}
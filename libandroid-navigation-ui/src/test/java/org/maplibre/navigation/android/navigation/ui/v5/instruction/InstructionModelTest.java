@@ -0,0 +1,62 @@
+package org.maplibre.navigation.android.navigation.ui.v5.instruction;
+
+import android.text.SpannableString;
+
+import org.junit.Test;
+import org.maplibre.navigation.android.navigation.ui.v5.BaseTest;
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
+import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
+import org.maplibre.navigation.android.navigation.v5.utils.DistanceFormatter;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class InstructionModelTest extends BaseTest {
+
+  @Test
+  public void equals_sameStepAndDistanceTextAreEqual() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    RouteProgress progress = buildRouteProgress(route, 100, 100, 100, 0, 0);
+    RouteProgress nextProgress = buildRouteProgress(route, 90, 90, 90, 0, 0);
+    DistanceFormatter distanceFormatter = buildDistanceFormatter("100 m");
+
+    InstructionModel model = new InstructionModel(distanceFormatter, progress);
+    InstructionModel nextModel = new InstructionModel(distanceFormatter, nextProgress);
+
+    assertEquals(model, nextModel);
+    assertEquals(model.hashCode(), nextModel.hashCode());
+  }
+
+  @Test
+  public void equals_differentDistanceTextIsNotEqual() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    RouteProgress progress = buildRouteProgress(route, 100, 100, 100, 0, 0);
+
+    InstructionModel model = new InstructionModel(buildDistanceFormatter("100 m"), progress);
+    InstructionModel nextModel = new InstructionModel(buildDistanceFormatter("50 m"), progress);
+
+    assertFalse(model.equals(nextModel));
+  }
+
+  @Test
+  public void equals_differentStepIsNotEqual() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    DistanceFormatter distanceFormatter = buildDistanceFormatter("100 m");
+
+    InstructionModel model = new InstructionModel(distanceFormatter, buildRouteProgress(route, 100, 100, 100, 0, 0));
+    InstructionModel nextModel = new InstructionModel(distanceFormatter, buildRouteProgress(route, 100, 100, 100, 1, 0));
+
+    assertFalse(model.equals(nextModel));
+  }
+
+  private DistanceFormatter buildDistanceFormatter(String distanceText) {
+    SpannableString distance = mock(SpannableString.class);
+    when(distance.toString()).thenReturn(distanceText);
+    DistanceFormatter distanceFormatter = mock(DistanceFormatter.class);
+    when(distanceFormatter.formatDistance(anyDouble())).thenReturn(distance);
+    return distanceFormatter;
+  }
+}
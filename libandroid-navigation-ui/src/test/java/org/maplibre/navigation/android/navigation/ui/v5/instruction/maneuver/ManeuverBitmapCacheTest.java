@@ -0,0 +1,110 @@
+package org.maplibre.navigation.android.navigation.ui.v5.instruction.maneuver;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.PointF;
+
+import androidx.core.util.Pair;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(RobolectricTestRunner.class)
+public class ManeuverBitmapCacheTest {
+
+  private static final int SIZE = 100;
+  private static final int BITMAP_SIZE_IN_BYTES = SIZE * SIZE * 4;
+
+  private ManeuverViewUpdate update;
+  private ManeuverBitmapCache cache;
+
+  @Before
+  public void setUp() {
+    update = mock(ManeuverViewUpdate.class);
+    cache = new ManeuverBitmapCache(2 * BITMAP_SIZE_IN_BYTES);
+  }
+
+  @Test
+  public void obtain_sameKeyIsRenderedOnce() {
+    Bitmap first = cache.obtain(buildKey("turn", "left", Color.WHITE, SIZE), update);
+
+    Bitmap second = cache.obtain(buildKey("turn", "left", Color.WHITE, SIZE), update);
+
+    assertSame(first, second);
+    verify(update, times(1)).updateManeuverView(any(Canvas.class), anyInt(), anyInt(), any(PointF.class),
+      anyFloat());
+  }
+
+  @Test
+  public void obtain_otherManeuverIsRenderedAgain() {
+    Bitmap left = cache.obtain(buildKey("turn", "left", Color.WHITE, SIZE), update);
+
+    Bitmap right = cache.obtain(buildKey("turn", "right", Color.WHITE, SIZE), update);
+
+    assertNotSame(left, right);
+    verify(update, times(2)).updateManeuverView(any(Canvas.class), anyInt(), anyInt(), any(PointF.class),
+      anyFloat());
+  }
+
+  @Test
+  public void obtain_otherColorIsRenderedAgain() {
+    Bitmap white = cache.obtain(buildKey("turn", "left", Color.WHITE, SIZE), update);
+
+    Bitmap black = cache.obtain(buildKey("turn", "left", Color.BLACK, SIZE), update);
+
+    assertNotSame(white, black);
+    verify(update, times(2)).updateManeuverView(any(Canvas.class), anyInt(), anyInt(), any(PointF.class),
+      anyFloat());
+  }
+
+  @Test
+  public void obtain_otherSizeIsRenderedAgain() {
+    Bitmap large = cache.obtain(buildKey("turn", "left", Color.WHITE, SIZE), update);
+
+    Bitmap small = cache.obtain(buildKey("turn", "left", Color.WHITE, SIZE / 2), update);
+
+    assertNotSame(large, small);
+    verify(update, times(2)).updateManeuverView(any(Canvas.class), anyInt(), anyInt(), any(PointF.class),
+      anyFloat());
+  }
+
+  @Test
+  public void obtain_keyWithoutSizeIsNotRendered() {
+    Bitmap bitmap = cache.obtain(buildKey("turn", "left", Color.WHITE, 0), update);
+
+    assertNull(bitmap);
+    verify(update, never()).updateManeuverView(any(Canvas.class), anyInt(), anyInt(), any(PointF.class),
+      anyFloat());
+  }
+
+  @Test
+  public void obtain_leastRecentlyUsedBitmapIsEvicted() {
+    ManeuverViewUpdate leftUpdate = mock(ManeuverViewUpdate.class);
+    cache.obtain(buildKey("turn", "left", Color.WHITE, SIZE), leftUpdate);
+    cache.obtain(buildKey("turn", "right", Color.WHITE, SIZE), update);
+    cache.obtain(buildKey("turn", "straight", Color.WHITE, SIZE), update);
+
+    cache.obtain(buildKey("turn", "left", Color.WHITE, SIZE), leftUpdate);
+
+    verify(leftUpdate, times(2)).updateManeuverView(any(Canvas.class), anyInt(), anyInt(), any(PointF.class),
+      anyFloat());
+  }
+
+  private ManeuverBitmapCache.Key buildKey(String type, String modifier, int color, int size) {
+    return new ManeuverBitmapCache.Key(new Pair<>(type, modifier), 180f, color, Color.GRAY, size, size);
+  }
+}
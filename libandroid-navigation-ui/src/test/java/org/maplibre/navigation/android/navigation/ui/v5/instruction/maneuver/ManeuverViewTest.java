@@ -0,0 +1,49 @@
+package org.maplibre.navigation.android.navigation.ui.v5.instruction.maneuver;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.view.View;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import static junit.framework.Assert.assertEquals;
+import static org.maplibre.navigation.android.navigation.v5.navigation.NavigationConstants.STEP_MANEUVER_MODIFIER_LEFT;
+import static org.maplibre.navigation.android.navigation.v5.navigation.NavigationConstants.STEP_MANEUVER_MODIFIER_RIGHT;
+import static org.maplibre.navigation.android.navigation.v5.navigation.NavigationConstants.STEP_MANEUVER_TYPE_ROUNDABOUT;
+
+@RunWith(RobolectricTestRunner.class)
+public class ManeuverViewTest {
+
+  private static final int SIZE = 100;
+
+  @Test
+  public void onDraw_drivingSideMirrorsSharedBitmap() {
+    ManeuverBitmapCache cache = ManeuverBitmapCache.getInstance();
+    cache.clear();
+    ManeuverView maneuverView = buildMeasuredManeuverView();
+    Canvas canvas = new Canvas(Bitmap.createBitmap(SIZE, SIZE, Bitmap.Config.ARGB_8888));
+    maneuverView.setManeuverTypeAndModifier(STEP_MANEUVER_TYPE_ROUNDABOUT, STEP_MANEUVER_MODIFIER_RIGHT);
+    maneuverView.setDrivingSide(STEP_MANEUVER_MODIFIER_RIGHT);
+    maneuverView.draw(canvas);
+    int renderCount = cache.renderCount();
+    float rightHandScale = maneuverView.getScaleX();
+
+    maneuverView.setDrivingSide(STEP_MANEUVER_MODIFIER_LEFT);
+    maneuverView.draw(canvas);
+
+    assertEquals(renderCount, cache.renderCount());
+    assertEquals(1f, rightHandScale);
+    assertEquals(-1f, maneuverView.getScaleX());
+  }
+
+  private ManeuverView buildMeasuredManeuverView() {
+    ManeuverView maneuverView = new ManeuverView(RuntimeEnvironment.getApplication());
+    int measureSpec = View.MeasureSpec.makeMeasureSpec(SIZE, View.MeasureSpec.EXACTLY);
+    maneuverView.measure(measureSpec, measureSpec);
+    maneuverView.layout(0, 0, SIZE, SIZE);
+    return maneuverView;
+  }
+}
@@ -1,6 +1,7 @@
 package org.maplibre.navigation.android.navigation.ui.v5.map;
 
 import android.content.Context;
+import android.os.PowerManager;
 
 import org.maplibre.navigation.android.navigation.v5.models.LegStep;
 import org.maplibre.navigation.android.navigation.v5.models.StepManeuver;
@@ -12,19 +13,26 @@ import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress
 import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteStepProgress;
 
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.robolectric.RobolectricTestRunner;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+@RunWith(RobolectricTestRunner.class)
 public class MapFpsDelegateTest {
 
   @Test
   public void addProgressChangeListener_navigationReceivesListener() {
     MapLibreNavigation navigation = mock(MapLibreNavigation.class);
-    MapFpsDelegate delegate = new MapFpsDelegate(mock(MapView.class), mock(MapBatteryMonitor.class));
+    MapFpsDelegate delegate = new MapFpsDelegate(mock(MapView.class), buildFpsGovernor());
 
     delegate.addProgressChangeListener(navigation);
 
@@ -34,7 +42,7 @@ public class MapFpsDelegateTest {
   @Test
   public void onTransitionFinished_resetFpsWhenNotTracking() {
     MapView mapView = mock(MapView.class);
-    MapFpsDelegate delegate = new MapFpsDelegate(mapView, mock(MapBatteryMonitor.class));
+    MapFpsDelegate delegate = new MapFpsDelegate(mapView, buildFpsGovernor());
 
     delegate.onTransitionFinished(NavigationCamera.NAVIGATION_TRACKING_MODE_NONE);
 
@@ -44,7 +52,7 @@ public class MapFpsDelegateTest {
   @Test
   public void onTransitionCancelled_resetFpsWhenNotTracking() {
     MapView mapView = mock(MapView.class);
-    MapFpsDelegate delegate = new MapFpsDelegate(mapView, mock(MapBatteryMonitor.class));
+    MapFpsDelegate delegate = new MapFpsDelegate(mapView, buildFpsGovernor());
 
     delegate.onTransitionCancelled(NavigationCamera.NAVIGATION_TRACKING_MODE_NONE);
 
@@ -54,7 +62,7 @@ public class MapFpsDelegateTest {
   @Test
   public void onStop_navigationListenerRemoved() {
     MapLibreNavigation navigation = mock(MapLibreNavigation.class);
-    MapFpsDelegate delegate = new MapFpsDelegate(mock(MapView.class), mock(MapBatteryMonitor.class));
+    MapFpsDelegate delegate = new MapFpsDelegate(mock(MapView.class), buildFpsGovernor());
     delegate.addProgressChangeListener(navigation);
 
     delegate.onStop();
@@ -65,7 +73,7 @@ public class MapFpsDelegateTest {
   @Test
   public void updateEnabledFalse_maxFpsReset() {
     MapView mapView = mock(MapView.class);
-    MapFpsDelegate delegate = new MapFpsDelegate(mapView, mock(MapBatteryMonitor.class));
+    MapFpsDelegate delegate = new MapFpsDelegate(mapView, buildFpsGovernor());
 
     delegate.updateEnabled(false);
 
@@ -76,8 +84,8 @@ public class MapFpsDelegateTest {
   public void adjustFpsFor_thresholdSetWithCorrectManeuver() {
     MapView mapView = mock(MapView.class);
     MapBatteryMonitor batteryMonitor = mock(MapBatteryMonitor.class);
-    when(batteryMonitor.isPluggedIn(any(Context.class))).thenReturn(false);
-    MapFpsDelegate delegate = new MapFpsDelegate(mapView, batteryMonitor);
+    when(batteryMonitor.isPluggedIn()).thenReturn(false);
+    MapFpsDelegate delegate = new MapFpsDelegate(mapView, new MapFpsGovernor(batteryMonitor));
     RouteProgress routeProgress = buildRouteProgressWith("straight");
     int maxFps = 5;
     delegate.updateMaxFpsThreshold(maxFps);
@@ -91,8 +99,8 @@ public class MapFpsDelegateTest {
   public void adjustFpsFor_thresholdSetWithCorrectDuration() {
     MapView mapView = mock(MapView.class);
     MapBatteryMonitor batteryMonitor = mock(MapBatteryMonitor.class);
-    when(batteryMonitor.isPluggedIn(any(Context.class))).thenReturn(false);
-    MapFpsDelegate delegate = new MapFpsDelegate(mapView, batteryMonitor);
+    when(batteryMonitor.isPluggedIn()).thenReturn(false);
+    MapFpsDelegate delegate = new MapFpsDelegate(mapView, new MapFpsGovernor(batteryMonitor));
     RouteProgress routeProgress = buildRouteProgressWith(100d, 20d);
     int maxFps = 5;
     delegate.updateMaxFpsThreshold(maxFps);
@@ -102,6 +110,78 @@ public class MapFpsDelegateTest {
     verify(mapView).setMaximumFps(eq(maxFps));
   }
 
+  @Test
+  public void onFpsPolicyChanged_thermalCapApplied() {
+    MapView mapView = mock(MapView.class);
+    MapBatteryMonitor batteryMonitor = mock(MapBatteryMonitor.class);
+    MapFpsGovernor fpsGovernor = new MapFpsGovernor(batteryMonitor);
+    MapFpsDelegate delegate = new MapFpsDelegate(mapView, fpsGovernor);
+    delegate.adjustFpsFor(buildRouteProgressWith(100d, 2d));
+    when(batteryMonitor.thermalStatus()).thenReturn(PowerManager.THERMAL_STATUS_SEVERE);
+
+    fpsGovernor.onPowerStateChanged();
+
+    verify(mapView).setMaximumFps(eq(30));
+    verify(mapView).setMaximumFps(eq(15));
+  }
+
+  @Test
+  public void adjustFpsFor_fpsGovernorStartedOnce() {
+    MapView mapView = mock(MapView.class);
+    Context context = mock(Context.class);
+    when(mapView.getContext()).thenReturn(context);
+    MapBatteryMonitor batteryMonitor = mock(MapBatteryMonitor.class);
+    MapFpsGovernor fpsGovernor = new MapFpsGovernor(batteryMonitor);
+    MapFpsDelegate delegate = new MapFpsDelegate(mapView, fpsGovernor);
+    RouteProgress routeProgress = buildRouteProgressWith("straight");
+
+    delegate.adjustFpsFor(routeProgress);
+    delegate.adjustFpsFor(routeProgress);
+
+    verify(batteryMonitor, times(1)).start(context, fpsGovernor);
+  }
+
+  @Test
+  public void adjustFpsFor_mapBuiltAfterLifecycleStartSeesPluggedIn() {
+    MapView mapView = mock(MapView.class);
+    MapBatteryMonitor batteryMonitor = mock(MapBatteryMonitor.class);
+    final boolean[] isStarted = new boolean[1];
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) {
+        isStarted[0] = true;
+        return null;
+      }
+    }).when(batteryMonitor).start(any(), any(OnPowerStateChangedListener.class));
+    when(batteryMonitor.isPluggedIn()).thenAnswer(new Answer<Boolean>() {
+      @Override
+      public Boolean answer(InvocationOnMock invocation) {
+        return isStarted[0];
+      }
+    });
+    MapFpsDelegate delegate = new MapFpsDelegate(mapView, new MapFpsGovernor(batteryMonitor));
+
+    delegate.adjustFpsFor(buildRouteProgressWith("straight"));
+
+    verify(mapView).setMaximumFps(eq(30));
+  }
+
+  @Test
+  public void adjustFpsFor_unchangedFpsIsNotSetAgain() {
+    MapView mapView = mock(MapView.class);
+    MapFpsDelegate delegate = new MapFpsDelegate(mapView, buildFpsGovernor());
+    RouteProgress routeProgress = buildRouteProgressWith("straight");
+
+    delegate.adjustFpsFor(routeProgress);
+    delegate.adjustFpsFor(routeProgress);
+
+    verify(mapView, times(1)).setMaximumFps(eq(MapFpsDelegate.DEFAULT_MAX_FPS_THRESHOLD));
+  }
+
+  private MapFpsGovernor buildFpsGovernor() {
+    return new MapFpsGovernor(mock(MapBatteryMonitor.class));
+  }
+
   private RouteProgress buildRouteProgressWith(String maneuverModifier) {
     RouteProgress routeProgress = mock(RouteProgress.class);
     RouteLegProgress routeLegProgress = mock(RouteLegProgress.class);
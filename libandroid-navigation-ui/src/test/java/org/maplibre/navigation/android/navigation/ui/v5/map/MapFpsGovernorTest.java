@@ -0,0 +1,90 @@
+package org.maplibre.navigation.android.navigation.ui.v5.map;
+
+import android.os.PowerManager;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MapFpsGovernorTest {
+
+  @Test
+  public void capMapFps_withoutThermalStatusIsUnchanged() {
+    MapFpsGovernor fpsGovernor = new MapFpsGovernor(mock(MapBatteryMonitor.class));
+
+    assertEquals(30, fpsGovernor.capMapFps(30));
+    assertEquals(MapFpsGovernor.UNLIMITED_FPS, fpsGovernor.capAnimationFps(MapFpsGovernor.UNLIMITED_FPS));
+  }
+
+  @Test
+  public void capMapFps_tightensWithThermalStatus() {
+    MapBatteryMonitor batteryMonitor = mock(MapBatteryMonitor.class);
+    MapFpsGovernor fpsGovernor = new MapFpsGovernor(batteryMonitor);
+
+    when(batteryMonitor.thermalStatus()).thenReturn(PowerManager.THERMAL_STATUS_LIGHT);
+    int lightFps = fpsGovernor.capMapFps(MapFpsGovernor.UNLIMITED_FPS);
+    when(batteryMonitor.thermalStatus()).thenReturn(PowerManager.THERMAL_STATUS_SEVERE);
+    int severeFps = fpsGovernor.capMapFps(MapFpsGovernor.UNLIMITED_FPS);
+    when(batteryMonitor.thermalStatus()).thenReturn(PowerManager.THERMAL_STATUS_SHUTDOWN);
+    int shutdownFps = fpsGovernor.capMapFps(MapFpsGovernor.UNLIMITED_FPS);
+
+    assertEquals(30, lightFps);
+    assertEquals(15, severeFps);
+    assertEquals(10, shutdownFps);
+  }
+
+  @Test
+  public void capAnimationFps_tightensWithThermalStatus() {
+    MapBatteryMonitor batteryMonitor = mock(MapBatteryMonitor.class);
+    when(batteryMonitor.thermalStatus()).thenReturn(PowerManager.THERMAL_STATUS_MODERATE);
+    MapFpsGovernor fpsGovernor = new MapFpsGovernor(batteryMonitor);
+
+    assertEquals(15, fpsGovernor.capAnimationFps(25));
+    assertEquals(10, fpsGovernor.capAnimationFps(10));
+  }
+
+  @Test
+  public void updateFrameTime_slowFramesCapFps() {
+    MapFpsGovernor fpsGovernor = new MapFpsGovernor(mock(MapBatteryMonitor.class));
+
+    fpsGovernor.updateFrameTime(45d);
+
+    assertEquals(20, fpsGovernor.capMapFps(30));
+    assertEquals(20, fpsGovernor.capAnimationFps(MapFpsGovernor.UNLIMITED_FPS));
+  }
+
+  @Test
+  public void updateFrameTime_fastFramesDoNotCapFps() {
+    MapFpsGovernor fpsGovernor = new MapFpsGovernor(mock(MapBatteryMonitor.class));
+
+    fpsGovernor.updateFrameTime(16d);
+
+    assertEquals(30, fpsGovernor.capMapFps(30));
+  }
+
+  @Test
+  public void updateFrameTime_listenerNotifiedWhenCapChanges() {
+    MapFpsGovernor fpsGovernor = new MapFpsGovernor(mock(MapBatteryMonitor.class));
+    OnFpsPolicyChangedListener listener = mock(OnFpsPolicyChangedListener.class);
+    fpsGovernor.addOnFpsPolicyChangedListener(listener);
+
+    fpsGovernor.updateFrameTime(45d);
+
+    verify(listener).onFpsPolicyChanged();
+  }
+
+  @Test
+  public void updateFrameTime_listenerNotNotifiedWithoutCapChange() {
+    MapFpsGovernor fpsGovernor = new MapFpsGovernor(mock(MapBatteryMonitor.class));
+    OnFpsPolicyChangedListener listener = mock(OnFpsPolicyChangedListener.class);
+    fpsGovernor.addOnFpsPolicyChangedListener(listener);
+
+    fpsGovernor.updateFrameTime(16d);
+
+    verify(listener, never()).onFpsPolicyChanged();
+  }
+}
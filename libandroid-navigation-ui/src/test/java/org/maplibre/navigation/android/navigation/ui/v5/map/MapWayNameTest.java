@@ -2,6 +2,8 @@ package org.maplibre.navigation.android.navigation.ui.v5.map;
 
 import android.graphics.PointF;
 import android.location.Location;
+import android.os.Handler;
+import android.os.Looper;
 import androidx.annotation.NonNull;
 
 import org.maplibre.geojson.Feature;
@@ -15,10 +17,14 @@ import org.maplibre.navigation.android.navigation.ui.v5.map.MapPaddingAdjustor;
 import org.maplibre.navigation.android.navigation.ui.v5.map.MapWayName;
 import org.maplibre.navigation.android.navigation.ui.v5.map.OnWayNameChangedListener;
 import org.maplibre.navigation.android.navigation.ui.v5.map.WaynameFeatureFinder;
+import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteLegProgress;
+import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
+import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteStepProgress;
 import org.robolectric.RobolectricTestRunner;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import static junit.framework.Assert.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
@@ -26,6 +32,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.robolectric.Shadows.shadowOf;
 
 @RunWith(RobolectricTestRunner.class)
 public class MapWayNameTest {
@@ -92,6 +99,110 @@ public class MapWayNameTest {
     verify(waynameLayer, times(0)).setProperties(any(PropertyValue.class));
   }
 
+  @Test
+  public void onUpdateWaynameWithPoint_queryIsSkippedWhenUserHasNotMoved() {
+    WaynameFeatureFinder featureFinder = mock(WaynameFeatureFinder.class);
+    MapPaddingAdjustor paddingAdjustor = mock(MapPaddingAdjustor.class);
+    String[] layerIds = {"streetsLayer"};
+    PointF point = mock(PointF.class);
+    MapWayName mapWayName = new MapWayName(featureFinder, paddingAdjustor);
+    mapWayName.updateWayNameQueryMap(true);
+    mapWayName.updateProgress(buildLocation(0d), buildRouteProgress(0, 0d));
+
+    mapWayName.updateWayNameWithPoint(point);
+    mapWayName.updateProgress(buildLocation(0.00001d), buildRouteProgress(0, 1d));
+    mapWayName.updateWayNameWithPoint(point);
+
+    verify(featureFinder, times(1)).queryRenderedFeatures(point, layerIds);
+  }
+
+  @Test
+  public void onUpdateWaynameWithPoint_queryIsExecutedOnStepChange() {
+    WaynameFeatureFinder featureFinder = mock(WaynameFeatureFinder.class);
+    MapPaddingAdjustor paddingAdjustor = mock(MapPaddingAdjustor.class);
+    String[] layerIds = {"streetsLayer"};
+    PointF point = mock(PointF.class);
+    MapWayName mapWayName = new MapWayName(featureFinder, paddingAdjustor);
+    mapWayName.updateWayNameQueryMap(true);
+    mapWayName.updateProgress(buildLocation(0d), buildRouteProgress(0, 0d));
+
+    mapWayName.updateWayNameWithPoint(point);
+    mapWayName.updateProgress(buildLocation(0d), buildRouteProgress(1, 0d));
+    mapWayName.updateWayNameWithPoint(point);
+
+    verify(featureFinder, times(2)).queryRenderedFeatures(point, layerIds);
+  }
+
+  @Test
+  public void onUpdateWaynameWithPoint_queryIsExecutedWhenUserMovedBeyondThreshold() {
+    WaynameFeatureFinder featureFinder = mock(WaynameFeatureFinder.class);
+    MapPaddingAdjustor paddingAdjustor = mock(MapPaddingAdjustor.class);
+    String[] layerIds = {"streetsLayer"};
+    PointF point = mock(PointF.class);
+    MapWayName mapWayName = new MapWayName(featureFinder, paddingAdjustor);
+    mapWayName.updateWayNameQueryMap(true);
+    mapWayName.updateProgress(buildLocation(0d), buildRouteProgress(0, 0d));
+
+    mapWayName.updateWayNameWithPoint(point);
+    mapWayName.updateProgress(buildLocation(0.001d), buildRouteProgress(0, 20d));
+    mapWayName.updateWayNameWithPoint(point);
+
+    verify(featureFinder, times(2)).queryRenderedFeatures(point, layerIds);
+  }
+
+  @Test
+  public void onUpdateWaynameWithPoint_wayNameIsReusedOnSameSegment() {
+    PointF point = mock(PointF.class);
+    String[] layerIds = {"streetsLayer"};
+    WaynameFeatureFinder featureFinder = mock(WaynameFeatureFinder.class);
+    when(featureFinder.queryRenderedFeatures(point, layerIds)).thenReturn(buildRoadFeatureList("Main Street"));
+    MapWayName mapWayName = buildFilteringMapWayname(featureFinder);
+    OnWayNameChangedListener listener = mock(OnWayNameChangedListener.class);
+    mapWayName.addOnWayNameChangedListener(listener);
+    mapWayName.updateProgress(buildLocation(0d), buildRouteProgress(0, 0d));
+    mapWayName.updateWayNameWithPoint(point);
+    shadowOf(Looper.getMainLooper()).idle();
+
+    mapWayName.updateProgress(buildLocation(0.001d), buildRouteProgress(0, 20d));
+    mapWayName.updateWayNameWithPoint(point);
+
+    verify(featureFinder, times(1)).queryRenderedFeatures(point, layerIds);
+    verify(listener).onWayNameChanged("Main Street");
+  }
+
+  @Test
+  public void onUpdateWaynameWithPoint_emptyWayNameIsNotReused() {
+    PointF point = mock(PointF.class);
+    String[] layerIds = {"streetsLayer"};
+    List<Feature> roads = new ArrayList<>();
+    roads.add(mock(Feature.class));
+    WaynameFeatureFinder featureFinder = mock(WaynameFeatureFinder.class);
+    when(featureFinder.queryRenderedFeatures(point, layerIds)).thenReturn(roads);
+    MapWayName mapWayName = buildFilteringMapWayname(featureFinder);
+    mapWayName.updateProgress(buildLocation(0d), buildRouteProgress(0, 0d));
+    mapWayName.updateWayNameWithPoint(point);
+    shadowOf(Looper.getMainLooper()).idle();
+
+    mapWayName.updateProgress(buildLocation(0.001d), buildRouteProgress(0, 20d));
+    mapWayName.updateWayNameWithPoint(point);
+
+    verify(featureFinder, times(2)).queryRenderedFeatures(point, layerIds);
+  }
+
+  @NonNull
+  private MapWayName buildFilteringMapWayname(WaynameFeatureFinder featureFinder) {
+    Executor directExecutor = new Executor() {
+      @Override
+      public void execute(Runnable command) {
+        command.run();
+      }
+    };
+    MapWayName mapWayName = new MapWayName(featureFinder, mock(MapPaddingAdjustor.class), directExecutor,
+      new Handler(Looper.getMainLooper()));
+    mapWayName.updateWayNameQueryMap(true);
+    return mapWayName;
+  }
+
   @NonNull
   private MapWayName buildMapWayname(PointF point, List<Feature> roads) {
     String[] layerIds = {"streetsLayer"};
@@ -112,4 +223,27 @@ public class MapWayNameTest {
     roads.add(road);
     return roads;
   }
-}
\ No newline at end of file
+
+  @NonNull
+  private Location buildLocation(double latitude) {
+    Location location = new Location("test");
+    location.setLatitude(latitude);
+    location.setLongitude(0d);
+    return location;
+  }
+
+  @NonNull
+  private RouteProgress buildRouteProgress(int stepIndex, double stepDistanceTraveled) {
+    RouteProgress routeProgress = mock(RouteProgress.class);
+    RouteLegProgress legProgress = mock(RouteLegProgress.class);
+    RouteStepProgress stepProgress = mock(RouteStepProgress.class);
+    List<Point> stepPoints = new ArrayList<>();
+    stepPoints.add(mock(Point.class));
+    when(routeProgress.currentLegProgress()).thenReturn(legProgress);
+    when(routeProgress.currentStepPoints()).thenReturn(stepPoints);
+    when(legProgress.stepIndex()).thenReturn(stepIndex);
+    when(legProgress.currentStepProgress()).thenReturn(stepProgress);
+    when(stepProgress.distanceTraveled()).thenReturn(stepDistanceTraveled);
+    return routeProgress;
+  }
+}
@@ -15,6 +15,7 @@ import org.maplibre.navigation.android.navigation.v5.utils.RouteUtils;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static junit.framework.Assert.assertEquals;
@@ -25,6 +26,7 @@ import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 public class InstructionListPresenterTest extends BaseTest {
@@ -134,6 +136,81 @@ public class InstructionListPresenterTest extends BaseTest {
     assertFalse(didUpdate);
   }
 
+  @Test
+  public void updateBannerListWith_sameCurrentInstructionReturnsFalse() throws Exception {
+    RouteProgress routeProgress = buildRouteProgress();
+    RouteUtils routeUtils = buildRouteUtils(routeProgress);
+    DistanceFormatter distanceFormatter = mock(DistanceFormatter.class);
+    InstructionListPresenter presenter = new InstructionListPresenter(routeUtils, distanceFormatter);
+    presenter.updateBannerListWith(routeProgress);
+
+    boolean didUpdate = presenter.updateBannerListWith(routeProgress);
+
+    assertFalse(didUpdate);
+  }
+
+  @Test
+  public void updateBannerListWith_newLegRebuildsListWithoutCurrentInstruction() throws Exception {
+    DirectionsRoute route = buildMultiLegRoute();
+    RouteProgress firstLegProgress = buildRouteProgress(route, 100, 100, 100, 0, 0);
+    RouteUtils routeUtils = buildRouteUtils(firstLegProgress);
+    InstructionListPresenter presenter = new InstructionListPresenter(routeUtils, mock(DistanceFormatter.class));
+    presenter.updateBannerListWith(firstLegProgress);
+    RouteProgress secondLegProgress = buildRouteProgress(route, 100, 100, 100, 0, 1);
+    when(routeUtils.findCurrentBannerInstructions(any(LegStep.class), anyDouble())).thenReturn(null);
+
+    boolean didUpdate = presenter.updateBannerListWith(secondLegProgress);
+
+    assertTrue(didUpdate);
+    assertEquals(collectInstructionsFrom(route.legs().get(1)), presenter.retrieveBannerInstructions());
+  }
+
+  @Test
+  public void updateBannerListWith_newLegRebuildsListWithUnknownCurrentInstruction() throws Exception {
+    DirectionsRoute route = buildMultiLegRoute();
+    RouteProgress firstLegProgress = buildRouteProgress(route, 100, 100, 100, 0, 0);
+    RouteUtils routeUtils = buildRouteUtils(firstLegProgress);
+    InstructionListPresenter presenter = new InstructionListPresenter(routeUtils, mock(DistanceFormatter.class));
+    presenter.updateBannerListWith(firstLegProgress);
+    RouteProgress secondLegProgress = buildRouteProgress(route, 100, 100, 100, 0, 1);
+    BannerInstructions unknownInstructions = mock(BannerInstructions.class);
+    when(routeUtils.findCurrentBannerInstructions(any(LegStep.class), anyDouble())).thenReturn(unknownInstructions);
+
+    boolean didUpdate = presenter.updateBannerListWith(secondLegProgress);
+
+    assertTrue(didUpdate);
+    assertEquals(collectInstructionsFrom(route.legs().get(1)), presenter.retrieveBannerInstructions());
+  }
+
+  @Test
+  public void retrieveBannerInstructions_returnsCopyOfRemainingInstructions() throws Exception {
+    RouteProgress routeProgress = buildRouteProgress();
+    RouteUtils routeUtils = buildRouteUtils(routeProgress);
+    DistanceFormatter distanceFormatter = mock(DistanceFormatter.class);
+    InstructionListPresenter presenter = new InstructionListPresenter(routeUtils, distanceFormatter);
+    presenter.updateBannerListWith(routeProgress);
+
+    List<BannerInstructions> instructions = presenter.retrieveBannerInstructions();
+    instructions.clear();
+
+    assertEquals(retrieveInstructionSizeFrom(routeProgress.currentLeg()),
+      presenter.retrieveBannerInstructionListSize());
+  }
+
+  @Test
+  public void onBindInstructionListDistance_onlyDistanceTextIsUpdated() throws Exception {
+    SpannableString spannableString = mock(SpannableString.class);
+    RouteProgress routeProgress = buildRouteProgress();
+    InstructionListPresenter presenter = buildPresenter(spannableString, routeProgress);
+    presenter.updateBannerListWith(routeProgress);
+    InstructionListView listView = mock(InstructionListView.class);
+
+    presenter.onBindInstructionListDistance(presenter.retrieveBannerInstructions().get(FIRST), listView);
+
+    verify(listView).updateDistanceText(spannableString);
+    verifyNoMoreInteractions(listView);
+  }
+
   @Test
   public void updateDistanceFormatter_newFormatterIsUsed() throws Exception {
     RouteProgress routeProgress = buildRouteProgress();
@@ -212,6 +289,29 @@ public class InstructionListPresenterTest extends BaseTest {
     return instructions.size() - 1;
   }
 
+  @NonNull
+  private DirectionsRoute buildMultiLegRoute() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    RouteLeg firstLeg = route.legs().get(0);
+    List<LegStep> firstLegSteps = firstLeg.steps();
+    RouteLeg secondLeg = firstLeg.toBuilder()
+      .summary("second leg")
+      .steps(new ArrayList<>(firstLegSteps.subList(1, firstLegSteps.size())))
+      .build();
+    return route.toBuilder().legs(Arrays.asList(firstLeg, secondLeg)).build();
+  }
+
+  private List<BannerInstructions> collectInstructionsFrom(RouteLeg routeLeg) {
+    List<BannerInstructions> instructions = new ArrayList<>();
+    for (LegStep step : routeLeg.steps()) {
+      List<BannerInstructions> bannerInstructions = step.bannerInstructions();
+      if (bannerInstructions != null) {
+        instructions.addAll(bannerInstructions);
+      }
+    }
+    return instructions;
+  }
+
   private void clearInstructions(RouteProgress routeProgress) {
     for (LegStep step : routeProgress.currentLeg().steps()) {
       List<BannerInstructions> instructions = step.bannerInstructions();
@@ -1,17 +1,26 @@
 package org.maplibre.navigation.android.navigation.ui.v5.voice;
 
+import static junit.framework.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.maplibre.navigation.android.navigation.ui.v5.BaseTest;
 import org.maplibre.navigation.android.navigation.ui.v5.voice.AndroidSpeechPlayer;
 import org.maplibre.navigation.android.navigation.ui.v5.voice.NavigationSpeechPlayer;
 import org.maplibre.navigation.android.navigation.ui.v5.voice.SpeechAnnouncement;
 import org.maplibre.navigation.android.navigation.ui.v5.voice.SpeechPlayer;
 import org.maplibre.navigation.android.navigation.ui.v5.voice.SpeechPlayerProvider;
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
+import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
 
-public class NavigationSpeechPlayerTest {
+import java.util.List;
+
+public class NavigationSpeechPlayerTest extends BaseTest {
 
   @Test
   public void onPlayAnnouncement_androidSpeechPlayerIsGivenAnnouncement() {
@@ -54,9 +63,60 @@ public class NavigationSpeechPlayerTest {
     verify(provider).onOffRoute();
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void onCacheUpcomingAnnouncements_androidSpeechPlayerIsGivenUpcomingAnnouncements() throws Exception {
+    AndroidSpeechPlayer speechPlayer = mock(AndroidSpeechPlayer.class);
+    NavigationSpeechPlayer navigationSpeechPlayer = buildNavigationSpeechPlayer(speechPlayer);
+    DirectionsRoute route = buildTestDirectionsRoute();
+    RouteProgress routeProgress = buildRouteProgress(route, 100, 100, 100, 0, 0);
+    ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+
+    navigationSpeechPlayer.cacheUpcomingAnnouncements(routeProgress);
+
+    verify(speechPlayer).cacheUpcoming(captor.capture());
+    List<SpeechAnnouncement> announcements = captor.getValue();
+    assertEquals(4, announcements.size());
+    String expectedAnnouncement = route.legs().get(0).steps().get(0).voiceInstructions().get(2).announcement();
+    assertEquals(expectedAnnouncement, announcements.get(0).announcement());
+  }
+
+  @Test
+  public void onCacheUpcomingAnnouncementsOnSameStep_announcementsAreOnlyCachedOnce() throws Exception {
+    AndroidSpeechPlayer speechPlayer = mock(AndroidSpeechPlayer.class);
+    when(speechPlayer.cacheUpcoming(anyList())).thenReturn(true);
+    NavigationSpeechPlayer navigationSpeechPlayer = buildNavigationSpeechPlayer(speechPlayer);
+    DirectionsRoute route = buildTestDirectionsRoute();
+    RouteProgress routeProgress = buildRouteProgress(route, 100, 100, 100, 0, 0);
+
+    navigationSpeechPlayer.cacheUpcomingAnnouncements(routeProgress);
+    navigationSpeechPlayer.cacheUpcomingAnnouncements(buildRouteProgress(route, 50, 50, 50, 0, 0));
+    navigationSpeechPlayer.cacheUpcomingAnnouncements(buildRouteProgress(route, 50, 50, 50, 1, 0));
+
+    verify(speechPlayer, times(2)).cacheUpcoming(anyList());
+  }
+
+  @Test
+  public void onCacheUpcomingAnnouncementsBeforePlayerIsReady_announcementsAreCachedOnNextUpdate()
+    throws Exception {
+    AndroidSpeechPlayer speechPlayer = mock(AndroidSpeechPlayer.class);
+    when(speechPlayer.cacheUpcoming(anyList())).thenReturn(false, true);
+    NavigationSpeechPlayer navigationSpeechPlayer = buildNavigationSpeechPlayer(speechPlayer);
+    DirectionsRoute route = buildTestDirectionsRoute();
+
+    navigationSpeechPlayer.cacheUpcomingAnnouncements(buildRouteProgress(route, 100, 100, 100, 0, 0));
+    navigationSpeechPlayer.cacheUpcomingAnnouncements(buildRouteProgress(route, 50, 50, 50, 0, 0));
+    navigationSpeechPlayer.cacheUpcomingAnnouncements(buildRouteProgress(route, 40, 40, 40, 0, 0));
+
+    verify(speechPlayer, times(2)).cacheUpcoming(anyList());
+  }
+
   private NavigationSpeechPlayer buildNavigationSpeechPlayer(SpeechPlayer speechPlayer) {
     SpeechPlayerProvider provider = mock(SpeechPlayerProvider.class);
     when(provider.retrieveSpeechPlayer()).thenReturn(speechPlayer);
+    if (speechPlayer instanceof AndroidSpeechPlayer) {
+      when(provider.retrieveAndroidSpeechPlayer()).thenReturn((AndroidSpeechPlayer) speechPlayer);
+    }
     return new NavigationSpeechPlayer(provider);
   }
 }
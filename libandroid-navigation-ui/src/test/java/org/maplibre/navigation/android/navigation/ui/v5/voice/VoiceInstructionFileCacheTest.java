@@ -0,0 +1,128 @@
+package org.maplibre.navigation.android.navigation.ui.v5.voice;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class VoiceInstructionFileCacheTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void buildKey_differsByVoiceAndLocale() {
+    String key = VoiceInstructionFileCache.buildKey("Turn left", "voice", Locale.US);
+
+    assertEquals(key, VoiceInstructionFileCache.buildKey("Turn left", "voice", Locale.US));
+    assertFalse(key.equals(VoiceInstructionFileCache.buildKey("Turn left", "other", Locale.US)));
+    assertFalse(key.equals(VoiceInstructionFileCache.buildKey("Turn left", "voice", Locale.UK)));
+  }
+
+  @Test
+  public void commit_pendingFileIsRetrievable() throws Exception {
+    VoiceInstructionFileCache cache = buildCache();
+
+    synthesize(cache, "first", 10);
+
+    File file = cache.retrieve("first");
+    assertNotNull(file);
+    assertTrue(file.exists());
+    assertEquals(10, cache.sizeInBytes());
+  }
+
+  @Test
+  public void commit_leastRecentlyUsedFileIsEvicted() throws Exception {
+    VoiceInstructionFileCache cache = buildCache();
+    synthesize(cache, "first", 40);
+    synthesize(cache, "second", 40);
+    cache.retrieve("first");
+
+    synthesize(cache, "third", 40);
+
+    assertNotNull(cache.retrieve("first"));
+    assertNull(cache.retrieve("second"));
+    assertNotNull(cache.retrieve("third"));
+    assertEquals(80, cache.sizeInBytes());
+  }
+
+  @Test
+  public void discard_pendingFileIsNotCached() throws Exception {
+    VoiceInstructionFileCache cache = buildCache();
+    write(cache.obtainPendingFile("first"), 10);
+
+    cache.discard("first");
+
+    assertFalse(cache.commit("first"));
+    assertNull(cache.retrieve("first"));
+  }
+
+  @Test
+  public void onCreate_existingFilesAreLoaded() throws Exception {
+    VoiceInstructionFileCache cache = buildCache();
+    synthesize(cache, "first", 10);
+
+    VoiceInstructionFileCache reloadedCache = buildCache();
+
+    assertTrue(reloadedCache.contains("first"));
+    assertEquals(10, reloadedCache.sizeInBytes());
+  }
+
+  @Test
+  public void onCreate_existingFilesAreNotLoadedOnCallingThread() throws Exception {
+    VoiceInstructionFileCache cache = buildCache();
+    synthesize(cache, "first", 10);
+    final List<Runnable> loadTasks = new ArrayList<>();
+
+    VoiceInstructionFileCache reloadedCache = new VoiceInstructionFileCache(temporaryFolder.getRoot(), 100,
+      new Executor() {
+        @Override
+        public void execute(Runnable command) {
+          loadTasks.add(command);
+        }
+      });
+
+    assertFalse(reloadedCache.isLoaded());
+    assertFalse(reloadedCache.contains("first"));
+    loadTasks.get(0).run();
+    assertTrue(reloadedCache.isLoaded());
+    assertTrue(reloadedCache.contains("first"));
+  }
+
+  private VoiceInstructionFileCache buildCache() {
+    Executor directExecutor = new Executor() {
+      @Override
+      public void execute(Runnable command) {
+        command.run();
+      }
+    };
+    return new VoiceInstructionFileCache(temporaryFolder.getRoot(), 100, directExecutor);
+  }
+
+  private void synthesize(VoiceInstructionFileCache cache, String key, int sizeInBytes) throws IOException {
+    write(cache.obtainPendingFile(key), sizeInBytes);
+    cache.commit(key);
+  }
+
+  private void write(File file, int sizeInBytes) throws IOException {
+    FileOutputStream outputStream = new FileOutputStream(file);
+    try {
+      outputStream.write(new byte[sizeInBytes]);
+    } finally {
+      outputStream.close();
+    }
+  }
+}
@@ -0,0 +1,169 @@
+package org.maplibre.navigation.android.navigation.v5.location.replay;
+
+import android.location.Location;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+
+import timber.log.Timber;
+
+/**
+ * Reads the {@code locations} array of a replay JSON file one location at a time, instead of
+ * parsing the whole file upfront.
+ * <p>
+ * Files are memory-mapped and decoded through a small fixed buffer, so memory use doesn't grow
+ * with the length of the recording.
+ *
+ * @since 4.1.0
+ */
+public final class ReplayJsonLocationReader implements ReplayLocationSource {
+
+  private static final String LOCATIONS = "locations";
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+  private static final Gson GSON = new Gson();
+  private final JsonReader reader;
+  private boolean hasBegun;
+  private boolean isFinished;
+
+  ReplayJsonLocationReader(@NonNull InputStream inputStream) {
+    this.reader = new JsonReader(new InputStreamReader(inputStream, UTF_8));
+  }
+
+  /**
+   * Memory-maps the given replay JSON file to read its locations from.
+   *
+   * @param file with the replay JSON
+   * @return reader of the file locations, to be closed when no longer used
+   * @throws IOException if the file can't be opened
+   * @since 4.1.0
+   */
+  @NonNull
+  public static ReplayJsonLocationReader fromFile(@NonNull File file) throws IOException {
+    if (file.length() > Integer.MAX_VALUE) {
+      return new ReplayJsonLocationReader(new FileInputStream(file));
+    }
+    RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+    try {
+      FileChannel channel = randomAccessFile.getChannel();
+      ByteBuffer mappedFile = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      return new ReplayJsonLocationReader(new ByteBufferInputStream(mappedFile));
+    } finally {
+      randomAccessFile.close();
+    }
+  }
+
+  /**
+   * Reads the locations from the given stream of a replay JSON, for instance an asset.
+   *
+   * @param inputStream with the replay JSON, closed with this reader
+   * @return reader of the stream locations, to be closed when no longer used
+   * @since 4.1.0
+   */
+  @NonNull
+  public static ReplayJsonLocationReader fromStream(@NonNull InputStream inputStream) {
+    return new ReplayJsonLocationReader(inputStream);
+  }
+
+  @Nullable
+  @Override
+  public Location next() {
+    if (isFinished) {
+      return null;
+    }
+    try {
+      if (!hasBegun) {
+        hasBegun = true;
+        if (!beginLocations()) {
+          isFinished = true;
+          return null;
+        }
+      }
+      if (!reader.hasNext()) {
+        isFinished = true;
+        return null;
+      }
+      ReplayLocationDto replayLocation = GSON.fromJson(reader, ReplayLocationDto.class);
+      return ReplayJsonRouteLocationMapper.toLocation(replayLocation);
+    } catch (IOException | JsonParseException | IllegalStateException exception) {
+      Timber.e(exception, "Unable to read the next replay location.");
+      isFinished = true;
+      return null;
+    }
+  }
+
+  @Override
+  public void close() {
+    isFinished = true;
+    try {
+      reader.close();
+    } catch (IOException exception) {
+      Timber.e(exception, "Unable to close the replay JSON.");
+    }
+  }
+
+  /**
+   * Skips the values before the locations array and opens it.
+   *
+   * @return true if the locations array has been found
+   */
+  private boolean beginLocations() throws IOException {
+    reader.beginObject();
+    while (reader.hasNext()) {
+      if (LOCATIONS.equals(reader.nextName()) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+        reader.beginArray();
+        return true;
+      }
+      reader.skipValue();
+    }
+    return false;
+  }
+
+  private static class ByteBufferInputStream extends InputStream {
+
+    private static final int END_OF_STREAM = -1;
+    private static final int BYTE_MASK = 0xFF;
+    private final ByteBuffer buffer;
+
+    ByteBufferInputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & BYTE_MASK : END_OF_STREAM;
+    }
+
+    @Override
+    public int read(@NonNull byte[] bytes, int offset, int length) {
+      if (length == 0) {
+        return 0;
+      }
+      if (!buffer.hasRemaining()) {
+        return END_OF_STREAM;
+      }
+      int count = Math.min(length, buffer.remaining());
+      buffer.get(bytes, offset, count);
+      return count;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
+  }
+}
@@ -4,6 +4,7 @@ import android.location.Location;
 import android.os.Handler;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -13,8 +14,11 @@ class ReplayLocationDispatcher implements Runnable {
 
   private static final String NON_NULL_AND_NON_EMPTY_LOCATION_LIST_REQUIRED = "Non-null and non-empty location list "
     + "required.";
+  private static final String NON_EMPTY_LOCATION_SOURCE_REQUIRED = "Non-empty location source required.";
   private static final int HEAD = 0;
   private List<Location> locationsToReplay;
+  @Nullable
+  private ReplayLocationSource locationSource;
   private Location current;
   private Handler handler;
   private CopyOnWriteArraySet<ReplayLocationListener> replayLocationListeners;
@@ -36,6 +40,26 @@ class ReplayLocationDispatcher implements Runnable {
     this.handler = handler;
   }
 
+  /**
+   * Replays the locations of the given source, pulling the next one only when the previous one
+   * is dispatched. Locations added with {@link #add(List)} are replayed after the source.
+   */
+  ReplayLocationDispatcher(@NonNull ReplayLocationSource locationSource) {
+    this(locationSource, new Handler());
+  }
+
+  ReplayLocationDispatcher(@NonNull ReplayLocationSource locationSource, Handler handler) {
+    this.locationsToReplay = new CopyOnWriteArrayList<>();
+    this.locationSource = locationSource;
+    this.current = locationSource.next();
+    if (current == null) {
+      closeLocationSource();
+      throw new IllegalArgumentException(NON_EMPTY_LOCATION_SOURCE_REQUIRED);
+    }
+    this.replayLocationListeners = new CopyOnWriteArraySet<>();
+    this.handler = handler;
+  }
+
   @Override
   public void run() {
     dispatchLocation(current);
@@ -43,6 +67,7 @@ class ReplayLocationDispatcher implements Runnable {
   }
 
   void stop() {
+    closeLocationSource();
     clearLocations();
     stopDispatching();
   }
@@ -53,12 +78,13 @@ class ReplayLocationDispatcher implements Runnable {
 
   void update(@NonNull List<Location> locationsToReplay) {
     checkValidInput(locationsToReplay);
+    closeLocationSource();
     this.locationsToReplay = new CopyOnWriteArrayList<>(locationsToReplay);
     initialize();
   }
 
   void add(@NonNull List<Location> toReplay) {
-    boolean shouldRedispatch = locationsToReplay.isEmpty();
+    boolean shouldRedispatch = locationSource == null && locationsToReplay.isEmpty();
     addLocations(toReplay);
     if (shouldRedispatch) {
       stopDispatching();
@@ -96,17 +122,40 @@ class ReplayLocationDispatcher implements Runnable {
   }
 
   private void scheduleNextDispatch() {
-    if (locationsToReplay.isEmpty()) {
+    Location next = nextLocation();
+    if (next == null) {
       stopDispatching();
       return;
     }
     long currentTime = current.getTime();
-    current = locationsToReplay.remove(HEAD);
+    current = next;
     long nextTime = current.getTime();
     long diff = nextTime - currentTime;
     handler.postDelayed(this, diff);
   }
 
+  @Nullable
+  private Location nextLocation() {
+    if (locationSource != null) {
+      Location next = locationSource.next();
+      if (next != null) {
+        return next;
+      }
+      closeLocationSource();
+    }
+    if (locationsToReplay.isEmpty()) {
+      return null;
+    }
+    return locationsToReplay.remove(HEAD);
+  }
+
+  private void closeLocationSource() {
+    if (locationSource != null) {
+      locationSource.close();
+      locationSource = null;
+    }
+  }
+
   private void clearLocations() {
     locationsToReplay.clear();
   }
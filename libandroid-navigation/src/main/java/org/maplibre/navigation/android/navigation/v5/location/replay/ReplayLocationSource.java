@@ -0,0 +1,36 @@
+package org.maplibre.navigation.android.navigation.v5.location.replay;
+
+import android.location.Location;
+
+import androidx.annotation.Nullable;
+
+import java.io.Closeable;
+
+/**
+ * Provides the locations of a replay one at a time, so a replay can begin before all of its
+ * locations are read and doesn't need to keep them in memory.
+ * <p>
+ * Locations are pulled by {@link ReplayRouteLocationEngine} when the previous one is dispatched
+ * and have to be returned in the order of their {@link Location#getTime()}.
+ *
+ * @since 4.1.0
+ */
+public interface ReplayLocationSource extends Closeable {
+
+  /**
+   * Reads the next location of the replay.
+   *
+   * @return the next location, or null if there are no more locations
+   * @since 4.1.0
+   */
+  @Nullable
+  Location next();
+
+  /**
+   * Releases the resources of this source, no locations are returned after it's been closed.
+   *
+   * @since 4.1.0
+   */
+  @Override
+  void close();
+}
@@ -6,10 +6,12 @@ import org.maplibre.geojson.LineString;
 import org.maplibre.geojson.Point;
 import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
 import org.maplibre.navigation.android.navigation.v5.utils.Constants;
+import org.maplibre.navigation.android.navigation.v5.utils.PackedLineString;
 import org.maplibre.turf.TurfConstants;
 import org.maplibre.turf.TurfMeasurement;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -19,6 +21,9 @@ class ReplayRouteLocationConverter {
     private static final double ONE_KM_IN_METERS = 1000d;
     private static final int ONE_HOUR_IN_SECONDS = 3600;
     private static final String REPLAY_ROUTE = "ReplayRouteLocation";
+    private static final int INITIAL_BUFFER_CAPACITY = 64;
+    private static final double MANEUVER_SPEED_IN_METERS_PER_SECOND = 15 * ONE_KM_IN_METERS / ONE_HOUR_IN_SECONDS;
+    private static final double ACCELERATION_IN_METERS_PER_SECOND_SQUARED = 1.5;
     private DirectionsRoute route;
     private int speed;
     private int delay;
@@ -26,6 +31,10 @@ class ReplayRouteLocationConverter {
     private int currentLeg;
     private int currentStep;
     private long time;
+    private boolean isManeuverSpeedProfileEnabled;
+    private final List<Point> slicedPoints = new ArrayList<>(INITIAL_BUFFER_CAPACITY);
+    private float[] slicedBearings = new float[INITIAL_BUFFER_CAPACITY];
+    private float[] slicedSpeeds = new float[INITIAL_BUFFER_CAPACITY];
 
     ReplayRouteLocationConverter(DirectionsRoute route, int speed, int delay) {
         initialize();
@@ -37,17 +46,39 @@ class ReplayRouteLocationConverter {
 
     void updateSpeed(int customSpeedInKmPerHour) {
         this.speed = customSpeedInKmPerHour;
+        this.distance = calculateDistancePerSec();
     }
 
     void updateDelay(int customDelayInSeconds) {
         this.delay = customDelayInSeconds;
+        this.distance = calculateDistancePerSec();
+    }
+
+    /**
+     * If enabled, the replayed speed decelerates towards each maneuver and accelerates again after it,
+     * instead of driving the whole route at a constant speed.
+     */
+    void updateManeuverSpeedProfile(boolean isEnabled) {
+        this.isManeuverSpeedProfileEnabled = isEnabled;
     }
 
     List<Location> toLocations() {
-        List<Point> stepPoints = calculateStepPoints();
-        List<Location> mockedLocations = calculateMockLocations(stepPoints);
+        LineString line = LineString.fromLngLats(PackedLineString.fromPolyline(
+                route.legs().get(currentLeg).steps().get(currentStep).geometry(), Constants.PRECISION_6));
+        increaseIndex();
+        int count = slice(line, isManeuverSpeedProfileEnabled);
+        return createMockLocations(count);
+    }
 
-        return mockedLocations;
+    /**
+     * Interpolates the given line into evenly spaced locations, driven at the constant replay speed.
+     *
+     * @param lineString to be replayed
+     * @return list of mocked {@link Location}s along the line
+     */
+    List<Location> toLocations(LineString lineString) {
+        int count = slice(lineString, false);
+        return createMockLocations(count);
     }
 
     boolean isMultiLegRoute() {
@@ -58,6 +89,10 @@ class ReplayRouteLocationConverter {
         time = System.currentTimeMillis();
     }
 
+    void initializeTime(long startTime) {
+        time = startTime;
+    }
+
     /**
      * Interpolates the route into even points along the route and adds these to the points list.
      *
@@ -65,38 +100,86 @@ class ReplayRouteLocationConverter {
      * @return list of sliced {@link Point}s.
      */
     List<Point> sliceRoute(LineString lineString) {
-        if (lineString == null || lineString.coordinates().isEmpty()) {
+        int count = slice(lineString, false);
+        if (count == 0) {
             return Collections.emptyList();
         }
+        return new ArrayList<>(slicedPoints);
+    }
 
-        double distanceMeters = TurfMeasurement.length(lineString, TurfConstants.UNIT_METERS);
-        if (distanceMeters <= 0) {
-            return Collections.emptyList();
+    /**
+     * Walks the line once from start to end, emitting a point every time the replayed vehicle would
+     * have moved for one delay interval. Each point gets the bearing of the segment it lies on and the
+     * speed it is driven at. Results are written to the reusable sliced buffers.
+     *
+     * @return the number of points written to the buffers
+     */
+    private int slice(LineString lineString, boolean applySpeedProfile) {
+        slicedPoints.clear();
+        if (lineString == null || lineString.coordinates().isEmpty() || distance <= 0) {
+            return 0;
         }
-
-        List<Point> points = new ArrayList<>();
-        for (double i = 0; i < distanceMeters; i += distance) {
-            Point point = TurfMeasurement.along(lineString, i, TurfConstants.UNIT_METERS);
-            points.add(point);
+        List<Point> coordinates = lineString.coordinates();
+        double lineLength = applySpeedProfile ? TurfMeasurement.length(lineString, TurfConstants.UNIT_METERS) : 0;
+        double cruiseSpeed = (speed * ONE_KM_IN_METERS) / ONE_HOUR_IN_SECONDS;
+
+        double target = 0;
+        double segmentStart = 0;
+        for (int i = 0; i < coordinates.size() - 1; i++) {
+            Point from = coordinates.get(i);
+            Point to = coordinates.get(i + 1);
+            double segmentLength = TurfMeasurement.distance(from, to, TurfConstants.UNIT_METERS);
+            double segmentEnd = segmentStart + segmentLength;
+            if (target < segmentEnd) {
+                double bearing = TurfMeasurement.bearing(from, to);
+                while (target < segmentEnd) {
+                    double speedAtTarget = applySpeedProfile
+                            ? calculateProfileSpeed(target, lineLength, cruiseSpeed) : cruiseSpeed;
+                    Point point = target == segmentStart ? from
+                            : TurfMeasurement.destination(from, target - segmentStart, bearing, TurfConstants.UNIT_METERS);
+                    addSlicedPoint(point, (float) bearing, (float) speedAtTarget);
+                    target += applySpeedProfile ? speedAtTarget * delay : distance;
+                }
+            }
+            segmentStart = segmentEnd;
         }
-        return points;
+        return slicedPoints.size();
     }
 
-    List<Location> calculateMockLocations(List<Point> points) {
-        List<Location> mockedLocations = new ArrayList<>();
-        for(int i = 0; i < points.size(); i++){
-            Location mockedLocation = createMockLocationFrom(points.get(i));
+    /**
+     * Speed limited by accelerating away from the start of the step and decelerating towards the
+     * maneuver at its end, never exceeding the cruise speed.
+     */
+    private double calculateProfileSpeed(double distanceAlong, double lineLength, double cruiseSpeed) {
+        double minimumSpeed = Math.min(MANEUVER_SPEED_IN_METERS_PER_SECOND, cruiseSpeed);
+        double minimumSpeedSquared = minimumSpeed * minimumSpeed;
+        double distanceRemaining = Math.max(0, lineLength - distanceAlong);
+        double accelerationSpeed = Math.sqrt(minimumSpeedSquared
+                + 2 * ACCELERATION_IN_METERS_PER_SECOND_SQUARED * distanceAlong);
+        double decelerationSpeed = Math.sqrt(minimumSpeedSquared
+                + 2 * ACCELERATION_IN_METERS_PER_SECOND_SQUARED * distanceRemaining);
+        return Math.min(cruiseSpeed, Math.min(accelerationSpeed, decelerationSpeed));
+    }
 
-            if (i - 1 >= 0) {
-                double bearing = TurfMeasurement.bearing(points.get(i - 1), points.get(i));
-                mockedLocation.setBearing((float) bearing);
-            }else{
-                mockedLocation.setBearing(0);
-            }
+    private void addSlicedPoint(Point point, float bearing, float speedInMetersPerSec) {
+        int index = slicedPoints.size();
+        if (index == slicedBearings.length) {
+            slicedBearings = Arrays.copyOf(slicedBearings, index * 2);
+            slicedSpeeds = Arrays.copyOf(slicedSpeeds, index * 2);
+        }
+        slicedPoints.add(point);
+        slicedBearings[index] = bearing;
+        slicedSpeeds[index] = speedInMetersPerSec;
+    }
+
+    private List<Location> createMockLocations(int count) {
+        List<Location> mockedLocations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Location mockedLocation = createMockLocationFrom(slicedPoints.get(i), slicedSpeeds[i]);
+            mockedLocation.setBearing(slicedBearings[i]);
             time += delay * ONE_SECOND_IN_MILLISECONDS;
             mockedLocations.add(mockedLocation);
         }
-
         return mockedLocations;
     }
 
@@ -119,17 +202,6 @@ class ReplayRouteLocationConverter {
         this.currentStep = 0;
     }
 
-    private List<Point> calculateStepPoints() {
-        List<Point> stepPoints = new ArrayList<>();
-
-        LineString line = LineString.fromPolyline(
-                route.legs().get(currentLeg).steps().get(currentStep).geometry(), Constants.PRECISION_6);
-        stepPoints.addAll(sliceRoute(line));
-        increaseIndex();
-
-        return stepPoints;
-    }
-
     private void increaseIndex() {
         if (currentStep < route.legs().get(currentLeg).steps().size() - 1) {
             currentStep++;
@@ -139,11 +211,10 @@ class ReplayRouteLocationConverter {
         }
     }
 
-    private Location createMockLocationFrom(Point point) {
+    private Location createMockLocationFrom(Point point, float speedInMetersPerSec) {
         Location mockedLocation = new Location(REPLAY_ROUTE);
         mockedLocation.setLatitude(point.latitude());
         mockedLocation.setLongitude(point.longitude());
-        float speedInMetersPerSec = (float) ((speed * ONE_KM_IN_METERS) / ONE_HOUR_IN_SECONDS);
         mockedLocation.setSpeed(speedInMetersPerSec);
         mockedLocation.setAccuracy(3f);
         mockedLocation.setTime(time);
@@ -38,6 +38,7 @@ public class ReplayRouteLocationEngine implements LocationEngine, Runnable {
     private ReplayRouteLocationConverter converter;
     private int speed = DEFAULT_SPEED;
     private int delay = DEFAULT_DELAY;
+    private boolean isManeuverSpeedProfileEnabled;
     private Handler handler;
     private List<Location> mockedLocations;
     private ReplayLocationDispatcher dispatcher;
@@ -66,6 +67,21 @@ public class ReplayRouteLocationEngine implements LocationEngine, Runnable {
         start(route);
     }
 
+    /**
+     * Replays the locations of the given source, for instance a {@link ReplayJsonLocationReader},
+     * with the time between them as recorded. Locations are read from the source while replaying,
+     * which is closed when the replay ends or is replaced.
+     *
+     * @param locationSource with the locations to replay
+     * @since 4.1.0
+     */
+    public void assign(@NonNull ReplayLocationSource locationSource) {
+        handler.removeCallbacks(this);
+        mockedLocations = new ArrayList<>();
+        dispatcher = obtainDispatcher(locationSource);
+        dispatcher.run();
+    }
+
     @SuppressLint("MissingPermission")
     public void moveTo(Point point) {
         Location lastLocation = getLastLocation();
@@ -96,6 +112,17 @@ public class ReplayRouteLocationEngine implements LocationEngine, Runnable {
         this.delay = customDelayInSeconds;
     }
 
+    /**
+     * Decelerates the replayed location towards each maneuver and accelerates again after it,
+     * instead of replaying the whole route at a constant speed. Disabled by default and applied
+     * to the next assigned route.
+     *
+     * @param isEnabled true to vary the speed around maneuvers
+     */
+    public void updateManeuverSpeedProfile(boolean isEnabled) {
+        this.isManeuverSpeedProfileEnabled = isEnabled;
+    }
+
     @Override
     public void run() {
         List<Location> nextMockedLocations = converter.toLocations();
@@ -115,6 +142,7 @@ public class ReplayRouteLocationEngine implements LocationEngine, Runnable {
     private void start(DirectionsRoute route) {
         handler.removeCallbacks(this);
         converter = new ReplayRouteLocationConverter(route, speed, delay);
+        converter.updateManeuverSpeedProfile(isManeuverSpeedProfileEnabled);
         converter.initializeTime();
         mockedLocations = converter.toLocations();
         dispatcher = obtainDispatcher();
@@ -123,23 +151,38 @@ public class ReplayRouteLocationEngine implements LocationEngine, Runnable {
     }
 
     private ReplayLocationDispatcher obtainDispatcher() {
-        if (dispatcher != null) {
-            dispatcher.stop();
-            dispatcher.removeReplayLocationListener(replayLocationListener);
-        }
+        stopDispatcher();
         dispatcher = new ReplayLocationDispatcher(mockedLocations);
         dispatcher.addReplayLocationListener(replayLocationListener);
 
         return dispatcher;
     }
 
+    private ReplayLocationDispatcher obtainDispatcher(ReplayLocationSource locationSource) {
+        stopDispatcher();
+        dispatcher = new ReplayLocationDispatcher(locationSource);
+        dispatcher.addReplayLocationListener(replayLocationListener);
+
+        return dispatcher;
+    }
+
+    private void stopDispatcher() {
+        if (dispatcher != null) {
+            dispatcher.stop();
+            dispatcher.removeReplayLocationListener(replayLocationListener);
+        }
+    }
+
     private void startRoute(Point point, Location lastLocation) {
         handler.removeCallbacks(this);
+        if (converter == null) {
+            converter = new ReplayRouteLocationConverter(null, speed, delay);
+        }
         converter.updateSpeed(speed);
         converter.updateDelay(delay);
         converter.initializeTime();
         LineString route = obtainRoute(point, lastLocation);
-        mockedLocations = converter.calculateMockLocations(converter.sliceRoute(route));
+        mockedLocations = converter.toLocations(route);
         dispatcher = obtainDispatcher();
         dispatcher.run();
     }
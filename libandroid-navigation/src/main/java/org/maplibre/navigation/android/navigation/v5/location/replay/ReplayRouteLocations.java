@@ -0,0 +1,48 @@
+package org.maplibre.navigation.android.navigation.v5.location.replay;
+
+import android.location.Location;
+
+import androidx.annotation.NonNull;
+
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
+import org.maplibre.navigation.android.navigation.v5.models.RouteLeg;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts a whole {@link DirectionsRoute} into the locations {@link ReplayRouteLocationEngine}
+ * would replay along it, without dispatching them in real time.
+ * <p>
+ * Useful to drive simulations or tests that process the locations as fast as possible.
+ *
+ * @since 4.1.0
+ */
+public final class ReplayRouteLocations {
+
+  private ReplayRouteLocations() {
+    // Utility class
+  }
+
+  /**
+   * @param route            to convert
+   * @param speedInKmPerHour constant speed driven along the route
+   * @param delayInSeconds   time between two locations
+   * @param startTime        time of the first location in milliseconds
+   * @return all locations along the route, from origin to destination
+   * @since 4.1.0
+   */
+  @NonNull
+  public static List<Location> fromRoute(@NonNull DirectionsRoute route, int speedInKmPerHour,
+                                         int delayInSeconds, long startTime) {
+    ReplayRouteLocationConverter converter = new ReplayRouteLocationConverter(route, speedInKmPerHour, delayInSeconds);
+    converter.initializeTime(startTime);
+    List<Location> locations = new ArrayList<>();
+    for (RouteLeg leg : route.legs()) {
+      for (int i = 0; i < leg.steps().size(); i++) {
+        locations.addAll(converter.toLocations());
+      }
+    }
+    return locations;
+  }
+}
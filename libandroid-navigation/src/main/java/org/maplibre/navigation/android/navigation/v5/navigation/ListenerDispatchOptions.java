@@ -0,0 +1,110 @@
+package org.maplibre.navigation.android.navigation.v5.navigation;
+
+import androidx.annotation.Nullable;
+
+import com.google.auto.value.AutoValue;
+import org.maplibre.navigation.android.navigation.v5.milestone.MilestoneEventListener;
+import org.maplibre.navigation.android.navigation.v5.offroute.OffRouteListener;
+import org.maplibre.navigation.android.navigation.v5.routeprogress.ProgressChangeListener;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Options describing how events are delivered to a single {@link ProgressChangeListener},
+ * {@link MilestoneEventListener} or {@link OffRouteListener}.
+ * <p>
+ * Listeners added without options are invoked synchronously for every event, on the thread events
+ * are dispatched on: the main thread for {@link MapLibreNavigation}, the simulation thread for
+ * {@link NavigationSimulator} and a pool worker for {@link NavigationSession}. Listeners which
+ * only need a lower update rate or step granularity, or which do expensive work, can be
+ * registered with options to throttle, filter and move their delivery to another thread.
+ *
+ * @since 4.1.0
+ */
+@AutoValue
+public abstract class ListenerDispatchOptions {
+
+  private static final Executor BACKGROUND_EXECUTOR = Executors.newSingleThreadExecutor();
+
+  /**
+   * The executor events are delivered on. If null, events are delivered synchronously on the
+   * dispatching thread, the same way as for listeners added without options.
+   *
+   * @return the executor events are delivered on, or null for the dispatching thread
+   * @since 4.1.0
+   */
+  @Nullable
+  public abstract Executor executor();
+
+  /**
+   * Minimum time in milliseconds between two deliveries. Events arriving sooner are dropped,
+   * except for the first event on a new step, which is always delivered. The time is taken from
+   * the processed locations, so simulated locations are throttled on the simulated clock.
+   *
+   * @return minimum interval between deliveries, 0 to deliver every event
+   * @since 4.1.0
+   */
+  public abstract long minimumIntervalInMillis();
+
+  /**
+   * If true, events are only delivered when the route, leg or step index changed since the last
+   * delivery. Off-route events do not carry a route progress and are not filtered.
+   *
+   * @return true if only step changes are delivered
+   * @since 4.1.0
+   */
+  public abstract boolean distinctByStep();
+
+  public abstract Builder toBuilder();
+
+  @AutoValue.Builder
+  public abstract static class Builder {
+
+    /**
+     * The executor events are delivered on, or null (the default) for the dispatching thread.
+     *
+     * @param executor to deliver events on
+     * @return this builder for chaining options together
+     * @since 4.1.0
+     */
+    public abstract Builder executor(@Nullable Executor executor);
+
+    /**
+     * Delivers events on a background thread shared by all listeners registered this way. Events
+     * are delivered in order.
+     *
+     * @return this builder for chaining options together
+     * @since 4.1.0
+     */
+    public Builder deliverOnBackgroundThread() {
+      return executor(BACKGROUND_EXECUTOR);
+    }
+
+    /**
+     * Minimum time in milliseconds between two deliveries, 0 (the default) to deliver every event.
+     *
+     * @param minimumIntervalInMillis minimum interval between deliveries
+     * @return this builder for chaining options together
+     * @since 4.1.0
+     */
+    public abstract Builder minimumIntervalInMillis(long minimumIntervalInMillis);
+
+    /**
+     * Only deliver events when the route, leg or step index changed. Defaults to false.
+     *
+     * @param distinctByStep true to only deliver step changes
+     * @return this builder for chaining options together
+     * @since 4.1.0
+     */
+    public abstract Builder distinctByStep(boolean distinctByStep);
+
+    public abstract ListenerDispatchOptions build();
+  }
+
+  public static Builder builder() {
+    return new AutoValue_ListenerDispatchOptions.Builder()
+      .minimumIntervalInMillis(0)
+      .distinctByStep(false);
+  }
+}
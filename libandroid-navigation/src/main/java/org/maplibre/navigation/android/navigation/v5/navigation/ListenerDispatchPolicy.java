@@ -0,0 +1,74 @@
+package org.maplibre.navigation.android.navigation.v5.navigation;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
+import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Applies {@link ListenerDispatchOptions} to the events of a single listener and keeps the state
+ * needed to throttle and filter them.
+ * <p>
+ * Events are throttled on the time of the processed locations rather than on the system clock, so
+ * that simulated and replayed locations are throttled on their own clock. If that time goes back,
+ * the next event is delivered.
+ * <p>
+ * The events of a navigation are dispatched from one thread at a time: the main thread, the
+ * {@link NavigationSimulator} thread or the worker running a {@link NavigationSession}. The state
+ * is therefore not synchronized.
+ */
+class ListenerDispatchPolicy {
+
+  private final ListenerDispatchOptions options;
+  private DirectionsRoute lastRoute;
+  private int lastLegIndex = -1;
+  private int lastStepIndex = -1;
+  private long lastDeliveryTime;
+  private boolean hasDelivered;
+
+  ListenerDispatchPolicy(@NonNull ListenerDispatchOptions options) {
+    this.options = options;
+  }
+
+  void dispatch(@Nullable RouteProgress routeProgress, @NonNull Runnable event, long now) {
+    if (!shouldDeliver(routeProgress, now)) {
+      return;
+    }
+    hasDelivered = true;
+    lastDeliveryTime = now;
+    Executor executor = options.executor();
+    if (executor == null) {
+      event.run();
+    } else {
+      executor.execute(event);
+    }
+  }
+
+  private boolean shouldDeliver(@Nullable RouteProgress routeProgress, long now) {
+    boolean isNewStep = routeProgress != null && updateStep(routeProgress);
+    if (options.distinctByStep() && routeProgress != null && !isNewStep) {
+      return false;
+    }
+    boolean isWithinInterval = hasDelivered && now >= lastDeliveryTime
+      && now - lastDeliveryTime < options.minimumIntervalInMillis();
+    return isNewStep || !isWithinInterval;
+  }
+
+  private boolean updateStep(@NonNull RouteProgress routeProgress) {
+    int legIndex = routeProgress.legIndex();
+    int stepIndex = routeProgress.currentLegProgress().stepIndex();
+    boolean isSameStep = lastRoute == routeProgress.directionsRoute()
+      && lastLegIndex == legIndex
+      && lastStepIndex == stepIndex;
+    if (isSameStep) {
+      return false;
+    }
+    lastRoute = routeProgress.directionsRoute();
+    lastLegIndex = legIndex;
+    lastStepIndex = stepIndex;
+    return true;
+  }
+}
@@ -57,6 +57,8 @@ public class MapLibreNavigation implements ServiceConnection {
   private Set<Milestone> milestones;
   private Context applicationContext;
   private boolean isBound;
+  @Nullable
+  private volatile NavigationFlightRecorder flightRecorder;
 
   /**
    * Constructs a new instance of this class using the default options. This should be used over
@@ -125,6 +127,12 @@ public class MapLibreNavigation implements ServiceConnection {
     initialize();
   }
 
+  // Package private (no modifier) for headless sessions, which never start the navigation service
+  MapLibreNavigation(@NonNull MapLibreNavigationOptions options) {
+    this.options = options;
+    initialize();
+  }
+
   /**
    * In-charge of initializing all variables needed to begin a navigation session. Many values can
    * be changed later on using their corresponding setter. An internal progressChangeListeners used
@@ -134,7 +142,9 @@ public class MapLibreNavigation implements ServiceConnection {
     // Initialize event dispatcher and add internal listeners
     navigationEventDispatcher = new NavigationEventDispatcher();
     navigationEngineFactory = new NavigationEngineFactory();
-    initializeDefaultLocationEngine();
+    if (applicationContext != null) {
+      initializeDefaultLocationEngine();
+    }
 
     // Create and add default milestones if enabled.
     milestones = new HashSet<>();
@@ -364,6 +374,10 @@ public class MapLibreNavigation implements ServiceConnection {
    */
   public void stopNavigation() {
     Timber.d("MapLibreNavigation stopNavigation called");
+    NavigationFlightRecorder flightRecorder = this.flightRecorder;
+    if (flightRecorder != null) {
+      flightRecorder.flush();
+    }
     if (isServiceAvailable()) {
       applicationContext.unbindService(this);
       isBound = false;
@@ -395,6 +409,25 @@ public class MapLibreNavigation implements ServiceConnection {
     navigationEventDispatcher.addMilestoneEventListener(milestoneEventListener);
   }
 
+  /**
+   * This adds a new milestone event listener which is invoked according to the given
+   * {@link ListenerDispatchOptions}, for example on a background executor.
+   * <p>
+   * Note that throttling or filtering by step may drop milestones which are triggered close to
+   * each other.
+   * </p>
+   *
+   * @param milestoneEventListener an implementation of {@code MilestoneEventListener} which hasn't
+   *                               already been added
+   * @param options                describing how events are delivered to this listener
+   * @see #addMilestoneEventListener(MilestoneEventListener)
+   * @since 4.1.0
+   */
+  public void addMilestoneEventListener(@NonNull MilestoneEventListener milestoneEventListener,
+                                        @NonNull ListenerDispatchOptions options) {
+    navigationEventDispatcher.addMilestoneEventListener(milestoneEventListener, options);
+  }
+
   /**
    * This removes a specific milestone event listener by passing in the instance of it or you can
    * pass in null to remove all the listeners. When {@link #onDestroy()} is called, all listeners
@@ -431,6 +464,25 @@ public class MapLibreNavigation implements ServiceConnection {
     navigationEventDispatcher.addProgressChangeListener(progressChangeListener);
   }
 
+  /**
+   * This adds a new progress change listener which is invoked according to the given
+   * {@link ListenerDispatchOptions}.
+   * <p>
+   * Use this for listeners which only need a lower update rate or step granularity, or which do
+   * expensive work that should not run on the main thread.
+   * </p>
+   *
+   * @param progressChangeListener an implementation of {@code ProgressChangeListener} which hasn't
+   *                               already been added
+   * @param options                describing how events are delivered to this listener
+   * @see #addProgressChangeListener(ProgressChangeListener)
+   * @since 4.1.0
+   */
+  public void addProgressChangeListener(@NonNull ProgressChangeListener progressChangeListener,
+                                        @NonNull ListenerDispatchOptions options) {
+    navigationEventDispatcher.addProgressChangeListener(progressChangeListener, options);
+  }
+
   /**
    * This removes a specific progress change listener by passing in the instance of it or you can
    * pass in null to remove all the listeners. When {@link #onDestroy()} is called, all listeners
@@ -469,6 +521,21 @@ public class MapLibreNavigation implements ServiceConnection {
     navigationEventDispatcher.addOffRouteListener(offRouteListener);
   }
 
+  /**
+   * This adds a new off route listener which is invoked according to the given
+   * {@link ListenerDispatchOptions}, for example on a background executor.
+   *
+   * @param offRouteListener an implementation of {@code OffRouteListener} which hasn't already been
+   *                         added
+   * @param options          describing how events are delivered to this listener
+   * @see #addOffRouteListener(OffRouteListener)
+   * @since 4.1.0
+   */
+  public void addOffRouteListener(@NonNull OffRouteListener offRouteListener,
+                                  @NonNull ListenerDispatchOptions options) {
+    navigationEventDispatcher.addOffRouteListener(offRouteListener, options);
+  }
+
   /**
    * This removes a specific off route listener by passing in the instance of it or you can pass in
    * null to remove all the listeners. When {@link #onDestroy()} is called, all listeners
@@ -684,10 +751,41 @@ public class MapLibreNavigation implements ServiceConnection {
     return navigationEngineFactory.retrieveFasterRouteEngine();
   }
 
+  /**
+   * Records every processed location with its snapped location, route indices, off-route
+   * decision and triggered milestones into the file of the given recorder, for diagnosing
+   * navigation issues from the field. Buffered records are flushed when navigation stops.
+   * <p>
+   * The recorder can be changed at anytime, even during a navigation session. It isn't closed by
+   * navigation, close it once it's no longer set.
+   * </p>
+   *
+   * @param flightRecorder to record into, or null to stop recording
+   * @see NavigationFlightRecordingReader
+   * @since 4.1.0
+   */
+  public void setFlightRecorder(@Nullable NavigationFlightRecorder flightRecorder) {
+    this.flightRecorder = flightRecorder;
+  }
+
+  /**
+   * @return the recorder processed locations are recorded into, or null if not recording
+   * @since 4.1.0
+   */
+  @Nullable
+  public NavigationFlightRecorder getFlightRecorder() {
+    return flightRecorder;
+  }
+
   DirectionsRoute getRoute() {
     return directionsRoute;
   }
 
+  void updateSimulatedRoute(DirectionsRoute directionsRoute) {
+    ValidationUtils.validDirectionsRoute(directionsRoute, options.defaultMilestonesEnabled());
+    this.directionsRoute = directionsRoute;
+  }
+
   List<Milestone> getMilestones() {
     return new ArrayList<>(milestones);
   }
@@ -10,6 +10,8 @@ import android.content.Intent;
 import android.content.IntentFilter;
 import android.content.pm.PackageManager;
 import android.os.Build;
+import android.os.PowerManager;
+import android.os.SystemClock;
 import android.text.SpannableString;
 import android.text.format.DateFormat;
 import android.widget.RemoteViews;
@@ -31,6 +33,11 @@ import org.maplibre.navigation.android.navigation.v5.utils.time.TimeFormatter;
 
 /**
  * This is in charge of creating the persistent navigation session notification and updating it.
+ * <p>
+ * Only fields whose displayed text changed are rebound, and the notification is only re-posted
+ * when something changed. Distance and arrival time updates are limited to
+ * {@link MapLibreNavigationOptions#notificationUpdateIntervalInMillis()} and no work is done
+ * while the screen is off. Once the screen turns on, the latest progress is shown right away.
  */
 class MapLibreNavigationNotification implements NavigationNotification {
 
@@ -50,6 +57,11 @@ class MapLibreNavigationNotification implements NavigationNotification {
   private int currentManeuverId;
   private boolean isTwentyFourHourFormat;
   private String etaFormat;
+  private String arrivalText;
+  private PowerManager powerManager;
+  private long updateIntervalInMillis;
+  private long lastUpdateTime;
+  private RouteProgress lastRouteProgress;
 
   private BroadcastReceiver endNavigationBtnReceiver = new BroadcastReceiver() {
     @Override
@@ -58,7 +70,23 @@ class MapLibreNavigationNotification implements NavigationNotification {
     }
   };
 
+  private BroadcastReceiver screenOnReceiver = new BroadcastReceiver() {
+    @Override
+    public void onReceive(final Context context, final Intent intent) {
+      MapLibreNavigationNotification.this.onScreenOn();
+    }
+  };
+
   MapLibreNavigationNotification(Context context, MapLibreNavigation mapLibreNavigation) {
+    this(context, mapLibreNavigation,
+      (NotificationManager) context.getSystemService(Context.NOTIFICATION_SERVICE),
+      (PowerManager) context.getSystemService(Context.POWER_SERVICE));
+  }
+
+  MapLibreNavigationNotification(Context context, MapLibreNavigation mapLibreNavigation,
+                                 NotificationManager notificationManager, PowerManager powerManager) {
+    this.notificationManager = notificationManager;
+    this.powerManager = powerManager;
     initialize(context, mapLibreNavigation);
   }
 
@@ -85,8 +113,8 @@ class MapLibreNavigationNotification implements NavigationNotification {
   private void initialize(Context context, MapLibreNavigation mapLibreNavigation) {
     this.mapLibreNavigation = mapLibreNavigation;
     etaFormat = context.getString(R.string.eta_format);
+    updateIntervalInMillis = mapLibreNavigation.options().notificationUpdateIntervalInMillis();
     initializeDistanceFormatter(context, mapLibreNavigation);
-    notificationManager = (NotificationManager) context.getSystemService(Context.NOTIFICATION_SERVICE);
     isTwentyFourHourFormat = DateFormat.is24HourFormat(context);
     createNotificationChannel(context);
     buildNotification(context);
@@ -151,8 +179,11 @@ class MapLibreNavigationNotification implements NavigationNotification {
     if (context != null) {
       if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.TIRAMISU) {
         context.registerReceiver(endNavigationBtnReceiver, new IntentFilter(END_NAVIGATION_ACTION), Context.RECEIVER_NOT_EXPORTED);
+        context.registerReceiver(screenOnReceiver, new IntentFilter(Intent.ACTION_SCREEN_ON),
+          Context.RECEIVER_NOT_EXPORTED);
       } else {
         context.registerReceiver(endNavigationBtnReceiver, new IntentFilter(END_NAVIGATION_ACTION));
+        context.registerReceiver(screenOnReceiver, new IntentFilter(Intent.ACTION_SCREEN_ON));
       }
     }
   }
@@ -160,36 +191,71 @@ class MapLibreNavigationNotification implements NavigationNotification {
   /**
    * With each location update and new routeProgress, the notification is checked and updated if any
    * information has changed.
+   * <p>
+   * Instruction and maneuver changes are posted right away, distance and arrival time changes at most
+   * once per update interval. While the screen is off, the update is skipped entirely; the latest
+   * progress is kept and shown once the screen turns on.
    *
    * @param routeProgress the latest RouteProgress object
    */
   private void updateNotificationViews(RouteProgress routeProgress) {
-    updateInstructionText(routeProgress.currentLegProgress().currentStep());
-    updateDistanceText(routeProgress);
-    updateArrivalTime(routeProgress);
+    lastRouteProgress = routeProgress;
+    if (!isScreenInteractive()) {
+      return;
+    }
     LegStep step = routeProgress.currentLegProgress().upComingStep() != null
       ? routeProgress.currentLegProgress().upComingStep()
       : routeProgress.currentLegProgress().currentStep();
-    updateManeuverImage(step);
+    boolean hasInstructionChanged = updateInstructionText(routeProgress.currentLegProgress().currentStep());
+    boolean hasManeuverChanged = updateManeuverImage(step);
+    boolean hasStepChanged = hasInstructionChanged || hasManeuverChanged;
+
+    long now = SystemClock.elapsedRealtime();
+    boolean isWithinUpdateInterval = lastUpdateTime > 0 && now - lastUpdateTime < updateIntervalInMillis;
+    if (!hasStepChanged && isWithinUpdateInterval) {
+      return;
+    }
+    boolean hasDistanceChanged = updateDistanceText(routeProgress);
+    boolean hasArrivalTimeChanged = updateArrivalTime(routeProgress);
+    if (hasStepChanged || hasDistanceChanged || hasArrivalTimeChanged) {
+      lastUpdateTime = now;
+      notificationManager.notify(NavigationConstants.NAVIGATION_NOTIFICATION_ID, notificationBuilder.build());
+    }
+  }
 
-    notificationManager.notify(NavigationConstants.NAVIGATION_NOTIFICATION_ID, notificationBuilder.build());
+  private boolean isScreenInteractive() {
+    return powerManager == null || powerManager.isInteractive();
+  }
+
+  /**
+   * Progress updates were skipped while the screen was off, so the latest one is shown without
+   * waiting for the next update or the update interval.
+   */
+  private void onScreenOn() {
+    if (lastRouteProgress != null) {
+      lastUpdateTime = 0;
+      updateNotificationViews(lastRouteProgress);
+    }
   }
 
   private void unregisterReceiver(Context context) {
     if (context != null) {
       context.unregisterReceiver(endNavigationBtnReceiver);
+      context.unregisterReceiver(screenOnReceiver);
     }
     if (notificationManager != null) {
       notificationManager.cancel(NavigationConstants.NAVIGATION_NOTIFICATION_ID);
     }
   }
 
-  private void updateInstructionText(LegStep step) {
+  private boolean updateInstructionText(LegStep step) {
     if (hasInstructions(step) && (instructionText == null || newInstructionText(step))) {
       instructionText = step.bannerInstructions().get(0).primary().text();
       collapsedNotificationRemoteViews.setTextViewText(R.id.notificationInstructionText, instructionText);
       expandedNotificationRemoteViews.setTextViewText(R.id.notificationInstructionText, instructionText);
+      return true;
     }
+    return false;
   }
 
   private boolean hasInstructions(LegStep step) {
@@ -200,43 +266,43 @@ class MapLibreNavigationNotification implements NavigationNotification {
     return !instructionText.equals(step.bannerInstructions().get(0).primary().text());
   }
 
-  private void updateDistanceText(RouteProgress routeProgress) {
-    if (currentDistanceText == null || newDistanceText(routeProgress)) {
-      currentDistanceText = distanceFormatter.formatDistance(
-        routeProgress.currentLegProgress().currentStepProgress().distanceRemaining());
+  private boolean updateDistanceText(RouteProgress routeProgress) {
+    SpannableString distanceText = distanceFormatter.formatDistance(
+      routeProgress.currentLegProgress().currentStepProgress().distanceRemaining());
+    if (currentDistanceText == null || !currentDistanceText.toString().equals(distanceText.toString())) {
+      currentDistanceText = distanceText;
       collapsedNotificationRemoteViews.setTextViewText(R.id.notificationDistanceText, currentDistanceText);
       expandedNotificationRemoteViews.setTextViewText(R.id.notificationDistanceText, currentDistanceText);
+      return true;
     }
+    return false;
   }
 
-  private boolean newDistanceText(RouteProgress routeProgress) {
-    return currentDistanceText != null
-      && !currentDistanceText.toString().equals(distanceFormatter.formatDistance(
-      routeProgress.currentLegProgress().currentStepProgress().distanceRemaining()).toString());
-  }
-
-  private void updateArrivalTime(RouteProgress routeProgress) {
+  private boolean updateArrivalTime(RouteProgress routeProgress) {
     MapLibreNavigationOptions options = mapLibreNavigation.options();
     Calendar time = Calendar.getInstance();
     double durationRemaining = routeProgress.durationRemaining();
     int timeFormatType = options.timeFormatType();
     String arrivalTime = TimeFormatter.formatTime(time, durationRemaining, timeFormatType, isTwentyFourHourFormat);
     String formattedArrivalTime = String.format(etaFormat, arrivalTime);
+    if (formattedArrivalTime.equals(arrivalText)) {
+      return false;
+    }
+    arrivalText = formattedArrivalTime;
     collapsedNotificationRemoteViews.setTextViewText(R.id.notificationArrivalText, formattedArrivalTime);
     expandedNotificationRemoteViews.setTextViewText(R.id.notificationArrivalText, formattedArrivalTime);
+    return true;
   }
 
-  private void updateManeuverImage(LegStep step) {
-    if (newManeuverId(step)) {
-      int maneuverResource = ManeuverUtils.getManeuverResource(step);
+  private boolean updateManeuverImage(LegStep step) {
+    int maneuverResource = ManeuverUtils.getManeuverResource(step);
+    if (currentManeuverId != maneuverResource) {
       currentManeuverId = maneuverResource;
       collapsedNotificationRemoteViews.setImageViewResource(R.id.maneuverImage, maneuverResource);
       expandedNotificationRemoteViews.setImageViewResource(R.id.maneuverImage, maneuverResource);
+      return true;
     }
-  }
-
-  private boolean newManeuverId(LegStep step) {
-    return currentManeuverId != ManeuverUtils.getManeuverResource(step);
+    return false;
   }
 
   private PendingIntent createPendingCloseIntent(Context context) {
@@ -71,6 +71,15 @@ public abstract class MapLibreNavigationOptions {
 
   public abstract int locationAcceptableAccuracyInMetersThreshold();
 
+  /**
+   * Minimum time in milliseconds between two updates of the default navigation notification.
+   * Distance and arrival time changes within this interval are coalesced into the next update,
+   * while a new instruction or maneuver is shown right away.
+   *
+   * @since 4.1.0
+   */
+  public abstract long notificationUpdateIntervalInMillis();
+
   public abstract Builder toBuilder();
 
   @AutoValue.Builder
@@ -132,6 +141,8 @@ public abstract class MapLibreNavigationOptions {
 
     public abstract Builder locationAcceptableAccuracyInMetersThreshold(int accuracyInMetersThreshold);
 
+    public abstract Builder notificationUpdateIntervalInMillis(long notificationUpdateIntervalInMillis);
+
     public abstract MapLibreNavigationOptions build();
   }
 
@@ -157,6 +168,7 @@ public abstract class MapLibreNavigationOptions {
       .isDebugLoggingEnabled(false)
       .roundingIncrement(NavigationConstants.ROUNDING_INCREMENT_FIFTY)
       .timeFormatType(NavigationTimeFormat.NONE_SPECIFIED)
-      .locationAcceptableAccuracyInMetersThreshold(NavigationConstants.ONE_HUNDRED_METER_ACCEPTABLE_ACCURACY_THRESHOLD);
+      .locationAcceptableAccuracyInMetersThreshold(NavigationConstants.ONE_HUNDRED_METER_ACCEPTABLE_ACCURACY_THRESHOLD)
+      .notificationUpdateIntervalInMillis(NavigationConstants.NOTIFICATION_UPDATE_INTERVAL_IN_MILLIS);
   }
 }
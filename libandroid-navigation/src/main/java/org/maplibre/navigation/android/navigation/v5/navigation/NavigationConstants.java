@@ -230,6 +230,15 @@ public final class NavigationConstants {
      */
     static final int ONE_HUNDRED_METER_ACCEPTABLE_ACCURACY_THRESHOLD = 100;
 
+    /**
+     * Default minimum time between two updates of the navigation notification.
+     * <p>
+     * Changes to the instruction or maneuver are always shown right away.
+     *
+     * @since 4.1.0
+     */
+    static final long NOTIFICATION_UPDATE_INTERVAL_IN_MILLIS = 1000;
+
     static final String NON_NULL_APPLICATION_CONTEXT_REQUIRED = "Non-null application context required.";
 
     public static final Float[] WAYNAME_OFFSET = {0.0f, 40.0f};
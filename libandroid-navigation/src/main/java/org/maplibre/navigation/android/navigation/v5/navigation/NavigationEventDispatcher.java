@@ -14,6 +14,8 @@ import org.maplibre.navigation.android.navigation.v5.routeprogress.ProgressChang
 import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
 import org.maplibre.navigation.android.navigation.v5.utils.RouteUtils;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import timber.log.Timber;
@@ -25,7 +27,11 @@ class NavigationEventDispatcher {
   private CopyOnWriteArrayList<ProgressChangeListener> progressChangeListeners;
   private CopyOnWriteArrayList<OffRouteListener> offRouteListeners;
   private CopyOnWriteArrayList<FasterRouteListener> fasterRouteListeners;
+  private Map<MilestoneEventListener, ListenerDispatchPolicy> milestoneDispatchPolicies;
+  private Map<ProgressChangeListener, ListenerDispatchPolicy> progressDispatchPolicies;
+  private Map<OffRouteListener, ListenerDispatchPolicy> offRouteDispatchPolicies;
   private RouteUtils routeUtils;
+  private volatile long lastLocationTime;
 
   NavigationEventDispatcher() {
     this(new RouteUtils());
@@ -37,6 +43,9 @@ class NavigationEventDispatcher {
     progressChangeListeners = new CopyOnWriteArrayList<>();
     offRouteListeners = new CopyOnWriteArrayList<>();
     fasterRouteListeners = new CopyOnWriteArrayList<>();
+    milestoneDispatchPolicies = new ConcurrentHashMap<>();
+    progressDispatchPolicies = new ConcurrentHashMap<>();
+    offRouteDispatchPolicies = new ConcurrentHashMap<>();
     this.routeUtils = routeUtils;
   }
 
@@ -48,13 +57,25 @@ class NavigationEventDispatcher {
     milestoneEventListeners.add(milestoneEventListener);
   }
 
+  void addMilestoneEventListener(@NonNull MilestoneEventListener milestoneEventListener,
+                                 @NonNull ListenerDispatchOptions options) {
+    if (milestoneEventListeners.contains(milestoneEventListener)) {
+      Timber.w("The specified MilestoneEventListener has already been added to the stack.");
+      return;
+    }
+    milestoneDispatchPolicies.put(milestoneEventListener, new ListenerDispatchPolicy(options));
+    milestoneEventListeners.add(milestoneEventListener);
+  }
+
   void removeMilestoneEventListener(@Nullable MilestoneEventListener milestoneEventListener) {
     if (milestoneEventListener == null) {
+      milestoneDispatchPolicies.clear();
       milestoneEventListeners.clear();
     } else if (!milestoneEventListeners.contains(milestoneEventListener)) {
       Timber.w("The specified MilestoneEventListener isn't found in stack, therefore, cannot be removed.");
     } else {
       milestoneEventListeners.remove(milestoneEventListener);
+      milestoneDispatchPolicies.remove(milestoneEventListener);
     }
   }
 
@@ -66,13 +87,25 @@ class NavigationEventDispatcher {
     progressChangeListeners.add(progressChangeListener);
   }
 
+  void addProgressChangeListener(@NonNull ProgressChangeListener progressChangeListener,
+                                 @NonNull ListenerDispatchOptions options) {
+    if (progressChangeListeners.contains(progressChangeListener)) {
+      Timber.w("The specified ProgressChangeListener has already been added to the stack.");
+      return;
+    }
+    progressDispatchPolicies.put(progressChangeListener, new ListenerDispatchPolicy(options));
+    progressChangeListeners.add(progressChangeListener);
+  }
+
   void removeProgressChangeListener(@Nullable ProgressChangeListener progressChangeListener) {
     if (progressChangeListener == null) {
+      progressDispatchPolicies.clear();
       progressChangeListeners.clear();
     } else if (!progressChangeListeners.contains(progressChangeListener)) {
       Timber.w("The specified ProgressChangeListener isn't found in stack, therefore, cannot be removed.");
     } else {
       progressChangeListeners.remove(progressChangeListener);
+      progressDispatchPolicies.remove(progressChangeListener);
     }
   }
 
@@ -84,13 +117,25 @@ class NavigationEventDispatcher {
     offRouteListeners.add(offRouteListener);
   }
 
+  void addOffRouteListener(@NonNull OffRouteListener offRouteListener,
+                           @NonNull ListenerDispatchOptions options) {
+    if (offRouteListeners.contains(offRouteListener)) {
+      Timber.w("The specified OffRouteListener has already been added to the stack.");
+      return;
+    }
+    offRouteDispatchPolicies.put(offRouteListener, new ListenerDispatchPolicy(options));
+    offRouteListeners.add(offRouteListener);
+  }
+
   void removeOffRouteListener(@Nullable OffRouteListener offRouteListener) {
     if (offRouteListener == null) {
+      offRouteDispatchPolicies.clear();
       offRouteListeners.clear();
     } else if (!offRouteListeners.contains(offRouteListener)) {
       Timber.w("The specified OffRouteListener isn't found in stack, therefore, cannot be removed.");
     } else {
       offRouteListeners.remove(offRouteListener);
+      offRouteDispatchPolicies.remove(offRouteListener);
     }
   }
 
@@ -130,21 +175,53 @@ class NavigationEventDispatcher {
     }
   }
 
-  void onMilestoneEvent(RouteProgress routeProgress, String instruction, Milestone milestone) {
-    for (MilestoneEventListener milestoneEventListener : milestoneEventListeners) {
-      milestoneEventListener.onMilestoneEvent(routeProgress, instruction, milestone);
+  void onMilestoneEvent(final RouteProgress routeProgress, final String instruction, final Milestone milestone) {
+    for (final MilestoneEventListener milestoneEventListener : milestoneEventListeners) {
+      ListenerDispatchPolicy policy = milestoneDispatchPolicies.get(milestoneEventListener);
+      if (policy == null) {
+        milestoneEventListener.onMilestoneEvent(routeProgress, instruction, milestone);
+        continue;
+      }
+      policy.dispatch(routeProgress, new Runnable() {
+        @Override
+        public void run() {
+          milestoneEventListener.onMilestoneEvent(routeProgress, instruction, milestone);
+        }
+      }, lastLocationTime);
     }
   }
 
-  void onProgressChange(Location location, RouteProgress routeProgress) {
-    for (ProgressChangeListener progressChangeListener : progressChangeListeners) {
-      progressChangeListener.onProgressChange(location, routeProgress);
+  void onProgressChange(final Location location, final RouteProgress routeProgress) {
+    updateLocationTime(location);
+    for (final ProgressChangeListener progressChangeListener : progressChangeListeners) {
+      ListenerDispatchPolicy policy = progressDispatchPolicies.get(progressChangeListener);
+      if (policy == null) {
+        progressChangeListener.onProgressChange(location, routeProgress);
+        continue;
+      }
+      policy.dispatch(routeProgress, new Runnable() {
+        @Override
+        public void run() {
+          progressChangeListener.onProgressChange(location, routeProgress);
+        }
+      }, lastLocationTime);
     }
   }
 
-  void onUserOffRoute(Location location) {
-    for (OffRouteListener offRouteListener : offRouteListeners) {
-      offRouteListener.userOffRoute(location);
+  void onUserOffRoute(final Location location) {
+    updateLocationTime(location);
+    for (final OffRouteListener offRouteListener : offRouteListeners) {
+      ListenerDispatchPolicy policy = offRouteDispatchPolicies.get(offRouteListener);
+      if (policy == null) {
+        offRouteListener.userOffRoute(location);
+        continue;
+      }
+      policy.dispatch(null, new Runnable() {
+        @Override
+        public void run() {
+          offRouteListener.userOffRoute(location);
+        }
+      }, lastLocationTime);
     }
   }
 
@@ -159,4 +236,14 @@ class NavigationEventDispatcher {
       fasterRouteListener.fasterRouteFound(directionsRoute);
     }
   }
+
+  /**
+   * Milestones are dispatched right after the progress of the same location, so they are
+   * throttled on the time of the last dispatched location.
+   */
+  private void updateLocationTime(@Nullable Location location) {
+    if (location != null) {
+      lastLocationTime = location.getTime();
+    }
+  }
 }
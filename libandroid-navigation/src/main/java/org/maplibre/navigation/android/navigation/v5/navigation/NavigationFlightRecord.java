@@ -0,0 +1,73 @@
+package org.maplibre.navigation.android.navigation.v5.navigation;
+
+import android.location.Location;
+
+import com.google.auto.value.AutoValue;
+
+import java.util.List;
+
+/**
+ * A single location processed while navigating, as read from a recording of the
+ * {@link NavigationFlightRecorder}.
+ *
+ * @since 4.1.0
+ */
+@AutoValue
+public abstract class NavigationFlightRecord {
+
+  static NavigationFlightRecord create(Location rawLocation, Location snappedLocation, int legIndex,
+                                       int stepIndex, double distanceTraveled, boolean isOffRoute,
+                                       List<Integer> milestoneIdentifiers) {
+    return new AutoValue_NavigationFlightRecord(rawLocation, snappedLocation, legIndex, stepIndex,
+      distanceTraveled, isOffRoute, milestoneIdentifiers);
+  }
+
+  /**
+   * The location as received from the location engine, with its time, coordinates, altitude,
+   * accuracy, speed and bearing.
+   *
+   * @return raw location
+   * @since 4.1.0
+   */
+  public abstract Location rawLocation();
+
+  /**
+   * The location sent to the progress listeners, with its coordinates and bearing.
+   *
+   * @return snapped location
+   * @since 4.1.0
+   */
+  public abstract Location snappedLocation();
+
+  /**
+   * @return leg index of the route progress
+   * @since 4.1.0
+   */
+  public abstract int legIndex();
+
+  /**
+   * @return step index of the route progress
+   * @since 4.1.0
+   */
+  public abstract int stepIndex();
+
+  /**
+   * @return distance traveled along the route, in meters
+   * @since 4.1.0
+   */
+  public abstract double distanceTraveled();
+
+  /**
+   * @return true if the user was considered off-route
+   * @since 4.1.0
+   */
+  public abstract boolean isOffRoute();
+
+  /**
+   * The identifiers of the milestones triggered by this location, up to the first three.
+   *
+   * @return triggered milestone identifiers
+   * @since 4.1.0
+   */
+  public abstract List<Integer> milestoneIdentifiers();
+}
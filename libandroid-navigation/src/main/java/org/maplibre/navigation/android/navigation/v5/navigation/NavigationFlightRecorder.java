@@ -0,0 +1,283 @@
+package org.maplibre.navigation.android.navigation.v5.navigation;
+
+import android.location.Location;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+
+import org.maplibre.navigation.android.navigation.v5.milestone.Milestone;
+import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import timber.log.Timber;
+
+/**
+ * Records every location processed while navigating into a compact binary ring file, to
+ * reconstruct field issues without verbose logging.
+ * <p>
+ * Each record holds the raw and snapped location, the leg and step indices, the distance
+ * traveled, the off-route decision and the triggered milestones. Records are written into a
+ * preallocated direct buffer on the navigation thread and flushed to the file on a background
+ * thread, so processing a location never waits for I/O. The buffer is also flushed every
+ * 10 seconds, so a crash loses at most the last few records. If the previous flush is still
+ * running when the buffer is full, new records are dropped instead.
+ * <p>
+ * The file keeps the latest records up to its capacity. It can be read with
+ * {@link NavigationFlightRecordingReader}, which also replays it with a
+ * {@link org.maplibre.navigation.android.navigation.v5.location.replay.ReplayRouteLocationEngine}.
+ *
+ * @see MapLibreNavigation#setFlightRecorder(NavigationFlightRecorder)
+ * @since 4.1.0
+ */
+public final class NavigationFlightRecorder {
+
+  static final int MAGIC = 0x4D4C4E52;
+  static final int VERSION = 1;
+  static final int HEADER_SIZE = 32;
+  static final int RECORD_COUNT_POSITION = 16;
+  static final int MAX_MILESTONES = 3;
+  static final int RECORD_SIZE = 86;
+  static final byte FLAG_OFF_ROUTE = 1;
+  private static final int DEFAULT_CAPACITY = 36000;
+  private static final int BUFFERED_RECORDS = 32;
+  private static final long FLUSH_INTERVAL_IN_MILLIS = 10000;
+  private static final String CAPACITY_MUST_BE_GREATER_THAN_ZERO = "Capacity must be greater than 0 records.";
+
+  private final FileChannel channel;
+  private final int capacity;
+  private final Executor flushExecutor;
+  private final AtomicBoolean isFlushing = new AtomicBoolean();
+  private ByteBuffer recordBuffer = ByteBuffer.allocateDirect(BUFFERED_RECORDS * RECORD_SIZE);
+  private ByteBuffer flushBuffer = ByteBuffer.allocateDirect(BUFFERED_RECORDS * RECORD_SIZE);
+  private long recordCount;
+  private long bufferStartIndex;
+  private long droppedRecordCount;
+  private long lastFlushTime = SystemClock.elapsedRealtime();
+  private boolean isFlushQueued;
+  private boolean isClosed;
+
+  NavigationFlightRecorder(FileChannel channel, int capacity, Executor flushExecutor) throws IOException {
+    this.channel = channel;
+    this.capacity = capacity;
+    this.flushExecutor = flushExecutor;
+    writeHeader();
+  }
+
+  /**
+   * Creates a recorder keeping the latest 36000 records, an hour of one second location updates,
+   * in about 3 MB. An existing file is overwritten.
+   *
+   * @param file to record into
+   * @return recorder to set with {@link MapLibreNavigation#setFlightRecorder(NavigationFlightRecorder)}
+   * @throws IOException if the file can't be created
+   * @since 4.1.0
+   */
+  @NonNull
+  public static NavigationFlightRecorder create(@NonNull File file) throws IOException {
+    return create(file, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a recorder keeping the latest given number of records. An existing file is
+   * overwritten.
+   *
+   * @param file     to record into
+   * @param capacity number of records kept, older records are overwritten
+   * @return recorder to set with {@link MapLibreNavigation#setFlightRecorder(NavigationFlightRecorder)}
+   * @throws IOException if the file can't be created
+   * @since 4.1.0
+   */
+  @NonNull
+  public static NavigationFlightRecorder create(@NonNull File file, int capacity) throws IOException {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException(CAPACITY_MUST_BE_GREATER_THAN_ZERO);
+    }
+    FileChannel channel = new RandomAccessFile(file, "rw").getChannel();
+    channel.truncate(0);
+    return new NavigationFlightRecorder(channel, capacity, Executors.newSingleThreadExecutor());
+  }
+
+  /**
+   * Writes the buffered records to the file in the background. If a flush is already running,
+   * the records are written once it's done.
+   *
+   * @since 4.1.0
+   */
+  public synchronized void flush() {
+    if (isClosed || recordBuffer.position() == 0 || submitFlush() || isFlushQueued) {
+      return;
+    }
+    isFlushQueued = true;
+    flushExecutor.execute(new Runnable() {
+      @Override
+      public void run() {
+        onQueuedFlush();
+      }
+    });
+  }
+
+  /**
+   * Writes the buffered records and closes the file in the background. Nothing is recorded after
+   * the recorder is closed.
+   *
+   * @since 4.1.0
+   */
+  public synchronized void close() {
+    if (isClosed) {
+      return;
+    }
+    isClosed = true;
+    final ByteBuffer remainingRecords = recordBuffer;
+    final long remainingStartIndex = bufferStartIndex;
+    final long finalRecordCount = recordCount;
+    flushExecutor.execute(new Runnable() {
+      @Override
+      public void run() {
+        writeRecords(remainingRecords, remainingStartIndex, finalRecordCount);
+        closeChannel();
+      }
+    });
+    if (flushExecutor instanceof ExecutorService) {
+      ((ExecutorService) flushExecutor).shutdown();
+    }
+  }
+
+  /**
+   * @return number of records dropped because the file writes couldn't keep up
+   * @since 4.1.0
+   */
+  public synchronized long droppedRecordCount() {
+    return droppedRecordCount;
+  }
+
+  synchronized void record(Location rawLocation, Location snappedLocation, RouteProgress routeProgress,
+                           boolean isOffRoute, List<Milestone> milestones) {
+    if (isClosed) {
+      return;
+    }
+    if (!recordBuffer.hasRemaining() && !submitFlush()) {
+      droppedRecordCount++;
+      return;
+    }
+    ByteBuffer buffer = recordBuffer;
+    buffer.putLong(rawLocation.getTime());
+    buffer.putDouble(rawLocation.getLatitude());
+    buffer.putDouble(rawLocation.getLongitude());
+    buffer.putDouble(rawLocation.getAltitude());
+    buffer.putFloat(rawLocation.getAccuracy());
+    buffer.putFloat(rawLocation.getSpeed());
+    buffer.putFloat(rawLocation.getBearing());
+    buffer.putDouble(snappedLocation.getLatitude());
+    buffer.putDouble(snappedLocation.getLongitude());
+    buffer.putFloat(snappedLocation.getBearing());
+    buffer.putFloat((float) routeProgress.distanceTraveled());
+    buffer.putShort((short) routeProgress.legIndex());
+    buffer.putShort((short) routeProgress.currentLegProgress().stepIndex());
+    buffer.put(isOffRoute ? FLAG_OFF_ROUTE : 0);
+    int milestoneCount = Math.min(milestones.size(), MAX_MILESTONES);
+    buffer.put((byte) milestoneCount);
+    for (int i = 0; i < MAX_MILESTONES; i++) {
+      buffer.putInt(i < milestoneCount ? milestones.get(i).getIdentifier() : 0);
+    }
+    recordCount++;
+    if (!buffer.hasRemaining()) {
+      submitFlush();
+    } else if (SystemClock.elapsedRealtime() - lastFlushTime >= FLUSH_INTERVAL_IN_MILLIS) {
+      flush();
+    }
+  }
+
+  /**
+   * Runs on the flush executor after the flush that was running when {@link #flush()} was called,
+   * so the other buffer is free again.
+   */
+  private synchronized void onQueuedFlush() {
+    isFlushQueued = false;
+    flush();
+  }
+
+  /**
+   * Hands the filled buffer over to the flush executor and records into the other one.
+   *
+   * @return false if the other buffer is still being flushed
+   */
+  private boolean submitFlush() {
+    if (!isFlushing.compareAndSet(false, true)) {
+      return false;
+    }
+    final ByteBuffer filledBuffer = recordBuffer;
+    final long startIndex = bufferStartIndex;
+    final long filledRecordCount = recordCount;
+    recordBuffer = flushBuffer;
+    recordBuffer.clear();
+    flushBuffer = filledBuffer;
+    bufferStartIndex = recordCount;
+    lastFlushTime = SystemClock.elapsedRealtime();
+    flushExecutor.execute(new Runnable() {
+      @Override
+      public void run() {
+        writeRecords(filledBuffer, startIndex, filledRecordCount);
+        isFlushing.set(false);
+      }
+    });
+    return true;
+  }
+
+  /**
+   * Writes the records of the buffer at their ring position, then the number of records written.
+   */
+  private void writeRecords(ByteBuffer buffer, long startIndex, long totalRecordCount) {
+    buffer.flip();
+    try {
+      long index = startIndex;
+      while (buffer.hasRemaining()) {
+        int ringIndex = (int) (index % capacity);
+        int records = Math.min(buffer.remaining() / RECORD_SIZE, capacity - ringIndex);
+        ByteBuffer chunk = buffer.duplicate();
+        chunk.limit(chunk.position() + records * RECORD_SIZE);
+        long position = HEADER_SIZE + (long) ringIndex * RECORD_SIZE;
+        while (chunk.hasRemaining()) {
+          position += channel.write(chunk, position);
+        }
+        buffer.position(chunk.position());
+        index += records;
+      }
+      ByteBuffer count = ByteBuffer.allocate(Long.SIZE / Byte.SIZE);
+      count.putLong(0, totalRecordCount);
+      channel.write(count, RECORD_COUNT_POSITION);
+    } catch (IOException exception) {
+      Timber.e(exception, "Unable to write navigation flight records.");
+    }
+  }
+
+  private void writeHeader() throws IOException {
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    header.putInt(MAGIC);
+    header.putInt(VERSION);
+    header.putInt(RECORD_SIZE);
+    header.putInt(capacity);
+    header.putLong(0);
+    header.rewind();
+    while (header.hasRemaining()) {
+      channel.write(header, header.position());
+    }
+  }
+
+  private void closeChannel() {
+    try {
+      channel.close();
+    } catch (IOException exception) {
+      Timber.e(exception, "Unable to close the navigation flight recording.");
+    }
+  }
+}
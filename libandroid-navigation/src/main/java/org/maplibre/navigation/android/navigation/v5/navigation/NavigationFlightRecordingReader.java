@@ -0,0 +1,170 @@
+package org.maplibre.navigation.android.navigation.v5.navigation;
+
+import android.location.Location;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.maplibre.navigation.android.navigation.v5.location.replay.ReplayLocationSource;
+import org.maplibre.navigation.android.navigation.v5.location.replay.ReplayRouteLocationEngine;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import timber.log.Timber;
+
+import static org.maplibre.navigation.android.navigation.v5.navigation.NavigationFlightRecorder.FLAG_OFF_ROUTE;
+import static org.maplibre.navigation.android.navigation.v5.navigation.NavigationFlightRecorder.HEADER_SIZE;
+import static org.maplibre.navigation.android.navigation.v5.navigation.NavigationFlightRecorder.MAGIC;
+import static org.maplibre.navigation.android.navigation.v5.navigation.NavigationFlightRecorder.MAX_MILESTONES;
+import static org.maplibre.navigation.android.navigation.v5.navigation.NavigationFlightRecorder.RECORD_SIZE;
+import static org.maplibre.navigation.android.navigation.v5.navigation.NavigationFlightRecorder.VERSION;
+
+/**
+ * Reads a recording of the {@link NavigationFlightRecorder} from its oldest to its latest record.
+ * <p>
+ * As a {@link ReplayLocationSource}, it provides the raw locations of the recording, so they can
+ * be replayed through navigation again with
+ * {@link ReplayRouteLocationEngine#assign(ReplayLocationSource)}.
+ *
+ * @since 4.1.0
+ */
+public final class NavigationFlightRecordingReader implements ReplayLocationSource {
+
+  private static final String NOT_A_FLIGHT_RECORDING = "Not a navigation flight recording: ";
+  private static final String FLIGHT_RECORDER = "NavigationFlightRecorder";
+  private final FileChannel channel;
+  private final int capacity;
+  private final int recordCount;
+  private final long firstIndex;
+  private final ByteBuffer recordBuffer = ByteBuffer.allocateDirect(RECORD_SIZE);
+  private int readCount;
+  private boolean isClosed;
+
+  private NavigationFlightRecordingReader(FileChannel channel, int capacity, long totalRecordCount) {
+    this.channel = channel;
+    this.capacity = capacity;
+    this.recordCount = (int) Math.min(totalRecordCount, capacity);
+    this.firstIndex = totalRecordCount > capacity ? totalRecordCount % capacity : 0;
+  }
+
+  /**
+   * Opens a recording written by a {@link NavigationFlightRecorder}.
+   *
+   * @param file with the recording
+   * @return reader of the recording, to be closed when no longer used
+   * @throws IOException if the file can't be read or isn't a recording
+   * @since 4.1.0
+   */
+  @NonNull
+  public static NavigationFlightRecordingReader open(@NonNull File file) throws IOException {
+    FileChannel channel = new RandomAccessFile(file, "r").getChannel();
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    channel.read(header, 0);
+    header.flip();
+    if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC || header.getInt() != VERSION
+      || header.getInt() != RECORD_SIZE) {
+      channel.close();
+      throw new IOException(NOT_A_FLIGHT_RECORDING + file);
+    }
+    int capacity = header.getInt();
+    long totalRecordCount = header.getLong();
+    return new NavigationFlightRecordingReader(channel, capacity, totalRecordCount);
+  }
+
+  /**
+   * @return number of records in the recording
+   * @since 4.1.0
+   */
+  public int recordCount() {
+    return recordCount;
+  }
+
+  /**
+   * Reads the next record of the recording.
+   *
+   * @return the next record, or null if all records have been read
+   * @since 4.1.0
+   */
+  @Nullable
+  public NavigationFlightRecord nextRecord() {
+    if (isClosed || readCount >= recordCount) {
+      return null;
+    }
+    int ringIndex = (int) ((firstIndex + readCount) % capacity);
+    long position = HEADER_SIZE + (long) ringIndex * RECORD_SIZE;
+    recordBuffer.clear();
+    try {
+      while (recordBuffer.hasRemaining()) {
+        if (channel.read(recordBuffer, position + recordBuffer.position()) < 0) {
+          return null;
+        }
+      }
+    } catch (IOException exception) {
+      Timber.e(exception, "Unable to read the navigation flight record.");
+      return null;
+    }
+    readCount++;
+    recordBuffer.flip();
+    return readRecord(recordBuffer);
+  }
+
+  /**
+   * Reads the raw location of the next record.
+   *
+   * @return the next raw location, or null if all records have been read
+   * @since 4.1.0
+   */
+  @Nullable
+  @Override
+  public Location next() {
+    NavigationFlightRecord record = nextRecord();
+    return record == null ? null : record.rawLocation();
+  }
+
+  @Override
+  public void close() {
+    isClosed = true;
+    try {
+      channel.close();
+    } catch (IOException exception) {
+      Timber.e(exception, "Unable to close the navigation flight recording.");
+    }
+  }
+
+  private static NavigationFlightRecord readRecord(ByteBuffer buffer) {
+    Location rawLocation = new Location(FLIGHT_RECORDER);
+    rawLocation.setTime(buffer.getLong());
+    rawLocation.setLatitude(buffer.getDouble());
+    rawLocation.setLongitude(buffer.getDouble());
+    rawLocation.setAltitude(buffer.getDouble());
+    rawLocation.setAccuracy(buffer.getFloat());
+    rawLocation.setSpeed(buffer.getFloat());
+    rawLocation.setBearing(buffer.getFloat());
+    Location snappedLocation = new Location(FLIGHT_RECORDER);
+    snappedLocation.setTime(rawLocation.getTime());
+    snappedLocation.setLatitude(buffer.getDouble());
+    snappedLocation.setLongitude(buffer.getDouble());
+    snappedLocation.setBearing(buffer.getFloat());
+    double distanceTraveled = buffer.getFloat();
+    int legIndex = buffer.getShort();
+    int stepIndex = buffer.getShort();
+    boolean isOffRoute = (buffer.get() & FLAG_OFF_ROUTE) != 0;
+    int milestoneCount = buffer.get();
+    List<Integer> milestoneIdentifiers = new ArrayList<>(milestoneCount);
+    for (int i = 0; i < MAX_MILESTONES; i++) {
+      int identifier = buffer.getInt();
+      if (i < milestoneCount) {
+        milestoneIdentifiers.add(identifier);
+      }
+    }
+    return NavigationFlightRecord.create(rawLocation, snappedLocation, legIndex, stepIndex, distanceTraveled,
+      isOffRoute, Collections.unmodifiableList(milestoneIdentifiers));
+  }
+}
@@ -15,10 +15,7 @@ import org.maplibre.navigation.android.navigation.v5.models.MaxSpeed;
 import org.maplibre.navigation.android.navigation.v5.models.RouteLeg;
 import org.maplibre.navigation.android.navigation.v5.models.StepIntersection;
 import org.maplibre.navigation.android.navigation.v5.models.StepManeuver;
-import org.maplibre.geojson.Feature;
-import org.maplibre.geojson.LineString;
 import org.maplibre.geojson.Point;
-import org.maplibre.geojson.utils.PolylineUtils;
 import org.maplibre.navigation.android.navigation.v5.milestone.Milestone;
 import org.maplibre.navigation.android.navigation.v5.offroute.OffRoute;
 import org.maplibre.navigation.android.navigation.v5.offroute.OffRouteCallback;
@@ -28,9 +25,7 @@ import org.maplibre.navigation.android.navigation.v5.routeprogress.CurrentLegAnn
 import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
 import org.maplibre.navigation.android.navigation.v5.snap.Snap;
 import org.maplibre.navigation.android.navigation.v5.utils.MathUtils;
-import org.maplibre.turf.TurfConstants;
-import org.maplibre.turf.TurfMeasurement;
-import org.maplibre.turf.TurfMisc;
+import org.maplibre.navigation.android.navigation.v5.utils.PackedLineString;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -49,8 +44,6 @@ public class NavigationHelper {
   private static final int ONE_INDEX = 1;
   private static final int INDEX_ZERO = 0;
   private static final String EMPTY_STRING = "";
-  private static final double ZERO_METERS = 0d;
-  private static final int TWO_POINTS = 2;
 
   private NavigationHelper() {
     // Empty private constructor to prevent users creating an instance of this class.
@@ -92,23 +85,20 @@ public class NavigationHelper {
       return 0;
     }
 
-    Point locationToPoint = Point.fromLngLat(location.getLongitude(), location.getLatitude());
-
-    // Uses Turf's pointOnLine, which takes a Point and a LineString to calculate the closest
-    // Point on the LineString.
-    Feature feature = TurfMisc.nearestPointOnLine(locationToPoint, stepPoints, TurfConstants.UNIT_KILOMETERS);
+    // The step points are packed, so snapping and slicing don't create a Point per vertex.
+    PackedLineString stepGeometry = PackedLineString.fromPoints(stepPoints);
+    PackedLineString.NearestPoint snappedPosition = stepGeometry.nearestPoint(location.getLongitude(),
+      location.getLatitude());
 
     // Check distance to route line, if it's too high, it makes no sense to snap and we assume the step distance is the whole distance of the step
-    Number distance = feature.getNumberProperty("dist");
-    if(distance != null && distance.doubleValue() > 1){
-      Timber.i("Distance to step is larger than 1km, so we won't advance the step, distance: %s km",distance.doubleValue());
-      return TurfMeasurement.length(stepPoints, TurfConstants.UNIT_METERS);
+    double distance = snappedPosition.distanceInMeters() / 1000;
+    if (distance > 1) {
+      Timber.i("Distance to step is larger than 1km, so we won't advance the step, distance: %s km", distance);
+      return stepGeometry.lengthInMeters();
     }
 
-    Point snappedPosition = ((Point) feature.geometry());
-
     List<LegStep> steps = directionsRoute.legs().get(legIndex).steps();
-    Point nextManeuverPosition = nextManeuverPosition(stepIndex, steps, stepPoints);
+    Point nextManeuverPosition = nextManeuverPosition(stepIndex, steps, stepGeometry);
 
     // When the coordinates are empty, no distance can be calculated
     if(nextManeuverPosition == null) {
@@ -116,46 +106,13 @@ public class NavigationHelper {
     }
 
     // If the users snapped position equals the next maneuver position
-    if (snappedPosition.equals(nextManeuverPosition)) {
+    if (snappedPosition.isAt(nextManeuverPosition.longitude(), nextManeuverPosition.latitude())) {
       return 0;
     }
 
-    LineString slicedLine = TurfMisc.lineSlice(snappedPosition, nextManeuverPosition, LineString.fromLngLats(stepPoints));
-    return TurfMeasurement.length(slicedLine, TurfConstants.UNIT_METERS);
-  }
-
-  /**
-   * Takes in the already calculated step distance and iterates through the step list from the
-   * step index value plus one till the end of the leg.
-   */
-  static double legDistanceRemaining(double stepDistanceRemaining, int legIndex, int stepIndex,
-                                     DirectionsRoute directionsRoute) {
-    List<LegStep> steps = directionsRoute.legs().get(legIndex).steps();
-    if ((steps.size() < stepIndex + 1)) {
-      return stepDistanceRemaining;
-    }
-    for (int i = stepIndex + 1; i < steps.size(); i++) {
-      stepDistanceRemaining += steps.get(i).distance();
-    }
-    return stepDistanceRemaining;
-  }
-
-  /**
-   * Takes in the leg distance remaining value already calculated and if additional legs need to be
-   * traversed along after the current one, adds those distances and returns the new distance.
-   * Otherwise, if the route only contains one leg or the users on the last leg, this value will
-   * equal the leg distance remaining.
-   */
-  static double routeDistanceRemaining(double legDistanceRemaining, int legIndex,
-                                       DirectionsRoute directionsRoute) {
-    if (directionsRoute.legs().size() < 2) {
-      return legDistanceRemaining;
-    }
-
-    for (int i = legIndex + 1; i < directionsRoute.legs().size(); i++) {
-      legDistanceRemaining += directionsRoute.legs().get(i).distance();
-    }
-    return legDistanceRemaining;
+    PackedLineString.NearestPoint snappedManeuverPosition = stepGeometry.nearestPoint(
+      nextManeuverPosition.longitude(), nextManeuverPosition.latitude());
+    return stepGeometry.lengthInMeters(snappedPosition, snappedManeuverPosition);
   }
 
   /**
@@ -237,8 +194,8 @@ public class NavigationHelper {
    * Given the current {@link DirectionsRoute} and leg / step index,
    * return a list of {@link Point} representing the current step.
    * <p>
-   * This method is only used on a per-step basis as {@link PolylineUtils#decode(String, int)}
-   * can be a heavy operation based on the length of the step.
+   * This method is only used on a per-step basis as decoding can be a heavy operation based on the
+   * length of the step. The points are decoded into a compact {@link PackedLineString}.
    * <p>
    * Returns null if index is invalid.
    *
@@ -267,7 +224,7 @@ public class NavigationHelper {
     }
     String stepGeometry = step.geometry();
     if (stepGeometry != null) {
-      return PolylineUtils.decode(stepGeometry, PRECISION_6);
+      return PackedLineString.fromPolyline(stepGeometry, PRECISION_6);
     }
     return currentPoints;
   }
@@ -298,7 +255,7 @@ public class NavigationHelper {
    * Each pair represents an intersection on the given step and its distance along the step geometry.
    * <p>
    * The first intersection is the same point as the first point of the list of step points, so will
-   * always be zero meters.
+   * always be zero meters. All distances are measured in a single walk along the step geometry.
    *
    * @param stepPoints    representing the step geometry
    * @param intersections along the step to be measured
@@ -308,27 +265,7 @@ public class NavigationHelper {
   @NonNull
   public static List<Pair<StepIntersection, Double>> createDistancesToIntersections(List<Point> stepPoints,
                                                                                     List<StepIntersection> intersections) {
-    boolean lessThanTwoStepPoints = stepPoints.size() < TWO_POINTS;
-    boolean noIntersections = intersections.isEmpty();
-    if (lessThanTwoStepPoints || noIntersections) {
-      return Collections.emptyList();
-    }
-
-    LineString stepLineString = LineString.fromLngLats(stepPoints);
-    Point firstStepPoint = stepPoints.get(FIRST_POINT);
-    List<Pair<StepIntersection, Double>> distancesToIntersections = new ArrayList<>();
-
-    for (StepIntersection intersection : intersections) {
-      Point intersectionPoint = intersection.location();
-      if (firstStepPoint.equals(intersectionPoint)) {
-        distancesToIntersections.add(new Pair<>(intersection, ZERO_METERS));
-      } else {
-        LineString beginningLineString = TurfMisc.lineSlice(firstStepPoint, intersectionPoint, stepLineString);
-        double distanceToIntersectionInMeters = TurfMeasurement.length(beginningLineString, TurfConstants.UNIT_METERS);
-        distancesToIntersections.add(new Pair<>(intersection, distanceToIntersectionInMeters));
-      }
-    }
-    return distancesToIntersections;
+    return StepIntersectionDistances.create(stepPoints, intersections).asPairs();
   }
 
   /**
@@ -344,13 +281,13 @@ public class NavigationHelper {
   public static StepIntersection findCurrentIntersection(@NonNull List<StepIntersection> intersections,
                                                   @NonNull List<Pair<StepIntersection, Double>> measuredIntersections,
                                                   double stepDistanceTraveled) {
-    for (Pair<StepIntersection, Double> measuredIntersection : measuredIntersections) {
+    int measuredIntersectionSize = measuredIntersections.size();
+    for (int intersectionIndex = 0; intersectionIndex < measuredIntersectionSize; intersectionIndex++) {
+      Pair<StepIntersection, Double> measuredIntersection = measuredIntersections.get(intersectionIndex);
       if (measuredIntersection.first == null)
         return intersections.get(0);
       double intersectionDistance = measuredIntersection.second;
-      int intersectionIndex = measuredIntersections.indexOf(measuredIntersection);
       int nextIntersectionIndex = intersectionIndex + ONE_INDEX;
-      int measuredIntersectionSize = measuredIntersections.size();
       boolean hasValidNextIntersection = nextIntersectionIndex < measuredIntersectionSize;
 
       if (hasValidNextIntersection) {
@@ -383,6 +320,17 @@ public class NavigationHelper {
                                                    @Nullable LegStep upcomingStep,
                                                    StepIntersection currentIntersection) {
     int intersectionIndex = intersections.indexOf(currentIntersection);
+    return findUpcomingIntersection(intersections, upcomingStep, intersectionIndex);
+  }
+
+  /**
+   * Same as {@link #findUpcomingIntersection(List, LegStep, StepIntersection)}, for a current
+   * intersection whose index is already known.
+   */
+  @Nullable
+  static StepIntersection findUpcomingIntersection(@NonNull List<StepIntersection> intersections,
+                                                   @Nullable LegStep upcomingStep,
+                                                   int intersectionIndex) {
     int nextIntersectionIndex = intersectionIndex + ONE_INDEX;
     int intersectionSize = intersections.size();
     boolean isValidUpcomingIntersection = nextIntersectionIndex < intersectionSize;
@@ -54,7 +54,7 @@ import org.maplibre.android.style.layers.PropertyFactory;
 import org.maplibre.android.style.layers.SymbolLayer;
 import org.maplibre.android.style.sources.GeoJsonOptions;
 import org.maplibre.android.style.sources.GeoJsonSource;
-import org.maplibre.android.utils.MathUtils;
+import org.maplibre.navigation.android.navigation.v5.route.ManeuverArrowCache;
 import org.maplibre.navigation.android.navigation.v5.route.MapRouteProgressChangeListener;
 import org.maplibre.navigation.android.navigation.v5.route.OnRouteSelectionChangeListener;
 import org.maplibre.navigation.android.navigation.v5.routeprogress.ProgressChangeListener;
@@ -102,7 +102,6 @@ public class NavigationMapRoute implements MapView.OnDidFinishLoadingStyleListen
     private static final String ID_FORMAT = "%s-%d";
     private static final String GENERIC_ROUTE_SHIELD_LAYER_ID = "mapbox-navigation-route-shield-layer";
     private static final int TWO_POINTS = 2;
-    private static final int THIRTY = 30;
     private static final String ARROW_BEARING = "mapbox-navigation-arrow-bearing";
     private static final String ARROW_SHAFT_SOURCE_ID = "mapbox-navigation-arrow-shaft-source";
     private static final String ARROW_HEAD_SOURCE_ID = "mapbox-navigation-arrow-head-source";
@@ -110,7 +109,6 @@ public class NavigationMapRoute implements MapView.OnDidFinishLoadingStyleListen
     private static final String ARROW_SHAFT_LINE_LAYER_ID = "mapbox-navigation-arrow-shaft-layer";
     private static final String ARROW_HEAD_ICON = "mapbox-navigation-arrow-head-icon";
     private static final String ARROW_HEAD_ICON_CASING = "mapbox-navigation-arrow-head-icon-casing";
-    private static final int MAX_DEGREES = 360;
     private static final String ARROW_HEAD_CASING_LAYER_ID = "mapbox-navigation-arrow-head-casing-layer";
     private static final Float[] ARROW_HEAD_CASING_OFFSET = {0f, -7f};
     private static final String ARROW_HEAD_LAYER_ID = "mapbox-navigation-arrow-head-layer";
@@ -175,6 +173,7 @@ public class NavigationMapRoute implements MapView.OnDidFinishLoadingStyleListen
     private GeoJsonSource arrowHeadGeoJsonSource;
     private Feature arrowShaftGeoJsonFeature = Feature.fromGeometry(Point.fromLngLat(0, 0));
     private Feature arrowHeadGeoJsonFeature = Feature.fromGeometry(Point.fromLngLat(0, 0));
+    private final ManeuverArrowCache maneuverArrowCache = new ManeuverArrowCache();
     private ProgressChangeListener progressChangeListener = new MapRouteProgressChangeListener(this);
 
     /**
@@ -351,10 +350,10 @@ public class NavigationMapRoute implements MapView.OnDidFinishLoadingStyleListen
         }
         updateArrowLayersVisibilityTo(true);
 
-        List<Point> maneuverPoints = obtainArrowPointsFrom(routeProgress);
-
-        updateArrowShaftWith(maneuverPoints);
-        updateArrowHeadWith(maneuverPoints);
+        if (maneuverArrowCache.update(routeProgress)) {
+            updateArrowShaft();
+            updateArrowHead();
+        }
     }
 
     public List<DirectionsRoute> retrieveDirectionsRoutes() {
@@ -472,35 +471,15 @@ public class NavigationMapRoute implements MapView.OnDidFinishLoadingStyleListen
             }
     }
 
-    private List<Point> obtainArrowPointsFrom(RouteProgress routeProgress) {
-        List<Point> reversedCurrent = new ArrayList<>(routeProgress.currentStepPoints());
-        Collections.reverse(reversedCurrent);
-
-        LineString arrowLineCurrent = LineString.fromLngLats(reversedCurrent);
-        LineString arrowLineUpcoming = LineString.fromLngLats(routeProgress.upcomingStepPoints());
-
-        LineString arrowCurrentSliced = TurfMisc.lineSliceAlong(arrowLineCurrent, 0, THIRTY, TurfConstants.UNIT_METERS);
-        LineString arrowUpcomingSliced = TurfMisc.lineSliceAlong(arrowLineUpcoming, 0, THIRTY, TurfConstants.UNIT_METERS);
-
-        Collections.reverse(arrowCurrentSliced.coordinates());
-
-        List<Point> combined = new ArrayList<>();
-        combined.addAll(arrowCurrentSliced.coordinates());
-        combined.addAll(arrowUpcomingSliced.coordinates());
-        return combined;
-    }
-
-    private void updateArrowShaftWith(List<Point> points) {
-        LineString shaft = LineString.fromLngLats(points);
-        arrowShaftGeoJsonFeature = Feature.fromGeometry(shaft);
+    private void updateArrowShaft() {
+        arrowShaftGeoJsonFeature = Feature.fromGeometry(maneuverArrowCache.shaft());
         if(arrowShaftGeoJsonSource != null)
             arrowShaftGeoJsonSource.setGeoJson(arrowShaftGeoJsonFeature);
     }
 
-    private void updateArrowHeadWith(List<Point> points) {
-        double azimuth = TurfMeasurement.bearing(points.get(points.size() - 2), points.get(points.size() - 1));
-        arrowHeadGeoJsonFeature = Feature.fromGeometry(points.get(points.size() - 1));
-        arrowHeadGeoJsonFeature.addNumberProperty(ARROW_BEARING, (float) MathUtils.wrap(azimuth, 0, MAX_DEGREES));
+    private void updateArrowHead() {
+        arrowHeadGeoJsonFeature = Feature.fromGeometry(maneuverArrowCache.head());
+        arrowHeadGeoJsonFeature.addNumberProperty(ARROW_BEARING, maneuverArrowCache.headBearing());
         if(arrowHeadGeoJsonSource != null)
             arrowHeadGeoJsonSource.setGeoJson(arrowHeadGeoJsonFeature);
     }
@@ -1107,8 +1086,7 @@ public class NavigationMapRoute implements MapView.OnDidFinishLoadingStyleListen
         buildRouteFeatureFromGeometry(index, features, originalGeometry);
         routeLineStrings.put(originalGeometry, route);
 
-        LineString lineString = LineString.fromPolyline(route.geometry(), Constants.PRECISION_6);
-        buildTrafficFeaturesFromRoute(route, index, features, lineString);
+        buildTrafficFeaturesFromRoute(route, index, features, originalGeometry);
         return FeatureCollection.fromFeatures(features);
     }
 
@@ -1,7 +1,6 @@
 package org.maplibre.navigation.android.navigation.v5.navigation;
 
 import android.location.Location;
-import android.util.Pair;
 
 import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
 import org.maplibre.navigation.android.navigation.v5.models.LegStep;
@@ -9,6 +8,8 @@ import org.maplibre.navigation.android.navigation.v5.models.RouteLeg;
 import org.maplibre.navigation.android.navigation.v5.models.StepIntersection;
 import org.maplibre.geojson.Point;
 import org.maplibre.navigation.android.navigation.v5.routeprogress.CurrentLegAnnotation;
+import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteDistanceTable;
+import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteDurationTable;
 import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
 import org.maplibre.navigation.android.navigation.v5.offroute.OffRoute;
 import org.maplibre.navigation.android.navigation.v5.offroute.OffRouteCallback;
@@ -19,14 +20,10 @@ import java.util.List;
 
 import static org.maplibre.navigation.android.navigation.v5.navigation.NavigationHelper.checkBearingForStepCompletion;
 import static org.maplibre.navigation.android.navigation.v5.navigation.NavigationHelper.createCurrentAnnotation;
-import static org.maplibre.navigation.android.navigation.v5.navigation.NavigationHelper.createDistancesToIntersections;
 import static org.maplibre.navigation.android.navigation.v5.navigation.NavigationHelper.createIntersectionsList;
 import static org.maplibre.navigation.android.navigation.v5.navigation.NavigationHelper.decodeStepPoints;
-import static org.maplibre.navigation.android.navigation.v5.navigation.NavigationHelper.findCurrentIntersection;
 import static org.maplibre.navigation.android.navigation.v5.navigation.NavigationHelper.findUpcomingIntersection;
 import static org.maplibre.navigation.android.navigation.v5.navigation.NavigationHelper.increaseIndex;
-import static org.maplibre.navigation.android.navigation.v5.navigation.NavigationHelper.legDistanceRemaining;
-import static org.maplibre.navigation.android.navigation.v5.navigation.NavigationHelper.routeDistanceRemaining;
 import static org.maplibre.navigation.android.navigation.v5.navigation.NavigationHelper.stepDistanceRemaining;
 
 import androidx.annotation.NonNull;
@@ -41,11 +38,13 @@ class NavigationRouteProcessor implements OffRouteCallback {
   private List<Point> currentStepPoints;
   private List<Point> upcomingStepPoints;
   private List<StepIntersection> currentIntersections;
-  private List<Pair<StepIntersection, Double>> currentIntersectionDistances;
+  private StepIntersectionDistances currentIntersectionDistances;
   private RouteLeg currentLeg;
   private LegStep currentStep;
   private LegStep upcomingStep;
   private CurrentLegAnnotation currentLegAnnotation;
+  private RouteDistanceTable distanceTable;
+  private RouteDurationTable durationTable;
   private NavigationIndices indices;
   private double stepDistanceRemaining;
   private boolean shouldIncreaseIndex;
@@ -221,16 +220,16 @@ class NavigationRouteProcessor implements OffRouteCallback {
     int legIndex = indices.legIndex();
     int stepIndex = indices.stepIndex();
 
-    double legDistanceRemaining = legDistanceRemaining(stepDistanceRemaining, legIndex, stepIndex, route);
-    double routeDistanceRemaining = routeDistanceRemaining(legDistanceRemaining, legIndex, route);
+    updateRouteTables(route);
+    double legDistanceRemaining = distanceTable.legDistanceRemaining(legIndex, stepIndex, stepDistanceRemaining);
+    double routeDistanceRemaining = distanceTable.routeDistanceRemaining(legIndex, legDistanceRemaining);
     currentLegAnnotation = createCurrentAnnotation(currentLegAnnotation, currentLeg, legDistanceRemaining);
     double stepDistanceTraveled = currentStep.distance() - stepDistanceRemaining;
 
-    StepIntersection currentIntersection = findCurrentIntersection(
-      currentIntersections, currentIntersectionDistances, stepDistanceTraveled
-    );
+    int currentIntersectionIndex = currentIntersectionDistances.findCurrentIndex(stepDistanceTraveled);
+    StepIntersection currentIntersection = currentIntersections.get(currentIntersectionIndex);
     StepIntersection upcomingIntersection = findUpcomingIntersection(
-      currentIntersections, upcomingStep, currentIntersection
+      currentIntersections, upcomingStep, currentIntersectionIndex
     );
 
     RouteProgress.Builder progressBuilder = RouteProgress.builder()
@@ -245,13 +244,25 @@ class NavigationRouteProcessor implements OffRouteCallback {
       .intersections(currentIntersections)
       .currentIntersection(currentIntersection)
       .upcomingIntersection(upcomingIntersection)
-      .intersectionDistancesAlongStep(currentIntersectionDistances)
-      .currentLegAnnotation(currentLegAnnotation);
+      .intersectionDistancesAlongStep(currentIntersectionDistances.asPairs())
+      .currentLegAnnotation(currentLegAnnotation)
+      .distanceTable(distanceTable)
+      .durationTable(durationTable);
 
     addUpcomingStepPoints(progressBuilder);
     return progressBuilder.build();
   }
 
+  /**
+   * Sums up the distances and durations of a route once, when it is first processed.
+   */
+  private void updateRouteTables(DirectionsRoute route) {
+    if (distanceTable == null || !distanceTable.isFor(route)) {
+      distanceTable = RouteDistanceTable.create(route);
+      durationTable = RouteDurationTable.create(route);
+    }
+  }
+
   private void addUpcomingStepPoints(RouteProgress.Builder progressBuilder) {
     if (upcomingStepPoints != null && !upcomingStepPoints.isEmpty()) {
       progressBuilder.upcomingStepPoints(upcomingStepPoints);
@@ -272,7 +283,7 @@ class NavigationRouteProcessor implements OffRouteCallback {
 
   private void updateIntersections() {
     currentIntersections = createIntersectionsList(currentStep, upcomingStep);
-    currentIntersectionDistances = createDistancesToIntersections(currentStepPoints, currentIntersections);
+    currentIntersectionDistances = StepIntersectionDistances.create(currentStepPoints, currentIntersections);
   }
 
   private void clearManeuverDistances(OffRoute offRoute) {
@@ -0,0 +1,272 @@
+package org.maplibre.navigation.android.navigation.v5.navigation;
+
+import android.location.Location;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.maplibre.navigation.android.navigation.v5.location.LocationValidator;
+import org.maplibre.navigation.android.navigation.v5.milestone.Milestone;
+import org.maplibre.navigation.android.navigation.v5.milestone.MilestoneEventListener;
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
+import org.maplibre.navigation.android.navigation.v5.offroute.OffRoute;
+import org.maplibre.navigation.android.navigation.v5.offroute.OffRouteListener;
+import org.maplibre.navigation.android.navigation.v5.routeprogress.ProgressChangeListener;
+import org.maplibre.navigation.android.navigation.v5.snap.Snap;
+import org.maplibre.navigation.android.navigation.v5.utils.ValidationUtils;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import timber.log.Timber;
+
+/**
+ * A headless navigation session, created by a {@link NavigationSessionPool}.
+ * <p>
+ * A session has its own route, options, milestones, engines and listeners, and runs the same
+ * route progress, off-route, milestone and snapping checks as {@link MapLibreNavigation}, without
+ * any Android {@link android.app.Service}, location engine or notification.
+ * <p>
+ * Updates and configuration changes are processed one after the other, in the order they were
+ * submitted, on a worker thread of the pool. Listeners are invoked on that worker thread and
+ * should return quickly, as other sessions may be waiting for it.
+ *
+ * @since 4.1.0
+ */
+public class NavigationSession {
+
+  private static final int MAX_TASKS_PER_TURN = 16;
+
+  private final Executor workerPool;
+  private final MapLibreNavigation navigation;
+  private final LocationValidator validator;
+  private final RouteProcessorHandlerCallback routeProcessorCallback;
+  private final Queue<Runnable> pendingTasks = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+  private final Runnable drainTask = new Runnable() {
+    @Override
+    public void run() {
+      drainPendingTasks();
+    }
+  };
+  private volatile boolean closed;
+
+  NavigationSession(Executor workerPool, DirectionsRoute route, MapLibreNavigationOptions options) {
+    this.workerPool = workerPool;
+    navigation = new MapLibreNavigation(options);
+    navigation.updateSimulatedRoute(route);
+    validator = new LocationValidator(options.locationAcceptableAccuracyInMetersThreshold());
+    RouteProcessorThreadListener listener = new RouteProcessorThreadListener(
+      navigation.getEventDispatcher(), null);
+    routeProcessorCallback = new RouteProcessorHandlerCallback(new NavigationRouteProcessor(),
+      new Executor() {
+        @Override
+        public void execute(Runnable command) {
+          command.run();
+        }
+      }, listener);
+  }
+
+  /**
+   * Queues a new location for this session. Invalid locations, as defined by the session options,
+   * are dropped.
+   *
+   * @param location to be processed
+   * @since 4.1.0
+   */
+  public void updateLocation(@NonNull final Location location) {
+    enqueue(new Runnable() {
+      @Override
+      public void run() {
+        if (validator.isValidUpdate(location)) {
+          routeProcessorCallback.handleRequest(NavigationLocationUpdate.create(location, navigation));
+        }
+      }
+    });
+  }
+
+  /**
+   * Replaces the route being navigated, as would happen after a reroute. Locations queued before
+   * are still processed along the previous route.
+   *
+   * @param route to navigate along from now on
+   * @since 4.1.0
+   */
+  public void updateRoute(@NonNull final DirectionsRoute route) {
+    ValidationUtils.validDirectionsRoute(route, navigation.options().defaultMilestonesEnabled());
+    enqueue(new Runnable() {
+      @Override
+      public void run() {
+        navigation.updateSimulatedRoute(route);
+      }
+    });
+  }
+
+  /**
+   * @param milestone to be checked with the next processed location
+   * @see MapLibreNavigation#addMilestone(Milestone)
+   * @since 4.1.0
+   */
+  public void addMilestone(@NonNull final Milestone milestone) {
+    enqueue(new Runnable() {
+      @Override
+      public void run() {
+        navigation.addMilestone(milestone);
+      }
+    });
+  }
+
+  /**
+   * @param milestone to stop checking from the next processed location on
+   * @see MapLibreNavigation#removeMilestone(Milestone)
+   * @since 4.1.0
+   */
+  public void removeMilestone(@Nullable final Milestone milestone) {
+    enqueue(new Runnable() {
+      @Override
+      public void run() {
+        navigation.removeMilestone(milestone);
+      }
+    });
+  }
+
+  /**
+   * @param offRouteEngine used from the next processed location on
+   * @see MapLibreNavigation#setOffRouteEngine(OffRoute)
+   * @since 4.1.0
+   */
+  public void setOffRouteEngine(@NonNull final OffRoute offRouteEngine) {
+    enqueue(new Runnable() {
+      @Override
+      public void run() {
+        navigation.setOffRouteEngine(offRouteEngine);
+      }
+    });
+  }
+
+  /**
+   * @param snapEngine used from the next processed location on
+   * @see MapLibreNavigation#setSnapEngine(Snap)
+   * @since 4.1.0
+   */
+  public void setSnapEngine(@NonNull final Snap snapEngine) {
+    enqueue(new Runnable() {
+      @Override
+      public void run() {
+        navigation.setSnapEngine(snapEngine);
+      }
+    });
+  }
+
+  /**
+   * @param progressChangeListener invoked on a worker thread with each processed location
+   * @since 4.1.0
+   */
+  public void addProgressChangeListener(@NonNull ProgressChangeListener progressChangeListener) {
+    navigation.addProgressChangeListener(progressChangeListener);
+  }
+
+  /**
+   * @param progressChangeListener to be removed
+   * @since 4.1.0
+   */
+  public void removeProgressChangeListener(@Nullable ProgressChangeListener progressChangeListener) {
+    navigation.removeProgressChangeListener(progressChangeListener);
+  }
+
+  /**
+   * @param milestoneEventListener invoked on a worker thread when a milestone is triggered
+   * @since 4.1.0
+   */
+  public void addMilestoneEventListener(@NonNull MilestoneEventListener milestoneEventListener) {
+    navigation.addMilestoneEventListener(milestoneEventListener);
+  }
+
+  /**
+   * @param milestoneEventListener to be removed
+   * @since 4.1.0
+   */
+  public void removeMilestoneEventListener(@Nullable MilestoneEventListener milestoneEventListener) {
+    navigation.removeMilestoneEventListener(milestoneEventListener);
+  }
+
+  /**
+   * @param offRouteListener invoked on a worker thread when the session goes off route
+   * @since 4.1.0
+   */
+  public void addOffRouteListener(@NonNull OffRouteListener offRouteListener) {
+    navigation.addOffRouteListener(offRouteListener);
+  }
+
+  /**
+   * @param offRouteListener to be removed
+   * @since 4.1.0
+   */
+  public void removeOffRouteListener(@Nullable OffRouteListener offRouteListener) {
+    navigation.removeOffRouteListener(offRouteListener);
+  }
+
+  /**
+   * Drops all pending updates and ignores the ones submitted afterwards. An update which is being
+   * processed when closing still completes.
+   *
+   * @since 4.1.0
+   */
+  public void close() {
+    closed = true;
+    pendingTasks.clear();
+  }
+
+  private void enqueue(Runnable task) {
+    if (closed) {
+      return;
+    }
+    pendingTasks.add(task);
+    scheduleDrain();
+  }
+
+  private void scheduleDrain() {
+    if (!pendingTasks.isEmpty() && scheduled.compareAndSet(false, true)) {
+      try {
+        workerPool.execute(drainTask);
+      } catch (RejectedExecutionException exception) {
+        Timber.w("Navigation session pool has been shut down, dropping pending updates.");
+        closed = true;
+        pendingTasks.clear();
+        scheduled.set(false);
+      }
+    }
+  }
+
+  /**
+   * Runs a bounded number of pending tasks, then hands the worker back to the pool so that a busy
+   * session doesn't starve the others.
+   */
+  private void drainPendingTasks() {
+    try {
+      for (int i = 0; i < MAX_TASKS_PER_TURN && !closed; i++) {
+        Runnable task = pendingTasks.poll();
+        if (task == null) {
+          break;
+        }
+        runTask(task);
+      }
+    } finally {
+      scheduled.set(false);
+      if (!closed) {
+        scheduleDrain();
+      }
+    }
+  }
+
+  private void runTask(Runnable task) {
+    try {
+      task.run();
+    } catch (RuntimeException exception) {
+      Timber.e(exception, "Navigation session update failed.");
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package org.maplibre.navigation.android.navigation.v5.navigation;
+
+import androidx.annotation.NonNull;
+
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded pool of worker threads shared by many headless {@link NavigationSession}s.
+ * <p>
+ * Each session processes its own updates one after the other, while updates of different sessions
+ * are processed in parallel on the pool threads. This allows to follow the progress of a large
+ * number of vehicles in one process without one thread and one {@link NavigationService} per
+ * vehicle:
+ * <pre>
+ * NavigationSessionPool pool = new NavigationSessionPool(4);
+ * NavigationSession session = pool.createSession(route);
+ * session.addProgressChangeListener(listener);
+ * session.updateLocation(location);
+ * </pre>
+ *
+ * @since 4.1.0
+ */
+public class NavigationSessionPool {
+
+  private static final String WORKER_THREAD_NAME = "maplibre_navigation_session_worker_";
+
+  private final ExecutorService workerPool;
+
+  /**
+   * Creates a pool with the given number of worker threads.
+   *
+   * @param threadCount maximum number of sessions processed at the same time
+   * @since 4.1.0
+   */
+  public NavigationSessionPool(int threadCount) {
+    if (threadCount < 1) {
+      throw new IllegalArgumentException("A navigation session pool requires at least one thread.");
+    }
+    workerPool = Executors.newFixedThreadPool(threadCount, new WorkerThreadFactory());
+  }
+
+  /**
+   * Creates a session with the default {@link MapLibreNavigationOptions}.
+   *
+   * @param route to navigate along
+   * @return a new session processed by this pool
+   * @since 4.1.0
+   */
+  @NonNull
+  public NavigationSession createSession(@NonNull DirectionsRoute route) {
+    return createSession(route, MapLibreNavigationOptions.builder().build());
+  }
+
+  /**
+   * Creates a session with custom {@link MapLibreNavigationOptions}.
+   *
+   * @param route   to navigate along
+   * @param options used by this session only
+   * @return a new session processed by this pool
+   * @since 4.1.0
+   */
+  @NonNull
+  public NavigationSession createSession(@NonNull DirectionsRoute route,
+                                         @NonNull MapLibreNavigationOptions options) {
+    return new NavigationSession(workerPool, route, options);
+  }
+
+  /**
+   * Stops the worker threads once the turns already handed to the pool have run. Sessions created
+   * by this pool drop their remaining and further updates afterwards.
+   *
+   * @since 4.1.0
+   */
+  public void shutdown() {
+    workerPool.shutdown();
+  }
+
+  /**
+   * Blocks until all queued updates have been processed after a {@link #shutdown()}.
+   *
+   * @param timeoutInMillis maximum time to wait
+   * @return true if the pool terminated, false if the timeout elapsed first
+   * @throws InterruptedException if interrupted while waiting
+   * @since 4.1.0
+   */
+  public boolean awaitTermination(long timeoutInMillis) throws InterruptedException {
+    return workerPool.awaitTermination(timeoutInMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private static class WorkerThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    @Override
+    public Thread newThread(@NonNull Runnable runnable) {
+      Thread thread = new Thread(runnable, WORKER_THREAD_NAME + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -0,0 +1,246 @@
+package org.maplibre.navigation.android.navigation.v5.navigation;
+
+import android.location.Location;
+import android.os.Handler;
+import android.os.HandlerThread;
+
+import androidx.annotation.NonNull;
+
+import org.maplibre.navigation.android.navigation.v5.location.LocationValidator;
+import org.maplibre.navigation.android.navigation.v5.location.replay.ReplayRouteLocations;
+import org.maplibre.navigation.android.navigation.v5.milestone.Milestone;
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
+import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
+
+import java.util.List;
+
+/**
+ * Drives a {@link MapLibreNavigation} session with simulated locations on a virtual clock, as fast
+ * as the navigation engine can process them.
+ * <p>
+ * Locations go through the same validation and background route processing as locations from a
+ * {@link org.maplibre.android.location.engine.LocationEngine}, and the registered progress,
+ * milestone and off-route listeners are invoked the same way. No {@link NavigationService} or
+ * notification is involved; listeners are invoked on a dedicated simulation thread.
+ * <p>
+ * Each location is fully processed, including all listener callbacks, before the next one is
+ * submitted, which makes simulations deterministic and suitable for tests:
+ * <pre>
+ * NavigationSimulator simulator = new NavigationSimulator(navigation, route);
+ * simulator.simulateRoute(50, 1);
+ * simulator.stop();
+ * </pre>
+ *
+ * @since 4.1.0
+ */
+public class NavigationSimulator {
+
+  private static final String SIMULATION_THREAD_NAME = "maplibre_navigation_simulation_thread";
+  private static final long DEFAULT_QUIESCENCE_TIMEOUT_IN_MILLIS = 10000;
+
+  private final MapLibreNavigation navigation;
+  private final HandlerThread responseThread;
+  private final RouteProcessorBackgroundThread routeProcessorThread;
+  private final NavigationLocationEngineListener locationEngineListener;
+  private final Object lock = new Object();
+  private int pendingLocations;
+  private long virtualTimeInMillis;
+
+  /**
+   * Creates a simulator for the given route. The virtual clock starts at 0.
+   *
+   * @param navigation whose listeners and engines are used for the simulation
+   * @param route      to navigate along
+   * @since 4.1.0
+   */
+  public NavigationSimulator(@NonNull MapLibreNavigation navigation, @NonNull DirectionsRoute route) {
+    this.navigation = navigation;
+    navigation.updateSimulatedRoute(route);
+    responseThread = new HandlerThread(SIMULATION_THREAD_NAME);
+    responseThread.start();
+    RouteProcessorThreadListener threadListener = new RouteProcessorThreadListener(
+      navigation.getEventDispatcher(), null);
+    routeProcessorThread = new RouteProcessorBackgroundThread(new Handler(responseThread.getLooper()),
+      new QuiescenceListener(threadListener));
+    int accuracyThreshold = navigation.options().locationAcceptableAccuracyInMetersThreshold();
+    locationEngineListener = new NavigationLocationEngineListener(routeProcessorThread, navigation,
+      navigation.getLocationEngine(), new LocationValidator(accuracyThreshold));
+  }
+
+  /**
+   * Replaces the route being navigated, as would happen after a reroute.
+   *
+   * @param route to navigate along from now on
+   * @since 4.1.0
+   */
+  public void updateRoute(@NonNull DirectionsRoute route) {
+    awaitQuiescence(DEFAULT_QUIESCENCE_TIMEOUT_IN_MILLIS);
+    navigation.updateSimulatedRoute(route);
+  }
+
+  /**
+   * Submits a single location for processing without waiting for it to be processed.
+   * <p>
+   * The virtual clock is advanced to the location time if the location is more recent.
+   *
+   * @param location to be processed
+   * @return true if the location passed validation and was submitted
+   * @since 4.1.0
+   */
+  public boolean pushLocation(@NonNull Location location) {
+    if (!locationEngineListener.isValidLocationUpdate(location)) {
+      return false;
+    }
+    synchronized (lock) {
+      virtualTimeInMillis = Math.max(virtualTimeInMillis, location.getTime());
+      pendingLocations++;
+    }
+    boolean queued = false;
+    try {
+      locationEngineListener.queueLocationUpdate(location);
+      queued = true;
+    } finally {
+      if (!queued) {
+        onLocationProcessed();
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Blocks until all submitted locations have been processed and all listeners have been invoked.
+   * Must not be called from a navigation listener.
+   *
+   * @param timeoutInMillis maximum time to wait
+   * @return true if the simulation is idle, false if the timeout elapsed first
+   * @since 4.1.0
+   */
+  public boolean awaitQuiescence(long timeoutInMillis) {
+    long deadline = System.currentTimeMillis() + timeoutInMillis;
+    synchronized (lock) {
+      while (pendingLocations > 0) {
+        long remaining = deadline - System.currentTimeMillis();
+        if (remaining <= 0) {
+          return false;
+        }
+        try {
+          lock.wait(remaining);
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  /**
+   * Processes the given locations one after the other, waiting for each one to be fully
+   * processed before submitting the next.
+   *
+   * @param locations to be processed, in order
+   * @return the number of locations that passed validation and were processed
+   * @since 4.1.0
+   */
+  public int simulate(@NonNull List<Location> locations) {
+    int processedLocations = 0;
+    for (Location location : locations) {
+      if (pushLocation(location)) {
+        processedLocations++;
+        if (!awaitQuiescence(DEFAULT_QUIESCENCE_TIMEOUT_IN_MILLIS)) {
+          throw new IllegalStateException("Location was not processed within the quiescence timeout.");
+        }
+      }
+    }
+    return processedLocations;
+  }
+
+  /**
+   * Drives the whole current route at a constant speed, starting at the current virtual time.
+   *
+   * @param speedInKmPerHour constant speed driven along the route
+   * @param delayInSeconds   virtual time between two locations
+   * @return the number of locations that were processed
+   * @since 4.1.0
+   */
+  public int simulateRoute(int speedInKmPerHour, int delayInSeconds) {
+    List<Location> locations = ReplayRouteLocations.fromRoute(navigation.getRoute(), speedInKmPerHour,
+      delayInSeconds, currentTimeMillis());
+    return simulate(locations);
+  }
+
+  /**
+   * @return the time of the most recent submitted location, in milliseconds
+   * @since 4.1.0
+   */
+  public long currentTimeMillis() {
+    synchronized (lock) {
+      return virtualTimeInMillis;
+    }
+  }
+
+  /**
+   * Stops the simulation threads. Locations which are still pending are dropped.
+   *
+   * @since 4.1.0
+   */
+  public void stop() {
+    routeProcessorThread.quit();
+    responseThread.quit();
+  }
+
+  private void onLocationProcessed() {
+    synchronized (lock) {
+      pendingLocations--;
+      lock.notifyAll();
+    }
+  }
+
+  /**
+   * Counts a location as processed once the last of its callbacks, {@link #onUserOffRoute}, has
+   * been delivered, or as soon as an earlier callback throws and the remaining ones are skipped.
+   */
+  private class QuiescenceListener implements RouteProcessorBackgroundThread.Listener {
+
+    private final RouteProcessorBackgroundThread.Listener listener;
+
+    QuiescenceListener(RouteProcessorBackgroundThread.Listener listener) {
+      this.listener = listener;
+    }
+
+    @Override
+    public void onNewRouteProgress(Location location, RouteProgress routeProgress) {
+      boolean delivered = false;
+      try {
+        listener.onNewRouteProgress(location, routeProgress);
+        delivered = true;
+      } finally {
+        if (!delivered) {
+          onLocationProcessed();
+        }
+      }
+    }
+
+    @Override
+    public void onMilestoneTrigger(List<Milestone> triggeredMilestones, RouteProgress routeProgress) {
+      boolean delivered = false;
+      try {
+        listener.onMilestoneTrigger(triggeredMilestones, routeProgress);
+        delivered = true;
+      } finally {
+        if (!delivered) {
+          onLocationProcessed();
+        }
+      }
+    }
+
+    @Override
+    public void onUserOffRoute(Location location, boolean userOffRoute) {
+      try {
+        listener.onUserOffRoute(location, userOffRoute);
+      } finally {
+        onLocationProcessed();
+      }
+    }
+  }
+}
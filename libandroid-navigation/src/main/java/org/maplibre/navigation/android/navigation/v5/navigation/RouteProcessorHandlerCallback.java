@@ -12,17 +12,28 @@ import org.maplibre.navigation.android.navigation.v5.milestone.Milestone;
 import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
 class RouteProcessorHandlerCallback implements Handler.Callback {
 
     private final NavigationRouteProcessor routeProcessor;
     private final RouteProcessorBackgroundThread.Listener listener;
-    private final Handler responseHandler;
+    private final Executor responseExecutor;
 
-    RouteProcessorHandlerCallback(NavigationRouteProcessor routeProcessor, Handler responseHandler,
+    RouteProcessorHandlerCallback(NavigationRouteProcessor routeProcessor, final Handler responseHandler,
+            RouteProcessorBackgroundThread.Listener listener) {
+        this(routeProcessor, new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                responseHandler.post(command);
+            }
+        }, listener);
+    }
+
+    RouteProcessorHandlerCallback(NavigationRouteProcessor routeProcessor, Executor responseExecutor,
             RouteProcessorBackgroundThread.Listener listener) {
         this.routeProcessor = routeProcessor;
-        this.responseHandler = responseHandler;
+        this.responseExecutor = responseExecutor;
         this.listener = listener;
     }
 
@@ -37,12 +48,16 @@ class RouteProcessorHandlerCallback implements Handler.Callback {
      * Takes a new location model and runs all related engine checks against it
      * (off-route, milestones, snapped location, and faster-route).
      * <p>
+     * If a {@link NavigationFlightRecorder} is set, the results are recorded before being sent.
+     * <p>
      * After running through the engines, all data is submitted to {@link NavigationService} via
      * {@link RouteProcessorBackgroundThread.Listener}.
+     * <p>
+     * Not thread-safe: requests must be handled one after the other.
      *
      * @param update hold location, navigation (with options), and distances away from maneuver
      */
-    private void handleRequest(final NavigationLocationUpdate update) {
+    void handleRequest(final NavigationLocationUpdate update) {
         final MapLibreNavigation mapLibreNavigation = update.mapLibreNavigation();
         final Location rawLocation = update.location();
         RouteProgress routeProgress = routeProcessor.buildNewRouteProgress(mapLibreNavigation, rawLocation);
@@ -52,9 +67,18 @@ class RouteProcessorHandlerCallback implements Handler.Callback {
         final Location location = findSnappedLocation(mapLibreNavigation, rawLocation, routeProgress, userOffRoute);
 
         final RouteProgress finalRouteProgress = updateRouteProcessorWith(routeProgress);
+        record(mapLibreNavigation, rawLocation, location, finalRouteProgress, userOffRoute, milestones);
         sendUpdateToListener(userOffRoute, milestones, location, finalRouteProgress);
     }
 
+    private void record(MapLibreNavigation mapLibreNavigation, Location rawLocation, Location location,
+                        RouteProgress routeProgress, boolean userOffRoute, List<Milestone> milestones) {
+        NavigationFlightRecorder flightRecorder = mapLibreNavigation.getFlightRecorder();
+        if (flightRecorder != null) {
+            flightRecorder.record(rawLocation, location, routeProgress, userOffRoute, milestones);
+        }
+    }
+
     private List<Milestone> findTriggeredMilestones(MapLibreNavigation mapLibreNavigation, RouteProgress routeProgress) {
         RouteProgress previousRouteProgress = routeProcessor.getRouteProgress();
         return checkMilestones(previousRouteProgress, routeProgress, mapLibreNavigation);
@@ -81,7 +105,7 @@ class RouteProcessorHandlerCallback implements Handler.Callback {
 
     private void sendUpdateToListener(final boolean userOffRoute, final List<Milestone> milestones,
             final Location location, final RouteProgress finalRouteProgress) {
-        responseHandler.post(new Runnable() {
+        responseExecutor.execute(new Runnable() {
             @Override
             public void run() {
                 listener.onNewRouteProgress(location, finalRouteProgress);
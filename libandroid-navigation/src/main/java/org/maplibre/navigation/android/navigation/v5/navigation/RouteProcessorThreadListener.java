@@ -2,6 +2,8 @@ package org.maplibre.navigation.android.navigation.v5.navigation;
 
 import android.location.Location;
 
+import androidx.annotation.Nullable;
+
 import org.maplibre.navigation.android.navigation.v5.milestone.Milestone;
 import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
 
@@ -14,7 +16,8 @@ class RouteProcessorThreadListener implements RouteProcessorBackgroundThread.Lis
   private final NavigationEventDispatcher eventDispatcher;
   private final NavigationNotificationProvider notificationProvider;
 
-  RouteProcessorThreadListener(NavigationEventDispatcher eventDispatcher, NavigationNotificationProvider notificationProvider) {
+  RouteProcessorThreadListener(NavigationEventDispatcher eventDispatcher,
+                               @Nullable NavigationNotificationProvider notificationProvider) {
     this.eventDispatcher = eventDispatcher;
     this.notificationProvider = notificationProvider;
   }
@@ -25,7 +28,9 @@ class RouteProcessorThreadListener implements RouteProcessorBackgroundThread.Lis
    */
   @Override
   public void onNewRouteProgress(Location location, RouteProgress routeProgress) {
-    notificationProvider.updateNavigationNotification(routeProgress);
+    if (notificationProvider != null) {
+      notificationProvider.updateNavigationNotification(routeProgress);
+    }
     eventDispatcher.onProgressChange(location, routeProgress);
   }
 
@@ -0,0 +1,158 @@
+package org.maplibre.navigation.android.navigation.v5.navigation;
+
+import android.util.Pair;
+
+import androidx.annotation.NonNull;
+
+import org.maplibre.geojson.LineString;
+import org.maplibre.geojson.Point;
+import org.maplibre.navigation.android.navigation.v5.models.StepIntersection;
+import org.maplibre.navigation.android.navigation.v5.utils.PackedLineString;
+import org.maplibre.turf.TurfConstants;
+import org.maplibre.turf.TurfMeasurement;
+import org.maplibre.turf.TurfMisc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Distances of the intersections of a step along the step geometry, measured once per step.
+ * <p>
+ * Intersections are located on the vertices of the step geometry, in order. The distances are
+ * therefore read from the cumulative vertex distances in a single forward walk over the geometry,
+ * instead of slicing and measuring the geometry from its start for every intersection. An
+ * intersection which isn't found on a vertex is measured by slicing, as before.
+ */
+class StepIntersectionDistances {
+
+  private static final int TWO_POINTS = 2;
+  private static final int FIRST_INTERSECTION = 0;
+  private static final double COORDINATE_TOLERANCE = 1E-7;
+  private static final StepIntersectionDistances EMPTY = new StepIntersectionDistances(
+    Collections.<StepIntersection>emptyList(), new double[0]);
+
+  private final List<StepIntersection> intersections;
+  private final double[] distances;
+  private final boolean isSorted;
+  private List<Pair<StepIntersection, Double>> distancePairs;
+
+  private StepIntersectionDistances(List<StepIntersection> intersections, double[] distances) {
+    this.intersections = intersections;
+    this.distances = distances;
+    this.isSorted = checkSorted(distances);
+  }
+
+  @NonNull
+  static StepIntersectionDistances create(@NonNull List<Point> stepPoints,
+                                          @NonNull List<StepIntersection> intersections) {
+    if (stepPoints.size() < TWO_POINTS || intersections.isEmpty()) {
+      return EMPTY;
+    }
+    PackedLineString stepGeometry = PackedLineString.fromPoints(stepPoints);
+    double[] vertexDistances = new double[stepGeometry.size()];
+    for (int i = 1; i < vertexDistances.length; i++) {
+      vertexDistances[i] = vertexDistances[i - 1] + stepGeometry.distanceInMeters(i - 1, i);
+    }
+
+    double[] distances = new double[intersections.size()];
+    int vertexCursor = 0;
+    for (int i = 0; i < intersections.size(); i++) {
+      Point location = intersections.get(i).location();
+      int vertex = findVertex(stepGeometry, location, vertexCursor);
+      if (vertex >= 0) {
+        distances[i] = vertexDistances[vertex];
+        vertexCursor = vertex;
+      } else {
+        distances[i] = measureBySlicing(stepGeometry, location);
+      }
+    }
+    return new StepIntersectionDistances(intersections, distances);
+  }
+
+  /**
+   * @return the intersections paired with their distance along the step, created once
+   */
+  @NonNull
+  List<Pair<StepIntersection, Double>> asPairs() {
+    if (distancePairs == null) {
+      List<Pair<StepIntersection, Double>> pairs = new ArrayList<>(distances.length);
+      for (int i = 0; i < distances.length; i++) {
+        pairs.add(new Pair<>(intersections.get(i), distances[i]));
+      }
+      distancePairs = Collections.unmodifiableList(pairs);
+    }
+    return distancePairs;
+  }
+
+  /**
+   * Same result as {@link NavigationHelper#findCurrentIntersection(List, List, double)}, found by a
+   * binary search when the distances are in order.
+   *
+   * @param stepDistanceTraveled how far the user has traveled along the step
+   * @return the index of the current intersection
+   */
+  int findCurrentIndex(double stepDistanceTraveled) {
+    int size = distances.length;
+    if (size == 0) {
+      return FIRST_INTERSECTION;
+    }
+    if (!isSorted) {
+      return findCurrentIndexLinear(stepDistanceTraveled);
+    }
+    // Last intersection before the distance traveled
+    int low = 0;
+    int high = size - 1;
+    int index = -1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      if (distances[middle] < stepDistanceTraveled) {
+        index = middle;
+        low = middle + 1;
+      } else {
+        high = middle - 1;
+      }
+    }
+    if (index < 0 || index == size - 1) {
+      return Math.max(index, FIRST_INTERSECTION);
+    }
+    return stepDistanceTraveled < distances[index + 1] ? index : FIRST_INTERSECTION;
+  }
+
+  private int findCurrentIndexLinear(double stepDistanceTraveled) {
+    int lastIndex = distances.length - 1;
+    for (int i = 0; i < lastIndex; i++) {
+      if (stepDistanceTraveled > distances[i] && stepDistanceTraveled < distances[i + 1]) {
+        return i;
+      }
+    }
+    return stepDistanceTraveled > distances[lastIndex] ? lastIndex : FIRST_INTERSECTION;
+  }
+
+  private static int findVertex(PackedLineString stepGeometry, Point location, int fromVertex) {
+    double longitude = location.longitude();
+    double latitude = location.latitude();
+    for (int i = fromVertex; i < stepGeometry.size(); i++) {
+      if (Math.abs(stepGeometry.longitude(i) - longitude) < COORDINATE_TOLERANCE
+        && Math.abs(stepGeometry.latitude(i) - latitude) < COORDINATE_TOLERANCE) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static double measureBySlicing(PackedLineString stepGeometry, Point location) {
+    LineString stepLineString = LineString.fromLngLats(stepGeometry);
+    LineString beginningLineString = TurfMisc.lineSlice(stepGeometry.get(0), location, stepLineString);
+    return TurfMeasurement.length(beginningLineString, TurfConstants.UNIT_METERS);
+  }
+
+  private static boolean checkSorted(double[] distances) {
+    for (int i = 1; i < distances.length; i++) {
+      if (distances[i] < distances[i - 1]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
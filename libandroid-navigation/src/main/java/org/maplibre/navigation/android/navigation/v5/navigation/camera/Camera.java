@@ -38,6 +38,9 @@ public abstract class Camera {
    */
   public abstract double zoom(RouteInformation routeInformation);
 
-
+  /**
+   * Points the camera should fit when showing the route overview. This is called each time the
+   * overview is shown, so the points should be cached per route rather than decoded again.
+   */
   public abstract List<Point> overview(RouteInformation routeInformation);
 }
@@ -0,0 +1,139 @@
+package org.maplibre.navigation.android.navigation.v5.navigation.camera;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.maplibre.geojson.Point;
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
+import org.maplibre.navigation.android.navigation.v5.utils.Constants;
+import org.maplibre.navigation.android.navigation.v5.utils.PackedLineString;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Bounds of a {@link DirectionsRoute} geometry and of the part of it not traveled yet, computed
+ * once per route.
+ * <p>
+ * The bounds of the vertices from each vertex to the end of the route are stored in primitive
+ * arrays, so the bounds of the remaining route are a lookup at the first remaining vertex. That
+ * vertex is found by walking the geometry forward from the one found for the previous distance
+ * traveled, as progress along a route only moves forward.
+ *
+ * @since 4.1.0
+ */
+public final class RouteOverviewBounds {
+
+  private static final int TWO_POINTS = 2;
+
+  private final DirectionsRoute route;
+  private final PackedLineString geometry;
+  private final double[] southAfter;
+  private final double[] westAfter;
+  private final double[] northAfter;
+  private final double[] eastAfter;
+  private final List<Point> routeBounds;
+  private int remainingIndex;
+  private double remainingIndexDistance;
+  private List<Point> remainingBounds;
+
+  private RouteOverviewBounds(DirectionsRoute route, PackedLineString geometry) {
+    this.route = route;
+    this.geometry = geometry;
+    int size = geometry.size();
+    southAfter = new double[size];
+    westAfter = new double[size];
+    northAfter = new double[size];
+    eastAfter = new double[size];
+    for (int i = size - 1; i >= 0; i--) {
+      double latitude = geometry.latitude(i);
+      double longitude = geometry.longitude(i);
+      boolean isLast = i == size - 1;
+      southAfter[i] = isLast ? latitude : Math.min(latitude, southAfter[i + 1]);
+      westAfter[i] = isLast ? longitude : Math.min(longitude, westAfter[i + 1]);
+      northAfter[i] = isLast ? latitude : Math.max(latitude, northAfter[i + 1]);
+      eastAfter[i] = isLast ? longitude : Math.max(longitude, eastAfter[i + 1]);
+    }
+    routeBounds = size < TWO_POINTS ? Collections.<Point>emptyList() : boundsFrom(0);
+    remainingBounds = routeBounds;
+  }
+
+  /**
+   * Decodes the geometry of the given route and computes its bounds.
+   *
+   * @param route to compute the bounds for
+   * @return the bounds of the route
+   * @since 4.1.0
+   */
+  @NonNull
+  public static RouteOverviewBounds create(@NonNull DirectionsRoute route) {
+    String geometry = route.geometry();
+    PackedLineString line = geometry == null
+      ? PackedLineString.fromPoints(Collections.<Point>emptyList())
+      : PackedLineString.fromPolyline(geometry, Constants.PRECISION_6);
+    return new RouteOverviewBounds(route, line);
+  }
+
+  static RouteOverviewBounds create(DirectionsRoute route, PackedLineString geometry) {
+    return new RouteOverviewBounds(route, geometry);
+  }
+
+  /**
+   * @param route to check
+   * @return true if these bounds have been computed for the given route
+   * @since 4.1.0
+   */
+  public boolean isFor(@Nullable DirectionsRoute route) {
+    return this.route == route;
+  }
+
+  /**
+   * @return the south west and north east corners of the route, or an empty list if the route
+   * has less than two points
+   * @since 4.1.0
+   */
+  @NonNull
+  public List<Point> routeBounds() {
+    return routeBounds;
+  }
+
+  /**
+   * Provides the bounds of the route from the vertex at or before the given distance on.
+   * <p>
+   * The first remaining vertex never moves back, a smaller distance than a previous one returns
+   * the previous bounds.
+   *
+   * @param distanceTraveled along the route, in meters
+   * @return the south west and north east corners of the remaining route, or an empty list if
+   * the route has less than two points
+   * @since 4.1.0
+   */
+  @NonNull
+  public List<Point> remainingBounds(double distanceTraveled) {
+    int lastStartIndex = geometry.size() - TWO_POINTS;
+    int index = remainingIndex;
+    double indexDistance = remainingIndexDistance;
+    while (index < lastStartIndex) {
+      double nextIndexDistance = indexDistance + geometry.distanceInMeters(index, index + 1);
+      if (nextIndexDistance > distanceTraveled) {
+        break;
+      }
+      index++;
+      indexDistance = nextIndexDistance;
+    }
+    if (index != remainingIndex) {
+      remainingIndex = index;
+      remainingIndexDistance = indexDistance;
+      remainingBounds = boundsFrom(index);
+    }
+    return remainingBounds;
+  }
+
+  private List<Point> boundsFrom(int index) {
+    return Collections.unmodifiableList(Arrays.asList(
+      Point.fromLngLat(westAfter[index], southAfter[index]),
+      Point.fromLngLat(eastAfter[index], northAfter[index])
+    ));
+  }
+}
@@ -1,13 +1,14 @@
 package org.maplibre.navigation.android.navigation.v5.navigation.camera;
 
+import androidx.annotation.Nullable;
+
 import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
-import org.maplibre.geojson.LineString;
 import org.maplibre.geojson.Point;
 import org.maplibre.navigation.android.navigation.v5.navigation.MapLibreNavigation;
 import org.maplibre.navigation.android.navigation.v5.utils.Constants;
+import org.maplibre.navigation.android.navigation.v5.utils.PackedLineString;
 import org.maplibre.turf.TurfMeasurement;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -21,9 +22,10 @@ public class SimpleCamera extends Camera {
   protected static final int DEFAULT_TILT = 50;
   protected static final double DEFAULT_ZOOM = 15d;
 
-  private List<Point> routeCoordinates = new ArrayList<>();
+  private PackedLineString routeCoordinates = PackedLineString.fromPoints(Collections.<Point>emptyList());
   private double initialBearing;
   private DirectionsRoute initialRoute;
+  private RouteOverviewBounds overviewBounds;
 
   @Override
   public double bearing(RouteInformation routeInformation) {
@@ -64,25 +66,52 @@ public class SimpleCamera extends Camera {
     return DEFAULT_ZOOM;
   }
 
+  /**
+   * Provides the route coordinates, decoded once per route.
+   */
   @Override
   public List<Point> overview(RouteInformation routeInformation) {
-    boolean invalidCoordinates = routeCoordinates == null || routeCoordinates.isEmpty();
-    if (invalidCoordinates) {
-      buildRouteCoordinatesFromRouteData(routeInformation);
+    DirectionsRoute route = findRoute(routeInformation);
+    if (route != null) {
+      setupLineStringAndBearing(route);
     }
     return routeCoordinates;
   }
 
-  private void buildRouteCoordinatesFromRouteData(RouteInformation routeInformation) {
+  /**
+   * Provides the bounds of the route and of its remaining part, kept per route and computed from
+   * the same coordinates as {@link #overview(RouteInformation)}. The remaining part is found with
+   * {@link RouteOverviewBounds#remainingBounds(double)}.
+   *
+   * @param routeInformation with the route or the route progress
+   * @return the bounds of the route, or of the last route if the information has none
+   * @since 4.1.0
+   */
+  @Nullable
+  public RouteOverviewBounds overviewBounds(RouteInformation routeInformation) {
+    DirectionsRoute route = findRoute(routeInformation);
+    if (route == null) {
+      return overviewBounds;
+    }
+    setupLineStringAndBearing(route);
+    if (overviewBounds == null || !overviewBounds.isFor(initialRoute)) {
+      overviewBounds = RouteOverviewBounds.create(initialRoute, routeCoordinates);
+    }
+    return overviewBounds;
+  }
+
+  @Nullable
+  private DirectionsRoute findRoute(RouteInformation routeInformation) {
     if (routeInformation.route() != null) {
-      setupLineStringAndBearing(routeInformation.route());
+      return routeInformation.route();
     } else if (routeInformation.routeProgress() != null) {
-      setupLineStringAndBearing(routeInformation.routeProgress().directionsRoute());
+      return routeInformation.routeProgress().directionsRoute();
     }
+    return null;
   }
 
   private void setupLineStringAndBearing(DirectionsRoute route) {
-    if (initialRoute != null && route.equals(initialRoute)) {
+    if (initialRoute != null && (route == initialRoute || route.equals(initialRoute))) {
       return; //no need to recalculate these values
     }
     initialRoute = route;
@@ -93,11 +122,10 @@ public class SimpleCamera extends Camera {
     );
   }
 
-  private List<Point> generateRouteCoordinates(DirectionsRoute route) {
+  private PackedLineString generateRouteCoordinates(DirectionsRoute route) {
     if (route == null) {
-      return Collections.emptyList();
+      return PackedLineString.fromPoints(Collections.<Point>emptyList());
     }
-    LineString lineString = LineString.fromPolyline(route.geometry(), Constants.PRECISION_6);
-    return lineString.coordinates();
+    return PackedLineString.fromPolyline(route.geometry(), Constants.PRECISION_6);
   }
 }
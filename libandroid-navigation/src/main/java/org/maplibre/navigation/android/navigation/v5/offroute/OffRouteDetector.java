@@ -3,16 +3,13 @@ package org.maplibre.navigation.android.navigation.v5.offroute;
 import android.location.Location;
 
 import org.maplibre.navigation.android.navigation.v5.models.LegStep;
-import org.maplibre.geojson.LineString;
 import org.maplibre.geojson.Point;
 import org.maplibre.navigation.android.navigation.v5.navigation.MapLibreNavigationOptions;
 import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
+import org.maplibre.navigation.android.navigation.v5.utils.PackedLineString;
 import org.maplibre.navigation.android.navigation.v5.utils.RingBuffer;
 import org.maplibre.turf.TurfConstants;
 import org.maplibre.turf.TurfMeasurement;
-import org.maplibre.turf.TurfMisc;
-
-import java.util.List;
 
 import static org.maplibre.navigation.android.navigation.v5.utils.MeasurementUtils.userTrueDistanceFromStep;
 import static org.maplibre.navigation.android.navigation.v5.utils.ToleranceUtils.dynamicRerouteDistanceTolerance;
@@ -152,7 +149,7 @@ public class OffRouteDetector extends OffRoute {
                                            RingBuffer<Integer> distancesAwayFromManeuver,
                                            Point currentPoint,
                                            MapLibreNavigationOptions options) {
-    List<Point> stepPoints = routeProgress.currentStepPoints();
+    PackedLineString stepPoints = routeProgress.currentStepGeometry();
     if (movingAwayFromManeuver(routeProgress, distancesAwayFromManeuver, stepPoints, currentPoint, options)) {
       updateLastReroutePoint(location);
       return true;
@@ -207,7 +204,7 @@ public class OffRouteDetector extends OffRoute {
    */
   private static boolean movingAwayFromManeuver(RouteProgress routeProgress,
                                                 RingBuffer<Integer> distancesAwayFromManeuver,
-                                                List<Point> stepPoints,
+                                                PackedLineString stepPoints,
                                                 Point currentPoint,
                                                 MapLibreNavigationOptions options) {
     boolean invalidUpcomingStep = routeProgress.currentLegProgress().upComingStep() == null;
@@ -216,16 +213,18 @@ public class OffRouteDetector extends OffRoute {
       return false;
     }
 
-    LineString stepLineString = LineString.fromLngLats(stepPoints);
-    Point maneuverPoint = stepPoints.get(stepPoints.size() - 1);
-    Point userPointOnStep = (Point) TurfMisc.nearestPointOnLine(currentPoint, stepPoints).geometry();
+    int maneuverIndex = stepPoints.size() - 1;
+    double maneuverLongitude = stepPoints.longitude(maneuverIndex);
+    double maneuverLatitude = stepPoints.latitude(maneuverIndex);
+    PackedLineString.NearestPoint userPointOnStep = stepPoints.nearestPoint(currentPoint.longitude(),
+      currentPoint.latitude());
 
-    if (userPointOnStep == null || maneuverPoint.equals(userPointOnStep)) {
+    if (userPointOnStep.isAt(maneuverLongitude, maneuverLatitude)) {
       return false;
     }
 
-    LineString remainingStepLineString = TurfMisc.lineSlice(userPointOnStep, maneuverPoint, stepLineString);
-    int userDistanceToManeuver = (int) TurfMeasurement.length(remainingStepLineString, TurfConstants.UNIT_METERS);
+    PackedLineString.NearestPoint maneuverPoint = stepPoints.nearestPoint(maneuverLongitude, maneuverLatitude);
+    int userDistanceToManeuver = (int) stepPoints.lengthInMeters(userPointOnStep, maneuverPoint);
 
     if (distancesAwayFromManeuver.isEmpty()) {
       // No move-away positions before, add the current one to history stack
@@ -0,0 +1,125 @@
+package org.maplibre.navigation.android.navigation.v5.route;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.maplibre.android.utils.MathUtils;
+import org.maplibre.geojson.LineString;
+import org.maplibre.geojson.Point;
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
+import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
+import org.maplibre.turf.TurfConstants;
+import org.maplibre.turf.TurfMeasurement;
+import org.maplibre.turf.TurfMisc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Holds the upcoming maneuver arrow geometry for the step the user is currently on.
+ * <p>
+ * The arrow only depends on the current and upcoming step geometry, so it is computed once
+ * per route, leg and step index. {@link #update(RouteProgress)} tells the caller whether the
+ * geometry changed, so map sources only need to be updated on a step change.
+ *
+ * @since 4.1.0
+ */
+public class ManeuverArrowCache {
+
+  private static final double ARROW_LENGTH_IN_METERS = 30;
+  private static final double MAX_DEGREES = 360;
+
+  @Nullable
+  private DirectionsRoute route;
+  private int legIndex = -1;
+  private int stepIndex = -1;
+  @Nullable
+  private LineString shaft;
+  @Nullable
+  private Point head;
+  private float headBearing;
+
+  /**
+   * Computes the arrow geometry for the given progress if its route, leg or step differ from
+   * the ones last cached.
+   * <p>
+   * The progress is expected to have valid current and upcoming step points (at least two each).
+   *
+   * @param routeProgress with the current and upcoming step points
+   * @return true if the geometry was recomputed, false if the cached geometry is still valid
+   */
+  public boolean update(@NonNull RouteProgress routeProgress) {
+    int currentLegIndex = routeProgress.legIndex();
+    int currentStepIndex = routeProgress.currentLegProgress().stepIndex();
+    boolean isCached = shaft != null
+      && route == routeProgress.directionsRoute()
+      && legIndex == currentLegIndex
+      && stepIndex == currentStepIndex;
+    if (isCached) {
+      return false;
+    }
+    List<Point> arrowPoints = obtainArrowPointsFrom(routeProgress);
+    Point beforeHead = arrowPoints.get(arrowPoints.size() - 2);
+    head = arrowPoints.get(arrowPoints.size() - 1);
+    double azimuth = TurfMeasurement.bearing(beforeHead, head);
+    headBearing = (float) MathUtils.wrap(azimuth, 0, MAX_DEGREES);
+    shaft = LineString.fromLngLats(arrowPoints);
+    route = routeProgress.directionsRoute();
+    legIndex = currentLegIndex;
+    stepIndex = currentStepIndex;
+    return true;
+  }
+
+  /**
+   * Clears the cached geometry, so the next {@link #update(RouteProgress)} recomputes it.
+   */
+  public void invalidate() {
+    route = null;
+    legIndex = -1;
+    stepIndex = -1;
+    shaft = null;
+    head = null;
+  }
+
+  /**
+   * @return the arrow shaft, or null if nothing has been cached yet
+   */
+  @Nullable
+  public LineString shaft() {
+    return shaft;
+  }
+
+  /**
+   * @return the arrow head position, or null if nothing has been cached yet
+   */
+  @Nullable
+  public Point head() {
+    return head;
+  }
+
+  /**
+   * @return the arrow head bearing in degrees, wrapped to [0, 360)
+   */
+  public float headBearing() {
+    return headBearing;
+  }
+
+  private static List<Point> obtainArrowPointsFrom(RouteProgress routeProgress) {
+    List<Point> reversedCurrent = new ArrayList<>(routeProgress.currentStepPoints());
+    Collections.reverse(reversedCurrent);
+
+    LineString arrowLineCurrent = LineString.fromLngLats(reversedCurrent);
+    LineString arrowLineUpcoming = LineString.fromLngLats(routeProgress.upcomingStepPoints());
+
+    LineString arrowCurrentSliced = TurfMisc.lineSliceAlong(arrowLineCurrent, 0,
+      ARROW_LENGTH_IN_METERS, TurfConstants.UNIT_METERS);
+    LineString arrowUpcomingSliced = TurfMisc.lineSliceAlong(arrowLineUpcoming, 0,
+      ARROW_LENGTH_IN_METERS, TurfConstants.UNIT_METERS);
+
+    List<Point> combined = new ArrayList<>(arrowCurrentSliced.coordinates());
+    Collections.reverse(combined);
+    combined.addAll(arrowUpcomingSliced.coordinates());
+    return combined;
+  }
+}
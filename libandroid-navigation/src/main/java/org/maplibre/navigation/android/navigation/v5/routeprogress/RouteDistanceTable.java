@@ -0,0 +1,218 @@
+package org.maplibre.navigation.android.navigation.v5.routeprogress;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.maplibre.geojson.Point;
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
+import org.maplibre.navigation.android.navigation.v5.models.LegStep;
+import org.maplibre.navigation.android.navigation.v5.models.RouteLeg;
+import org.maplibre.navigation.android.navigation.v5.models.RouteOptions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Step and leg distances of a {@link DirectionsRoute}, summed up once per route.
+ * <p>
+ * The distance of all steps after each step of a leg, and of all legs after each leg, are
+ * stored in primitive arrays. The leg and route distances remaining are then a single addition,
+ * instead of adding up the remaining steps and legs on every location update. The waypoints of the
+ * route options are read once as well, for the remaining waypoints of each leg.
+ *
+ * @since 4.1.0
+ */
+public final class RouteDistanceTable {
+
+  private static final String SEMICOLON = ";";
+  private static final int ORIGIN_WAYPOINT_NAME_THRESHOLD = 1;
+  private static final int ORIGIN_WAYPOINT_NAME = 0;
+  private static final int FIRST_POSITION = 0;
+  private static final int SECOND_POSITION = 1;
+
+  private final DirectionsRoute route;
+  private final int[] legFirstSteps;
+  /**
+   * Distance of the steps after each step, within its leg.
+   */
+  private final double[] stepDistancesAfter;
+  /**
+   * Distance of the legs after each leg.
+   */
+  private final double[] legDistancesAfter;
+  @Nullable
+  private final List<Point> waypoints;
+  @Nullable
+  private final String[] waypointNames;
+
+  private RouteDistanceTable(DirectionsRoute route, int[] legFirstSteps, double[] stepDistancesAfter,
+                             double[] legDistancesAfter, @Nullable List<Point> waypoints,
+                             @Nullable String[] waypointNames) {
+    this.route = route;
+    this.legFirstSteps = legFirstSteps;
+    this.stepDistancesAfter = stepDistancesAfter;
+    this.legDistancesAfter = legDistancesAfter;
+    this.waypoints = waypoints;
+    this.waypointNames = waypointNames;
+  }
+
+  /**
+   * Sums up the step and leg distances of the given route.
+   *
+   * @param route to build the table for
+   * @return the table of distances
+   * @since 4.1.0
+   */
+  @NonNull
+  public static RouteDistanceTable create(@NonNull DirectionsRoute route) {
+    List<RouteLeg> legs = route.legs();
+    int legCount = legs.size();
+    int[] legFirstSteps = new int[legCount + 1];
+    for (int legIndex = 0; legIndex < legCount; legIndex++) {
+      legFirstSteps[legIndex + 1] = legFirstSteps[legIndex] + legs.get(legIndex).steps().size();
+    }
+
+    double[] stepDistancesAfter = new double[legFirstSteps[legCount]];
+    double[] legDistancesAfter = new double[legCount];
+    double legsDistance = 0;
+    for (int legIndex = legCount - 1; legIndex >= 0; legIndex--) {
+      RouteLeg leg = legs.get(legIndex);
+      legDistancesAfter[legIndex] = legsDistance;
+      legsDistance += leg.distance() == null ? 0 : leg.distance();
+
+      List<LegStep> steps = leg.steps();
+      double stepsDistance = 0;
+      for (int stepIndex = steps.size() - 1; stepIndex >= 0; stepIndex--) {
+        stepDistancesAfter[legFirstSteps[legIndex] + stepIndex] = stepsDistance;
+        stepsDistance += steps.get(stepIndex).distance();
+      }
+    }
+
+    RouteOptions routeOptions = route.routeOptions();
+    List<Point> waypoints = null;
+    String[] waypointNames = null;
+    if (routeOptions != null) {
+      waypoints = new ArrayList<>(routeOptions.coordinates());
+      String allWaypointNames = routeOptions.waypointNames();
+      if (allWaypointNames != null && !allWaypointNames.isEmpty()) {
+        waypointNames = allWaypointNames.split(SEMICOLON);
+      }
+    }
+    return new RouteDistanceTable(route, legFirstSteps, stepDistancesAfter, legDistancesAfter,
+      waypoints, waypointNames);
+  }
+
+  /**
+   * @param route to check
+   * @return true if this table has been built for the given route
+   * @since 4.1.0
+   */
+  public boolean isFor(@Nullable DirectionsRoute route) {
+    return this.route == route;
+  }
+
+  /**
+   * Adds the distance of the steps after the current one to the step distance remaining.
+   *
+   * @param legIndex              of the current leg
+   * @param stepIndex             of the current step within the leg
+   * @param stepDistanceRemaining till the end of the current step, in meters
+   * @return the distance remaining till the end of the leg, in meters
+   * @since 4.1.0
+   */
+  public double legDistanceRemaining(int legIndex, int stepIndex, double stepDistanceRemaining) {
+    int stepCount = legFirstSteps[legIndex + 1] - legFirstSteps[legIndex];
+    if (stepIndex >= stepCount) {
+      return stepDistanceRemaining;
+    }
+    return stepDistanceRemaining + stepDistancesAfter[legFirstSteps[legIndex] + stepIndex];
+  }
+
+  /**
+   * Adds the distance of the legs after the current one to the leg distance remaining.
+   *
+   * @param legIndex             of the current leg
+   * @param legDistanceRemaining till the end of the current leg, in meters
+   * @return the distance remaining till the end of the route, in meters
+   * @since 4.1.0
+   */
+  public double routeDistanceRemaining(int legIndex, double legDistanceRemaining) {
+    if (legIndex >= legDistancesAfter.length) {
+      return legDistanceRemaining;
+    }
+    return legDistanceRemaining + legDistancesAfter[legIndex];
+  }
+
+  /**
+   * @param legIndex of the current leg
+   * @return the number of waypoints remaining, including the destination of the current leg
+   * @since 4.1.0
+   */
+  public int remainingWaypoints(int legIndex) {
+    return legDistancesAfter.length - legIndex;
+  }
+
+  /**
+   * Provides the route option coordinates remaining when on the given leg.
+   *
+   * @param legIndex of the current leg
+   * @return the remaining coordinates, or null without route options or enough coordinates
+   * @since 4.1.0
+   */
+  @Nullable
+  public List<Point> remainingWaypointCoordinates(int legIndex) {
+    if (waypoints == null) {
+      return null;
+    }
+    int coordinatesSize = waypoints.size();
+    int remainingWaypoints = remainingWaypoints(legIndex);
+    if (coordinatesSize < remainingWaypoints) {
+      return null;
+    }
+    return new ArrayList<>(waypoints.subList(coordinatesSize - remainingWaypoints, coordinatesSize));
+  }
+
+  /**
+   * Provides the route option waypoint names remaining when on the given leg, preceded by the name
+   * of the origin.
+   *
+   * @param legIndex of the current leg
+   * @return the origin and remaining waypoint names, or null without waypoint names
+   * @since 4.1.0
+   */
+  @Nullable
+  public String[] remainingWaypointNames(int legIndex) {
+    if (waypoints == null || waypointNames == null) {
+      return null;
+    }
+    int coordinatesSize = waypoints.size();
+    String[] remainingWaypointNames = Arrays.copyOfRange(waypointNames,
+      coordinatesSize - remainingWaypoints(legIndex), coordinatesSize);
+    String[] names = new String[remainingWaypointNames.length + ORIGIN_WAYPOINT_NAME_THRESHOLD];
+    names[ORIGIN_WAYPOINT_NAME] = waypointNames[ORIGIN_WAYPOINT_NAME];
+    System.arraycopy(remainingWaypointNames, FIRST_POSITION, names, SECOND_POSITION,
+      remainingWaypointNames.length);
+    return names;
+  }
+
+  /**
+   * Tables are equal if they have been built for equal routes, as they only depend on the route.
+   */
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof RouteDistanceTable)) {
+      return false;
+    }
+    DirectionsRoute otherRoute = ((RouteDistanceTable) other).route;
+    return route == otherRoute || route.equals(otherRoute);
+  }
+
+  @Override
+  public int hashCode() {
+    return route.hashCode();
+  }
+}
@@ -0,0 +1,314 @@
+package org.maplibre.navigation.android.navigation.v5.routeprogress;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
+import org.maplibre.navigation.android.navigation.v5.models.LegAnnotation;
+import org.maplibre.navigation.android.navigation.v5.models.LegStep;
+import org.maplibre.navigation.android.navigation.v5.models.RouteLeg;
+
+import java.util.List;
+
+/**
+ * Remaining durations along a {@link DirectionsRoute}, built once per route.
+ * <p>
+ * The route is split into segments: the annotated segments of each leg if the leg was requested
+ * with {@link org.maplibre.navigation.android.navigation.v5.models.DirectionsCriteria#ANNOTATION_DURATION}
+ * and {@link org.maplibre.navigation.android.navigation.v5.models.DirectionsCriteria#ANNOTATION_DISTANCE},
+ * its steps otherwise. The duration remaining from the start of each segment to the end of the
+ * route is summed up once, so any remaining duration is a lookup of the segment plus an
+ * interpolation within it. Congested segments therefore count for more than their share of the
+ * distance.
+ * <p>
+ * The segment durations only distribute time along the route, step or leg. The remaining
+ * durations still add up to the durations reported by the route, step or leg itself.
+ *
+ * @since 4.1.0
+ */
+public final class RouteDurationTable {
+
+  private final DirectionsRoute route;
+  /**
+   * Distance from the start of the route to each segment boundary.
+   */
+  private final double[] boundaryDistances;
+  /**
+   * Duration from each segment boundary to the end of the route.
+   */
+  private final double[] boundaryDurationsRemaining;
+  private final int[] legBoundaries;
+  private final int[] legFirstSteps;
+  private final double[] stepStartDistances;
+  private final double[] stepStartDurationsRemaining;
+  private final double[] legDistances;
+  private final double[] legDurations;
+  private final double[] stepDistances;
+  private final double[] stepDurations;
+  private final double routeDistance;
+  private final double routeDuration;
+
+  private RouteDurationTable(DirectionsRoute route, double[] boundaryDistances,
+                             double[] boundaryDurationsRemaining, int[] legBoundaries,
+                             int[] legFirstSteps, double[] stepStartDistances,
+                             double[] legDistances, double[] legDurations,
+                             double[] stepDistances, double[] stepDurations) {
+    this.route = route;
+    this.boundaryDistances = boundaryDistances;
+    this.boundaryDurationsRemaining = boundaryDurationsRemaining;
+    this.legBoundaries = legBoundaries;
+    this.legFirstSteps = legFirstSteps;
+    this.stepStartDistances = stepStartDistances;
+    this.legDistances = legDistances;
+    this.legDurations = legDurations;
+    this.stepDistances = stepDistances;
+    this.stepDurations = stepDurations;
+    this.routeDistance = valueOf(route.distance());
+    this.routeDuration = valueOf(route.duration());
+    stepStartDurationsRemaining = new double[stepStartDistances.length];
+    for (int i = 0; i < stepStartDistances.length; i++) {
+      stepStartDurationsRemaining[i] = durationRemainingAt(stepStartDistances[i]);
+    }
+  }
+
+  /**
+   * Sums up the segment durations of the given route.
+   *
+   * @param route to build the table for
+   * @return the table of remaining durations
+   * @since 4.1.0
+   */
+  @NonNull
+  public static RouteDurationTable create(@NonNull DirectionsRoute route) {
+    List<RouteLeg> legs = route.legs();
+    int legCount = legs.size();
+    int segmentCount = 0;
+    int stepCount = 0;
+    for (RouteLeg leg : legs) {
+      List<Double> annotatedDurations = findAnnotatedDurations(leg);
+      segmentCount += annotatedDurations != null ? annotatedDurations.size() : leg.steps().size();
+      stepCount += leg.steps().size();
+    }
+
+    double[] boundaryDistances = new double[segmentCount + 1];
+    double[] segmentDurations = new double[segmentCount];
+    int[] legBoundaries = new int[legCount + 1];
+    int[] legFirstSteps = new int[legCount + 1];
+    // One more start per leg, for the end of its last step
+    double[] stepStartDistances = new double[stepCount + legCount];
+    double[] legDistances = new double[legCount];
+    double[] legDurations = new double[legCount];
+    double[] stepDistances = new double[stepCount];
+    double[] stepDurations = new double[stepCount];
+
+    int segment = 0;
+    int step = 0;
+    for (int legIndex = 0; legIndex < legCount; legIndex++) {
+      RouteLeg leg = legs.get(legIndex);
+      List<LegStep> steps = leg.steps();
+      legBoundaries[legIndex] = segment;
+      legFirstSteps[legIndex] = step;
+      legDistances[legIndex] = valueOf(leg.distance());
+      legDurations[legIndex] = valueOf(leg.duration());
+      double legStartDistance = boundaryDistances[segment];
+
+      List<Double> annotatedDurations = findAnnotatedDurations(leg);
+      if (annotatedDurations != null) {
+        List<Double> annotatedDistances = leg.annotation().distance();
+        for (int i = 0; i < annotatedDurations.size(); i++) {
+          segmentDurations[segment] = annotatedDurations.get(i);
+          boundaryDistances[segment + 1] = boundaryDistances[segment] + annotatedDistances.get(i);
+          segment++;
+        }
+      } else {
+        for (LegStep legStep : steps) {
+          segmentDurations[segment] = legStep.duration();
+          boundaryDistances[segment + 1] = boundaryDistances[segment] + legStep.distance();
+          segment++;
+        }
+      }
+
+      // Maps the distances along the steps onto the distances along the segments
+      double segmentsDistance = boundaryDistances[segment] - legStartDistance;
+      double stepsDistance = 0;
+      for (LegStep legStep : steps) {
+        stepsDistance += legStep.distance();
+      }
+      double scale = stepsDistance > 0 ? segmentsDistance / stepsDistance : 0;
+      double stepDistanceAlongLeg = 0;
+      for (int i = 0; i < steps.size(); i++) {
+        LegStep legStep = steps.get(i);
+        stepStartDistances[step + legIndex] = legStartDistance + stepDistanceAlongLeg * scale;
+        stepDistances[step] = legStep.distance();
+        stepDurations[step] = legStep.duration();
+        stepDistanceAlongLeg += legStep.distance();
+        step++;
+      }
+      stepStartDistances[step + legIndex] = boundaryDistances[segment];
+    }
+    legBoundaries[legCount] = segment;
+    legFirstSteps[legCount] = step;
+
+    double[] boundaryDurationsRemaining = new double[segmentCount + 1];
+    for (int i = segmentCount - 1; i >= 0; i--) {
+      boundaryDurationsRemaining[i] = boundaryDurationsRemaining[i + 1] + segmentDurations[i];
+    }
+    return new RouteDurationTable(route, boundaryDistances, boundaryDurationsRemaining, legBoundaries,
+      legFirstSteps, stepStartDistances, legDistances, legDurations, stepDistances, stepDurations);
+  }
+
+  /**
+   * @param route to check
+   * @return true if this table has been built for the given route
+   * @since 4.1.0
+   */
+  public boolean isFor(@Nullable DirectionsRoute route) {
+    return this.route == route;
+  }
+
+  /**
+   * Provides the duration remaining till the end of the route.
+   *
+   * @param distanceRemaining till the end of the route, in meters
+   * @return the duration remaining, in seconds
+   * @since 4.1.0
+   */
+  public double routeDurationRemaining(double distanceRemaining) {
+    int lastBoundary = boundaryDistances.length - 1;
+    return spanDurationRemaining(
+      boundaryDistances[0], boundaryDurationsRemaining[0],
+      boundaryDistances[lastBoundary], boundaryDurationsRemaining[lastBoundary],
+      routeDistance, routeDuration, distanceRemaining
+    );
+  }
+
+  /**
+   * Provides the duration remaining till the end of a leg.
+   *
+   * @param legIndex             of the leg
+   * @param legDistanceRemaining till the end of the leg, in meters
+   * @return the duration remaining, in seconds
+   * @since 4.1.0
+   */
+  public double legDurationRemaining(int legIndex, double legDistanceRemaining) {
+    int startBoundary = legBoundaries[legIndex];
+    int endBoundary = legBoundaries[legIndex + 1];
+    return spanDurationRemaining(
+      boundaryDistances[startBoundary], boundaryDurationsRemaining[startBoundary],
+      boundaryDistances[endBoundary], boundaryDurationsRemaining[endBoundary],
+      legDistances[legIndex], legDurations[legIndex], legDistanceRemaining
+    );
+  }
+
+  /**
+   * Provides the duration remaining till the end of a step.
+   *
+   * @param legIndex              of the leg
+   * @param stepIndex             of the step within the leg
+   * @param stepDistanceRemaining till the end of the step, in meters
+   * @return the duration remaining, in seconds
+   * @since 4.1.0
+   */
+  public double stepDurationRemaining(int legIndex, int stepIndex, double stepDistanceRemaining) {
+    int step = legFirstSteps[legIndex] + stepIndex;
+    int stepStart = step + legIndex;
+    return spanDurationRemaining(
+      stepStartDistances[stepStart], stepStartDurationsRemaining[stepStart],
+      stepStartDistances[stepStart + 1], stepStartDurationsRemaining[stepStart + 1],
+      stepDistances[step], stepDurations[step], stepDistanceRemaining
+    );
+  }
+
+  /**
+   * Distributes the duration of a route, leg or step along its segments.
+   */
+  private double spanDurationRemaining(double startDistance, double startDurationRemaining,
+                                       double endDistance, double endDurationRemaining,
+                                       double spanDistance, double spanDuration, double distanceRemaining) {
+    double fractionTraveled = 1;
+    if (spanDistance > 0) {
+      fractionTraveled = Math.min(Math.max((spanDistance - distanceRemaining) / spanDistance, 0), 1);
+    }
+    double spanSegmentsDuration = startDurationRemaining - endDurationRemaining;
+    if (spanSegmentsDuration <= 0) {
+      return (1 - fractionTraveled) * spanDuration;
+    }
+    double distance = startDistance + fractionTraveled * (endDistance - startDistance);
+    double segmentsDurationRemaining = durationRemainingAt(distance) - endDurationRemaining;
+    return spanDuration * segmentsDurationRemaining / spanSegmentsDuration;
+  }
+
+  /**
+   * Finds the segment containing the given distance from the start of the route by binary search,
+   * and interpolates the duration remaining within it.
+   */
+  private double durationRemainingAt(double distance) {
+    int lastBoundary = boundaryDistances.length - 1;
+    if (distance <= boundaryDistances[0]) {
+      return boundaryDurationsRemaining[0];
+    }
+    if (distance >= boundaryDistances[lastBoundary]) {
+      return boundaryDurationsRemaining[lastBoundary];
+    }
+    // Last boundary at or before the distance
+    int low = 0;
+    int high = lastBoundary;
+    while (high - low > 1) {
+      int middle = (low + high) >>> 1;
+      if (boundaryDistances[middle] <= distance) {
+        low = middle;
+      } else {
+        high = middle;
+      }
+    }
+    if (boundaryDistances[low] == distance) {
+      return boundaryDurationsRemaining[low];
+    }
+    double segmentDistance = boundaryDistances[low + 1] - boundaryDistances[low];
+    double segmentDuration = boundaryDurationsRemaining[low] - boundaryDurationsRemaining[low + 1];
+    double segmentDistanceRemaining = boundaryDistances[low + 1] - distance;
+    return boundaryDurationsRemaining[low + 1] + segmentDuration * segmentDistanceRemaining / segmentDistance;
+  }
+
+  /**
+   * @return the annotated durations of the leg, or null if they can't be matched with distances
+   */
+  @Nullable
+  private static List<Double> findAnnotatedDurations(RouteLeg leg) {
+    LegAnnotation annotation = leg.annotation();
+    if (annotation == null || annotation.duration() == null || annotation.distance() == null) {
+      return null;
+    }
+    List<Double> durations = annotation.duration();
+    List<Double> distances = annotation.distance();
+    if (durations.isEmpty() || durations.size() != distances.size()
+      || durations.contains(null) || distances.contains(null)) {
+      return null;
+    }
+    return durations;
+  }
+
+  /**
+   * Tables are equal if they have been built for equal routes, as they only depend on the route.
+   */
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof RouteDurationTable)) {
+      return false;
+    }
+    DirectionsRoute otherRoute = ((RouteDurationTable) other).route;
+    return route == otherRoute || route.equals(otherRoute);
+  }
+
+  @Override
+  public int hashCode() {
+    return route.hashCode();
+  }
+
+  private static double valueOf(@Nullable Double value) {
+    return value == null ? 0 : value;
+  }
+}
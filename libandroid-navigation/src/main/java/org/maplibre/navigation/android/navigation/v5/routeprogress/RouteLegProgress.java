@@ -14,6 +14,7 @@ import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
 import org.maplibre.navigation.android.navigation.v5.models.LegStep;
 import org.maplibre.navigation.android.navigation.v5.models.RouteLeg;
 import org.maplibre.navigation.android.navigation.v5.models.StepIntersection;
+import org.maplibre.navigation.android.navigation.v5.utils.PackedLineString;
 
 import java.util.List;
 
@@ -70,7 +71,7 @@ public abstract class RouteLegProgress {
    * @since 0.1.0
    */
   public double durationRemaining() {
-    return (1 - fractionTraveled()) * routeLeg().duration();
+    return durationTable().legDurationRemaining(legIndex(), distanceRemaining());
   }
 
   /**
@@ -178,6 +179,31 @@ public abstract class RouteLegProgress {
   @Nullable
   public abstract List<Point> upcomingStepPoints();
 
+  /**
+   * Provides the current step geometry in its compact form. The index based accessors of
+   * {@link PackedLineString} don't create a {@link Point} per coordinate.
+   *
+   * @return packed coordinates of the current step
+   * @since 4.1.0
+   */
+  @NonNull
+  public PackedLineString currentStepGeometry() {
+    return PackedLineString.fromPoints(currentStepPoints());
+  }
+
+  /**
+   * Provides the upcoming step geometry in its compact form. The index based accessors of
+   * {@link PackedLineString} don't create a {@link Point} per coordinate.
+   *
+   * @return packed coordinates of the upcoming step, or null if there is no upcoming step
+   * @since 4.1.0
+   */
+  @Nullable
+  public PackedLineString upcomingStepGeometry() {
+    List<Point> upcomingStepPoints = upcomingStepPoints();
+    return upcomingStepPoints == null ? null : PackedLineString.fromPoints(upcomingStepPoints);
+  }
+
   /**
    * Provides the current annotation data for a leg segment determined by
    * the distance traveled along the route.
@@ -198,6 +224,10 @@ public abstract class RouteLegProgress {
    */
   abstract RouteLeg routeLeg();
 
+  abstract int legIndex();
+
+  abstract RouteDurationTable durationTable();
+
   abstract double stepDistanceRemaining();
 
   abstract List<StepIntersection> intersections();
@@ -216,6 +246,14 @@ public abstract class RouteLegProgress {
 
     abstract RouteLeg routeLeg();
 
+    abstract Builder legIndex(int legIndex);
+
+    abstract int legIndex();
+
+    abstract Builder durationTable(RouteDurationTable durationTable);
+
+    abstract RouteDurationTable durationTable();
+
     abstract Builder stepIndex(int stepIndex);
 
     abstract int stepIndex();
@@ -265,6 +303,7 @@ public abstract class RouteLegProgress {
         .step(currentStep)
         .nextStep(nextStep)
         .distanceRemaining(stepDistanceRemaining())
+        .durationRemaining(durationTable().stepDurationRemaining(legIndex(), stepIndex(), stepDistanceRemaining()))
         .intersections(intersections())
         .currentIntersection(currentIntersection())
         .upcomingIntersection(upcomingIntersection())
@@ -12,6 +12,7 @@ import org.maplibre.navigation.android.navigation.v5.navigation.MapLibreNavigati
 import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
 import org.maplibre.navigation.android.navigation.v5.models.RouteLeg;
 import org.maplibre.navigation.android.navigation.v5.models.StepIntersection;
+import org.maplibre.navigation.android.navigation.v5.utils.PackedLineString;
 
 import java.util.List;
 
@@ -80,13 +81,16 @@ public abstract class RouteProgress {
 
   /**
    * Provides the duration remaining in seconds till the user reaches the end of the route.
+   * <p>
+   * The route duration is distributed along the route by the annotated segment durations if
+   * present, the step durations otherwise. See {@link RouteDurationTable}.
    *
    * @return {@code long} value representing the duration remaining till end of route, in unit
    * seconds
    * @since 0.1.0
    */
   public double durationRemaining() {
-    return (1 - fractionTraveled()) * directionsRoute().duration();
+    return durationTable().routeDurationRemaining(distanceRemaining());
   }
 
   /**
@@ -124,6 +128,17 @@ public abstract class RouteProgress {
     return directionsRoute().legs().size() - legIndex();
   }
 
+  /**
+   * Step and leg distances of the route, shared by all route progress of the same route.
+   * <p>
+   * Created when building the route progress, if not set for the current route already.
+   *
+   * @return distances of the route
+   * @since 4.1.0
+   */
+  @Nullable
+  public abstract RouteDistanceTable distanceTable();
+
   /**
    * Gives a {@link RouteLegProgress} object with information about the particular leg the user is
    * currently on.
@@ -152,6 +167,31 @@ public abstract class RouteProgress {
   @Nullable
   public abstract List<Point> upcomingStepPoints();
 
+  /**
+   * Provides the current step geometry in its compact form. The index based accessors of
+   * {@link PackedLineString} don't create a {@link Point} per coordinate.
+   *
+   * @return packed coordinates of the current step
+   * @since 4.1.0
+   */
+  @NonNull
+  public PackedLineString currentStepGeometry() {
+    return PackedLineString.fromPoints(currentStepPoints());
+  }
+
+  /**
+   * Provides the upcoming step geometry in its compact form. The index based accessors of
+   * {@link PackedLineString} don't create a {@link Point} per coordinate.
+   *
+   * @return packed coordinates of the upcoming step, or null if there is no upcoming step
+   * @since 4.1.0
+   */
+  @Nullable
+  public PackedLineString upcomingStepGeometry() {
+    List<Point> upcomingStepPoints = upcomingStepPoints();
+    return upcomingStepPoints == null ? null : PackedLineString.fromPoints(upcomingStepPoints);
+  }
+
   public abstract RouteProgress.Builder toBuilder();
 
   abstract int stepIndex();
@@ -172,6 +212,9 @@ public abstract class RouteProgress {
 
   abstract List<Pair<StepIntersection, Double>> intersectionDistancesAlongStep();
 
+  @Nullable
+  abstract RouteDurationTable durationTable();
+
   @AutoValue.Builder
   public abstract static class Builder {
 
@@ -227,14 +270,41 @@ public abstract class RouteProgress {
 
     abstract CurrentLegAnnotation currentLegAnnotation();
 
+    /**
+     * Remaining durations of the route, to be reused for all progress of the same route. Created
+     * when building if not set, or if set for a different route.
+     */
+    public abstract Builder durationTable(@Nullable RouteDurationTable durationTable);
+
+    abstract RouteDurationTable durationTable();
+
+    /**
+     * Distances of the route, to be reused for all progress of the same route. Created when
+     * building if not set, or if set for a different route.
+     */
+    public abstract Builder distanceTable(@Nullable RouteDistanceTable distanceTable);
+
+    abstract RouteDistanceTable distanceTable();
+
     abstract Builder currentLegProgress(RouteLegProgress routeLegProgress);
 
     abstract RouteProgress autoBuild(); // not public
 
     public RouteProgress build() {
+      RouteDurationTable durationTable = durationTable();
+      if (durationTable == null || !durationTable.isFor(directionsRoute())) {
+        durationTable = RouteDurationTable.create(directionsRoute());
+        durationTable(durationTable);
+      }
+      RouteDistanceTable distanceTable = distanceTable();
+      if (distanceTable == null || !distanceTable.isFor(directionsRoute())) {
+        distanceTable(RouteDistanceTable.create(directionsRoute()));
+      }
       RouteLeg currentLeg = directionsRoute().legs().get(legIndex());
       RouteLegProgress legProgress = RouteLegProgress.builder()
         .routeLeg(currentLeg)
+        .legIndex(legIndex())
+        .durationTable(durationTable)
         .stepIndex(stepIndex())
         .distanceRemaining(legDistanceRemaining())
         .stepDistanceRemaining(stepDistanceRemaining())
@@ -151,7 +151,6 @@ public abstract class RouteStepProgress {
       distanceTraveled(distanceTraveled);
       float fractionTraveled = calculateFractionTraveled(step, distanceTraveled);
       fractionTraveled(fractionTraveled);
-      durationRemaining(calculateDurationRemaining(step, fractionTraveled));
 
       return autoBuild();
     }
@@ -175,9 +174,5 @@ public abstract class RouteStepProgress {
       }
       return fractionTraveled;
     }
-
-    private double calculateDurationRemaining(LegStep step, float fractionTraveled) {
-      return (1 - fractionTraveled) * step.duration();
-    }
   }
 }
\ No newline at end of file
@@ -7,13 +7,12 @@ import androidx.annotation.Nullable;
 import org.maplibre.navigation.android.navigation.v5.models.LegStep;
 import org.maplibre.navigation.android.navigation.v5.models.RouteLeg;
 import org.maplibre.geojson.Feature;
-import org.maplibre.geojson.LineString;
 import org.maplibre.geojson.Point;
 import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteLegProgress;
 import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
 import org.maplibre.navigation.android.navigation.v5.utils.MathUtils;
 import org.maplibre.navigation.android.navigation.v5.utils.Constants;
-import org.maplibre.turf.TurfConstants;
+import org.maplibre.navigation.android.navigation.v5.utils.PackedLineString;
 import org.maplibre.turf.TurfMeasurement;
 import org.maplibre.turf.TurfMisc;
 
@@ -79,7 +78,7 @@ public class SnapToRoute extends Snap {
    * Creates a snapped bearing for the snapped {@link Location}.
    * <p>
    * This is done by measuring 1 meter ahead of the current step distance traveled and
-   * creating a {@link Point} with this distance using {@link TurfMeasurement#along(LineString, double, String)}.
+   * creating a {@link Point} with this distance using {@link PackedLineString#along(double)}.
    * <p>
    * If the step distance remaining is zero, the distance ahead is the first point of upcoming leg.
    * This way, an accurate bearing is upheld transitioning between legs.
@@ -149,12 +148,12 @@ public class SnapToRoute extends Snap {
       return null;
     }
 
-    LineString currentStepLineString = LineString.fromPolyline(legProgress.currentStep().geometry(), Constants.PRECISION_6);
-    if (currentStepLineString.coordinates().isEmpty()) {
+    PackedLineString currentStepGeometry = legProgress.currentStepGeometry();
+    if (currentStepGeometry.isEmpty()) {
       return null;
     }
 
-    return TurfMeasurement.along(currentStepLineString, legProgress.currentStepProgress().distanceTraveled() + additionalDistance, TurfConstants.UNIT_METERS);
+    return currentStepGeometry.along(legProgress.currentStepProgress().distanceTraveled() + additionalDistance);
   }
 
   /**
@@ -182,11 +181,11 @@ public class SnapToRoute extends Snap {
       return null;
     }
 
-    LineString currentStepLineString = LineString.fromPolyline(firstStep.geometry(), Constants.PRECISION_6);
-    if (currentStepLineString.coordinates().isEmpty()) {
+    PackedLineString firstStepGeometry = PackedLineString.fromPolyline(firstStep.geometry(), Constants.PRECISION_6);
+    if (firstStepGeometry.isEmpty()) {
       return null;
     }
 
-    return TurfMeasurement.along(currentStepLineString, 1, TurfConstants.UNIT_METERS);
+    return firstStepGeometry.along(1);
   }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import android.text.SpannableString;
 import android.text.Spanned;
 import android.text.style.RelativeSizeSpan;
 import android.text.style.StyleSpan;
+import android.util.LruCache;
 
 import androidx.annotation.NonNull;
 
@@ -33,6 +34,13 @@ public class DistanceFormatter {
 
   private static final int LARGE_UNIT_THRESHOLD = 10;
   private static final int SMALL_UNIT_THRESHOLD = 401;
+  private static final int MAX_DISTANCE_STRINGS = 64;
+  private static final int DISTANCE_KIND_BITS = 2;
+  private static final int DISTANCE_KIND_MASK = (1 << DISTANCE_KIND_BITS) - 1;
+  private static final int LARGE_UNIT_DISTANCE = 0;
+  private static final int LARGE_UNIT_DECIMAL_DISTANCE = 1;
+  private static final int SMALL_UNIT_DISTANCE = 2;
+  private static final int DECIMALS_PER_UNIT = 10;
   @NavigationConstants.RoundingIncrement
   private final int roundingIncrement;
   private final Map<String, String> unitStrings = new HashMap<>();
@@ -42,6 +50,10 @@ public class DistanceFormatter {
   private final LocaleUtils localeUtils;
   private final String language;
   private final String unitType;
+  /**
+   * Formatted distances by rounded distance, see {@link #roundDistance(double)}.
+   */
+  private final LruCache<Long, SpannableString> distanceStrings = new LruCache<>(MAX_DISTANCE_STRINGS);
 
   /**
    * Creates an instance of DistanceFormatter, which can format distances in meters
@@ -85,24 +97,57 @@ public class DistanceFormatter {
 
   /**
    * Returns a formatted SpannableString with bold and size formatting. I.e., "10 mi", "350 m"
+   * <p>
+   * Distances are rounded to the precision they're displayed with first, so distances displayed
+   * the same share the same formatted string. The returned string must therefore not be modified.
    *
    * @param distance in meters
    * @return SpannableString representation which has a bolded number and units which have a
    * relative size of .65 times the size of the number
    */
   public SpannableString formatDistance(double distance) {
+    long roundedDistance = roundDistance(distance);
+    SpannableString distanceString = distanceStrings.get(roundedDistance);
+    if (distanceString == null) {
+      distanceString = formatRoundedDistance(roundedDistance);
+      distanceStrings.put(roundedDistance, distanceString);
+    }
+    return distanceString;
+  }
+
+  /**
+   * Rounds the distance like it's displayed, and encodes the rounded value with the unit and
+   * precision it's displayed in.
+   */
+  private long roundDistance(double distance) {
     double distanceSmallUnit = TurfConversion.convertLength(distance, TurfConstants.UNIT_METERS, smallUnit);
     double distanceLargeUnit = TurfConversion.convertLength(distance, TurfConstants.UNIT_METERS, largeUnit);
 
     // If the distance is greater than 10 miles/kilometers, then round to nearest mile/kilometer
     if (distanceLargeUnit > LARGE_UNIT_THRESHOLD) {
-      return getDistanceString(roundToDecimalPlace(distanceLargeUnit, 0), largeUnit);
+      return encodeDistance((long) Math.rint(distanceLargeUnit), LARGE_UNIT_DISTANCE);
       // If the distance is less than 401 feet/meters, round by fifty feet/meters
     } else if (distanceSmallUnit < SMALL_UNIT_THRESHOLD) {
-      return getDistanceString(roundToClosestIncrement(distanceSmallUnit), smallUnit);
+      return encodeDistance(roundToClosestIncrement(distanceSmallUnit), SMALL_UNIT_DISTANCE);
       // If the distance is between 401 feet/meters and 10 miles/kilometers, then round to one decimal place
     } else {
-      return getDistanceString(roundToDecimalPlace(distanceLargeUnit, 1), largeUnit);
+      return encodeDistance((long) Math.rint(distanceLargeUnit * DECIMALS_PER_UNIT), LARGE_UNIT_DECIMAL_DISTANCE);
+    }
+  }
+
+  private long encodeDistance(long roundedDistance, int distanceKind) {
+    return (roundedDistance << DISTANCE_KIND_BITS) | distanceKind;
+  }
+
+  private synchronized SpannableString formatRoundedDistance(long encodedDistance) {
+    long roundedDistance = encodedDistance >> DISTANCE_KIND_BITS;
+    switch ((int) (encodedDistance & DISTANCE_KIND_MASK)) {
+      case LARGE_UNIT_DISTANCE:
+        return getDistanceString(roundToDecimalPlace(roundedDistance, 0), largeUnit);
+      case LARGE_UNIT_DECIMAL_DISTANCE:
+        return getDistanceString(roundToDecimalPlace((double) roundedDistance / DECIMALS_PER_UNIT, 1), largeUnit);
+      default:
+        return getDistanceString(String.valueOf(roundedDistance), smallUnit);
     }
   }
 
@@ -126,10 +171,10 @@ public class DistanceFormatter {
    * @param distance to round to closest specified rounding increment
    * @return number rounded to closest rounding increment, or rounding increment if distance is less
    */
-  private String roundToClosestIncrement(double distance) {
+  private int roundToClosestIncrement(double distance) {
     int roundedNumber = ((int) Math.round(distance)) / roundingIncrement * roundingIncrement;
 
-    return String.valueOf(roundedNumber < roundingIncrement ? roundingIncrement : roundedNumber);
+    return roundedNumber < roundingIncrement ? roundingIncrement : roundedNumber;
   }
 
   /**
@@ -1,11 +1,8 @@
 package org.maplibre.navigation.android.navigation.v5.utils;
 
 import org.maplibre.navigation.android.navigation.v5.models.LegStep;
-import org.maplibre.geojson.Feature;
-import org.maplibre.geojson.LineString;
 import org.maplibre.geojson.Point;
 import org.maplibre.turf.TurfMeasurement;
-import org.maplibre.turf.TurfMisc;
 
 import static org.maplibre.turf.TurfConstants.UNIT_METERS;
 
@@ -31,33 +28,28 @@ public final class MeasurementUtils {
       return 0;
     }
 
-    // Get the lineString from the step geometry.
-    LineString lineString = LineString.fromPolyline(step.geometry(), Constants.PRECISION_6);
+    // Get the step geometry, decoded without a Point per vertex.
+    PackedLineString stepGeometry = PackedLineString.fromPolyline(step.geometry(), Constants.PRECISION_6);
 
     // Make sure that the step coordinates isn't less than size 2. If the points equal each other,
     // the distance is obviously zero, so return 0 to avoid executing additional unnecessary code.
-    if (lineString.coordinates().isEmpty()
-      || usersRawLocation.equals(lineString.coordinates().get(0))) {
+    if (stepGeometry.isEmpty()
+      || (usersRawLocation.longitude() == stepGeometry.longitude(0)
+      && usersRawLocation.latitude() == stepGeometry.latitude(0))) {
       return 0;
     }
-    if (lineString.coordinates().size() == 1) {
-      return TurfMeasurement.distance(usersRawLocation, lineString.coordinates().get(0),
-        UNIT_METERS);
+    if (stepGeometry.size() == 1) {
+      return TurfMeasurement.distance(usersRawLocation, stepGeometry.get(0), UNIT_METERS);
     }
 
-    Feature feature = TurfMisc.nearestPointOnLine(usersRawLocation, lineString.coordinates());
-    Point snappedPoint = (Point) feature.geometry();
-
-    if (snappedPoint == null) {
-      return 0;
-    }
+    PackedLineString.NearestPoint snappedPoint = stepGeometry.nearestPoint(usersRawLocation.longitude(),
+      usersRawLocation.latitude());
     if (Double.isInfinite(snappedPoint.latitude())
       || Double.isInfinite(snappedPoint.longitude())) {
-      return TurfMeasurement.distance(usersRawLocation,
-        lineString.coordinates().get(0), UNIT_METERS);
+      return TurfMeasurement.distance(usersRawLocation, stepGeometry.get(0), UNIT_METERS);
     }
 
-    double distance = TurfMeasurement.distance(usersRawLocation, snappedPoint, UNIT_METERS);
+    double distance = snappedPoint.distanceInMeters();
     return Double.isNaN(distance) ? 0d : distance;
   }
 }
@@ -0,0 +1,485 @@
+package org.maplibre.navigation.android.navigation.v5.utils;
+
+import androidx.annotation.NonNull;
+
+import org.maplibre.geojson.Point;
+import org.maplibre.turf.TurfConstants;
+import org.maplibre.turf.TurfMeasurement;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static org.maplibre.turf.TurfConversion.degreesToRadians;
+import static org.maplibre.turf.TurfConversion.radiansToDegrees;
+import static org.maplibre.turf.TurfConversion.radiansToLength;
+
+/**
+ * An immutable line geometry storing all of its coordinates in a single {@code double} array,
+ * instead of one {@link Point} with its own list of boxed coordinates per vertex.
+ * <p>
+ * The index based accessors, such as {@link #longitude(int)} and {@link #latitude(int)}, and the
+ * measurements don't allocate a {@link Point} per vertex. For compatibility, this class is also a
+ * read-only {@link List} of {@link Point}s; each {@link #get(int)} creates a new {@link Point}, so
+ * it shouldn't be passed to Turf on a path running for every location update.
+ *
+ * @since 4.1.0
+ */
+public final class PackedLineString extends AbstractList<Point> implements RandomAccess {
+
+  private static final PackedLineString EMPTY = new PackedLineString(new double[0]);
+
+  /**
+   * Longitude and latitude of each vertex, one after the other.
+   */
+  private final double[] coordinates;
+
+  private PackedLineString(double[] coordinates) {
+    this.coordinates = coordinates;
+  }
+
+  /**
+   * Decodes an encoded polyline straight into packed coordinates, without creating any
+   * {@link Point}. The coordinates are identical to the ones decoded by
+   * {@link org.maplibre.geojson.utils.PolylineUtils#decode(String, int)}.
+   *
+   * @param encodedPolyline to decode
+   * @param precision       used to encode the polyline, for example {@link Constants#PRECISION_6}
+   * @return the decoded line
+   * @since 4.1.0
+   */
+  @NonNull
+  public static PackedLineString fromPolyline(@NonNull String encodedPolyline, int precision) {
+    int size = PolylineDecoder.countVertices(encodedPolyline);
+    if (size == 0) {
+      return EMPTY;
+    }
+    double[] coordinates = new double[size * 2];
+    PolylineDecoder.decode(encodedPolyline, precision, 0, coordinates);
+    return new PackedLineString(coordinates);
+  }
+
+  /**
+   * Decodes the vertices {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) of an
+   * encoded polyline, for example only the vertices ahead of the user.
+   *
+   * @param encodedPolyline to decode
+   * @param precision       used to encode the polyline, for example {@link Constants#PRECISION_6}
+   * @param fromIndex       of the first vertex
+   * @param toIndex         of the vertex after the last one, clamped to the number of vertices
+   * @return the decoded vertices
+   * @since 4.1.0
+   */
+  @NonNull
+  public static PackedLineString fromPolyline(@NonNull String encodedPolyline, int precision,
+                                              int fromIndex, int toIndex) {
+    int size = Math.min(toIndex, PolylineDecoder.countVertices(encodedPolyline)) - fromIndex;
+    if (size <= 0) {
+      return EMPTY;
+    }
+    double[] coordinates = new double[size * 2];
+    PolylineDecoder.decode(encodedPolyline, precision, fromIndex, coordinates);
+    return new PackedLineString(coordinates);
+  }
+
+  /**
+   * Packs the given points, or returns them unchanged if they are already packed.
+   *
+   * @param points to pack
+   * @return the packed line
+   * @since 4.1.0
+   */
+  @NonNull
+  public static PackedLineString fromPoints(@NonNull List<Point> points) {
+    if (points instanceof PackedLineString) {
+      return (PackedLineString) points;
+    }
+    if (points.isEmpty()) {
+      return EMPTY;
+    }
+    double[] coordinates = new double[points.size() * 2];
+    for (int i = 0; i < points.size(); i++) {
+      Point point = points.get(i);
+      coordinates[i * 2] = point.longitude();
+      coordinates[i * 2 + 1] = point.latitude();
+    }
+    return new PackedLineString(coordinates);
+  }
+
+  /**
+   * @return the number of vertices
+   * @since 4.1.0
+   */
+  @Override
+  public int size() {
+    return coordinates.length / 2;
+  }
+
+  /**
+   * @param index of the vertex
+   * @return a new {@link Point} for the vertex
+   * @since 4.1.0
+   */
+  @Override
+  public Point get(int index) {
+    checkIndex(index);
+    return Point.fromLngLat(coordinates[index * 2], coordinates[index * 2 + 1]);
+  }
+
+  /**
+   * @param index of the vertex
+   * @return the longitude of the vertex
+   * @since 4.1.0
+   */
+  public double longitude(int index) {
+    checkIndex(index);
+    return coordinates[index * 2];
+  }
+
+  /**
+   * @param index of the vertex
+   * @return the latitude of the vertex
+   * @since 4.1.0
+   */
+  public double latitude(int index) {
+    checkIndex(index);
+    return coordinates[index * 2 + 1];
+  }
+
+  /**
+   * Same as {@link TurfMeasurement#distance(Point, Point, String)} between two vertices.
+   *
+   * @param fromIndex of the first vertex
+   * @param toIndex   of the second vertex
+   * @return the distance between both vertices in meters
+   * @since 4.1.0
+   */
+  public double distanceInMeters(int fromIndex, int toIndex) {
+    return metersBetween(longitude(fromIndex), latitude(fromIndex), longitude(toIndex), latitude(toIndex));
+  }
+
+  /**
+   * Same as {@link TurfMeasurement#length(List, String)}, without creating a {@link Point} per
+   * vertex.
+   *
+   * @return the length of the line in meters
+   * @since 4.1.0
+   */
+  public double lengthInMeters() {
+    double length = 0;
+    for (int i = 1; i < size(); i++) {
+      length += distanceInMeters(i - 1, i);
+    }
+    return length;
+  }
+
+  /**
+   * Same as {@link TurfMeasurement#along(List, double, String)}, only creating {@link Point}s for
+   * the vertices around the requested distance.
+   *
+   * @param distanceInMeters along the line
+   * @return the point at the given distance, or the last vertex if the line is shorter
+   * @throws IndexOutOfBoundsException if the line is empty
+   * @since 4.1.0
+   */
+  @NonNull
+  public Point along(double distanceInMeters) {
+    int lastIndex = size() - 1;
+    if (distanceInMeters <= 0 || lastIndex == 0) {
+      return get(0);
+    }
+    double traveled = 0;
+    for (int i = 1; i <= lastIndex; i++) {
+      traveled += distanceInMeters(i - 1, i);
+      if (traveled >= distanceInMeters) {
+        return pointBefore(longitude(i), latitude(i), longitude(i - 1), latitude(i - 1),
+          distanceInMeters - traveled);
+      }
+    }
+    return get(lastIndex);
+  }
+
+  /**
+   * Same as {@link org.maplibre.turf.TurfMisc#nearestPointOnLine(Point, List, String)}, without
+   * creating a {@link Point} per vertex.
+   *
+   * @param longitude of the point to find the nearest point on the line for
+   * @param latitude  of the point to find the nearest point on the line for
+   * @return the nearest point on the line
+   * @throws IllegalStateException if the line has less than two vertices
+   * @since 4.1.0
+   */
+  @NonNull
+  public NearestPoint nearestPoint(double longitude, double latitude) {
+    if (size() < 2) {
+      throw new IllegalStateException("The nearest point requires a line of at least 2 vertices.");
+    }
+    double nearestLongitude = Double.POSITIVE_INFINITY;
+    double nearestLatitude = Double.POSITIVE_INFINITY;
+    double nearestDistance = Double.POSITIVE_INFINITY;
+    int nearestIndex = 0;
+    for (int i = 0; i < size() - 1; i++) {
+      double startLongitude = coordinates[i * 2];
+      double startLatitude = coordinates[i * 2 + 1];
+      double stopLongitude = coordinates[i * 2 + 2];
+      double stopLatitude = coordinates[i * 2 + 3];
+      double startDistance = radiansBetween(longitude, latitude, startLongitude, startLatitude);
+      double stopDistance = radiansBetween(longitude, latitude, stopLongitude, stopLatitude);
+      if (startDistance < nearestDistance) {
+        nearestLongitude = startLongitude;
+        nearestLatitude = startLatitude;
+        nearestDistance = startDistance;
+        nearestIndex = i;
+      }
+      if (stopDistance < nearestDistance) {
+        nearestLongitude = stopLongitude;
+        nearestLatitude = stopLatitude;
+        nearestDistance = stopDistance;
+        nearestIndex = i;
+      }
+
+      // Intersects the segment with a perpendicular line through the point, long enough to reach it
+      double heightDistance = Math.max(startDistance, stopDistance);
+      double direction = bearing(startLongitude, startLatitude, stopLongitude, stopLatitude);
+      double perpendicularLatitude1 = destinationLatitude(latitude, heightDistance, direction + 90);
+      double perpendicularLongitude1 = destinationLongitude(longitude, latitude, perpendicularLatitude1,
+        heightDistance, direction + 90);
+      double perpendicularLatitude2 = destinationLatitude(latitude, heightDistance, direction - 90);
+      double perpendicularLongitude2 = destinationLongitude(longitude, latitude, perpendicularLatitude2,
+        heightDistance, direction - 90);
+      double perpendicularLongitudeDelta = perpendicularLongitude2 - perpendicularLongitude1;
+      double perpendicularLatitudeDelta = perpendicularLatitude2 - perpendicularLatitude1;
+      double segmentLongitudeDelta = stopLongitude - startLongitude;
+      double segmentLatitudeDelta = stopLatitude - startLatitude;
+      double denominator = segmentLatitudeDelta * perpendicularLongitudeDelta
+        - segmentLongitudeDelta * perpendicularLatitudeDelta;
+      if (denominator == 0) {
+        continue;
+      }
+      double latitudeOffset = perpendicularLatitude1 - startLatitude;
+      double longitudeOffset = perpendicularLongitude1 - startLongitude;
+      double perpendicularRatio = (segmentLongitudeDelta * latitudeOffset
+        - segmentLatitudeDelta * longitudeOffset) / denominator;
+      double segmentRatio = (perpendicularLongitudeDelta * latitudeOffset
+        - perpendicularLatitudeDelta * longitudeOffset) / denominator;
+      if (perpendicularRatio <= 0 || perpendicularRatio >= 1 || segmentRatio <= 0 || segmentRatio >= 1) {
+        continue;
+      }
+      double intersectionLongitude = perpendicularLongitude1 + perpendicularRatio * perpendicularLongitudeDelta;
+      double intersectionLatitude = perpendicularLatitude1 + perpendicularRatio * perpendicularLatitudeDelta;
+      double intersectionDistance = radiansBetween(longitude, latitude, intersectionLongitude, intersectionLatitude);
+      if (intersectionDistance < nearestDistance) {
+        nearestLongitude = intersectionLongitude;
+        nearestLatitude = intersectionLatitude;
+        nearestDistance = intersectionDistance;
+        nearestIndex = i;
+      }
+    }
+    return new NearestPoint(nearestLongitude, nearestLatitude,
+      radiansToLength(nearestDistance, TurfConstants.UNIT_METERS), nearestIndex);
+  }
+
+  /**
+   * Same as the {@link TurfMeasurement#length(List, String)} of the
+   * {@link org.maplibre.turf.TurfMisc#lineSlice(Point, Point, List)} between two nearest points,
+   * without creating a {@link Point} per vertex.
+   *
+   * @param start nearest point the slice starts at
+   * @param stop  nearest point the slice stops at
+   * @return the length of the line between both points in meters
+   * @since 4.1.0
+   */
+  public double lengthInMeters(@NonNull NearestPoint start, @NonNull NearestPoint stop) {
+    NearestPoint first = start.index <= stop.index ? start : stop;
+    NearestPoint last = first == start ? stop : start;
+    double length = 0;
+    double previousLongitude = first.longitude;
+    double previousLatitude = first.latitude;
+    for (int i = first.index + 1; i <= last.index; i++) {
+      length += metersBetween(previousLongitude, previousLatitude, longitude(i), latitude(i));
+      previousLongitude = longitude(i);
+      previousLatitude = latitude(i);
+    }
+    return length + metersBetween(previousLongitude, previousLatitude, last.longitude, last.latitude);
+  }
+
+  /**
+   * Same as {@link TurfMeasurement#along(List, double, String)} on the
+   * {@link org.maplibre.turf.TurfMisc#lineSlice(Point, Point, List)} between two nearest points,
+   * only creating {@link Point}s for the vertices around the requested distance.
+   *
+   * @param start            nearest point the slice starts at
+   * @param stop             nearest point the slice stops at
+   * @param distanceInMeters along the slice
+   * @return the point at the given distance, or the end of the slice if it is shorter
+   * @since 4.1.0
+   */
+  @NonNull
+  public Point along(@NonNull NearestPoint start, @NonNull NearestPoint stop, double distanceInMeters) {
+    NearestPoint first = start.index <= stop.index ? start : stop;
+    NearestPoint last = first == start ? stop : start;
+    if (distanceInMeters <= 0) {
+      return first.point();
+    }
+    double traveled = 0;
+    double previousLongitude = first.longitude;
+    double previousLatitude = first.latitude;
+    for (int i = first.index + 1; i <= last.index + 1; i++) {
+      boolean isLastPoint = i > last.index;
+      double nextLongitude = isLastPoint ? last.longitude : longitude(i);
+      double nextLatitude = isLastPoint ? last.latitude : latitude(i);
+      traveled += metersBetween(previousLongitude, previousLatitude, nextLongitude, nextLatitude);
+      if (traveled >= distanceInMeters) {
+        return pointBefore(nextLongitude, nextLatitude, previousLongitude, previousLatitude,
+          distanceInMeters - traveled);
+      }
+      previousLongitude = nextLongitude;
+      previousLatitude = nextLatitude;
+    }
+    return last.point();
+  }
+
+  private static Point pointBefore(double longitude, double latitude, double previousLongitude,
+                                   double previousLatitude, double overshot) {
+    Point point = Point.fromLngLat(longitude, latitude);
+    if (overshot == 0) {
+      return point;
+    }
+    double direction = TurfMeasurement.bearing(point, Point.fromLngLat(previousLongitude, previousLatitude)) - 180;
+    return TurfMeasurement.destination(point, overshot, direction, TurfConstants.UNIT_METERS);
+  }
+
+  /**
+   * Same as {@link TurfMeasurement#distance(Point, Point, String)}.
+   */
+  private static double metersBetween(double fromLongitude, double fromLatitude,
+                                      double toLongitude, double toLatitude) {
+    double radians = radiansBetween(fromLongitude, fromLatitude, toLongitude, toLatitude);
+    return radiansToLength(radians, TurfConstants.UNIT_METERS);
+  }
+
+  private static double radiansBetween(double fromLongitude, double fromLatitude,
+                                       double toLongitude, double toLatitude) {
+    double latitudeDifference = degreesToRadians(toLatitude - fromLatitude);
+    double longitudeDifference = degreesToRadians(toLongitude - fromLongitude);
+    double value = Math.pow(Math.sin(latitudeDifference / 2), 2)
+      + Math.pow(Math.sin(longitudeDifference / 2), 2)
+      * Math.cos(degreesToRadians(fromLatitude)) * Math.cos(degreesToRadians(toLatitude));
+    return 2 * Math.atan2(Math.sqrt(value), Math.sqrt(1 - value));
+  }
+
+  /**
+   * Same as {@link TurfMeasurement#bearing(Point, Point)}.
+   */
+  private static double bearing(double fromLongitude, double fromLatitude, double toLongitude, double toLatitude) {
+    double longitude1 = degreesToRadians(fromLongitude);
+    double longitude2 = degreesToRadians(toLongitude);
+    double latitude1 = degreesToRadians(fromLatitude);
+    double latitude2 = degreesToRadians(toLatitude);
+    double value1 = Math.sin(longitude2 - longitude1) * Math.cos(latitude2);
+    double value2 = Math.cos(latitude1) * Math.sin(latitude2)
+      - Math.sin(latitude1) * Math.cos(latitude2) * Math.cos(longitude2 - longitude1);
+    return radiansToDegrees(Math.atan2(value1, value2));
+  }
+
+  /**
+   * Latitude of {@link TurfMeasurement#destination(Point, double, double, String)}.
+   */
+  private static double destinationLatitude(double latitude, double distanceInRadians, double bearing) {
+    double latitude1 = degreesToRadians(latitude);
+    double bearingRadians = degreesToRadians(bearing);
+    return radiansToDegrees(Math.asin(Math.sin(latitude1) * Math.cos(distanceInRadians)
+      + Math.cos(latitude1) * Math.sin(distanceInRadians) * Math.cos(bearingRadians)));
+  }
+
+  /**
+   * Longitude of {@link TurfMeasurement#destination(Point, double, double, String)}.
+   */
+  private static double destinationLongitude(double longitude, double latitude, double destinationLatitude,
+                                             double distanceInRadians, double bearing) {
+    double latitude1 = degreesToRadians(latitude);
+    double latitude2 = degreesToRadians(destinationLatitude);
+    double bearingRadians = degreesToRadians(bearing);
+    double longitude2 = degreesToRadians(longitude) + Math.atan2(
+      Math.sin(bearingRadians) * Math.sin(distanceInRadians) * Math.cos(latitude1),
+      Math.cos(distanceInRadians) - Math.sin(latitude1) * Math.sin(latitude2));
+    return radiansToDegrees(longitude2);
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size()) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+    }
+  }
+
+  /**
+   * The point of a line nearest to another point, found with {@link #nearestPoint(double, double)}.
+   *
+   * @since 4.1.0
+   */
+  public static final class NearestPoint {
+
+    private final double longitude;
+    private final double latitude;
+    private final double distanceInMeters;
+    private final int index;
+
+    private NearestPoint(double longitude, double latitude, double distanceInMeters, int index) {
+      this.longitude = longitude;
+      this.latitude = latitude;
+      this.distanceInMeters = distanceInMeters;
+      this.index = index;
+    }
+
+    /**
+     * @return the longitude of the nearest point
+     * @since 4.1.0
+     */
+    public double longitude() {
+      return longitude;
+    }
+
+    /**
+     * @return the latitude of the nearest point
+     * @since 4.1.0
+     */
+    public double latitude() {
+      return latitude;
+    }
+
+    /**
+     * @return the distance between the nearest point and the point it was found for, in meters
+     * @since 4.1.0
+     */
+    public double distanceInMeters() {
+      return distanceInMeters;
+    }
+
+    /**
+     * @return the index of the first vertex of the segment holding the nearest point
+     * @since 4.1.0
+     */
+    public int index() {
+      return index;
+    }
+
+    /**
+     * @param longitude of the other point
+     * @param latitude  of the other point
+     * @return true if the nearest point has exactly the given coordinates
+     * @since 4.1.0
+     */
+    public boolean isAt(double longitude, double latitude) {
+      return this.longitude == longitude && this.latitude == latitude;
+    }
+
+    /**
+     * @return a new {@link Point} for the nearest point
+     * @since 4.1.0
+     */
+    @NonNull
+    public Point point() {
+      return Point.fromLngLat(longitude, latitude);
+    }
+  }
+}
@@ -0,0 +1,180 @@
+package org.maplibre.navigation.android.navigation.v5.utils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Decodes encoded polylines without creating a {@link org.maplibre.geojson.Point} or a list per
+ * vertex. The coordinates are either written into a caller-provided buffer, or handed to a
+ * {@link Visitor} one after the other.
+ * <p>
+ * The decoded coordinates are identical to the ones decoded by
+ * {@link org.maplibre.geojson.utils.PolylineUtils#decode(String, int)}. As polylines are delta
+ * encoded, decoding a range of vertices still reads the characters of all vertices before it, but
+ * only the requested vertices are converted and reported.
+ *
+ * @since 4.1.0
+ */
+public final class PolylineDecoder {
+
+  private PolylineDecoder() {
+    // Utility class
+  }
+
+  /**
+   * Receives the decoded vertices of a polyline, in order.
+   *
+   * @since 4.1.0
+   */
+  public interface Visitor {
+
+    /**
+     * @param index     of the vertex in the whole polyline
+     * @param longitude of the vertex
+     * @param latitude  of the vertex
+     * @return true to continue decoding, false to stop after this vertex
+     * @since 4.1.0
+     */
+    boolean onVertex(int index, double longitude, double latitude);
+  }
+
+  /**
+   * Counts the vertices of an encoded polyline without converting any of them.
+   *
+   * @param encodedPolyline to count the vertices of
+   * @return the number of vertices
+   * @since 4.1.0
+   */
+  public static int countVertices(@NonNull String encodedPolyline) {
+    int values = 0;
+    for (int i = 0; i < encodedPolyline.length(); i++) {
+      if (encodedPolyline.charAt(i) - 63 < 0x20) {
+        values++;
+      }
+    }
+    return values / 2;
+  }
+
+  /**
+   * Decodes all vertices and hands them to the given visitor.
+   *
+   * @param encodedPolyline to decode
+   * @param precision       used to encode the polyline, for example {@link Constants#PRECISION_6}
+   * @param visitor         receiving the vertices
+   * @return the number of vertices handed to the visitor
+   * @since 4.1.0
+   */
+  public static int decode(@NonNull String encodedPolyline, int precision, @NonNull Visitor visitor) {
+    return decode(encodedPolyline, precision, 0, Integer.MAX_VALUE, visitor);
+  }
+
+  /**
+   * Decodes the vertices {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) and hands
+   * them to the given visitor.
+   *
+   * @param encodedPolyline to decode
+   * @param precision       used to encode the polyline, for example {@link Constants#PRECISION_6}
+   * @param fromIndex       of the first vertex to report
+   * @param toIndex         of the vertex after the last one to report
+   * @param visitor         receiving the vertices
+   * @return the number of vertices handed to the visitor
+   * @since 4.1.0
+   */
+  public static int decode(@NonNull String encodedPolyline, int precision, int fromIndex, int toIndex,
+                           @NonNull Visitor visitor) {
+    return decode(encodedPolyline, precision, fromIndex, toIndex, null, visitor);
+  }
+
+  /**
+   * Decodes up to {@code buffer.length / 2} vertices, starting with the vertex {@code fromIndex},
+   * into the given buffer as longitude and latitude pairs.
+   *
+   * @param encodedPolyline to decode
+   * @param precision       used to encode the polyline, for example {@link Constants#PRECISION_6}
+   * @param fromIndex       of the first vertex to decode
+   * @param buffer          receiving longitude and latitude of each vertex, one after the other
+   * @return the number of decoded vertices
+   * @since 4.1.0
+   */
+  public static int decode(@NonNull String encodedPolyline, int precision, int fromIndex,
+                           @NonNull double[] buffer) {
+    return decode(encodedPolyline, precision, fromIndex, fromIndex + buffer.length / 2, buffer, null);
+  }
+
+  /**
+   * Writes the vertices into the buffer if there is one, hands them to the visitor otherwise.
+   */
+  private static int decode(String encodedPolyline, int precision, int fromIndex, int toIndex,
+                            @Nullable double[] buffer, @Nullable Visitor visitor) {
+    double factor = Math.pow(10, precision);
+    int length = encodedPolyline.length();
+    int position = 0;
+    int vertexIndex = 0;
+    int reported = 0;
+    int lat = 0;
+    int lng = 0;
+    while (position < length && vertexIndex < toIndex) {
+      int result = 1;
+      int shift = 0;
+      int temp;
+      do {
+        temp = encodedPolyline.charAt(position++) - 63 - 1;
+        result += temp << shift;
+        shift += 5;
+      } while (temp >= 0x1f);
+      lat += (result & 1) != 0 ? ~(result >> 1) : (result >> 1);
+
+      result = 1;
+      shift = 0;
+      do {
+        temp = encodedPolyline.charAt(position++) - 63 - 1;
+        result += temp << shift;
+        shift += 5;
+      } while (temp >= 0x1f);
+      lng += (result & 1) != 0 ? ~(result >> 1) : (result >> 1);
+
+      if (vertexIndex >= fromIndex) {
+        if (buffer != null) {
+          buffer[reported * 2] = lng / factor;
+          buffer[reported * 2 + 1] = lat / factor;
+          reported++;
+        } else {
+          reported++;
+          if (!visitor.onVertex(vertexIndex, lng / factor, lat / factor)) {
+            break;
+          }
+        }
+      }
+      vertexIndex++;
+    }
+    return reported;
+  }
+
+  /**
+   * Guesses the precision a polyline has been encoded with, by decoding its first vertex with both
+   * precisions and picking the one closest to a known location, usually the route origin or the
+   * maneuver location of a step.
+   * <p>
+   * The coordinate ranges of both precisions overlap around the null island, so the precision
+   * can't be told from the polyline alone.
+   *
+   * @param encodedPolyline    to detect the precision of
+   * @param referenceLongitude of a location close to the first vertex
+   * @param referenceLatitude  of a location close to the first vertex
+   * @return {@link Constants#PRECISION_5} or {@link Constants#PRECISION_6}
+   * @since 4.1.0
+   */
+  public static int detectPrecision(@NonNull String encodedPolyline, double referenceLongitude,
+                                    double referenceLatitude) {
+    double[] vertex = new double[2];
+    if (decode(encodedPolyline, Constants.PRECISION_6, 0, vertex) == 0) {
+      return Constants.PRECISION_6;
+    }
+    // Decoding with precision 5 multiplies the coordinates by ten
+    double precision6Distance = Math.abs(vertex[0] - referenceLongitude)
+      + Math.abs(vertex[1] - referenceLatitude);
+    double precision5Distance = Math.abs(vertex[0] * 10 - referenceLongitude)
+      + Math.abs(vertex[1] * 10 - referenceLatitude);
+    return precision5Distance < precision6Distance ? Constants.PRECISION_5 : Constants.PRECISION_6;
+  }
+}
@@ -17,6 +17,7 @@ import org.maplibre.geojson.Point;
 import org.maplibre.navigation.android.navigation.v5.milestone.BannerInstructionMilestone;
 import org.maplibre.navigation.android.navigation.v5.milestone.Milestone;
 import org.maplibre.navigation.android.navigation.v5.navigation.NavigationConstants;
+import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteDistanceTable;
 import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
 
 import java.util.ArrayList;
@@ -128,6 +129,10 @@ public class RouteUtils {
    */
   @Nullable
   public List<Point> calculateRemainingWaypoints(RouteProgress routeProgress) {
+    RouteDistanceTable distanceTable = routeProgress.distanceTable();
+    if (distanceTable != null && distanceTable.isFor(routeProgress.directionsRoute())) {
+      return distanceTable.remainingWaypointCoordinates(routeProgress.legIndex());
+    }
     if (routeProgress.directionsRoute().routeOptions() == null) {
       return null;
     }
@@ -153,6 +158,10 @@ public class RouteUtils {
    */
   @Nullable
   public String[] calculateRemainingWaypointNames(RouteProgress routeProgress) {
+    RouteDistanceTable distanceTable = routeProgress.distanceTable();
+    if (distanceTable != null && distanceTable.isFor(routeProgress.directionsRoute())) {
+      return distanceTable.remainingWaypointNames(routeProgress.legIndex());
+    }
     RouteOptions routeOptions = routeProgress.directionsRoute().routeOptions();
     if (routeOptions == null || TextUtils.isEmpty(routeOptions.waypointNames())) {
       return null;
@@ -4,11 +4,16 @@ import android.content.Context;
 import android.content.res.Resources;
 import android.graphics.Typeface;
 import android.text.SpannableStringBuilder;
+import android.text.SpannedString;
 import android.text.style.RelativeSizeSpan;
 import android.text.style.StyleSpan;
+import android.util.LruCache;
+
+import androidx.core.util.ObjectsCompat;
 
 import org.maplibre.navigation.android.navigation.R;
 import org.maplibre.navigation.android.navigation.v5.navigation.NavigationTimeFormat;
+import org.maplibre.navigation.android.navigation.v5.utils.LocaleUtils;
 import org.maplibre.navigation.android.navigation.v5.utils.span.SpanItem;
 import org.maplibre.navigation.android.navigation.v5.utils.span.SpanUtils;
 import org.maplibre.navigation.android.navigation.v5.utils.span.TextSpanItem;
@@ -16,19 +21,44 @@ import org.maplibre.navigation.android.navigation.v5.utils.span.TextSpanItem;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.TimeUnit;
 
 public class TimeFormatter {
 
   private static final String TIME_STRING_FORMAT = " %s ";
+  private static final int MAX_FORMATTED_TIMES = 16;
+  private static final int TWENTY_FOUR_HOUR_FORMAT_FLAG = 1 << 8;
+  private static final int MAX_ROUNDED_MINUTES = 100;
+  /**
+   * Formatted arrival times by arrival minute, and formatted times remaining by rounded hours and
+   * minutes remaining.
+   */
+  private static final LruCache<FormatKey, String> ARRIVAL_TIMES = new LruCache<>(MAX_FORMATTED_TIMES);
+  private static final LruCache<FormatKey, SpannedString> TIMES_REMAINING = new LruCache<>(MAX_FORMATTED_TIMES);
 
+  /**
+   * Formats the arrival time, which is only formatted again once the arrival minute changes.
+   */
   public static String formatTime(Calendar time, double routeDuration, @NavigationTimeFormat.Type int type,
                                   boolean isDeviceTwentyFourHourFormat) {
     time.add(Calendar.SECOND, (int) routeDuration);
-    TimeFormattingChain chain = new TimeFormattingChain();
-    return chain.setup(isDeviceTwentyFourHourFormat).obtainTimeFormatted(type, time);
+    long arrivalMinute = TimeUnit.MILLISECONDS.toMinutes(time.getTimeInMillis());
+    int format = type | (isDeviceTwentyFourHourFormat ? TWENTY_FOUR_HOUR_FORMAT_FLAG : 0);
+    FormatKey key = new FormatKey(arrivalMinute, format, Locale.getDefault(), time.getTimeZone().getID());
+    String arrivalTime = ARRIVAL_TIMES.get(key);
+    if (arrivalTime == null) {
+      TimeFormattingChain chain = new TimeFormattingChain();
+      arrivalTime = chain.setup(isDeviceTwentyFourHourFormat).obtainTimeFormatted(type, time);
+      ARRIVAL_TIMES.put(key, arrivalTime);
+    }
+    return arrivalTime;
   }
 
+  /**
+   * Formats the time remaining, rounded to minutes. Durations rounded to the same minute are only
+   * formatted once, and each call returns its own copy of the formatted text.
+   */
   public static SpannableStringBuilder formatTimeRemaining(Context context, double routeDuration) {
     long seconds = (long) routeDuration;
 
@@ -47,6 +77,19 @@ public class TimeFormatter {
       minutes = minutes + 1;
     }
 
+    // Rounding up can give 60 minutes, which is formatted differently than the next hour
+    long hoursRemaining = TimeUnit.DAYS.toHours(days) + hours;
+    long roundedTime = hoursRemaining * MAX_ROUNDED_MINUTES + minutes;
+    FormatKey key = new FormatKey(roundedTime, 0, new LocaleUtils().inferDeviceLocale(context), null);
+    SpannedString timeRemaining = TIMES_REMAINING.get(key);
+    if (timeRemaining == null) {
+      timeRemaining = new SpannedString(formatTimeRemaining(context, days, hours, minutes));
+      TIMES_REMAINING.put(key, timeRemaining);
+    }
+    return new SpannableStringBuilder(timeRemaining);
+  }
+
+  private static SpannableStringBuilder formatTimeRemaining(Context context, long days, long hours, long minutes) {
     List<SpanItem> textSpanItems = new ArrayList<>();
     Resources resources = context.getResources();
     formatDays(resources, days, textSpanItems);
@@ -89,4 +132,39 @@ public class TimeFormatter {
       textSpanItems.add(new TextSpanItem(new RelativeSizeSpan(1f), minuteString));
     }
   }
+
+  private static class FormatKey {
+
+    private final long time;
+    private final int format;
+    private final Locale locale;
+    private final String timeZone;
+
+    FormatKey(long time, int format, Locale locale, String timeZone) {
+      this.time = time;
+      this.format = format;
+      this.locale = locale;
+      this.timeZone = timeZone;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof FormatKey)) {
+        return false;
+      }
+      FormatKey other = (FormatKey) obj;
+      return time == other.time
+        && format == other.format
+        && ObjectsCompat.equals(locale, other.locale)
+        && ObjectsCompat.equals(timeZone, other.timeZone);
+    }
+
+    @Override
+    public int hashCode() {
+      return ObjectsCompat.hash(time, format, locale, timeZone);
+    }
+  }
 }
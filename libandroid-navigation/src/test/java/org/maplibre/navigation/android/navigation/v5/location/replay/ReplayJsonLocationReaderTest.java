@@ -0,0 +1,115 @@
+package org.maplibre.navigation.android.navigation.v5.location.replay;
+
+import android.location.Location;
+
+import com.google.gson.GsonBuilder;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Scanner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+@RunWith(RobolectricTestRunner.class)
+public class ReplayJsonLocationReaderTest {
+
+  private static final double DELTA = 1e-15;
+  private static final String REROUTE_JSON = "reroute.json";
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void checksFirstLocationMapping() {
+    ReplayJsonLocationReader theReader = ReplayJsonLocationReader.fromStream(obtainStream(REROUTE_JSON));
+
+    Location theLocation = theReader.next();
+
+    assertEquals(11.579233823791801, theLocation.getLongitude(), DELTA);
+    assertEquals(48.1776966801359, theLocation.getLatitude(), DELTA);
+    assertEquals(1529950571005L, theLocation.getTime());
+    assertEquals("ReplayLocation", theLocation.getProvider());
+  }
+
+  @Test
+  public void checksAllLocationsRead() {
+    ReplayJsonRouteDto route = new GsonBuilder().create().fromJson(obtainJson(REROUTE_JSON), ReplayJsonRouteDto.class);
+    ReplayJsonLocationReader theReader = ReplayJsonLocationReader.fromStream(obtainStream(REROUTE_JSON));
+
+    int count = countLocations(theReader);
+
+    assertEquals(route.getLocations().size(), count);
+  }
+
+  @Test
+  public void checksMappedFileRead() throws Exception {
+    File replayFile = temporaryFolder.newFile(REROUTE_JSON);
+    OutputStream outputStream = new FileOutputStream(replayFile);
+    outputStream.write(obtainJson(REROUTE_JSON).getBytes("UTF-8"));
+    outputStream.close();
+    ReplayJsonLocationReader theReader = ReplayJsonLocationReader.fromFile(replayFile);
+
+    int count = countLocations(theReader);
+
+    assertEquals(countLocations(ReplayJsonLocationReader.fromStream(obtainStream(REROUTE_JSON))), count);
+  }
+
+  @Test
+  public void checksLocationsAfterOtherValuesRead() {
+    String json = "{\"route\": \"anyRoute\", \"locations\": [{\"lng\": 1.0, \"lat\": 2.0}]}";
+    ReplayJsonLocationReader theReader = ReplayJsonLocationReader.fromStream(toStream(json));
+
+    Location theLocation = theReader.next();
+
+    assertEquals(1.0, theLocation.getLongitude(), DELTA);
+    assertNull(theReader.next());
+  }
+
+  @Test
+  public void checksNullWithoutLocations() {
+    ReplayJsonLocationReader theReader = ReplayJsonLocationReader.fromStream(toStream("{\"route\": \"anyRoute\"}"));
+
+    assertNull(theReader.next());
+  }
+
+  @Test
+  public void checksNullWhenClosed() {
+    ReplayJsonLocationReader theReader = ReplayJsonLocationReader.fromStream(obtainStream(REROUTE_JSON));
+
+    theReader.close();
+
+    assertNull(theReader.next());
+  }
+
+  private int countLocations(ReplayJsonLocationReader reader) {
+    int count = 0;
+    while (reader.next() != null) {
+      count++;
+    }
+    reader.close();
+    return count;
+  }
+
+  private InputStream toStream(String json) {
+    return new ByteArrayInputStream(json.getBytes());
+  }
+
+  private InputStream obtainStream(String fileName) {
+    return getClass().getClassLoader().getResourceAsStream(fileName);
+  }
+
+  private String obtainJson(String fileName) {
+    Scanner scanner = new Scanner(obtainStream(fileName)).useDelimiter("\\A");
+    return scanner.hasNext() ? scanner.next() : "";
+  }
+}
@@ -158,6 +158,54 @@ public class ReplayLocationDispatcherTest {
     verify(anyLocations, times(1)).addAll(eq(locationsToReplay));
   }
 
+  @Test(expected = IllegalArgumentException.class)
+  public void checksNonEmptyLocationSourceRequired() {
+    ReplayLocationSource emptySource = mock(ReplayLocationSource.class);
+
+    new ReplayLocationDispatcher(emptySource, mock(Handler.class));
+  }
+
+  @Test
+  public void checksNextLocationPulledFromSourceWhenDispatched() {
+    ReplayLocationSource aSource = mock(ReplayLocationSource.class);
+    Location firstLocation = createALocation();
+    when(firstLocation.getTime()).thenReturn(1000L);
+    Location secondLocation = createALocation();
+    when(secondLocation.getTime()).thenReturn(3000L);
+    when(aSource.next()).thenReturn(firstLocation, secondLocation);
+    Handler aHandler = mock(Handler.class);
+    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(aSource, aHandler);
+
+    theReplayLocationDispatcher.run();
+
+    verify(aSource, times(2)).next();
+    verify(aHandler, times(1)).postDelayed(eq(theReplayLocationDispatcher), eq(2000L));
+  }
+
+  @Test
+  public void checksSourceClosedWhenExhausted() {
+    ReplayLocationSource aSource = mock(ReplayLocationSource.class);
+    when(aSource.next()).thenReturn(createALocation(), (Location) null);
+    Handler aHandler = mock(Handler.class);
+    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(aSource, aHandler);
+
+    theReplayLocationDispatcher.run();
+
+    verify(aSource, times(1)).close();
+    verify(aHandler, never()).postDelayed(any(Runnable.class), anyLong());
+  }
+
+  @Test
+  public void checksSourceClosedWhenStop() {
+    ReplayLocationSource aSource = mock(ReplayLocationSource.class);
+    when(aSource.next()).thenReturn(createALocation());
+    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(aSource, mock(Handler.class));
+
+    theReplayLocationDispatcher.stop();
+
+    verify(aSource, times(1)).close();
+  }
+
   private Location createALocation() {
     Location location = mock(Location.class);
     return location;
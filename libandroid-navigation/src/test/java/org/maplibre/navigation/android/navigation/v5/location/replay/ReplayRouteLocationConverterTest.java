@@ -1,15 +1,27 @@
 package org.maplibre.navigation.android.navigation.v5.location.replay;
 
+import android.location.Location;
+
 import org.maplibre.geojson.LineString;
 import org.maplibre.geojson.Point;
 
 import org.junit.Test;
+import org.junit.runner.RunWith;
 import org.maplibre.navigation.android.navigation.v5.location.replay.ReplayRouteLocationConverter;
+import org.maplibre.turf.TurfConstants;
+import org.maplibre.turf.TurfMeasurement;
+import org.robolectric.RobolectricTestRunner;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
 public class ReplayRouteLocationConverterTest {
 
+    private static final double DELTA = 1E-6;
 
     @Test
     public void testSliceRouteWithEmptyLineString() {
@@ -26,4 +38,54 @@ public class ReplayRouteLocationConverterTest {
 
         assert (result.isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testSliceRouteMatchesPointsAlongLine() {
+        ReplayRouteLocationConverter replayRouteLocationConverter = new ReplayRouteLocationConverter(null, 36, 1);
+        LineString lineString = buildLineString();
+
+        List<Point> result = replayRouteLocationConverter.sliceRoute(lineString);
+
+        double lineLength = TurfMeasurement.length(lineString, TurfConstants.UNIT_METERS);
+        assertEquals((int) Math.ceil(lineLength / 10), result.size());
+        for (int i = 0; i < result.size(); i++) {
+            Point expected = TurfMeasurement.along(lineString, i * 10, TurfConstants.UNIT_METERS);
+            assertEquals(expected.longitude(), result.get(i).longitude(), DELTA);
+            assertEquals(expected.latitude(), result.get(i).latitude(), DELTA);
+        }
+    }
+
+    @Test
+    public void testToLocationsWithLineStringHasSegmentBearings() {
+        ReplayRouteLocationConverter replayRouteLocationConverter = new ReplayRouteLocationConverter(null, 36, 1);
+        LineString lineString = buildLineString();
+        List<Point> coordinates = lineString.coordinates();
+
+        List<Location> result = replayRouteLocationConverter.toLocations(lineString);
+
+        float firstBearing = (float) TurfMeasurement.bearing(coordinates.get(0), coordinates.get(1));
+        float lastBearing = (float) TurfMeasurement.bearing(coordinates.get(1), coordinates.get(2));
+        assertEquals(firstBearing, result.get(0).getBearing(), DELTA);
+        assertEquals(lastBearing, result.get(result.size() - 1).getBearing(), DELTA);
+    }
+
+    @Test
+    public void testUpdateSpeedChangesPointSpacing() {
+        ReplayRouteLocationConverter replayRouteLocationConverter = new ReplayRouteLocationConverter(null, 36, 1);
+        LineString lineString = buildLineString();
+        int pointsAtTenMetersPerSecond = replayRouteLocationConverter.sliceRoute(lineString).size();
+
+        replayRouteLocationConverter.updateSpeed(72);
+
+        int pointsAtTwentyMetersPerSecond = replayRouteLocationConverter.sliceRoute(lineString).size();
+        assertTrue(pointsAtTwentyMetersPerSecond < pointsAtTenMetersPerSecond);
+    }
+
+    private LineString buildLineString() {
+        List<Point> points = new ArrayList<>();
+        points.add(Point.fromLngLat(13.4050, 52.5200));
+        points.add(Point.fromLngLat(13.4100, 52.5200));
+        points.add(Point.fromLngLat(13.4100, 52.5250));
+        return LineString.fromLngLats(points);
+    }
+}
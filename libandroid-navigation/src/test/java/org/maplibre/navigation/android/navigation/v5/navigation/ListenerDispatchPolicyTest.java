@@ -0,0 +1,122 @@
+package org.maplibre.navigation.android.navigation.v5.navigation;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.maplibre.navigation.android.navigation.v5.BaseTest;
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
+import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
+
+import java.util.concurrent.Executor;
+
+import static junit.framework.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class ListenerDispatchPolicyTest extends BaseTest {
+
+  private DirectionsRoute route;
+  private int deliveries;
+  private final Runnable event = new Runnable() {
+    @Override
+    public void run() {
+      deliveries++;
+    }
+  };
+
+  @Before
+  public void setUp() throws Exception {
+    route = buildTestDirectionsRoute();
+    deliveries = 0;
+  }
+
+  @Test
+  public void dispatch_eventsWithinIntervalAreDropped() throws Exception {
+    ListenerDispatchPolicy policy = buildPolicy(ListenerDispatchOptions.builder()
+      .minimumIntervalInMillis(1000).build());
+    RouteProgress routeProgress = buildTestRouteProgress(route, 100, 100, 100, 0, 0);
+
+    policy.dispatch(routeProgress, event, 1000);
+    policy.dispatch(routeProgress, event, 1500);
+    policy.dispatch(routeProgress, event, 2000);
+
+    assertEquals(2, deliveries);
+  }
+
+  @Test
+  public void dispatch_eventAfterTimeWentBackIsDelivered() throws Exception {
+    ListenerDispatchPolicy policy = buildPolicy(ListenerDispatchOptions.builder()
+      .minimumIntervalInMillis(1000).build());
+    RouteProgress routeProgress = buildTestRouteProgress(route, 100, 100, 100, 0, 0);
+
+    policy.dispatch(routeProgress, event, 5000);
+    policy.dispatch(routeProgress, event, 1000);
+    policy.dispatch(routeProgress, event, 1500);
+
+    assertEquals(2, deliveries);
+  }
+
+  @Test
+  public void dispatch_newStepWithinIntervalIsDelivered() throws Exception {
+    ListenerDispatchPolicy policy = buildPolicy(ListenerDispatchOptions.builder()
+      .minimumIntervalInMillis(1000).build());
+
+    policy.dispatch(buildTestRouteProgress(route, 100, 100, 100, 0, 0), event, 1000);
+    policy.dispatch(buildTestRouteProgress(route, 100, 100, 100, 1, 0), event, 1100);
+
+    assertEquals(2, deliveries);
+  }
+
+  @Test
+  public void dispatch_distinctByStepOnlyDeliversStepChanges() throws Exception {
+    ListenerDispatchPolicy policy = buildPolicy(ListenerDispatchOptions.builder()
+      .distinctByStep(true).build());
+
+    policy.dispatch(buildTestRouteProgress(route, 100, 100, 100, 0, 0), event, 1000);
+    policy.dispatch(buildTestRouteProgress(route, 50, 50, 50, 0, 0), event, 2000);
+    policy.dispatch(buildTestRouteProgress(route, 100, 100, 100, 1, 0), event, 3000);
+
+    assertEquals(2, deliveries);
+  }
+
+  @Test
+  public void dispatch_withoutRouteProgressIsNotFilteredByStep() {
+    ListenerDispatchPolicy policy = buildPolicy(ListenerDispatchOptions.builder()
+      .distinctByStep(true).build());
+
+    policy.dispatch(null, event, 1000);
+    policy.dispatch(null, event, 2000);
+
+    assertEquals(2, deliveries);
+  }
+
+  @Test
+  public void dispatch_executorIsUsed() throws Exception {
+    Executor executor = mock(Executor.class);
+    ListenerDispatchPolicy policy = buildPolicy(ListenerDispatchOptions.builder()
+      .executor(executor).build());
+
+    policy.dispatch(buildTestRouteProgress(route, 100, 100, 100, 0, 0), event, 1000);
+
+    verify(executor).execute(event);
+    assertEquals(0, deliveries);
+  }
+
+  @Test
+  public void dispatch_droppedEventIsNotExecuted() throws Exception {
+    Executor executor = mock(Executor.class);
+    ListenerDispatchPolicy policy = buildPolicy(ListenerDispatchOptions.builder()
+      .executor(executor).distinctByStep(true).build());
+    policy.dispatch(buildTestRouteProgress(route, 100, 100, 100, 0, 0), event, 1000);
+    Runnable droppedEvent = mock(Runnable.class);
+
+    policy.dispatch(buildTestRouteProgress(route, 50, 50, 50, 0, 0), droppedEvent, 2000);
+
+    verify(executor, never()).execute(droppedEvent);
+    verify(droppedEvent, never()).run();
+  }
+
+  private ListenerDispatchPolicy buildPolicy(ListenerDispatchOptions options) {
+    return new ListenerDispatchPolicy(options);
+  }
+}
@@ -1,7 +1,13 @@
 package org.maplibre.navigation.android.navigation.v5.navigation;
 
+import android.app.Notification;
 import android.app.NotificationManager;
 import android.content.Context;
+import android.content.Intent;
+import android.content.pm.ActivityInfo;
+import android.content.pm.ResolveInfo;
+import android.os.Looper;
+import android.os.PowerManager;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
@@ -18,11 +24,29 @@ import junit.framework.Assert;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.shadows.ShadowSystemClock;
 
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.robolectric.Shadows.shadowOf;
+
+@RunWith(RobolectricTestRunner.class)
 public class MapLibreNavigationNotificationTest extends BaseTest {
 
+  private static final long UPDATE_INTERVAL_IN_MILLIS = 5000;
+
   private static final String DIRECTIONS_ROUTE_FIXTURE = "directions_v5_precision_6.json";
 
   @Mock
@@ -39,6 +63,70 @@ public class MapLibreNavigationNotificationTest extends BaseTest {
     route = response.routes().get(0);
   }
 
+  @Test
+  public void updateNotification_distanceChangesAreThrottled() throws Exception {
+    NotificationManager notificationManager = mock(NotificationManager.class);
+    MapLibreNavigationNotification notification = buildNotification(notificationManager, buildPowerManager(true));
+
+    notification.updateNotification(buildTestRouteProgress(route, 1000, 1000, 1000, 0, 0));
+    notification.updateNotification(buildTestRouteProgress(route, 500, 500, 500, 0, 0));
+
+    verify(notificationManager, times(1)).notify(eq(NavigationConstants.NAVIGATION_NOTIFICATION_ID),
+      any(Notification.class));
+  }
+
+  @Test
+  public void updateNotification_distanceChangeIsPostedAfterUpdateInterval() throws Exception {
+    NotificationManager notificationManager = mock(NotificationManager.class);
+    MapLibreNavigationNotification notification = buildNotification(notificationManager, buildPowerManager(true));
+    notification.updateNotification(buildTestRouteProgress(route, 1000, 1000, 1000, 0, 0));
+
+    ShadowSystemClock.advanceBy(Duration.ofMillis(UPDATE_INTERVAL_IN_MILLIS));
+    notification.updateNotification(buildTestRouteProgress(route, 500, 500, 500, 0, 0));
+
+    verify(notificationManager, times(2)).notify(eq(NavigationConstants.NAVIGATION_NOTIFICATION_ID),
+      any(Notification.class));
+  }
+
+  @Test
+  public void updateNotification_stepChangeBypassesUpdateInterval() throws Exception {
+    NotificationManager notificationManager = mock(NotificationManager.class);
+    MapLibreNavigationNotification notification = buildNotification(notificationManager, buildPowerManager(true));
+
+    notification.updateNotification(buildTestRouteProgress(route, 1000, 1000, 1000, 0, 0));
+    notification.updateNotification(buildTestRouteProgress(route, 1000, 1000, 1000, 1, 0));
+
+    verify(notificationManager, times(2)).notify(eq(NavigationConstants.NAVIGATION_NOTIFICATION_ID),
+      any(Notification.class));
+  }
+
+  @Test
+  public void updateNotification_skippedWhileScreenIsOff() throws Exception {
+    NotificationManager notificationManager = mock(NotificationManager.class);
+    MapLibreNavigationNotification notification = buildNotification(notificationManager, buildPowerManager(false));
+
+    notification.updateNotification(buildTestRouteProgress(route, 1000, 1000, 1000, 0, 0));
+
+    verify(notificationManager, never()).notify(eq(NavigationConstants.NAVIGATION_NOTIFICATION_ID),
+      any(Notification.class));
+  }
+
+  @Test
+  public void onScreenOn_latestProgressIsPosted() throws Exception {
+    NotificationManager notificationManager = mock(NotificationManager.class);
+    PowerManager powerManager = buildPowerManager(false);
+    MapLibreNavigationNotification notification = buildNotification(notificationManager, powerManager);
+    notification.updateNotification(buildTestRouteProgress(route, 1000, 1000, 1000, 0, 0));
+
+    when(powerManager.isInteractive()).thenReturn(true);
+    RuntimeEnvironment.getApplication().sendBroadcast(new Intent(Intent.ACTION_SCREEN_ON));
+    shadowOf(Looper.getMainLooper()).idle();
+
+    verify(notificationManager, times(1)).notify(eq(NavigationConstants.NAVIGATION_NOTIFICATION_ID),
+      any(Notification.class));
+    notification.onNavigationStopped(RuntimeEnvironment.getApplication());
+  }
+
   @Ignore
   @Test
   public void sanity() throws Exception {
@@ -63,4 +151,33 @@ public class MapLibreNavigationNotificationTest extends BaseTest {
     //    notificationManager.getActiveNotifications()[0].getNotification().contentView;
     //    verify(notificationManager, times(1)).getActiveNotifications()[0];
   }
+
+  private MapLibreNavigationNotification buildNotification(NotificationManager notificationManager,
+                                                           PowerManager powerManager) {
+    Context context = RuntimeEnvironment.getApplication();
+    addLaunchActivity(context);
+    MapLibreNavigation navigation = mock(MapLibreNavigation.class);
+    when(navigation.options()).thenReturn(MapLibreNavigationOptions.builder()
+      .notificationUpdateIntervalInMillis(UPDATE_INTERVAL_IN_MILLIS)
+      .build());
+    when(navigation.getRoute()).thenReturn(route);
+    return new MapLibreNavigationNotification(context, navigation, notificationManager, powerManager);
+  }
+
+  private void addLaunchActivity(Context context) {
+    Intent launchIntent = new Intent(Intent.ACTION_MAIN);
+    launchIntent.addCategory(Intent.CATEGORY_LAUNCHER);
+    launchIntent.setPackage(context.getPackageName());
+    ResolveInfo resolveInfo = new ResolveInfo();
+    resolveInfo.activityInfo = new ActivityInfo();
+    resolveInfo.activityInfo.packageName = context.getPackageName();
+    resolveInfo.activityInfo.name = "NavigationActivity";
+    shadowOf(context.getPackageManager()).addResolveInfoForIntent(launchIntent, resolveInfo);
+  }
+
+  private PowerManager buildPowerManager(boolean isInteractive) {
+    PowerManager powerManager = mock(PowerManager.class);
+    when(powerManager.isInteractive()).thenReturn(isInteractive);
+    return powerManager;
+  }
 }
@@ -35,6 +35,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 @RunWith(RobolectricTestRunner.class)
 public class NavigationEventDispatcherTest extends BaseTest {
@@ -148,6 +149,57 @@ public class NavigationEventDispatcherTest extends BaseTest {
         verify(progressChangeListener, times(1)).onProgressChange(location, routeProgress);
     }
 
+    @Test
+    public void addProgressChangeListenerWithOptions_distinctByStepOnlyDeliversStepChanges() throws Exception {
+        ListenerDispatchOptions options = ListenerDispatchOptions.builder().distinctByStep(true).build();
+        navigation.addProgressChangeListener(progressChangeListener, options);
+
+        navigationEventDispatcher.onProgressChange(location, routeProgress);
+        navigationEventDispatcher.onProgressChange(location, routeProgress);
+        verify(progressChangeListener, times(1)).onProgressChange(location, routeProgress);
+    }
+
+    @Test
+    public void addProgressChangeListenerWithOptions_isThrottledOnLocationTime() throws Exception {
+        ListenerDispatchOptions options = ListenerDispatchOptions.builder().minimumIntervalInMillis(1000).build();
+        navigation.addProgressChangeListener(progressChangeListener, options);
+
+        when(location.getTime()).thenReturn(1000L);
+        navigationEventDispatcher.onProgressChange(location, routeProgress);
+        when(location.getTime()).thenReturn(1500L);
+        navigationEventDispatcher.onProgressChange(location, routeProgress);
+        when(location.getTime()).thenReturn(2000L);
+        navigationEventDispatcher.onProgressChange(location, routeProgress);
+        verify(progressChangeListener, times(2)).onProgressChange(location, routeProgress);
+    }
+
+    @Test
+    public void addProgressChangeListenerWithOptions_policyIsNotSharedWithMilestoneListener() throws Exception {
+        ProgressChangeListener listener = mock(ProgressChangeListener.class,
+                withSettings().extraInterfaces(MilestoneEventListener.class));
+        ListenerDispatchOptions options = ListenerDispatchOptions.builder().distinctByStep(true).build();
+        navigation.addProgressChangeListener(listener, options);
+        navigation.addMilestoneEventListener((MilestoneEventListener) listener);
+
+        navigationEventDispatcher.onMilestoneEvent(routeProgress, "instruction", milestone);
+        navigationEventDispatcher.onMilestoneEvent(routeProgress, "instruction", milestone);
+        verify((MilestoneEventListener) listener, times(2)).onMilestoneEvent(routeProgress, "instruction", milestone);
+    }
+
+    @Test
+    public void removeMilestoneEventListener_keepsPolicyOfSameProgressChangeListener() throws Exception {
+        ProgressChangeListener listener = mock(ProgressChangeListener.class,
+                withSettings().extraInterfaces(MilestoneEventListener.class));
+        ListenerDispatchOptions options = ListenerDispatchOptions.builder().distinctByStep(true).build();
+        navigation.addProgressChangeListener(listener, options);
+        navigation.addMilestoneEventListener((MilestoneEventListener) listener, options);
+
+        navigation.removeMilestoneEventListener((MilestoneEventListener) listener);
+        navigationEventDispatcher.onProgressChange(location, routeProgress);
+        navigationEventDispatcher.onProgressChange(location, routeProgress);
+        verify(listener, times(1)).onProgressChange(location, routeProgress);
+    }
+
     @Test
     public void removeProgressChangeListener_didRemoveListener() throws Exception {
         navigation.addProgressChangeListener(progressChangeListener);
@@ -0,0 +1,204 @@
+package org.maplibre.navigation.android.navigation.v5.navigation;
+
+import android.location.Location;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.maplibre.navigation.android.navigation.v5.milestone.Milestone;
+import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteLegProgress;
+import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.shadows.ShadowSystemClock;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(RobolectricTestRunner.class)
+public class NavigationFlightRecorderTest {
+
+  private static final double DELTA = 1E-6;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void record_isReadBackFromRecording() throws Exception {
+    File file = temporaryFolder.newFile();
+    NavigationFlightRecorder recorder = buildRecorder(file, 10);
+    Milestone milestone = mock(Milestone.class);
+    when(milestone.getIdentifier()).thenReturn(42);
+
+    recorder.record(buildLocation(1000L, 1.5, 2.5), buildLocation(1000L, 1.6, 2.6), buildRouteProgress(1, 3, 120d),
+      true, Collections.singletonList(milestone));
+    recorder.close();
+
+    NavigationFlightRecordingReader reader = NavigationFlightRecordingReader.open(file);
+    NavigationFlightRecord record = reader.nextRecord();
+    assertEquals(1, reader.recordCount());
+    assertEquals(1000L, record.rawLocation().getTime());
+    assertEquals(1.5, record.rawLocation().getLatitude(), DELTA);
+    assertEquals(2.5, record.rawLocation().getLongitude(), DELTA);
+    assertEquals(1.6, record.snappedLocation().getLatitude(), DELTA);
+    assertEquals(2.6, record.snappedLocation().getLongitude(), DELTA);
+    assertEquals(1, record.legIndex());
+    assertEquals(3, record.stepIndex());
+    assertEquals(120d, record.distanceTraveled(), DELTA);
+    assertTrue(record.isOffRoute());
+    assertEquals(Collections.singletonList(42), record.milestoneIdentifiers());
+    assertNull(reader.nextRecord());
+    reader.close();
+  }
+
+  @Test
+  public void record_keepsLatestRecordsUpToCapacity() throws Exception {
+    File file = temporaryFolder.newFile();
+    NavigationFlightRecorder recorder = buildRecorder(file, 3);
+
+    for (long time = 1; time <= 5; time++) {
+      recorder.record(buildLocation(time, 0, 0), buildLocation(time, 0, 0), buildRouteProgress(0, 0, 0),
+        false, Collections.<Milestone>emptyList());
+    }
+    recorder.close();
+
+    NavigationFlightRecordingReader reader = NavigationFlightRecordingReader.open(file);
+    assertEquals(Arrays.asList(3L, 4L, 5L), readTimes(reader));
+  }
+
+  @Test
+  public void record_flushedBeforeCloseWhenBufferIsFull() throws Exception {
+    File file = temporaryFolder.newFile();
+    NavigationFlightRecorder recorder = buildRecorder(file, 100);
+
+    for (long time = 1; time <= 40; time++) {
+      recorder.record(buildLocation(time, 0, 0), buildLocation(time, 0, 0), buildRouteProgress(0, 0, 0),
+        false, Collections.<Milestone>emptyList());
+    }
+
+    NavigationFlightRecordingReader reader = NavigationFlightRecordingReader.open(file);
+    assertEquals(32, reader.recordCount());
+    reader.close();
+    recorder.close();
+  }
+
+  @Test
+  public void flush_whileFlushingIsWrittenAfterRunningFlush() throws Exception {
+    File file = temporaryFolder.newFile();
+    final Queue<Runnable> tasks = new ArrayDeque<>();
+    NavigationFlightRecorder recorder = buildRecorder(file, 100, new Executor() {
+      @Override
+      public void execute(Runnable command) {
+        tasks.add(command);
+      }
+    });
+    for (long time = 1; time <= 33; time++) {
+      recorder.record(buildLocation(time, 0, 0), buildLocation(time, 0, 0), buildRouteProgress(0, 0, 0),
+        false, Collections.<Milestone>emptyList());
+    }
+
+    recorder.flush();
+    while (!tasks.isEmpty()) {
+      tasks.poll().run();
+    }
+
+    NavigationFlightRecordingReader reader = NavigationFlightRecordingReader.open(file);
+    assertEquals(33, reader.recordCount());
+    reader.close();
+    recorder.close();
+  }
+
+  @Test
+  public void record_flushedPeriodically() throws Exception {
+    File file = temporaryFolder.newFile();
+    NavigationFlightRecorder recorder = buildRecorder(file, 100);
+    recorder.record(buildLocation(1, 0, 0), buildLocation(1, 0, 0), buildRouteProgress(0, 0, 0),
+      false, Collections.<Milestone>emptyList());
+
+    ShadowSystemClock.advanceBy(Duration.ofSeconds(10));
+    recorder.record(buildLocation(2, 0, 0), buildLocation(2, 0, 0), buildRouteProgress(0, 0, 0),
+      false, Collections.<Milestone>emptyList());
+
+    NavigationFlightRecordingReader reader = NavigationFlightRecordingReader.open(file);
+    assertEquals(2, reader.recordCount());
+    reader.close();
+    recorder.close();
+  }
+
+  @Test
+  public void next_returnsRawLocationsForReplay() throws Exception {
+    File file = temporaryFolder.newFile();
+    NavigationFlightRecorder recorder = buildRecorder(file, 10);
+    recorder.record(buildLocation(1000L, 1.5, 2.5), buildLocation(1000L, 1.6, 2.6), buildRouteProgress(0, 0, 0),
+      false, Collections.<Milestone>emptyList());
+    recorder.close();
+
+    NavigationFlightRecordingReader reader = NavigationFlightRecordingReader.open(file);
+    Location location = reader.next();
+
+    assertEquals(1.5, location.getLatitude(), DELTA);
+    assertNull(reader.next());
+  }
+
+  @Test(expected = IOException.class)
+  public void open_otherFileIsRejected() throws Exception {
+    File file = temporaryFolder.newFile();
+
+    NavigationFlightRecordingReader.open(file);
+  }
+
+  private NavigationFlightRecorder buildRecorder(File file, int capacity) throws IOException {
+    Executor directExecutor = new Executor() {
+      @Override
+      public void execute(Runnable command) {
+        command.run();
+      }
+    };
+    return buildRecorder(file, capacity, directExecutor);
+  }
+
+  private NavigationFlightRecorder buildRecorder(File file, int capacity, Executor executor) throws IOException {
+    return new NavigationFlightRecorder(new RandomAccessFile(file, "rw").getChannel(), capacity, executor);
+  }
+
+  private List<Long> readTimes(NavigationFlightRecordingReader reader) {
+    Long[] times = new Long[reader.recordCount()];
+    for (int i = 0; i < times.length; i++) {
+      times[i] = reader.next().getTime();
+    }
+    reader.close();
+    return Arrays.asList(times);
+  }
+
+  private Location buildLocation(long time, double latitude, double longitude) {
+    Location location = new Location("test");
+    location.setTime(time);
+    location.setLatitude(latitude);
+    location.setLongitude(longitude);
+    return location;
+  }
+
+  private RouteProgress buildRouteProgress(int legIndex, int stepIndex, double distanceTraveled) {
+    RouteProgress routeProgress = mock(RouteProgress.class);
+    RouteLegProgress legProgress = mock(RouteLegProgress.class);
+    when(legProgress.stepIndex()).thenReturn(stepIndex);
+    when(routeProgress.legIndex()).thenReturn(legIndex);
+    when(routeProgress.currentLegProgress()).thenReturn(legProgress);
+    when(routeProgress.distanceTraveled()).thenReturn(distanceTraveled);
+    return routeProgress;
+  }
+}
@@ -0,0 +1,113 @@
+package org.maplibre.navigation.android.navigation.v5.navigation;
+
+import android.location.Location;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.maplibre.navigation.android.navigation.v5.BaseTest;
+import org.maplibre.navigation.android.navigation.v5.location.replay.ReplayRouteLocations;
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
+import org.maplibre.navigation.android.navigation.v5.routeprogress.ProgressChangeListener;
+import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+public class NavigationSessionTest extends BaseTest {
+
+  private static final int LOCATION_COUNT = 40;
+
+  private NavigationSessionPool pool;
+  private DirectionsRoute route;
+
+  @Before
+  public void setUp() throws Exception {
+    pool = new NavigationSessionPool(2);
+    route = buildTestDirectionsRoute();
+  }
+
+  @After
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Test
+  public void updateLocation_sessionsProcessTheirOwnLocationsInOrder() throws Exception {
+    List<Location> locations = ReplayRouteLocations.fromRoute(route, 50, 1, 0).subList(0, LOCATION_COUNT);
+    CountDownLatch latch = new CountDownLatch(3 * LOCATION_COUNT);
+    List<List<Location>> processedLocations = new ArrayList<>();
+    List<NavigationSession> sessions = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      List<Location> sessionLocations = Collections.synchronizedList(new ArrayList<Location>());
+      NavigationSession session = pool.createSession(route);
+      session.addProgressChangeListener(new RecordingListener(sessionLocations, latch));
+      processedLocations.add(sessionLocations);
+      sessions.add(session);
+    }
+
+    for (Location location : locations) {
+      for (NavigationSession session : sessions) {
+        session.updateLocation(location);
+      }
+    }
+
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    for (List<Location> sessionLocations : processedLocations) {
+      assertEquals(LOCATION_COUNT, sessionLocations.size());
+      for (int i = 0; i < LOCATION_COUNT; i++) {
+        assertEquals(locations.get(i).getTime(), sessionLocations.get(i).getTime());
+      }
+    }
+  }
+
+  @Test
+  public void close_dropsFurtherLocations() throws Exception {
+    List<Location> locations = ReplayRouteLocations.fromRoute(route, 50, 1, 0).subList(0, 2);
+    CountDownLatch latch = new CountDownLatch(1);
+    List<Location> sessionLocations = Collections.synchronizedList(new ArrayList<Location>());
+    NavigationSession session = pool.createSession(route);
+    session.addProgressChangeListener(new RecordingListener(sessionLocations, latch));
+    session.updateLocation(locations.get(0));
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+
+    session.close();
+    session.updateLocation(locations.get(1));
+    pool.shutdown();
+
+    assertTrue(pool.awaitTermination(10000));
+    assertEquals(1, sessionLocations.size());
+    assertEquals(locations.get(0).getTime(), sessionLocations.get(0).getTime());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void newPool_withoutThreadsThrows() {
+    new NavigationSessionPool(0);
+  }
+
+  private static class RecordingListener implements ProgressChangeListener {
+
+    private final List<Location> locations;
+    private final CountDownLatch latch;
+
+    RecordingListener(List<Location> locations, CountDownLatch latch) {
+      this.locations = locations;
+      this.latch = latch;
+    }
+
+    @Override
+    public void onProgressChange(Location location, RouteProgress routeProgress) {
+      locations.add(location);
+      latch.countDown();
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package org.maplibre.navigation.android.navigation.v5.navigation;
+
+import android.content.Context;
+import android.location.Location;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.maplibre.android.location.engine.LocationEngine;
+import org.maplibre.navigation.android.navigation.v5.BaseTest;
+import org.maplibre.navigation.android.navigation.v5.location.replay.ReplayRouteLocations;
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
+import org.maplibre.navigation.android.navigation.v5.routeprogress.ProgressChangeListener;
+import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(RobolectricTestRunner.class)
+public class NavigationSimulatorTest extends BaseTest {
+
+  private MapLibreNavigation navigation;
+  private DirectionsRoute route;
+  private NavigationSimulator simulator;
+
+  @Before
+  public void setUp() throws Exception {
+    Context context = mock(Context.class);
+    when(context.getApplicationContext()).thenReturn(mock(Context.class));
+    navigation = new MapLibreNavigation(context, mock(LocationEngine.class));
+    route = buildTestDirectionsRoute();
+    simulator = new NavigationSimulator(navigation, route);
+  }
+
+  @After
+  public void tearDown() {
+    simulator.stop();
+  }
+
+  @Test
+  public void simulate_everyLocationIsProcessedBeforeReturning() {
+    final List<Location> progressLocations = new ArrayList<>();
+    navigation.addProgressChangeListener(new ProgressChangeListener() {
+      @Override
+      public void onProgressChange(Location location, RouteProgress routeProgress) {
+        progressLocations.add(location);
+      }
+    });
+    List<Location> locations = ReplayRouteLocations.fromRoute(route, 50, 1, 0).subList(0, 5);
+
+    int processedLocations = simulator.simulate(locations);
+
+    assertEquals(5, processedLocations);
+    assertEquals(5, progressLocations.size());
+  }
+
+  @Test
+  public void simulate_virtualClockFollowsLocationTime() {
+    List<Location> locations = ReplayRouteLocations.fromRoute(route, 50, 1, 1000).subList(0, 3);
+
+    simulator.simulate(locations);
+
+    assertEquals(3000, simulator.currentTimeMillis());
+  }
+
+  @Test
+  public void awaitQuiescence_failingListenerStillCompletesLocation() {
+    navigation.addProgressChangeListener(new ProgressChangeListener() {
+      @Override
+      public void onProgressChange(Location location, RouteProgress routeProgress) {
+        throw new IllegalStateException();
+      }
+    });
+    Location location = ReplayRouteLocations.fromRoute(route, 50, 1, 0).get(0);
+
+    simulator.pushLocation(location);
+
+    assertTrue(simulator.awaitQuiescence(5000));
+  }
+
+  @Test
+  public void awaitQuiescence_withoutPendingLocationsIsIdle() {
+    assertTrue(simulator.awaitQuiescence(0));
+  }
+}
@@ -0,0 +1,119 @@
+package org.maplibre.navigation.android.navigation.v5.navigation;
+
+import android.util.Pair;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.maplibre.geojson.LineString;
+import org.maplibre.geojson.Point;
+import org.maplibre.geojson.utils.PolylineUtils;
+import org.maplibre.navigation.android.navigation.v5.BaseTest;
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsAdapterFactory;
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsResponse;
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
+import org.maplibre.navigation.android.navigation.v5.models.LegStep;
+import org.maplibre.navigation.android.navigation.v5.models.RouteLeg;
+import org.maplibre.navigation.android.navigation.v5.models.StepIntersection;
+import org.maplibre.navigation.android.navigation.v5.utils.Constants;
+import org.maplibre.turf.TurfConstants;
+import org.maplibre.turf.TurfMeasurement;
+import org.maplibre.turf.TurfMisc;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+
+@RunWith(RobolectricTestRunner.class)
+public class StepIntersectionDistancesTest extends BaseTest {
+
+  private static final String MULTI_LEG_ROUTE_FIXTURE = "directions_two_leg_route.json";
+
+  @Test
+  public void create_distancesMatchSlicedStepGeometry() throws Exception {
+    for (LegStep step : buildSteps()) {
+      List<Point> stepPoints = PolylineUtils.decode(step.geometry(), Constants.PRECISION_6);
+      List<StepIntersection> intersections = step.intersections();
+      if (stepPoints.size() < 2) {
+        continue;
+      }
+
+      List<Pair<StepIntersection, Double>> distances = StepIntersectionDistances
+        .create(stepPoints, intersections).asPairs();
+
+      assertEquals(intersections.size(), distances.size());
+      for (int i = 0; i < intersections.size(); i++) {
+        assertSame(intersections.get(i), distances.get(i).first);
+        assertEquals(sliceDistance(stepPoints, intersections.get(i)), distances.get(i).second, 0.01);
+      }
+    }
+  }
+
+  @Test
+  public void create_intersectionOffTheGeometryIsMeasuredBySlicing() {
+    List<Point> stepPoints = new ArrayList<>();
+    stepPoints.add(Point.fromLngLat(13.4000, 52.5200));
+    stepPoints.add(Point.fromLngLat(13.4100, 52.5200));
+    List<StepIntersection> intersections = new ArrayList<>();
+    intersections.add(StepIntersection.builder().rawLocation(new double[] {13.4000, 52.5200}).build());
+    intersections.add(StepIntersection.builder().rawLocation(new double[] {13.4050, 52.5200}).build());
+
+    List<Pair<StepIntersection, Double>> distances = StepIntersectionDistances
+      .create(stepPoints, intersections).asPairs();
+
+    assertEquals(0d, distances.get(0).second);
+    assertEquals(sliceDistance(stepPoints, intersections.get(1)), distances.get(1).second, 0.01);
+  }
+
+  @Test
+  public void asPairs_isCreatedOnce() throws Exception {
+    LegStep step = buildSteps().get(0);
+    List<Point> stepPoints = PolylineUtils.decode(step.geometry(), Constants.PRECISION_6);
+    StepIntersectionDistances distances = StepIntersectionDistances.create(stepPoints, step.intersections());
+
+    assertSame(distances.asPairs(), distances.asPairs());
+  }
+
+  @Test
+  public void findCurrentIndex_matchesFindCurrentIntersection() throws Exception {
+    for (LegStep step : buildSteps()) {
+      List<Point> stepPoints = PolylineUtils.decode(step.geometry(), Constants.PRECISION_6);
+      List<StepIntersection> intersections = step.intersections();
+      StepIntersectionDistances distances = StepIntersectionDistances.create(stepPoints, intersections);
+      List<Pair<StepIntersection, Double>> distancePairs = distances.asPairs();
+
+      for (double traveled = 0; traveled <= step.distance() + 10; traveled += 2.5) {
+        StepIntersection expected = NavigationHelper.findCurrentIntersection(
+          intersections, distancePairs, traveled
+        );
+
+        assertSame(expected, intersections.get(distances.findCurrentIndex(traveled)));
+      }
+    }
+  }
+
+  private double sliceDistance(List<Point> stepPoints, StepIntersection intersection) {
+    LineString beginningLineString = TurfMisc.lineSlice(
+      stepPoints.get(0), intersection.location(), LineString.fromLngLats(stepPoints)
+    );
+    return TurfMeasurement.length(beginningLineString, TurfConstants.UNIT_METERS);
+  }
+
+  private List<LegStep> buildSteps() throws IOException {
+    Gson gson = new GsonBuilder()
+      .registerTypeAdapterFactory(DirectionsAdapterFactory.create()).create();
+    String body = loadJsonFixture(MULTI_LEG_ROUTE_FIXTURE);
+    DirectionsRoute route = gson.fromJson(body, DirectionsResponse.class).routes().get(0);
+    List<LegStep> steps = new ArrayList<>();
+    for (RouteLeg leg : route.legs()) {
+      steps.addAll(leg.steps());
+    }
+    return steps;
+  }
+}
@@ -0,0 +1,83 @@
+package org.maplibre.navigation.android.navigation.v5.navigation.camera;
+
+import org.junit.Test;
+import org.maplibre.geojson.Point;
+import org.maplibre.navigation.android.navigation.v5.BaseTest;
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
+import org.maplibre.navigation.android.navigation.v5.utils.Constants;
+import org.maplibre.navigation.android.navigation.v5.utils.PackedLineString;
+
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+public class RouteOverviewBoundsTest extends BaseTest {
+
+  @Test
+  public void routeBounds_includesAllRoutePoints() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    List<Point> routePoints = PackedLineString.fromPolyline(route.geometry(), Constants.PRECISION_6);
+
+    List<Point> bounds = RouteOverviewBounds.create(route).routeBounds();
+
+    assertBoundsOf(routePoints, bounds);
+  }
+
+  @Test
+  public void remainingBounds_atRouteEndIncludesLastSegment() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    List<Point> routePoints = PackedLineString.fromPolyline(route.geometry(), Constants.PRECISION_6);
+
+    List<Point> bounds = RouteOverviewBounds.create(route).remainingBounds(route.distance());
+
+    assertBoundsOf(routePoints.subList(routePoints.size() - 2, routePoints.size()), bounds);
+  }
+
+  @Test
+  public void remainingBounds_doesNotMoveBack() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    RouteOverviewBounds overviewBounds = RouteOverviewBounds.create(route);
+
+    List<Point> arrivedBounds = overviewBounds.remainingBounds(route.distance());
+    List<Point> bounds = overviewBounds.remainingBounds(0);
+
+    assertSame(arrivedBounds, bounds);
+  }
+
+  @Test
+  public void remainingBounds_withoutProgressReturnsRouteBounds() throws Exception {
+    RouteOverviewBounds overviewBounds = RouteOverviewBounds.create(buildTestDirectionsRoute());
+
+    assertSame(overviewBounds.routeBounds(), overviewBounds.remainingBounds(0));
+  }
+
+  @Test
+  public void routeBounds_withoutGeometryIsEmpty() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute().toBuilder().geometry(null).build();
+
+    RouteOverviewBounds overviewBounds = RouteOverviewBounds.create(route);
+
+    assertTrue(overviewBounds.routeBounds().isEmpty());
+    assertTrue(overviewBounds.remainingBounds(100).isEmpty());
+  }
+
+  private void assertBoundsOf(List<Point> points, List<Point> bounds) {
+    double south = Double.MAX_VALUE;
+    double west = Double.MAX_VALUE;
+    double north = -Double.MAX_VALUE;
+    double east = -Double.MAX_VALUE;
+    for (Point point : points) {
+      south = Math.min(south, point.latitude());
+      west = Math.min(west, point.longitude());
+      north = Math.max(north, point.latitude());
+      east = Math.max(east, point.longitude());
+    }
+    assertEquals(2, bounds.size());
+    assertEquals(west, bounds.get(0).longitude(), DELTA);
+    assertEquals(south, bounds.get(0).latitude(), DELTA);
+    assertEquals(east, bounds.get(1).longitude(), DELTA);
+    assertEquals(north, bounds.get(1).latitude(), DELTA);
+  }
+}
@@ -0,0 +1,72 @@
+package org.maplibre.navigation.android.navigation.v5.route;
+
+import org.junit.Test;
+import org.maplibre.geojson.LineString;
+import org.maplibre.navigation.android.navigation.v5.BaseTest;
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
+import org.maplibre.navigation.android.navigation.v5.routeprogress.RouteProgress;
+
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+public class ManeuverArrowCacheTest extends BaseTest {
+
+  @Test
+  public void update_firstProgressComputesGeometry() throws Exception {
+    ManeuverArrowCache cache = new ManeuverArrowCache();
+    RouteProgress routeProgress = buildDefaultTestRouteProgress();
+
+    boolean isUpdated = cache.update(routeProgress);
+
+    assertTrue(isUpdated);
+    assertNotNull(cache.shaft());
+    assertNotNull(cache.head());
+  }
+
+  @Test
+  public void update_sameStepReturnsCachedGeometry() throws Exception {
+    ManeuverArrowCache cache = new ManeuverArrowCache();
+    DirectionsRoute route = buildTestDirectionsRoute();
+    cache.update(buildTestRouteProgress(route, 100, 100, 100, 0, 0));
+    LineString shaft = cache.shaft();
+
+    boolean isUpdated = cache.update(buildTestRouteProgress(route, 50, 50, 50, 0, 0));
+
+    assertFalse(isUpdated);
+    assertSame(shaft, cache.shaft());
+  }
+
+  @Test
+  public void update_newStepRecomputesGeometry() throws Exception {
+    ManeuverArrowCache cache = new ManeuverArrowCache();
+    DirectionsRoute route = buildTestDirectionsRoute();
+    cache.update(buildTestRouteProgress(route, 100, 100, 100, 0, 0));
+
+    boolean isUpdated = cache.update(buildTestRouteProgress(route, 100, 100, 100, 1, 0));
+
+    assertTrue(isUpdated);
+  }
+
+  @Test
+  public void update_newRouteRecomputesGeometry() throws Exception {
+    ManeuverArrowCache cache = new ManeuverArrowCache();
+    cache.update(buildTestRouteProgress(buildTestDirectionsRoute(), 100, 100, 100, 0, 0));
+
+    boolean isUpdated = cache.update(buildTestRouteProgress(buildTestDirectionsRoute(), 100, 100, 100, 0, 0));
+
+    assertTrue(isUpdated);
+  }
+
+  @Test
+  public void invalidate_nextUpdateRecomputesGeometry() throws Exception {
+    ManeuverArrowCache cache = new ManeuverArrowCache();
+    RouteProgress routeProgress = buildDefaultTestRouteProgress();
+    cache.update(routeProgress);
+
+    cache.invalidate();
+
+    assertTrue(cache.update(routeProgress));
+  }
+}
@@ -0,0 +1,99 @@
+package org.maplibre.navigation.android.navigation.v5.routeprogress;
+
+import org.junit.Test;
+import org.maplibre.geojson.Point;
+import org.maplibre.navigation.android.navigation.v5.BaseTest;
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
+import org.maplibre.navigation.android.navigation.v5.models.LegStep;
+import org.maplibre.navigation.android.navigation.v5.models.RouteLeg;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+
+public class RouteDistanceTableTest extends BaseTest {
+
+  private static final String MULTI_LEG_ROUTE_FIXTURE = "directions_two_leg_route.json";
+
+  @Test
+  public void legDistanceRemaining_addsRemainingStepDistances() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE);
+    RouteDistanceTable table = RouteDistanceTable.create(route);
+
+    for (int legIndex = 0; legIndex < route.legs().size(); legIndex++) {
+      List<LegStep> steps = route.legs().get(legIndex).steps();
+      for (int stepIndex = 0; stepIndex < steps.size(); stepIndex++) {
+        double expected = 10;
+        for (int i = stepIndex + 1; i < steps.size(); i++) {
+          expected += steps.get(i).distance();
+        }
+
+        assertEquals(expected, table.legDistanceRemaining(legIndex, stepIndex, 10), LARGE_DELTA);
+      }
+    }
+  }
+
+  @Test
+  public void legDistanceRemaining_lastStepEqualsStepDistanceRemaining() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE);
+    int lastStepIndex = route.legs().get(0).steps().size() - 1;
+    RouteDistanceTable table = RouteDistanceTable.create(route);
+
+    assertEquals(10d, table.legDistanceRemaining(0, lastStepIndex, 10));
+  }
+
+  @Test
+  public void routeDistanceRemaining_addsRemainingLegDistances() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE);
+    RouteLeg secondLeg = route.legs().get(1);
+    RouteDistanceTable table = RouteDistanceTable.create(route);
+
+    assertEquals(10 + secondLeg.distance(), table.routeDistanceRemaining(0, 10), DELTA);
+    assertEquals(10d, table.routeDistanceRemaining(1, 10));
+  }
+
+  @Test
+  public void remainingWaypointCoordinates_returnsCoordinatesOfRemainingLegs() throws Exception {
+    RouteDistanceTable table = RouteDistanceTable.create(buildRouteWithWaypoints());
+
+    List<Point> remainingWaypoints = table.remainingWaypointCoordinates(1);
+
+    assertEquals(1, remainingWaypoints.size());
+    assertEquals(Point.fromLngLat(3, 3), remainingWaypoints.get(0));
+  }
+
+  @Test
+  public void remainingWaypointCoordinates_withoutCoordinatesReturnsNull() throws Exception {
+    RouteDistanceTable table = RouteDistanceTable.create(buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE));
+
+    assertNull(table.remainingWaypointCoordinates(0));
+  }
+
+  @Test
+  public void remainingWaypointNames_includesOriginName() throws Exception {
+    RouteDistanceTable table = RouteDistanceTable.create(buildRouteWithWaypoints());
+
+    String[] remainingWaypointNames = table.remainingWaypointNames(1);
+
+    assertEquals(2, remainingWaypointNames.length);
+    assertEquals("first", remainingWaypointNames[0]);
+    assertEquals("third", remainingWaypointNames[1]);
+  }
+
+  private DirectionsRoute buildRouteWithWaypoints() throws IOException {
+    DirectionsRoute route = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE);
+    List<Point> coordinates = new ArrayList<>();
+    coordinates.add(Point.fromLngLat(1, 1));
+    coordinates.add(Point.fromLngLat(2, 2));
+    coordinates.add(Point.fromLngLat(3, 3));
+    return route.toBuilder()
+      .routeOptions(route.routeOptions().toBuilder()
+        .coordinates(coordinates)
+        .waypointNames("first;second;third")
+        .build())
+      .build();
+  }
+}
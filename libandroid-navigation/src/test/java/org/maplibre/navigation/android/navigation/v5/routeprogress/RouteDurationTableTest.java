@@ -0,0 +1,78 @@
+package org.maplibre.navigation.android.navigation.v5.routeprogress;
+
+import org.junit.Test;
+import org.maplibre.navigation.android.navigation.v5.BaseTest;
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
+import org.maplibre.navigation.android.navigation.v5.models.LegStep;
+import org.maplibre.navigation.android.navigation.v5.models.RouteLeg;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class RouteDurationTableTest extends BaseTest {
+
+  private static final String ANNOTATED_ROUTE_FIXTURE = "directions_two_leg_route_with_distances.json";
+
+  @Test
+  public void routeDurationRemaining_equalsRouteDurationAtBeginning() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    RouteDurationTable table = RouteDurationTable.create(route);
+
+    assertEquals(route.duration(), table.routeDurationRemaining(route.distance()), DELTA);
+  }
+
+  @Test
+  public void routeDurationRemaining_equalsZeroAtEndOfRoute() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    RouteDurationTable table = RouteDurationTable.create(route);
+
+    assertEquals(0, table.routeDurationRemaining(0), DELTA);
+  }
+
+  @Test
+  public void stepDurationRemaining_withoutAnnotationsIsProportionalToDistance() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    LegStep step = route.legs().get(0).steps().get(2);
+    RouteDurationTable table = RouteDurationTable.create(route);
+
+    double durationRemaining = table.stepDurationRemaining(0, 2, step.distance() / 4);
+
+    assertEquals(step.duration() / 4, durationRemaining, 1E-6);
+  }
+
+  @Test
+  public void legDurationRemaining_usesAnnotatedDurations() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(ANNOTATED_ROUTE_FIXTURE);
+    RouteLeg firstLeg = route.legs().get(0);
+    RouteDurationTable table = RouteDurationTable.create(route);
+    // End of the first annotated segment, mapped onto the leg distance
+    double annotatedLegDistance = 50.8 + 21.3 + 20;
+    double legDistanceRemaining = firstLeg.distance() * (1 - 50.8 / annotatedLegDistance);
+
+    double durationRemaining = table.legDurationRemaining(0, legDistanceRemaining);
+
+    assertEquals(2.719 + 2.405, durationRemaining, 1E-6);
+  }
+
+  @Test
+  public void stepDurationRemaining_usesAnnotatedDurations() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(ANNOTATED_ROUTE_FIXTURE);
+    LegStep firstStep = route.legs().get(1).steps().get(0);
+    RouteDurationTable table = RouteDurationTable.create(route);
+    double annotatedLegDistance = 29.4 + 13.8 + 16.2 + 31.6;
+    double stepDistanceRemaining = firstStep.distance() * (1 - 29.4 / annotatedLegDistance);
+
+    assertEquals(firstStep.duration(), table.stepDurationRemaining(1, 0, firstStep.distance()), DELTA);
+    assertEquals(1.874 + 2.887 + 7.603, table.stepDurationRemaining(1, 0, stepDistanceRemaining), 1E-6);
+  }
+
+  @Test
+  public void isFor_onlyMatchesTheSameRoute() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    RouteDurationTable table = RouteDurationTable.create(route);
+
+    assertTrue(table.isFor(route));
+    assertFalse(table.isFor(buildTestDirectionsRoute(ANNOTATED_ROUTE_FIXTURE)));
+  }
+}
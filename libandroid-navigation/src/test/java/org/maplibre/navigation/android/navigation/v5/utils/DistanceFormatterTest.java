@@ -4,6 +4,7 @@ import android.content.Context;
 import android.content.res.Configuration;
 import android.content.res.Resources;
 import android.os.LocaleList;
+import android.text.SpannableString;
 
 import org.maplibre.navigation.android.navigation.R;
 import org.maplibre.navigation.android.navigation.v5.models.DirectionsCriteria;
@@ -126,6 +127,17 @@ public class DistanceFormatterTest {
     assertOutput(LARGE_SMALL_UNIT, Locale.FRANCE, DirectionsCriteria.METRIC, ROUNDING_INCREMENT_FIFTY,"100 m");
   }
 
+  @Test
+  public void formatDistance_sameDisplayedDistanceReturnsSameString() {
+    DistanceFormatter distanceFormatter = new DistanceFormatter(context, Locale.US.getLanguage(),
+      DirectionsCriteria.METRIC, ROUNDING_INCREMENT_FIFTY);
+
+    SpannableString distance = distanceFormatter.formatDistance(MEDIUM_LARGE_UNIT);
+
+    Assert.assertSame(distance, distanceFormatter.formatDistance(MEDIUM_LARGE_UNIT + 10));
+    Assert.assertEquals("9.9 km", distanceFormatter.formatDistance(MEDIUM_LARGE_UNIT + 100).toString());
+  }
+
   private void assertOutput(double distance, Locale locale, String unitType, int roundIncrement, String output) {
     Assert.assertEquals(output,
       new DistanceFormatter(context, locale.getLanguage(), unitType, roundIncrement).formatDistance(distance).toString());
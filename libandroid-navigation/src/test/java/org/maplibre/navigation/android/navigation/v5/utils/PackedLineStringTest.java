@@ -0,0 +1,166 @@
+package org.maplibre.navigation.android.navigation.v5.utils;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.maplibre.geojson.Feature;
+import org.maplibre.geojson.LineString;
+import org.maplibre.geojson.Point;
+import org.maplibre.geojson.utils.PolylineUtils;
+import org.maplibre.navigation.android.navigation.v5.BaseTest;
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
+import org.maplibre.turf.TurfConstants;
+import org.maplibre.turf.TurfMeasurement;
+import org.maplibre.turf.TurfMisc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+import static org.maplibre.navigation.android.navigation.v5.utils.Constants.PRECISION_6;
+
+public class PackedLineStringTest extends BaseTest {
+
+  private String stepGeometry;
+
+  @Before
+  public void setUp() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    stepGeometry = route.legs().get(0).steps().get(1).geometry();
+  }
+
+  @Test
+  public void fromPolyline_matchesPolylineUtils() {
+    List<Point> expected = PolylineUtils.decode(stepGeometry, PRECISION_6);
+
+    PackedLineString packed = PackedLineString.fromPolyline(stepGeometry, PRECISION_6);
+
+    assertEquals(expected.size(), packed.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i).longitude(), packed.longitude(i));
+      assertEquals(expected.get(i).latitude(), packed.latitude(i));
+    }
+    assertEquals(expected, packed);
+  }
+
+  @Test
+  public void fromPolyline_emptyPolylineIsEmpty() {
+    PackedLineString packed = PackedLineString.fromPolyline("", PRECISION_6);
+
+    assertTrue(packed.isEmpty());
+  }
+
+  @Test
+  public void fromPoints_packedLineIsNotCopied() {
+    PackedLineString packed = PackedLineString.fromPolyline(stepGeometry, PRECISION_6);
+
+    assertSame(packed, PackedLineString.fromPoints(packed));
+  }
+
+  @Test
+  public void fromPoints_keepsCoordinates() {
+    List<Point> points = new ArrayList<>();
+    points.add(Point.fromLngLat(13.4050, 52.5200));
+    points.add(Point.fromLngLat(13.4100, 52.5250));
+
+    PackedLineString packed = PackedLineString.fromPoints(points);
+
+    assertEquals(points, packed);
+  }
+
+  @Test
+  public void lengthInMeters_matchesTurf() {
+    List<Point> points = PolylineUtils.decode(stepGeometry, PRECISION_6);
+
+    PackedLineString packed = PackedLineString.fromPolyline(stepGeometry, PRECISION_6);
+
+    assertEquals(TurfMeasurement.length(points, TurfConstants.UNIT_METERS), packed.lengthInMeters(), 1e-9);
+  }
+
+  @Test
+  public void along_matchesTurf() {
+    List<Point> points = PolylineUtils.decode(stepGeometry, PRECISION_6);
+    PackedLineString packed = PackedLineString.fromPolyline(stepGeometry, PRECISION_6);
+    double length = packed.lengthInMeters();
+
+    for (double distance = 0; distance < length + 20; distance += 7.5) {
+      Point expected = TurfMeasurement.along(points, distance, TurfConstants.UNIT_METERS);
+      Point actual = packed.along(distance);
+      assertEquals(expected.longitude(), actual.longitude(), 1e-9);
+      assertEquals(expected.latitude(), actual.latitude(), 1e-9);
+    }
+  }
+
+  @Test
+  public void nearestPoint_matchesTurf() {
+    List<Point> points = PolylineUtils.decode(stepGeometry, PRECISION_6);
+    PackedLineString packed = PackedLineString.fromPolyline(stepGeometry, PRECISION_6);
+
+    for (Point point : buildPointsAround(points)) {
+      Feature expected = TurfMisc.nearestPointOnLine(point, points, TurfConstants.UNIT_METERS);
+      PackedLineString.NearestPoint actual = packed.nearestPoint(point.longitude(), point.latitude());
+      Point expectedPoint = (Point) expected.geometry();
+      assertEquals(expectedPoint.longitude(), actual.longitude(), 1e-9);
+      assertEquals(expectedPoint.latitude(), actual.latitude(), 1e-9);
+      assertEquals(expected.getNumberProperty("dist").doubleValue(), actual.distanceInMeters(), 1e-6);
+    }
+  }
+
+  @Test
+  public void lengthInMetersBetweenNearestPoints_matchesTurfLineSlice() {
+    List<Point> points = PolylineUtils.decode(stepGeometry, PRECISION_6);
+    PackedLineString packed = PackedLineString.fromPolyline(stepGeometry, PRECISION_6);
+    Point end = points.get(points.size() - 1);
+    PackedLineString.NearestPoint nearestEnd = packed.nearestPoint(end.longitude(), end.latitude());
+
+    for (Point point : buildPointsAround(points)) {
+      PackedLineString.NearestPoint nearestPoint = packed.nearestPoint(point.longitude(), point.latitude());
+      LineString slice = TurfMisc.lineSlice(nearestPoint.point(), end, LineString.fromLngLats(points));
+      double expected = TurfMeasurement.length(slice, TurfConstants.UNIT_METERS);
+      assertEquals(expected, packed.lengthInMeters(nearestPoint, nearestEnd), 1e-6);
+    }
+  }
+
+  @Test
+  public void alongBetweenNearestPoints_matchesTurfLineSlice() {
+    List<Point> points = PolylineUtils.decode(stepGeometry, PRECISION_6);
+    PackedLineString packed = PackedLineString.fromPolyline(stepGeometry, PRECISION_6);
+    Point end = points.get(points.size() - 1);
+    PackedLineString.NearestPoint nearestEnd = packed.nearestPoint(end.longitude(), end.latitude());
+
+    for (Point point : buildPointsAround(points)) {
+      PackedLineString.NearestPoint nearestPoint = packed.nearestPoint(point.longitude(), point.latitude());
+      LineString slice = TurfMisc.lineSlice(nearestPoint.point(), end, LineString.fromLngLats(points));
+      Point expected = TurfMeasurement.along(slice, 10, TurfConstants.UNIT_METERS);
+      Point actual = packed.along(nearestPoint, nearestEnd, 10);
+      assertEquals(expected.longitude(), actual.longitude(), 1e-9);
+      assertEquals(expected.latitude(), actual.latitude(), 1e-9);
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void nearestPoint_singleVertexIsRejected() {
+    List<Point> points = new ArrayList<>();
+    points.add(Point.fromLngLat(13.4050, 52.5200));
+    PackedLineString packed = PackedLineString.fromPoints(points);
+
+    packed.nearestPoint(13.4050, 52.5200);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void add_isNotSupported() {
+    PackedLineString packed = PackedLineString.fromPolyline(stepGeometry, PRECISION_6);
+
+    packed.add(Point.fromLngLat(0, 0));
+  }
+
+  private List<Point> buildPointsAround(List<Point> points) {
+    List<Point> pointsAround = new ArrayList<>();
+    for (Point point : points) {
+      pointsAround.add(TurfMeasurement.destination(point, 15, 45, TurfConstants.UNIT_METERS));
+      pointsAround.add(TurfMeasurement.destination(point, 40, 200, TurfConstants.UNIT_METERS));
+    }
+    return pointsAround;
+  }
+}
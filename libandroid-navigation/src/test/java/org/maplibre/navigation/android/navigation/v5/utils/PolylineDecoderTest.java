@@ -0,0 +1,109 @@
+package org.maplibre.navigation.android.navigation.v5.utils;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.maplibre.geojson.Point;
+import org.maplibre.geojson.utils.PolylineUtils;
+import org.maplibre.navigation.android.navigation.v5.BaseTest;
+import org.maplibre.navigation.android.navigation.v5.models.DirectionsRoute;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static org.maplibre.navigation.android.navigation.v5.utils.Constants.PRECISION_5;
+import static org.maplibre.navigation.android.navigation.v5.utils.Constants.PRECISION_6;
+
+public class PolylineDecoderTest extends BaseTest {
+
+  private String routeGeometry;
+  private List<Point> expectedPoints;
+
+  @Before
+  public void setUp() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    routeGeometry = route.geometry();
+    expectedPoints = PolylineUtils.decode(routeGeometry, PRECISION_6);
+  }
+
+  @Test
+  public void countVertices_matchesPolylineUtils() {
+    assertEquals(expectedPoints.size(), PolylineDecoder.countVertices(routeGeometry));
+  }
+
+  @Test
+  public void decode_visitorReceivesAllVerticesInOrder() {
+    final List<Point> visitedPoints = new ArrayList<>();
+
+    int count = PolylineDecoder.decode(routeGeometry, PRECISION_6, new PolylineDecoder.Visitor() {
+      @Override
+      public boolean onVertex(int index, double longitude, double latitude) {
+        assertEquals(visitedPoints.size(), index);
+        visitedPoints.add(Point.fromLngLat(longitude, latitude));
+        return true;
+      }
+    });
+
+    assertEquals(expectedPoints.size(), count);
+    assertEquals(expectedPoints, visitedPoints);
+  }
+
+  @Test
+  public void decode_visitorCanStopEarly() {
+    int count = PolylineDecoder.decode(routeGeometry, PRECISION_6, new PolylineDecoder.Visitor() {
+      @Override
+      public boolean onVertex(int index, double longitude, double latitude) {
+        return index < 2;
+      }
+    });
+
+    assertEquals(3, count);
+  }
+
+  @Test
+  public void decode_subRangeIntoBuffer() {
+    int fromIndex = 3;
+    double[] buffer = new double[8];
+
+    int count = PolylineDecoder.decode(routeGeometry, PRECISION_6, fromIndex, buffer);
+
+    assertEquals(4, count);
+    for (int i = 0; i < count; i++) {
+      Point expected = expectedPoints.get(fromIndex + i);
+      assertEquals(expected.longitude(), buffer[i * 2]);
+      assertEquals(expected.latitude(), buffer[i * 2 + 1]);
+    }
+  }
+
+  @Test
+  public void decode_bufferLargerThanPolylineIsPartiallyFilled() {
+    double[] buffer = new double[(expectedPoints.size() + 5) * 2];
+
+    int count = PolylineDecoder.decode(routeGeometry, PRECISION_6, 0, buffer);
+
+    assertEquals(expectedPoints.size(), count);
+  }
+
+  @Test
+  public void detectPrecision_withReferenceLocation() {
+    Point origin = expectedPoints.get(0);
+    String precisionFiveGeometry = PolylineUtils.encode(expectedPoints, PRECISION_5);
+
+    assertEquals(PRECISION_6,
+      PolylineDecoder.detectPrecision(routeGeometry, origin.longitude(), origin.latitude()));
+    assertEquals(PRECISION_5,
+      PolylineDecoder.detectPrecision(precisionFiveGeometry, origin.longitude(), origin.latitude()));
+  }
+
+  @Test
+  public void detectPrecision_withReferenceLocationNearNullIsland() {
+    List<Point> lagosPoints = new ArrayList<>();
+    lagosPoints.add(Point.fromLngLat(3.3792, 6.5244));
+    lagosPoints.add(Point.fromLngLat(3.3841, 6.5302));
+    String precisionSixGeometry = PolylineUtils.encode(lagosPoints, PRECISION_6);
+    String precisionFiveGeometry = PolylineUtils.encode(lagosPoints, PRECISION_5);
+
+    assertEquals(PRECISION_6, PolylineDecoder.detectPrecision(precisionSixGeometry, 3.3792, 6.5244));
+    assertEquals(PRECISION_5, PolylineDecoder.detectPrecision(precisionFiveGeometry, 3.3792, 6.5244));
+  }
+}
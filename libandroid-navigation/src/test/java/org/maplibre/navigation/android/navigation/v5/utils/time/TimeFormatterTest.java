@@ -1,14 +1,53 @@
 package org.maplibre.navigation.android.navigation.v5.utils.time;
 
+import android.content.Context;
+import android.text.SpannableStringBuilder;
+
 import org.junit.Test;
+import org.junit.runner.RunWith;
 import org.maplibre.navigation.android.navigation.v5.utils.time.TimeFormatter;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
 
 import java.util.Calendar;
 
 import static org.junit.Assert.assertEquals;
 
+@RunWith(RobolectricTestRunner.class)
 public class TimeFormatterTest {
 
+  @Test
+  public void formatTimeRemaining_roundedUpHourIsNotSharedWithFullHour() {
+    Context context = RuntimeEnvironment.getApplication();
+
+    String almostOneHour = TimeFormatter.formatTimeRemaining(context, 3599).toString();
+    String oneHour = TimeFormatter.formatTimeRemaining(context, 3600).toString();
+
+    assertEquals("60 min ", almostOneHour);
+    assertEquals("1 hr ", oneHour);
+  }
+
+  @Test
+  public void formatTimeRemaining_roundedUpDayIsNotSharedWithFullDay() {
+    Context context = RuntimeEnvironment.getApplication();
+
+    String almostOneDay = TimeFormatter.formatTimeRemaining(context, 86399).toString();
+    String oneDay = TimeFormatter.formatTimeRemaining(context, 86400).toString();
+
+    assertEquals("23 hr 60 min ", almostOneDay);
+    assertEquals("1 day ", oneDay);
+  }
+
+  @Test
+  public void formatTimeRemaining_modifiedResultIsNotReturnedAgain() {
+    Context context = RuntimeEnvironment.getApplication();
+    SpannableStringBuilder timeRemaining = TimeFormatter.formatTimeRemaining(context, 600);
+
+    timeRemaining.append("modified");
+
+    assertEquals("10 min ", TimeFormatter.formatTimeRemaining(context, 600).toString());
+  }
+
   @Test
   public void checksTwelveHoursTimeFormat() throws Exception {
     Calendar time = Calendar.getInstance();